@@ -0,0 +1,57 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.dividend.DividendCalendar;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.port.in.QueryDividendCalendarUseCase;
+import com.etf.risk.domain.port.out.DividendCalendarRepository;
+import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.ETFMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * dividend_calendar 추정 일정을 관리한다.
+ *
+ * <p>실제 배당이 dividend_history 에 저장되면 저장소가 해당 달을 확정 일정으로 바꾸므로,
+ * 여기서는 확정되지 않은 향후 12개월만 다시 계산한다.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DividendCalendarService implements QueryDividendCalendarUseCase {
+
+    static final int HORIZON_MONTHS = 12;
+
+    private final ETFMetadataRepository etfMetadataRepository;
+    private final DividendRepository dividendRepository;
+    private final DividendCalendarRepository dividendCalendarRepository;
+
+    @Override
+    public List<DividendCalendarEntry> findUpcoming(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다");
+        }
+        return dividendCalendarRepository.findUpcoming(from, to);
+    }
+
+    @Override
+    @Transactional
+    public void refreshCalendar(LocalDate today) {
+        YearMonth from = YearMonth.from(today);
+        for (ETFMetadata metadata : etfMetadataRepository.findAll()) {
+            List<DividendCalendarEntry> projections = DividendCalendar.project(
+                metadata,
+                dividendRepository.findLatest(metadata.symbol()),
+                from,
+                HORIZON_MONTHS
+            );
+            dividendCalendarRepository.replaceProjections(metadata.symbol(), from, projections);
+        }
+    }
+}
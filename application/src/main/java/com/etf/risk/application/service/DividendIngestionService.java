@@ -0,0 +1,39 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.port.in.IngestDividendsUseCase;
+import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.DividendSourcePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class DividendIngestionService implements IngestDividendsUseCase {
+
+    private final DividendRepository dividendRepository;
+    private final DividendSourcePort dividendSourcePort;
+
+    @Override
+    public Set<String> ingestibleSymbols() {
+        return dividendSourcePort.supportedSymbols();
+    }
+
+    @Override
+    public int ingestNewDividends(String etfSymbol) {
+        // 저장된 마지막 지급일이 기준점. 출처는 그 날짜에 닿으면 더 읽지 않는다
+        LocalDate knownPaymentDate = dividendRepository.findLatest(etfSymbol)
+            .map(Dividend::paymentDate)
+            .orElse(null);
+
+        List<Dividend> newDividends = dividendSourcePort.fetchDividendsAfter(etfSymbol, knownPaymentDate);
+        if (newDividends.isEmpty()) {
+            return 0;
+        }
+        return dividendRepository.saveAll(newDividends);
+    }
+}
@@ -0,0 +1,169 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
+import com.etf.risk.domain.port.in.QueryHoldersUseCase;
+import com.etf.risk.domain.port.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목 → 보유자(userId, chatId) 역색인.
+ *
+ * <p>기동 시 한 번의 스트리밍 조회로 만들고, 이후에는 포지션 추가/제거 시점에 증분 갱신한다.
+ * 조회는 불변 스냅샷 Map 을 읽기만 하므로 잠금이나 DB 조회가 없다.
+ * 재구축 중에 들어온 증분 갱신은 따로 기록해 두었다가 새 스냅샷에 다시 적용한다.</p>
+ *
+ * <p>커밋 이후 갱신은 순서가 보장되지 않으므로 (종목, 사용자)마다 마지막으로 반영한 원장 순번을 기억하고,
+ * 그보다 오래된 갱신은 버린다. 유실된 갱신은 주기적인 재구축({@link #rebuildHolders()})으로 바로잡는다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldersIndexService implements QueryHoldersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldersIndexService.class);
+
+    private final UserRepository userRepository;
+
+    private final Object rebuildLock = new Object();
+    private final Object lock = new Object();
+    private volatile Map<String, SymbolHolders> holdersBySymbol = Map.of();
+    private volatile boolean loaded = false;
+    private List<HolderChange> pendingChanges = null;
+    // (종목, 사용자)별 마지막으로 반영한 원장 순번 (lock 보호). 재구축 후에도 유지한다
+    private final Map<HolderKey, Long> appliedVersions = new HashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        try {
+            rebuildHolders();
+        } catch (RuntimeException e) {
+            // 기동은 계속하고, 첫 조회 시 다시 구축한다
+            log.warn("Failed to preload holders index, will rebuild on first lookup: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SymbolHolders findHolders(String etfSymbol) {
+        if (!loaded) {
+            synchronized (rebuildLock) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+        return holdersBySymbol.getOrDefault(etfSymbol, SymbolHolders.EMPTY);
+    }
+
+    @Override
+    public void rebuildHolders() {
+        synchronized (rebuildLock) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Map<String, HolderArrays> building = new HashMap<>();
+        try {
+            userRepository.scanHoldings(holding -> building
+                .computeIfAbsent(holding.etfSymbol(), symbol -> new HolderArrays())
+                .add(holding));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        Map<String, SymbolHolders> rebuilt = new HashMap<>();
+        building.forEach((symbol, arrays) -> rebuilt.put(symbol, arrays.toHolders()));
+
+        synchronized (lock) {
+            for (HolderChange change : pendingChanges) {
+                change.applyTo(rebuilt);
+            }
+            pendingChanges = null;
+            holdersBySymbol = Map.copyOf(rebuilt);
+            loaded = true;
+        }
+    }
+
+    /**
+     * 커밋된 포지션 변경을 반영한다. 아직 색인이 없으면 다음 재구축에서 DB 로부터 반영된다.
+     *
+     * @param version 변경을 기록한 원장 이벤트의 사용자별 순번. 이미 반영한 순번 이하면 무시한다
+     * @return 반영했으면 true, 더 최신 변경이 이미 반영되어 버렸으면 false
+     */
+    public boolean onPositionChanged(String etfSymbol, long userId, long chatId, boolean holding, long version) {
+        HolderChange change = new HolderChange(etfSymbol, userId, chatId, holding);
+        synchronized (lock) {
+            HolderKey key = new HolderKey(etfSymbol, userId);
+            Long applied = appliedVersions.get(key);
+            if (applied != null && applied >= version) {
+                return false;
+            }
+            appliedVersions.put(key, version);
+
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (!loaded) {
+                return true;
+            }
+            Map<String, SymbolHolders> next = new HashMap<>(holdersBySymbol);
+            change.applyTo(next);
+            holdersBySymbol = Map.copyOf(next);
+            return true;
+        }
+    }
+
+    private record HolderKey(String etfSymbol, long userId) {
+    }
+
+    private record HolderChange(String etfSymbol, long userId, long chatId, boolean holding) {
+
+        void applyTo(Map<String, SymbolHolders> holders) {
+            SymbolHolders current = holders.getOrDefault(etfSymbol, SymbolHolders.EMPTY);
+            SymbolHolders next = holding ? current.with(userId, chatId) : current.without(userId);
+            if (next.isEmpty()) {
+                holders.remove(etfSymbol);
+            } else {
+                holders.put(etfSymbol, next);
+            }
+        }
+    }
+
+    private static final class HolderArrays {
+        private long[] userIds = new long[16];
+        private long[] chatIds = new long[16];
+        private int size = 0;
+
+        void add(Holding holding) {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                chatIds = Arrays.copyOf(chatIds, size * 2);
+            }
+            userIds[size] = holding.userId();
+            chatIds[size] = holding.telegramChatId();
+            size++;
+        }
+
+        SymbolHolders toHolders() {
+            return SymbolHolders.of(userIds, chatIds, size);
+        }
+    }
+}
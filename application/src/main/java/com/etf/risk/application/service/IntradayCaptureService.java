@@ -0,0 +1,30 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import com.etf.risk.domain.port.in.CaptureIntradayUseCase;
+import com.etf.risk.domain.port.out.IntradaySnapshotRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveQuotePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+public class IntradayCaptureService implements CaptureIntradayUseCase {
+
+    private final ReactiveQuotePort reactiveQuotePort;
+    private final IntradaySnapshotRepository intradaySnapshotRepository;
+
+    @Override
+    public Mono<Integer> captureIntraday(Collection<String> symbols) {
+        // append 는 메모리의 1분 봉에 더하기만 하므로 이벤트 루프에서 바로 호출한다. 저장은 저장소가 모아서 한다
+        return reactiveQuotePort.fetchLatestSnapshots(symbols)
+            .map(snapshot -> new IntradaySnapshot(snapshot, Instant.now()))
+            .doOnNext(intradaySnapshotRepository::append)
+            .count()
+            .map(Long::intValue);
+    }
+}
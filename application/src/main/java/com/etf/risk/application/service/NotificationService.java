@@ -2,28 +2,51 @@ package com.etf.risk.application.service;
 
 import com.etf.risk.domain.model.common.Money;
 import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
 import com.etf.risk.domain.model.notification.NotificationMessage;
 import com.etf.risk.domain.model.notification.NotificationPriority;
 import com.etf.risk.domain.model.portfolio.Position;
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
 import com.etf.risk.domain.model.risk.RiskLevel;
 import com.etf.risk.domain.model.risk.RiskMetrics;
+import com.etf.risk.domain.model.user.TelegramChatId;
 import com.etf.risk.domain.model.user.User;
 import com.etf.risk.domain.port.in.AnalyzeRiskUseCase;
 import com.etf.risk.domain.port.in.SendNotificationUseCase;
 import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.NotificationLogPort;
 import com.etf.risk.domain.port.out.NotificationPort;
 import com.etf.risk.domain.port.out.UserRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveUserRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class NotificationService implements SendNotificationUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+
+    static final int HOLDER_PAGE_SIZE = 500;
+
     private final NotificationPort notificationPort;
+    private final NotificationLogPort notificationLogPort;
     private final UserRepository userRepository;
+    // r2dbc 프로필에서만 있다. 없으면 보유자 페이지를 블로킹 저장소로 읽는다
+    private final ObjectProvider<ReactiveUserRepository> reactiveUserRepository;
     private final DividendRepository dividendRepository;
     private final AnalyzeRiskUseCase analyzeRiskUseCase;
 
@@ -32,7 +55,14 @@ public class NotificationService implements SendNotificationUseCase {
         if (!notificationPort.isAvailable()) {
             throw new IllegalStateException("알림 서비스를 사용할 수 없습니다");
         }
-        notificationPort.send(message);
+        // 발송 기록은 비동기로 일괄 저장되므로 발송 지연에 영향을 주지 않는다
+        try {
+            notificationPort.send(message);
+        } catch (RuntimeException e) {
+            notificationLogPort.append(NotificationLogEntry.failed(message, LocalDateTime.now(), e.getMessage()));
+            throw e;
+        }
+        notificationLogPort.append(NotificationLogEntry.delivered(message, LocalDateTime.now()));
     }
 
     @Override
@@ -44,23 +74,31 @@ public class NotificationService implements SendNotificationUseCase {
             return;
         }
 
-        Position position = user.getPosition(etfSymbol);
         Dividend latestDividend = dividendRepository.findLatest(etfSymbol)
             .orElse(null);
+        sendUnlessDeliveredToday(dividendMessage(user, etfSymbol, latestDividend));
+    }
 
-        String content = buildDividendNotificationContent(position, latestDividend);
-        NotificationPriority priority = latestDividend != null && latestDividend.hasROC()
-            ? NotificationPriority.NORMAL
-            : NotificationPriority.LOW;
-
-        NotificationMessage message = NotificationMessage.create(
-            user.getTelegramChatId(),
-            etfSymbol + " 배당 알림",
-            content,
-            priority
-        );
+    // 보유자 전원에게 발송하는 동안 DB 연결을 잡고 있지 않도록 트랜잭션 없이 실행한다
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendDividendNotifications(String etfSymbol) {
+        Dividend latestDividend = dividendRepository.findLatest(etfSymbol)
+            .orElse(null);
 
-        sendNotification(message);
+        // 보유자마다 사용자를 다시 조회하지 않고 페이지로 읽으며, 소비한 만큼만 다음 페이지를 요청한다
+        int delivered = 0;
+        for (User user : holdersOf(etfSymbol).toIterable(HOLDER_PAGE_SIZE)) {
+            try {
+                if (sendUnlessDeliveredToday(dividendMessage(user, etfSymbol, latestDividend))) {
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                // 실패는 발송 기록에 남으므로 나머지 보유자에게 계속 보낸다
+                log.warn("Failed to send {} dividend notification to user {}: {}", etfSymbol, user.getId(), e.getMessage());
+            }
+        }
+        return delivered;
     }
 
     @Override
@@ -69,18 +107,89 @@ public class NotificationService implements SendNotificationUseCase {
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
         RiskMetrics riskMetrics = analyzeRiskUseCase.analyzeETFRisk(etfSymbol);
+        sendUnlessDeliveredToday(riskAlertMessage(user.getTelegramChatId(), etfSymbol, riskMetrics));
+    }
+
+    // 보유자 전원에게 발송하는 동안 DB 연결을 잡고 있지 않도록 트랜잭션 없이 실행한다.
+    // 리스크 분석은 AnalyzeRiskUseCase 의 자체 트랜잭션에서 끝난다
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendRiskAlerts(String etfSymbol, SymbolHolders holders) {
+        if (holders.isEmpty()) {
+            return 0;
+        }
+        RiskMetrics riskMetrics = analyzeRiskUseCase.analyzeETFRisk(etfSymbol);
+
+        int delivered = 0;
+        for (int i = 0; i < holders.size(); i++) {
+            try {
+                TelegramChatId chatId = TelegramChatId.of(holders.chatIdAt(i));
+                if (sendUnlessDeliveredToday(riskAlertMessage(chatId, etfSymbol, riskMetrics))) {
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                // 실패는 발송 기록에 남으므로 나머지 보유자에게 계속 보낸다
+                log.warn("Failed to send {} risk alert to chat {}: {}", etfSymbol, holders.chatIdAt(i), e.getMessage());
+            }
+        }
+        return delivered;
+    }
 
-        String content = buildRiskAlertContent(etfSymbol, riskMetrics);
-        NotificationPriority priority = determinePriority(riskMetrics.overallRiskLevel());
+    // 같은 날 이미 보낸 (chat, symbol, category) 알림은 다시 보내지 않는다 (스케줄 재실행, 수동 실행 대비).
+    // 조회 구간을 오늘로 한정하므로 notification_log 의 이전 월 파티션은 읽지 않는다
+    private boolean sendUnlessDeliveredToday(NotificationMessage message) {
+        LocalDateTime windowStart = LocalDate.now().atStartOfDay();
+        boolean alreadyDelivered = notificationLogPort.findLastDelivered(
+            message.chatId().value(), message.etfSymbol(), message.category(), windowStart).isPresent();
+        if (alreadyDelivered) {
+            log.debug("Skipping {} {} notification already delivered today to chat {}",
+                message.etfSymbol(), message.category(), message.chatId().value());
+            return false;
+        }
+        sendNotification(message);
+        return true;
+    }
+
+    // 마지막 사용자 id 를 커서로 다음 페이지를 이어 읽는다. 꽉 차지 않은 페이지가 마지막이다.
+    // r2dbc 프로필에서는 논블로킹 포트로 읽어 페이지마다 블로킹 호출을 거치지 않는다
+    private Flux<User> holdersOf(String etfSymbol) {
+        ReactiveUserRepository reactive = reactiveUserRepository.getIfAvailable();
+        Function<Long, Flux<User>> page = reactive != null
+            ? afterId -> reactive.findUsersWithETFAfter(etfSymbol, afterId, HOLDER_PAGE_SIZE)
+            : afterId -> Flux.defer(() ->
+                Flux.fromIterable(userRepository.findUsersWithETFAfter(etfSymbol, afterId, HOLDER_PAGE_SIZE)));
+
+        return page.apply(null).collectList()
+            .expand(users -> users.size() < HOLDER_PAGE_SIZE
+                ? Mono.empty()
+                : page.apply(users.get(users.size() - 1).getId()).collectList())
+            .flatMapIterable(users -> users);
+    }
 
-        NotificationMessage message = NotificationMessage.create(
+    private NotificationMessage dividendMessage(User user, String etfSymbol, Dividend latestDividend) {
+        NotificationPriority priority = latestDividend != null && latestDividend.hasROC()
+            ? NotificationPriority.NORMAL
+            : NotificationPriority.LOW;
+
+        return NotificationMessage.create(
             user.getTelegramChatId(),
-            etfSymbol + " 리스크 알림",
-            content,
-            priority
+            etfSymbol + " 배당 알림",
+            buildDividendNotificationContent(user.getPosition(etfSymbol), latestDividend),
+            priority,
+            NotificationCategory.DIVIDEND,
+            etfSymbol
         );
+    }
 
-        sendNotification(message);
+    private NotificationMessage riskAlertMessage(TelegramChatId chatId, String etfSymbol, RiskMetrics riskMetrics) {
+        return NotificationMessage.create(
+            chatId,
+            etfSymbol + " 리스크 알림",
+            buildRiskAlertContent(etfSymbol, riskMetrics),
+            determinePriority(riskMetrics.overallRiskLevel()),
+            NotificationCategory.RISK_ALERT,
+            etfSymbol
+        );
     }
 
     private String buildDividendNotificationContent(Position position, Dividend dividend) {
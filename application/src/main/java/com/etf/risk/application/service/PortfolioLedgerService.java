@@ -0,0 +1,62 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+import com.etf.risk.domain.port.in.QueryPortfolioHistoryUseCase;
+import com.etf.risk.domain.port.out.PortfolioLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 원장 기록과 재생.
+ *
+ * <p>이벤트는 포지션 변경과 같은 트랜잭션에서 추가된다. 사용자별 순번이
+ * {@value #SNAPSHOT_INTERVAL}의 배수가 되면 그 시점까지의 상태를 스냅샷으로 저장하므로,
+ * 현재/과거 상태 조회는 가장 가까운 스냅샷 이후의 이벤트만 재생한다.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PortfolioLedgerService implements QueryPortfolioHistoryUseCase {
+
+    static final int SNAPSHOT_INTERVAL = 50;
+
+    private final PortfolioLedgerRepository portfolioLedgerRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PortfolioEvent record(PortfolioEvent event) {
+        return portfolioLedgerRepository.append(event);
+    }
+
+    /**
+     * 커밋된 이벤트의 순번이 스냅샷 주기에 해당하면 스냅샷을 저장한다.
+     */
+    @Transactional
+    public void snapshotIfDue(PortfolioEvent committed) {
+        if (committed.sequence() % SNAPSHOT_INTERVAL != 0) {
+            return;
+        }
+        portfolioLedgerRepository.saveSnapshot(rebuild(committed.userId(), null));
+    }
+
+    @Override
+    public PortfolioState getCurrentState(Long userId) {
+        return rebuild(userId, null);
+    }
+
+    @Override
+    public PortfolioState getStateAsOf(Long userId, LocalDate date) {
+        return rebuild(userId, date.plusDays(1).atStartOfDay());
+    }
+
+    private PortfolioState rebuild(Long userId, LocalDateTime until) {
+        PortfolioState snapshot = portfolioLedgerRepository.findLatestSnapshot(userId, until)
+            .orElseGet(() -> PortfolioState.empty(userId));
+        return snapshot.replay(portfolioLedgerRepository.findEventsAfter(userId, snapshot.lastSequence(), until));
+    }
+}
@@ -1,53 +1,94 @@
 package com.etf.risk.application.service;
 
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
 import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
 import com.etf.risk.domain.model.portfolio.Position;
 import com.etf.risk.domain.model.user.User;
 import com.etf.risk.domain.port.in.ManagePortfolioUseCase;
 import com.etf.risk.domain.port.out.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
+/**
+ * 포트폴리오 변경은 낙관적 잠금으로 처리한다.
+ *
+ * <p>변경 메서드는 시도마다 새 트랜잭션에서 사용자를 다시 읽고 저장하며,
+ * 동시 수정 충돌 시 {@value #MAX_ATTEMPTS}회까지 재시도한다. 재시도가 바깥 트랜잭션에
+ * 합류하지 않도록 변경 메서드 자체는 트랜잭션 없이 실행한다.</p>
+ *
+ * <p>모든 변경은 같은 트랜잭션에서 포트폴리오 원장에 이벤트로 추가된다. 사용자 저장과 원장 기록이
+ * 같은 트랜잭션 관리자를 써야 하므로 r2dbc 프로필에서도 사용자 저장은 JDBC 로 한다.
+ * 커밋 이후의 보유자 색인 반영과 스냅샷 저장은 실패해도 이미 커밋된 변경을 실패로 보고하지 않는다.</p>
+ */
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class PortfolioManagementService implements ManagePortfolioUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(PortfolioManagementService.class);
+
+    static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 5;
+
     private final UserRepository userRepository;
+    private final HoldersIndexService holdersIndexService;
+    private final PortfolioLedgerService portfolioLedgerService;
+    private final TransactionTemplate transactionTemplate;
+
+    public PortfolioManagementService(UserRepository userRepository,
+                                      HoldersIndexService holdersIndexService,
+                                      PortfolioLedgerService portfolioLedgerService,
+                                      PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.holdersIndexService = holdersIndexService;
+        this.portfolioLedgerService = portfolioLedgerService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void addPosition(Long userId, String etfSymbol, int quantity, Money averagePrice) {
-        User user = findUserById(userId);
-        user.addPosition(etfSymbol, quantity, averagePrice);
-        userRepository.save(user);
+        updateWithRetry(userId, etfSymbol, user -> {
+            user.addPosition(etfSymbol, quantity, averagePrice);
+            return PortfolioEvent.opened(user.getId(), etfSymbol, quantity, averagePrice);
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void addToPosition(Long userId, String etfSymbol, int additionalQuantity, Money purchasePrice) {
-        User user = findUserById(userId);
-        user.addToPosition(etfSymbol, additionalQuantity, purchasePrice);
-        userRepository.save(user);
+        updateWithRetry(userId, etfSymbol, user -> {
+            user.addToPosition(etfSymbol, additionalQuantity, purchasePrice);
+            return PortfolioEvent.increased(user.getId(), etfSymbol, additionalQuantity, purchasePrice);
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void reducePosition(Long userId, String etfSymbol, int quantityToSell) {
-        User user = findUserById(userId);
-        user.reducePosition(etfSymbol, quantityToSell);
-        userRepository.save(user);
+        updateWithRetry(userId, etfSymbol, user -> {
+            user.reducePosition(etfSymbol, quantityToSell);
+            return PortfolioEvent.reduced(user.getId(), etfSymbol, quantityToSell);
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void removePosition(Long userId, String etfSymbol) {
-        User user = findUserById(userId);
-        user.removePosition(etfSymbol);
-        userRepository.save(user);
+        updateWithRetry(userId, etfSymbol, user -> {
+            int heldQuantity = user.getPosition(etfSymbol).getQuantity();
+            user.removePosition(etfSymbol);
+            return PortfolioEvent.closed(user.getId(), etfSymbol, heldQuantity);
+        });
     }
 
     @Override
@@ -62,8 +103,60 @@ public class PortfolioManagementService implements ManagePortfolioUseCase {
         return user.getPosition(etfSymbol);
     }
 
+    private void updateWithRetry(Long userId, String etfSymbol, Function<User, PortfolioEvent> mutation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Change change = transactionTemplate.execute(status -> {
+                    User user = findUserById(userId);
+                    PortfolioEvent event = mutation.apply(user);
+                    userRepository.save(user);
+                    return new Change(user, portfolioLedgerService.record(event));
+                });
+                afterCommit(etfSymbol, change);
+                return;
+            } catch (ConcurrentPortfolioUpdateException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                backoff(userId, attempt);
+            }
+        }
+    }
+
+    // 커밋 이후에 보유자 색인 반영 및 스냅샷 저장.
+    // 색인은 주기적으로 재구축되고, 빠진 스냅샷은 조회 시 이전 스냅샷부터 더 재생하게 할 뿐이다
+    private void afterCommit(String etfSymbol, Change change) {
+        User saved = change.user();
+        try {
+            holdersIndexService.onPositionChanged(etfSymbol, saved.getId(),
+                saved.getTelegramChatId().value(), saved.hasPosition(etfSymbol), change.event().sequence());
+        } catch (RuntimeException e) {
+            log.warn("Failed to update holders index for user {} {}: {}", saved.getId(), etfSymbol, e.getMessage(), e);
+        }
+        try {
+            portfolioLedgerService.snapshotIfDue(change.event());
+        } catch (RuntimeException e) {
+            log.warn("Failed to save portfolio snapshot for user {} at sequence {}: {}",
+                saved.getId(), change.event().sequence(), e.getMessage(), e);
+        }
+    }
+
+    // 같은 사용자에 몰린 요청들이 동시에 재시도하지 않도록 지터를 준다
+    private void backoff(Long userId, int attempt) {
+        long maxDelay = BASE_BACKOFF_MILLIS << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentPortfolioUpdateException("포트폴리오 수정 재시도가 중단되었습니다: userId=" + userId, e);
+        }
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
     }
+
+    private record Change(User user, PortfolioEvent event) {
+    }
 }
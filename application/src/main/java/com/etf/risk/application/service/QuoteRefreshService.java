@@ -0,0 +1,87 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.etf.ETF;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.risk.RiskMetrics;
+import com.etf.risk.domain.port.in.RefreshQuotesUseCase;
+import com.etf.risk.domain.port.out.ETFDataPort;
+import com.etf.risk.domain.port.out.SnapshotHistoryRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveQuotePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class QuoteRefreshService implements RefreshQuotesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteRefreshService.class);
+
+    /** 스냅샷 저장은 블로킹 JDBC 이므로 동시에 점유하는 커넥션 수를 제한한다 */
+    static final int MAX_CONCURRENT_WRITES = 4;
+
+    private final ReactiveQuotePort reactiveQuotePort;
+    private final ETFDataPort snapshotStore;
+    private final SnapshotHistoryRepository snapshotHistoryRepository;
+
+    // ETFDataPort 의 @Primary 구현은 읽기 전용 scraper 이므로 저장소 구현을 지정해 주입한다
+    public QuoteRefreshService(ReactiveQuotePort reactiveQuotePort,
+                               @Qualifier("snapshotStore") ETFDataPort snapshotStore,
+                               SnapshotHistoryRepository snapshotHistoryRepository) {
+        this.reactiveQuotePort = reactiveQuotePort;
+        this.snapshotStore = snapshotStore;
+        this.snapshotHistoryRepository = snapshotHistoryRepository;
+    }
+
+    @Override
+    public Flux<RiskMetrics> refreshQuotes(Collection<String> symbols) {
+        Set<String> received = ConcurrentHashMap.newKeySet();
+
+        // 저장은 boundedElastic 에서 실행해 이벤트 루프를 막지 않는다. 구독을 취소하면 남은 조회/저장도 취소된다
+        Flux<RiskMetrics> live = reactiveQuotePort.fetchLatestSnapshots(symbols)
+            .doOnNext(snapshot -> received.add(snapshot.symbol()))
+            // 한 종목의 저장 실패는 기록만 하고, 받은 시세로 평가는 계속한다
+            .flatMap(snapshot -> Mono.fromRunnable(() -> snapshotStore.saveSnapshot(snapshot))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(snapshot)
+                .onErrorResume(RuntimeException.class, e -> {
+                    log.warn("Failed to save refreshed quote for {}: {}", snapshot.symbol(), e.getMessage());
+                    return Mono.just(snapshot);
+                }), MAX_CONCURRENT_WRITES)
+            .map(snapshot -> evaluate(snapshot, RiskMetrics.builder(snapshot.symbol())))
+            // 출처가 열린 회로로 거절되거나 출처/전송 장애(IOException)로 끝나면 받은 종목까지만 쓰고
+            // 나머지는 저장된 값으로 평가한다. 그 밖의 오류는 그대로 전파한다
+            .onErrorResume(IOException.class, e -> {
+                log.warn("Quote source failed after {} of {} symbols, using last known quotes: {}",
+                    received.size(), symbols.size(), e.getMessage());
+                return Flux.empty();
+            });
+
+        return live.concatWith(Flux.defer(() -> lastKnownGood(symbols, received)));
+    }
+
+    private Flux<RiskMetrics> lastKnownGood(Collection<String> symbols, Set<String> received) {
+        return Flux.fromIterable(symbols)
+            .distinct()
+            .filter(symbol -> !received.contains(symbol))
+            .flatMap(symbol -> Mono.fromCallable(() -> snapshotHistoryRepository.findLatestSnapshot(symbol))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty), MAX_CONCURRENT_WRITES)
+            .map(snapshot -> evaluate(snapshot, RiskMetrics.builder(snapshot.symbol())
+                .staleAsOf(snapshot.recordedDate())));
+    }
+
+    // 종목별 리스크 규칙은 도메인 ETF 에 있다. 규칙이 없는 종목은 요인 없이 평가된다
+    private RiskMetrics evaluate(ETFSnapshot snapshot, RiskMetrics.Builder builder) {
+        ETF.fromSnapshot(snapshot).ifPresent(etf -> etf.addQuoteRiskFactors(builder));
+        return builder.build();
+    }
+}
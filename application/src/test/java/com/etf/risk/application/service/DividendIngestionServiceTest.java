@@ -0,0 +1,90 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.DividendSourcePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DividendIngestionService 테스트")
+class DividendIngestionServiceTest {
+
+    @Mock
+    private DividendRepository dividendRepository;
+
+    @Mock
+    private DividendSourcePort dividendSourcePort;
+
+    private DividendIngestionService dividendIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        dividendIngestionService = new DividendIngestionService(dividendRepository, dividendSourcePort);
+    }
+
+    @Test
+    @DisplayName("저장된 마지막 지급일 이후의 배당만 읽어 한 번에 저장한다")
+    void ingestNewDividends_fromHighWaterMark() {
+        // given
+        Dividend known = dividend(LocalDate.of(2025, 7, 28));
+        List<Dividend> newDividends = List.of(dividend(LocalDate.of(2025, 9, 28)), dividend(LocalDate.of(2025, 8, 28)));
+        given(dividendRepository.findLatest("GOF")).willReturn(Optional.of(known));
+        given(dividendSourcePort.fetchDividendsAfter("GOF", LocalDate.of(2025, 7, 28))).willReturn(newDividends);
+        given(dividendRepository.saveAll(newDividends)).willReturn(2);
+
+        // when
+        int ingested = dividendIngestionService.ingestNewDividends("GOF");
+
+        // then
+        assertThat(ingested).isEqualTo(2);
+        verify(dividendRepository).saveAll(newDividends);
+    }
+
+    @Test
+    @DisplayName("저장된 배당이 없으면 전체 이력을 요청한다")
+    void ingestNewDividends_withoutHistory_fetchesAll() {
+        // given
+        List<Dividend> history = List.of(dividend(LocalDate.of(2025, 9, 28)));
+        given(dividendRepository.findLatest("GOF")).willReturn(Optional.empty());
+        given(dividendSourcePort.fetchDividendsAfter("GOF", null)).willReturn(history);
+        given(dividendRepository.saveAll(history)).willReturn(1);
+
+        // when & then
+        assertThat(dividendIngestionService.ingestNewDividends("GOF")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 배당이 없으면 저장하지 않는다")
+    void ingestNewDividends_nothingNew() {
+        // given
+        given(dividendRepository.findLatest("GOF")).willReturn(Optional.of(dividend(LocalDate.of(2025, 9, 28))));
+        given(dividendSourcePort.fetchDividendsAfter("GOF", LocalDate.of(2025, 9, 28))).willReturn(List.of());
+
+        // when
+        int ingested = dividendIngestionService.ingestNewDividends("GOF");
+
+        // then
+        assertThat(ingested).isZero();
+        verify(dividendRepository, never()).saveAll(any());
+    }
+
+    private Dividend dividend(LocalDate paymentDate) {
+        return Dividend.create("GOF", paymentDate.minusDays(13), paymentDate, Money.of("0.1821"), null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
+import com.etf.risk.domain.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HoldersIndexService 테스트")
+class HoldersIndexServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private HoldersIndexService holdersIndexService;
+
+    @BeforeEach
+    void setUp() {
+        holdersIndexService = new HoldersIndexService(userRepository);
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 DB 를 한 번 스캔해 종목별 보유자 색인을 만든다")
+    void findHolders_BuildsIndexOnce() {
+        // given
+        givenHoldings(new Holding(2L, 2000L, "GOF"), new Holding(1L, 1000L, "GOF"), new Holding(1L, 1000L, "QQQI"));
+
+        // when
+        SymbolHolders gof = holdersIndexService.findHolders("GOF");
+        SymbolHolders qqqi = holdersIndexService.findHolders("QQQI");
+
+        // then
+        assertThat(gof.userIds()).containsExactly(1L, 2L);
+        assertThat(gof.chatIds()).containsExactly(1000L, 2000L);
+        assertThat(qqqi.userIds()).containsExactly(1L);
+        verify(userRepository, times(1)).scanHoldings(any());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 순번의 변경은 무시한다")
+    void onPositionChanged_IgnoresStaleVersion() {
+        // given
+        givenHoldings();
+        holdersIndexService.findHolders("GOF");
+
+        // when: 순번 2(추가)가 먼저 반영되고 순번 1(제거)이 나중에 도착
+        boolean added = holdersIndexService.onPositionChanged("GOF", 1L, 1000L, true, 2L);
+        boolean staleRemoved = holdersIndexService.onPositionChanged("GOF", 1L, 1000L, false, 1L);
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(staleRemoved).isFalse();
+        assertThat(holdersIndexService.findHolders("GOF").contains(1L)).isTrue();
+
+        // when: 더 최신 순번의 제거
+        holdersIndexService.onPositionChanged("GOF", 1L, 1000L, false, 3L);
+
+        // then
+        assertThat(holdersIndexService.findHolders("GOF").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구축 중에 들어온 변경은 새 색인에 다시 적용한다")
+    void rebuild_ReappliesChangesDuringScan() {
+        // given: 스캔 도중 사용자 2 가 GOF 를 추가
+        willAnswer(invocation -> {
+            Consumer<Holding> consumer = invocation.getArgument(0);
+            consumer.accept(new Holding(1L, 1000L, "GOF"));
+            holdersIndexService.onPositionChanged("GOF", 2L, 2000L, true, 1L);
+            return null;
+        }).given(userRepository).scanHoldings(any());
+
+        // when
+        holdersIndexService.rebuildHolders();
+
+        // then
+        assertThat(holdersIndexService.findHolders("GOF").userIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기동 시 구축에 실패해도 예외를 던지지 않고 첫 조회 때 다시 구축한다")
+    void onContextRefreshed_RetriesOnFirstLookup() {
+        // given
+        willThrow(new IllegalStateException("connection refused"))
+            .willAnswer(invocation -> {
+                Consumer<Holding> consumer = invocation.getArgument(0);
+                consumer.accept(new Holding(1L, 1000L, "GOF"));
+                return null;
+            })
+            .given(userRepository).scanHoldings(any());
+
+        // when & then
+        assertThatCode(() -> holdersIndexService.onContextRefreshed()).doesNotThrowAnyException();
+        assertThat(holdersIndexService.findHolders("GOF").userIds()).containsExactly(1L);
+        verify(userRepository, times(2)).scanHoldings(any());
+    }
+
+    private void givenHoldings(Holding... holdings) {
+        willAnswer(invocation -> {
+            Consumer<Holding> consumer = invocation.getArgument(0);
+            List.of(holdings).forEach(consumer);
+            return null;
+        }).given(userRepository).scanHoldings(any());
+    }
+}
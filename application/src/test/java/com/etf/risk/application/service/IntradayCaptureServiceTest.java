@@ -0,0 +1,84 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import com.etf.risk.domain.port.out.IntradaySnapshotRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveQuotePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntradayCaptureService 테스트")
+class IntradayCaptureServiceTest {
+
+    @Mock
+    private ReactiveQuotePort reactiveQuotePort;
+
+    @Mock
+    private IntradaySnapshotRepository intradaySnapshotRepository;
+
+    private IntradayCaptureService intradayCaptureService;
+
+    @BeforeEach
+    void setUp() {
+        intradayCaptureService = new IntradayCaptureService(reactiveQuotePort, intradaySnapshotRepository);
+    }
+
+    @Test
+    @DisplayName("받은 시세에 관측 시각을 붙여 장중 저장소에 더하고 받은 수를 돌려준다")
+    void captureIntraday_appendsTimestampedSnapshots() {
+        // given
+        ETFSnapshot gof = snapshot("GOF", "12.00", "10.00");
+        ETFSnapshot qqqi = snapshot("QQQI", "50.00", "50.00");
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF", "QQQI"))).willReturn(Flux.just(gof, qqqi));
+        Instant before = Instant.now();
+
+        // when & then
+        StepVerifier.create(intradayCaptureService.captureIntraday(List.of("GOF", "QQQI")))
+            .expectNext(2)
+            .verifyComplete();
+        ArgumentCaptor<IntradaySnapshot> captor = ArgumentCaptor.forClass(IntradaySnapshot.class);
+        verify(intradaySnapshotRepository, times(2)).append(captor.capture());
+        assertThat(captor.getAllValues()).extracting(IntradaySnapshot::snapshot).containsExactly(gof, qqqi);
+        assertThat(captor.getAllValues()).allSatisfy(captured ->
+            assertThat(captured.observedAt()).isBetween(before, Instant.now()));
+    }
+
+    @Test
+    @DisplayName("시세 조회가 실패하면 아무것도 더하지 않고 오류를 전달한다")
+    void captureIntraday_sourceFails_propagates() {
+        // given
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF")))
+            .willReturn(Flux.error(new IOException("circuit open")));
+
+        // when & then
+        StepVerifier.create(intradayCaptureService.captureIntraday(List.of("GOF")))
+            .expectError(IOException.class)
+            .verify();
+        verify(intradaySnapshotRepository, never()).append(any());
+    }
+
+    private ETFSnapshot snapshot(String symbol, String price, String nav) {
+        return new ETFSnapshot(symbol, Money.of(price), Money.of(nav), LocalDate.now());
+    }
+}
@@ -0,0 +1,172 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+import com.etf.risk.domain.model.notification.NotificationMessage;
+import com.etf.risk.domain.model.notification.NotificationPriority;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.port.in.AnalyzeRiskUseCase;
+import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.NotificationLogPort;
+import com.etf.risk.domain.port.out.NotificationPort;
+import com.etf.risk.domain.port.out.UserRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 테스트")
+class NotificationServiceTest {
+
+    private static final int PAGE = NotificationService.HOLDER_PAGE_SIZE;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private NotificationLogPort notificationLogPort;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ObjectProvider<ReactiveUserRepository> reactiveUserRepositoryProvider;
+
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Mock
+    private DividendRepository dividendRepository;
+
+    @Mock
+    private AnalyzeRiskUseCase analyzeRiskUseCase;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationPort, notificationLogPort, userRepository,
+            reactiveUserRepositoryProvider, dividendRepository, analyzeRiskUseCase);
+        given(notificationPort.isAvailable()).willReturn(true);
+        given(dividendRepository.findLatest("GOF")).willReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("배당 알림은 보유자를 id 커서 페이지로 읽어 보낸다")
+    void sendDividendNotifications_pagesHolders() {
+        // given: 꽉 찬 첫 페이지와 한 명짜리 마지막 페이지
+        given(userRepository.findUsersWithETFAfter("GOF", null, PAGE)).willReturn(holders(1, PAGE));
+        given(userRepository.findUsersWithETFAfter("GOF", (long) PAGE, PAGE)).willReturn(holders(PAGE + 1, PAGE + 1));
+
+        // when
+        int delivered = notificationService.sendDividendNotifications("GOF");
+
+        // then
+        assertThat(delivered).isEqualTo(PAGE + 1);
+        verify(notificationPort, times(PAGE + 1)).send(any());
+        verify(userRepository, never()).findById(anyLong());
+        verify(dividendRepository, times(1)).findLatest("GOF");
+    }
+
+    @Test
+    @DisplayName("논블로킹 사용자 포트가 있으면 보유자 페이지를 그 포트로 읽는다")
+    void sendDividendNotifications_usesReactivePortWhenAvailable() {
+        // given
+        given(reactiveUserRepositoryProvider.getIfAvailable()).willReturn(reactiveUserRepository);
+        given(reactiveUserRepository.findUsersWithETFAfter("GOF", null, PAGE))
+            .willReturn(Flux.fromIterable(holders(1, 2)));
+
+        // when
+        int delivered = notificationService.sendDividendNotifications("GOF");
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(userRepository, never()).findUsersWithETFAfter(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 보유자에게 발송이 실패해도 나머지 보유자에게 계속 보낸다")
+    void sendDividendNotifications_continuesAfterFailure() {
+        // given
+        given(userRepository.findUsersWithETFAfter("GOF", null, PAGE)).willReturn(holders(1, 3));
+        willAnswer(invocation -> {
+            NotificationMessage message = invocation.getArgument(0);
+            if (message.chatId().equals(new TelegramChatId(1002L))) {
+                throw new IllegalStateException("telegram down");
+            }
+            return null;
+        }).given(notificationPort).send(any());
+
+        // when
+        int delivered = notificationService.sendDividendNotifications("GOF");
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(notificationPort, times(3)).send(any());
+    }
+
+    @Test
+    @DisplayName("오늘 이미 배당 알림을 받은 보유자는 건너뛴다")
+    void sendDividendNotifications_skipsAlreadyDeliveredToday() {
+        // given: 1002 는 오늘 이미 받음
+        given(userRepository.findUsersWithETFAfter("GOF", null, PAGE)).willReturn(holders(1, 3));
+        given(notificationLogPort.findLastDelivered(anyLong(), eq("GOF"), eq(NotificationCategory.DIVIDEND), any()))
+            .willAnswer(invocation -> {
+                Long chatId = invocation.getArgument(0);
+                LocalDateTime since = invocation.getArgument(3);
+                assertThat(since).isEqualTo(LocalDate.now().atStartOfDay());
+                return chatId == 1002L
+                    ? Optional.of(deliveredEntry(chatId, since.plusHours(1)))
+                    : Optional.empty();
+            });
+
+        // when
+        int delivered = notificationService.sendDividendNotifications("GOF");
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(notificationPort, times(2)).send(any());
+    }
+
+    private NotificationLogEntry deliveredEntry(Long chatId, LocalDateTime sentAt) {
+        return new NotificationLogEntry(chatId, "GOF", NotificationCategory.DIVIDEND, NotificationPriority.LOW,
+            "GOF 배당 알림", sentAt, sentAt, true, null);
+    }
+
+    private List<User> holders(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> {
+                User user = User.register(new TelegramChatId(1000L + id), "user" + id);
+                user.setId(id);
+                user.addPosition("GOF", 10, Money.of("20.00"));
+                return user;
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioEventType;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+import com.etf.risk.domain.port.out.PortfolioLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioLedgerService 테스트")
+class PortfolioLedgerServiceTest {
+
+    private static final Long USER_ID = 1L;
+    // 008 마이그레이션의 백필: 원장 도입 전 포지션을 생성 시각의 OPENED 이벤트로 기록
+    private static final LocalDateTime GOF_CREATED_AT = LocalDateTime.of(2025, 11, 3, 9, 0);
+    private static final LocalDateTime QQQI_CREATED_AT = LocalDateTime.of(2026, 1, 12, 9, 0);
+
+    @Mock
+    private PortfolioLedgerRepository portfolioLedgerRepository;
+
+    private PortfolioLedgerService portfolioLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioLedgerService = new PortfolioLedgerService(portfolioLedgerRepository);
+    }
+
+    @Test
+    @DisplayName("백필된 OPENED 이벤트 위에 이후 변경을 재생할 수 있다")
+    void getCurrentState_ReplaysBackfilledUser() {
+        // given
+        given(portfolioLedgerRepository.findLatestSnapshot(eq(USER_ID), isNull())).willReturn(Optional.empty());
+        given(portfolioLedgerRepository.findEventsAfter(eq(USER_ID), eq(0L), isNull())).willReturn(List.of(
+            backfilled(1, "GOF", 100, "20.00", GOF_CREATED_AT),
+            backfilled(2, "QQQI", 10, "50.00", QQQI_CREATED_AT),
+            new PortfolioEvent(USER_ID, 3, "GOF", PortfolioEventType.INCREASED, 50, Money.of("23.00"),
+                LocalDateTime.of(2026, 10, 19, 10, 0)),
+            new PortfolioEvent(USER_ID, 4, "GOF", PortfolioEventType.REDUCED, 30, null,
+                LocalDateTime.of(2026, 10, 19, 11, 0)),
+            new PortfolioEvent(USER_ID, 5, "QQQI", PortfolioEventType.CLOSED, 10, null,
+                LocalDateTime.of(2026, 10, 19, 12, 0))
+        ));
+
+        // when
+        PortfolioState state = portfolioLedgerService.getCurrentState(USER_ID);
+
+        // then
+        assertThat(state.lastSequence()).isEqualTo(5);
+        assertThat(state.position("QQQI")).isEmpty();
+        assertThat(state.position("GOF")).hasValueSatisfying(gof -> {
+            assertThat(gof.quantity()).isEqualTo(120);
+            assertThat(gof.averagePrice()).isEqualTo(Money.of("21.00"));
+        });
+    }
+
+    @Test
+    @DisplayName("원장 도입 전 시점 조회는 그 시점까지 생성된 백필 포지션만 돌려준다")
+    void getStateAsOf_UsesBackfilledCreationTime() {
+        // given
+        LocalDate asOf = LocalDate.of(2025, 12, 31);
+        LocalDateTime until = asOf.plusDays(1).atStartOfDay();
+        given(portfolioLedgerRepository.findLatestSnapshot(USER_ID, until)).willReturn(Optional.empty());
+        given(portfolioLedgerRepository.findEventsAfter(any(), eq(0L), eq(until))).willReturn(List.of(
+            backfilled(1, "GOF", 100, "20.00", GOF_CREATED_AT)
+        ));
+
+        // when
+        PortfolioState state = portfolioLedgerService.getStateAsOf(USER_ID, asOf);
+
+        // then
+        assertThat(state.positions()).hasSize(1);
+        assertThat(state.position("GOF")).hasValueSatisfying(gof -> assertThat(gof.quantity()).isEqualTo(100));
+    }
+
+    private static PortfolioEvent backfilled(long sequence, String symbol, int quantity, String averagePrice,
+                                             LocalDateTime createdAt) {
+        return new PortfolioEvent(USER_ID, sequence, symbol, PortfolioEventType.OPENED, quantity,
+            Money.of(averagePrice), createdAt);
+    }
+}
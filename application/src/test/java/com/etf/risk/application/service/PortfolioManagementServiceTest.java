@@ -1,9 +1,14 @@
 package com.etf.risk.application.service;
 
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
 import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.Portfolio;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioEventType;
 import com.etf.risk.domain.model.portfolio.Position;
 import com.etf.risk.domain.model.user.TelegramChatId;
 import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.port.out.PortfolioLedgerRepository;
 import com.etf.risk.domain.port.out.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +17,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,13 +45,22 @@ class PortfolioManagementServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PortfolioLedgerRepository portfolioLedgerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private PortfolioManagementService portfolioManagementService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
-        portfolioManagementService = new PortfolioManagementService(userRepository);
+        portfolioManagementService = new PortfolioManagementService(userRepository, new HoldersIndexService(userRepository),
+            new PortfolioLedgerService(portfolioLedgerRepository), transactionManager);
+        lenient().when(portfolioLedgerRepository.append(any()))
+            .thenAnswer(invocation -> invocation.<PortfolioEvent>getArgument(0).withSequence(1L));
         testUser = User.register(new TelegramChatId(123456789L), "testuser");
         testUser.setId(1L);
     }
@@ -60,6 +86,25 @@ class PortfolioManagementServiceTest {
             verify(userRepository).save(testUser);
         }
 
+        @Test
+        @DisplayName("커밋 이후 스냅샷 저장이 실패해도 이미 저장된 변경은 성공으로 처리한다")
+        void snapshotFailureAfterCommit_DoesNotFailChange() {
+            // given: 스냅샷 주기에 해당하는 순번에서 재생 실패
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(portfolioLedgerRepository.append(any()))
+                    .willAnswer(invocation -> invocation.<PortfolioEvent>getArgument(0)
+                            .withSequence(PortfolioLedgerService.SNAPSHOT_INTERVAL));
+            given(portfolioLedgerRepository.findLatestSnapshot(any(), any()))
+                    .willThrow(new IllegalStateException("보유하지 않은 종목의 이벤트입니다"));
+
+            // when
+            portfolioManagementService.addPosition(1L, "GOF", 100, Money.of("20.50"));
+
+            // then
+            assertThat(testUser.hasPosition("GOF")).isTrue();
+            verify(userRepository).save(testUser);
+        }
+
         @Test
         @DisplayName("존재하지 않는 사용자는 예외 발생")
         void addPositionToNonExistingUser_ThrowsException() {
@@ -112,6 +157,8 @@ class PortfolioManagementServiceTest {
             // then
             assertThat(testUser.hasPosition("GOF")).isFalse();
             verify(userRepository).save(testUser);
+            verify(portfolioLedgerRepository).append(argThat(event ->
+                event.type() == PortfolioEventType.CLOSED && event.quantity() == 100));
         }
     }
 
@@ -181,4 +228,102 @@ class PortfolioManagementServiceTest {
                     .isInstanceOf(com.etf.risk.domain.exception.PositionNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("동시 수정 재시도")
+    class ConcurrentUpdate {
+
+        @Test
+        @DisplayName("충돌 시 사용자를 다시 읽어 재시도한다")
+        void conflict_RetriesWithFreshUser() {
+            // given
+            given(userRepository.findById(1L)).willAnswer(invocation -> Optional.of(userWithGof(100, 0L)));
+            given(userRepository.save(any(User.class)))
+                    .willThrow(new ConcurrentPortfolioUpdateException("충돌"))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            portfolioManagementService.addToPosition(1L, "GOF", 10, Money.of("20.00"));
+
+            // then
+            verify(userRepository, times(2)).findById(1L);
+            verify(userRepository, times(2)).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("최대 재시도 횟수를 넘으면 예외 발생")
+        void conflictBeyondMaxAttempts_ThrowsException() {
+            // given
+            given(userRepository.findById(1L)).willAnswer(invocation -> Optional.of(userWithGof(100, 0L)));
+            given(userRepository.save(any(User.class))).willThrow(new ConcurrentPortfolioUpdateException("충돌"));
+
+            // when & then
+            assertThatThrownBy(() -> portfolioManagementService.addToPosition(1L, "GOF", 10, Money.of("20.00")))
+                    .isInstanceOf(ConcurrentPortfolioUpdateException.class);
+            verify(userRepository, times(PortfolioManagementService.MAX_ATTEMPTS)).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("한 사용자에 요청이 몰려도 성공한 갱신은 유실되지 않는다")
+        void hotUserContention_NoLostUpdates() throws InterruptedException {
+            // given: version 비교 저장을 흉내 내는 저장소 (quantity, version)
+            long[] row = {100, 0};
+            given(userRepository.findById(1L)).willAnswer(invocation -> {
+                synchronized (row) {
+                    return Optional.of(userWithGof((int) row[0], row[1]));
+                }
+            });
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                Position position = user.getPosition("GOF");
+                synchronized (row) {
+                    if (row[1] != position.getVersion()) {
+                        throw new ConcurrentPortfolioUpdateException("충돌");
+                    }
+                    row[0] = position.getQuantity();
+                    row[1]++;
+                }
+                return user;
+            });
+
+            int threads = 16;
+            int requestsPerThread = 25;
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger gaveUp = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // when
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        try {
+                            portfolioManagementService.addToPosition(1L, "GOF", 1, Money.of("20.00"));
+                            succeeded.incrementAndGet();
+                        } catch (ConcurrentPortfolioUpdateException e) {
+                            gaveUp.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            // then
+            assertThat(succeeded.get() + gaveUp.get()).isEqualTo(threads * requestsPerThread);
+            assertThat(row[0]).isEqualTo(100L + succeeded.get());
+            assertThat(row[1]).isEqualTo(succeeded.get());
+        }
+
+        private User userWithGof(int quantity, long version) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Position> positions = new ArrayList<>();
+            positions.add(Position.reconstitute(10L, "GOF", quantity, Money.of("20.00"), version, now, now));
+            return User.reconstitute(1L, new TelegramChatId(123456789L), "testuser",
+                    Portfolio.reconstitute(positions), now, now);
+        }
+    }
 }
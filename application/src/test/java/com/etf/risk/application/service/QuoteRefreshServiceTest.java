@@ -0,0 +1,191 @@
+package com.etf.risk.application.service;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.risk.RiskLevel;
+import com.etf.risk.domain.model.risk.RiskMetrics;
+import com.etf.risk.domain.port.out.ETFDataPort;
+import com.etf.risk.domain.port.out.SnapshotHistoryRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveQuotePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteRefreshService 테스트")
+class QuoteRefreshServiceTest {
+
+    @Mock
+    private ReactiveQuotePort reactiveQuotePort;
+
+    @Mock
+    private ETFDataPort snapshotStore;
+
+    @Mock
+    private SnapshotHistoryRepository snapshotHistoryRepository;
+
+    private QuoteRefreshService quoteRefreshService;
+
+    @BeforeEach
+    void setUp() {
+        quoteRefreshService = new QuoteRefreshService(reactiveQuotePort, snapshotStore, snapshotHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("받은 시세를 저장하고 프리미엄으로 리스크를 다시 평가한다")
+    void refreshQuotes_persistsAndEvaluates() {
+        // given: GOF 프리미엄 20%, QQQI 프리미엄 0%
+        ETFSnapshot gof = snapshot("GOF", "12.00", "10.00");
+        ETFSnapshot qqqi = snapshot("QQQI", "50.00", "50.00");
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF", "QQQI"))).willReturn(Flux.just(gof, qqqi));
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF", "QQQI")).collectList())
+            .assertNext(metrics -> {
+                assertThat(metrics).hasSize(2);
+                assertThat(metrics).filteredOn(m -> m.etfSymbol().equals("GOF"))
+                    .singleElement()
+                    .satisfies(m -> assertThat(m.overallRiskLevel()).isEqualTo(RiskLevel.HIGH));
+                assertThat(metrics).filteredOn(m -> m.etfSymbol().equals("QQQI"))
+                    .singleElement()
+                    .satisfies(m -> assertThat(m.isStable()).isTrue());
+            })
+            .verifyComplete();
+        verify(snapshotStore).saveSnapshot(gof);
+        verify(snapshotStore).saveSnapshot(qqqi);
+    }
+
+    @Test
+    @DisplayName("리스크는 종목별 도메인 규칙으로 평가한다 - 프리미엄 규칙은 폐쇄형 펀드(GOF)에만 적용")
+    void refreshQuotes_appliesPerSymbolRules() {
+        // given: 세 종목 모두 프리미엄 20%
+        ETFSnapshot gof = snapshot("GOF", "12.00", "10.00");
+        ETFSnapshot qqqi = snapshot("QQQI", "60.00", "50.00");
+        ETFSnapshot unknown = snapshot("SCHD", "12.00", "10.00");
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF", "QQQI", "SCHD")))
+            .willReturn(Flux.just(gof, qqqi, unknown));
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF", "QQQI", "SCHD")).collectList())
+            .assertNext(metrics -> {
+                assertThat(metrics).filteredOn(m -> m.etfSymbol().equals("GOF"))
+                    .singleElement()
+                    .satisfies(m -> assertThat(m.overallRiskLevel()).isEqualTo(RiskLevel.HIGH));
+                assertThat(metrics).filteredOn(m -> !m.etfSymbol().equals("GOF"))
+                    .hasSize(2)
+                    .allSatisfy(m -> assertThat(m.riskFactors()).isEmpty());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("출처가 실패하면 받지 못한 종목은 마지막으로 저장된 스냅샷으로 평가하고 stale 로 표시한다")
+    void refreshQuotes_sourceFailure_fallsBackToLastKnownGood() {
+        // given: GOF 만 받은 뒤 회로가 열림
+        ETFSnapshot gof = snapshot("GOF", "12.00", "10.00");
+        ETFSnapshot storedQqqi = snapshot("QQQI", "50.00", "50.00");
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF", "QQQI")))
+            .willReturn(Flux.concat(Flux.just(gof), Flux.error(new IOException("circuit open"))));
+        given(snapshotHistoryRepository.findLatestSnapshot("QQQI")).willReturn(Optional.of(storedQqqi));
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF", "QQQI")))
+            .assertNext(metrics -> {
+                assertThat(metrics.etfSymbol()).isEqualTo("GOF");
+                assertThat(metrics.isStale()).isFalse();
+            })
+            .assertNext(metrics -> {
+                assertThat(metrics.etfSymbol()).isEqualTo("QQQI");
+                assertThat(metrics.isStale()).isTrue();
+                assertThat(metrics.staleAsOf()).contains(LocalDate.of(2024, 6, 3));
+                assertThat(metrics.isStable()).isTrue();
+            })
+            .verifyComplete();
+        verify(snapshotStore, never()).saveSnapshot(storedQqqi);
+    }
+
+    @Test
+    @DisplayName("저장된 스냅샷도 없는 종목은 결과에서 빠진다")
+    void refreshQuotes_noLastKnownGood_skipsSymbol() {
+        // given
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF"))).willReturn(Flux.error(new IOException("timeout")));
+        given(snapshotHistoryRepository.findLatestSnapshot("GOF")).willReturn(Optional.empty());
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF")))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("출처 장애가 아닌 오류는 저장된 스냅샷으로 대신하지 않고 그대로 전파한다")
+    void refreshQuotes_unexpectedError_propagates() {
+        // given
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF")))
+            .willReturn(Flux.error(new IllegalStateException("bug")));
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF")))
+            .expectError(IllegalStateException.class)
+            .verify();
+        verify(snapshotHistoryRepository, never()).findLatestSnapshot(any());
+    }
+
+    @Test
+    @DisplayName("한 종목의 저장이 실패해도 다른 종목은 저장하고 모든 종목을 평가한다")
+    void refreshQuotes_saveFailure_isIsolated() {
+        // given: GOF 저장만 실패
+        ETFSnapshot gof = snapshot("GOF", "12.00", "10.00");
+        ETFSnapshot qqqi = snapshot("QQQI", "50.00", "50.00");
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF", "QQQI"))).willReturn(Flux.just(gof, qqqi));
+        willThrow(new IllegalStateException("connection refused")).given(snapshotStore).saveSnapshot(gof);
+
+        // when & then
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF", "QQQI")).collectList())
+            .assertNext(metrics -> assertThat(metrics)
+                .extracting(RiskMetrics::etfSymbol)
+                .containsExactlyInAnyOrder("GOF", "QQQI"))
+            .verifyComplete();
+        verify(snapshotStore).saveSnapshot(qqqi);
+        verify(snapshotHistoryRepository, never()).findLatestSnapshot(any());
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 이후 도착하는 시세는 저장하지 않는다")
+    void refreshQuotes_cancelStopsPersistence() {
+        // given
+        Sinks.Many<ETFSnapshot> quotes = Sinks.many().unicast().onBackpressureBuffer();
+        given(reactiveQuotePort.fetchLatestSnapshots(List.of("GOF"))).willReturn(quotes.asFlux());
+
+        // when
+        StepVerifier.create(quoteRefreshService.refreshQuotes(List.of("GOF")))
+            .expectSubscription()
+            .thenCancel()
+            .verify();
+        quotes.tryEmitNext(snapshot("GOF", "12.00", "10.00"));
+
+        // then
+        verify(snapshotStore, never()).saveSnapshot(any());
+    }
+
+    private ETFSnapshot snapshot(String symbol, String price, String nav) {
+        return new ETFSnapshot(symbol, Money.of(price), Money.of(nav), LocalDate.of(2024, 6, 3));
+    }
+}
@@ -12,7 +12,16 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  *
  * @author protect-my-etf
  */
-@SpringBootApplication(scanBasePackages = "com.etf.risk")
+@SpringBootApplication(
+        scanBasePackages = "com.etf.risk",
+        // R2DBC 는 r2dbc 프로필에서 R2dbcPersistenceConfig 가 직접 구성한다
+        excludeName = {
+                "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+                "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+                "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"
+        }
+)
 @EnableScheduling
 public class ProtectMyEtfApplication {
 
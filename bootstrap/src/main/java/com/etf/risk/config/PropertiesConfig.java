@@ -1,6 +1,16 @@
 package com.etf.risk.config;
 
+import com.etf.risk.adapter.persistence.config.DataSourceRoutingProperties;
+import com.etf.risk.adapter.persistence.config.IntradayBarProperties;
+import com.etf.risk.adapter.persistence.config.NotificationLogProperties;
+import com.etf.risk.adapter.persistence.config.PartitionMaintenanceProperties;
+import com.etf.risk.adapter.persistence.config.StatementMetricsProperties;
+import com.etf.risk.adapter.persistence.r2dbc.config.R2dbcPersistenceProperties;
 import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties;
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
 import com.etf.risk.adapter.telegram.config.TelegramBotProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -8,7 +18,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties({
         TelegramBotProperties.class,
-        SchedulerProperties.class
+        SchedulerProperties.class,
+        DataSourceRoutingProperties.class,
+        StatementMetricsProperties.class,
+        NotificationLogProperties.class,
+        IntradayBarProperties.class,
+        PartitionMaintenanceProperties.class,
+        R2dbcPersistenceProperties.class,
+        PageCacheProperties.class,
+        ExtractionProfileProperties.class,
+        ResilienceProperties.class,
+        RateLimitProperties.class
 })
 public class PropertiesConfig {
 }
@@ -0,0 +1,11 @@
+package com.etf.risk.domain.exception;
+
+public class ConcurrentPortfolioUpdateException extends DomainException {
+    public ConcurrentPortfolioUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentPortfolioUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,50 @@
+package com.etf.risk.domain.model.dividend;
+
+import com.etf.risk.domain.model.etf.ETFMetadata;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ETF 메타데이터와 최근 배당 이력으로 월별 예정 배당일을 추정한다.
+ *
+ * <p>지급일은 {@code paymentDayOfMonth} 를 그 달의 말일로 보정해 사용하고(31일 → 2월 28/29일),
+ * 배당락일은 지급일에서 {@code exDividendDayOffset} 일을 뺀다. 메타데이터에 값이 없으면
+ * 가장 최근 실제 배당의 지급일/배당락일 간격을 사용한다.</p>
+ */
+public final class DividendCalendar {
+
+    private DividendCalendar() {
+    }
+
+    public static List<DividendCalendarEntry> project(ETFMetadata metadata, Optional<Dividend> latest,
+                                                      YearMonth from, int months) {
+        if (months <= 0) {
+            throw new IllegalArgumentException("추정 기간은 1개월 이상이어야 합니다: " + months);
+        }
+
+        Integer paymentDay = metadata.hasPaymentSchedule()
+            ? metadata.paymentDayOfMonth()
+            : latest.map(dividend -> dividend.paymentDate().getDayOfMonth()).orElse(null);
+        if (paymentDay == null) {
+            return List.of();
+        }
+
+        int exOffsetDays = metadata.exDividendDayOffset() != null
+            ? Math.max(0, metadata.exDividendDayOffset())
+            : latest.map(dividend -> (int) ChronoUnit.DAYS.between(dividend.exDividendDate(), dividend.paymentDate()))
+                .orElse(0);
+
+        List<DividendCalendarEntry> entries = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            YearMonth month = from.plusMonths(i);
+            LocalDate paymentDate = month.atDay(Math.min(paymentDay, month.lengthOfMonth()));
+            entries.add(DividendCalendarEntry.projected(metadata.symbol(), paymentDate.minusDays(exOffsetDays), paymentDate));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,33 @@
+package com.etf.risk.domain.model.dividend;
+
+import java.time.LocalDate;
+
+/**
+ * 배당 일정 한 건. confirmed 가 false 이면 ETF 메타데이터와 과거 이력으로 추정한 예정일이다.
+ */
+public record DividendCalendarEntry(
+    String etfSymbol,
+    LocalDate exDividendDate,
+    LocalDate paymentDate,
+    boolean confirmed
+) {
+    public DividendCalendarEntry {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (exDividendDate == null || paymentDate == null) {
+            throw new IllegalArgumentException("배당락일과 배당 지급일은 필수입니다");
+        }
+        if (paymentDate.isBefore(exDividendDate)) {
+            throw new IllegalArgumentException("배당 지급일은 배당락일 이후여야 합니다");
+        }
+    }
+
+    public static DividendCalendarEntry projected(String etfSymbol, LocalDate exDividendDate, LocalDate paymentDate) {
+        return new DividendCalendarEntry(etfSymbol, exDividendDate, paymentDate, false);
+    }
+
+    public static DividendCalendarEntry confirmed(Dividend dividend) {
+        return new DividendCalendarEntry(dividend.etfSymbol(), dividend.exDividendDate(), dividend.paymentDate(), true);
+    }
+}
@@ -0,0 +1,36 @@
+package com.etf.risk.domain.model.etf;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum BarInterval {
+    WEEKLY("주봉"),
+    MONTHLY("월봉");
+
+    private final String displayName;
+
+    BarInterval(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    // PostgreSQL date_trunc('week' | 'month')와 동일한 버킷 경계 (주는 월요일 시작)
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate nextBucketStart(LocalDate date) {
+        LocalDate start = bucketStart(date);
+        return switch (this) {
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+        };
+    }
+}
@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 public abstract class ETF {
@@ -24,6 +25,24 @@ public abstract class ETF {
 
     public abstract RiskMetrics analyzeRisk();
 
+    /**
+     * 현재 스냅샷(가격/NAV)만으로 판단할 수 있는 리스크 요인을 더한다.
+     * 레버리지/ROC 처럼 따로 수집하는 지표는 보지 않으며, 시세만으로 판단할 규칙이 없으면 아무것도 더하지 않는다.
+     */
+    public void addQuoteRiskFactors(RiskMetrics.Builder builder) {
+    }
+
+    /**
+     * 시세 스냅샷만으로 종목별 ETF 를 만든다. 리스크 규칙이 정의되지 않은 종목이면 비어 있다.
+     */
+    public static Optional<ETF> fromSnapshot(ETFSnapshot snapshot) {
+        return switch (snapshot.symbol()) {
+            case "GOF" -> Optional.of(GOF.create(snapshot, null, null, null, null));
+            case "QQQI" -> Optional.of(QQQI.create(snapshot, null, null, null));
+            default -> Optional.empty();
+        };
+    }
+
     public BigDecimal calculateYield(Money annualDividend) {
         if (snapshot == null || snapshot.currentPrice().isZero()) {
             return BigDecimal.ZERO;
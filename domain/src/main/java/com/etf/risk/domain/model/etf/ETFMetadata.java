@@ -0,0 +1,34 @@
+package com.etf.risk.domain.model.etf;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public record ETFMetadata(
+    String symbol,
+    String name,
+    Set<ETFType> types,
+    Integer paymentDayOfMonth,
+    Integer exDividendDayOffset,
+    String description
+) {
+    public ETFMetadata {
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (paymentDayOfMonth != null && (paymentDayOfMonth < 1 || paymentDayOfMonth > 31)) {
+            throw new IllegalArgumentException("배당 지급일은 1~31 사이여야 합니다: " + paymentDayOfMonth);
+        }
+        types = types == null || types.isEmpty()
+            ? Collections.unmodifiableSet(EnumSet.noneOf(ETFType.class))
+            : Collections.unmodifiableSet(EnumSet.copyOf(types));
+    }
+
+    public boolean hasType(ETFType type) {
+        return types.contains(type);
+    }
+
+    public boolean hasPaymentSchedule() {
+        return paymentDayOfMonth != null;
+    }
+}
@@ -2,7 +2,10 @@ package com.etf.risk.domain.model.etf;
 
 import com.etf.risk.domain.model.common.Money;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Optional;
 
 public record ETFSnapshot(
     String symbol,
@@ -29,6 +32,20 @@ public record ETFSnapshot(
         return currentPrice.subtract(nav);
     }
 
+    /**
+     * NAV 대비 프리미엄(음수면 할인) 비율(%). NAV 가 0 이면 계산하지 않는다.
+     */
+    public Optional<Premium> premiumRate() {
+        BigDecimal navAmount = nav.getAmount();
+        if (navAmount.signum() == 0) {
+            return Optional.empty();
+        }
+        BigDecimal rate = currentPrice.getAmount().subtract(navAmount)
+            .divide(navAmount, 4, RoundingMode.HALF_UP)
+            .multiply(new BigDecimal("100"));
+        return Optional.of(Premium.of(rate));
+    }
+
     public boolean isTradingAtPremium() {
         return currentPrice.isGreaterThan(nav);
     }
@@ -41,7 +41,7 @@ public class GOF extends ETF {
     public RiskMetrics analyzeRisk() {
         RiskMetrics.Builder builder = RiskMetrics.builder(SYMBOL);
 
-        analyzePremium(builder);
+        analyzePremium(builder, premium);
         analyzeLeverage(builder);
         analyzeROC(builder);
         analyzeDividendSustainability(builder);
@@ -49,7 +49,15 @@ public class GOF extends ETF {
         return builder.build();
     }
 
-    private void analyzePremium(RiskMetrics.Builder builder) {
+    /**
+     * 폐쇄형 펀드는 NAV 대비 프리미엄이 곧 신규 매수 위험이므로 시세만으로 프리미엄을 다시 평가한다.
+     */
+    @Override
+    public void addQuoteRiskFactors(RiskMetrics.Builder builder) {
+        analyzePremium(builder, snapshot.premiumRate().orElse(null));
+    }
+
+    private void analyzePremium(RiskMetrics.Builder builder, Premium premium) {
         if (premium == null) {
             builder.addRiskFactor("프리미엄/할인율", RiskLevel.MEDIUM, "프리미엄 정보 없음");
             return;
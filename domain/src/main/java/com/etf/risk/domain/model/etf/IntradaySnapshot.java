@@ -0,0 +1,28 @@
+package com.etf.risk.domain.model.etf;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 장중 시세 한 건. 일별 {@link ETFSnapshot} 에 관측 시각을 붙인 것이다.
+ */
+public record IntradaySnapshot(
+    ETFSnapshot snapshot,
+    Instant observedAt
+) {
+    public IntradaySnapshot {
+        Objects.requireNonNull(snapshot, "스냅샷은 필수입니다");
+        if (observedAt == null) {
+            throw new IllegalArgumentException("관측 시각은 필수입니다");
+        }
+    }
+
+    public String symbol() {
+        return snapshot.symbol();
+    }
+
+    public Optional<Premium> premiumRate() {
+        return snapshot.premiumRate();
+    }
+}
@@ -0,0 +1,90 @@
+package com.etf.risk.domain.model.etf;
+
+import com.etf.risk.domain.model.common.Money;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 장중 시세를 1분 단위로 모은 봉. 프리미엄은 장중 급등을 놓치지 않도록 최고/최저를 따로 둔다.
+ * NAV 가 0 이라 프리미엄을 계산할 수 없는 시세만 있었다면 프리미엄은 null 이다.
+ */
+public record MinuteBar(
+    String etfSymbol,
+    Instant bucketStart,
+    Money openPrice,
+    Money highPrice,
+    Money lowPrice,
+    Money closePrice,
+    Money closeNav,
+    BigDecimal highPremium,
+    BigDecimal lowPremium,
+    int sampleCount
+) {
+    public MinuteBar {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (bucketStart == null || !bucketStart.equals(bucketOf(bucketStart))) {
+            throw new IllegalArgumentException("버킷 시작 시각은 분 단위여야 합니다: " + bucketStart);
+        }
+        if (sampleCount < 1) {
+            throw new IllegalArgumentException("봉에는 시세가 하나 이상 있어야 합니다: " + sampleCount);
+        }
+    }
+
+    public static Instant bucketOf(Instant observedAt) {
+        return observedAt.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    public static MinuteBar of(IntradaySnapshot sample) {
+        ETFSnapshot snapshot = sample.snapshot();
+        BigDecimal premium = sample.premiumRate().map(Premium::value).orElse(null);
+        return new MinuteBar(sample.symbol(), bucketOf(sample.observedAt()),
+            snapshot.currentPrice(), snapshot.currentPrice(), snapshot.currentPrice(), snapshot.currentPrice(),
+            snapshot.nav(), premium, premium, 1);
+    }
+
+    /**
+     * 같은 분의 시세를 더한다. 시세는 관측 순서대로 들어온다고 보고 마지막 시세를 종가로 쓴다.
+     */
+    public MinuteBar add(IntradaySnapshot sample) {
+        if (!sample.symbol().equals(etfSymbol) || !bucketOf(sample.observedAt()).equals(bucketStart)) {
+            throw new IllegalArgumentException("다른 종목이나 다른 분의 시세입니다: " + sample.symbol() + " " + sample.observedAt());
+        }
+        return merge(of(sample));
+    }
+
+    /**
+     * 같은 분의 뒤이은 봉(예: 저장 후 같은 분에 들어온 시세)을 합친다. 시가는 이 봉, 종가는 later 를 쓴다.
+     */
+    public MinuteBar merge(MinuteBar later) {
+        if (!later.etfSymbol.equals(etfSymbol) || !later.bucketStart.equals(bucketStart)) {
+            throw new IllegalArgumentException("다른 종목이나 다른 분의 봉입니다: " + later.etfSymbol + " " + later.bucketStart);
+        }
+        return new MinuteBar(etfSymbol, bucketStart,
+            openPrice,
+            highPrice.isGreaterThanOrEqual(later.highPrice) ? highPrice : later.highPrice,
+            lowPrice.isLessThanOrEqual(later.lowPrice) ? lowPrice : later.lowPrice,
+            later.closePrice,
+            later.closeNav,
+            max(highPremium, later.highPremium),
+            min(lowPremium, later.lowPremium),
+            sampleCount + later.sampleCount);
+    }
+
+    private static BigDecimal max(BigDecimal a, BigDecimal b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : a.max(b);
+    }
+
+    private static BigDecimal min(BigDecimal a, BigDecimal b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : a.min(b);
+    }
+}
@@ -0,0 +1,39 @@
+package com.etf.risk.domain.model.etf;
+
+import com.etf.risk.domain.model.common.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SnapshotBar(
+    String etfSymbol,
+    BarInterval interval,
+    LocalDate bucketStart,
+    Money openPrice,
+    Money highPrice,
+    Money lowPrice,
+    Money closePrice,
+    Money openNav,
+    Money highNav,
+    Money lowNav,
+    Money closeNav,
+    BigDecimal averagePremium,
+    BigDecimal lastLeverage,
+    int sampleCount
+) {
+    public SnapshotBar {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (interval == null) {
+            throw new IllegalArgumentException("봉 단위는 필수입니다");
+        }
+        if (bucketStart == null) {
+            throw new IllegalArgumentException("버킷 시작일은 필수입니다");
+        }
+    }
+
+    public LocalDate bucketEnd() {
+        return interval.nextBucketStart(bucketStart).minusDays(1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.etf.risk.domain.model.etf;
+
+import com.etf.risk.domain.model.common.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SnapshotStatistics(
+    String etfSymbol,
+    LocalDate firstRecordedDate,
+    LocalDate lastRecordedDate,
+    long sampleCount,
+    Money lowestPrice,
+    Money highestPrice,
+    Money averagePrice,
+    BigDecimal averagePremium,
+    BigDecimal highestPremium
+) {
+    public SnapshotStatistics {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException("통계 표본은 1건 이상이어야 합니다");
+        }
+    }
+
+    public boolean hasPremiumData() {
+        return averagePremium != null;
+    }
+}
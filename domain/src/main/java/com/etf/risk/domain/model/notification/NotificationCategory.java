@@ -0,0 +1,17 @@
+package com.etf.risk.domain.model.notification;
+
+public enum NotificationCategory {
+    GENERAL("일반"),
+    DIVIDEND("배당"),
+    RISK_ALERT("리스크");
+
+    private final String displayName;
+
+    NotificationCategory(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+}
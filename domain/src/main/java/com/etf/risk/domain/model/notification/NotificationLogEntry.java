@@ -0,0 +1,62 @@
+package com.etf.risk.domain.model.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 발송한 알림 한 건의 기록. 추가만 하고 수정하지 않는다.
+ *
+ * @param requestedAt 알림 메시지 생성 시각
+ * @param sentAt      발송 완료(또는 실패) 시각
+ * @param errorMessage 발송 실패 사유. 성공이면 null
+ */
+public record NotificationLogEntry(
+    Long chatId,
+    String etfSymbol,
+    NotificationCategory category,
+    NotificationPriority priority,
+    String title,
+    LocalDateTime requestedAt,
+    LocalDateTime sentAt,
+    boolean delivered,
+    String errorMessage
+) {
+    public NotificationLogEntry {
+        if (chatId == null) {
+            throw new IllegalArgumentException("Chat ID는 필수입니다");
+        }
+        if (category == null || priority == null) {
+            throw new IllegalArgumentException("알림 분류와 우선순위는 필수입니다");
+        }
+        if (requestedAt == null || sentAt == null) {
+            throw new IllegalArgumentException("알림 요청/발송 시각은 필수입니다");
+        }
+    }
+
+    public static NotificationLogEntry delivered(NotificationMessage message, LocalDateTime sentAt) {
+        return of(message, sentAt, true, null);
+    }
+
+    public static NotificationLogEntry failed(NotificationMessage message, LocalDateTime sentAt, String errorMessage) {
+        return of(message, sentAt, false, errorMessage);
+    }
+
+    private static NotificationLogEntry of(NotificationMessage message, LocalDateTime sentAt,
+                                           boolean delivered, String errorMessage) {
+        return new NotificationLogEntry(
+            message.chatId().value(),
+            message.etfSymbol(),
+            message.category(),
+            message.priority(),
+            message.title(),
+            message.createdAt(),
+            sentAt,
+            delivered,
+            errorMessage
+        );
+    }
+
+    public Duration deliveryLatency() {
+        return Duration.between(requestedAt, sentAt);
+    }
+}
@@ -9,21 +9,35 @@ public class NotificationMessage {
     private final String title;
     private final String content;
     private final NotificationPriority priority;
+    private final NotificationCategory category;
+    private final String etfSymbol;
     private final LocalDateTime createdAt;
 
     private NotificationMessage(TelegramChatId chatId, String title, String content,
-                                NotificationPriority priority, LocalDateTime createdAt) {
+                                NotificationPriority priority, NotificationCategory category,
+                                String etfSymbol, LocalDateTime createdAt) {
         this.chatId = chatId;
         this.title = title;
         this.content = content;
         this.priority = priority;
+        this.category = category;
+        this.etfSymbol = etfSymbol;
         this.createdAt = createdAt;
     }
 
     public static NotificationMessage create(TelegramChatId chatId, String title,
                                              String content, NotificationPriority priority) {
+        return create(chatId, title, content, priority, NotificationCategory.GENERAL, null);
+    }
+
+    public static NotificationMessage create(TelegramChatId chatId, String title, String content,
+                                             NotificationPriority priority, NotificationCategory category,
+                                             String etfSymbol) {
         validateInputs(chatId, title, content, priority);
-        return new NotificationMessage(chatId, title, content, priority, LocalDateTime.now());
+        if (category == null) {
+            throw new IllegalArgumentException("알림 분류는 필수입니다");
+        }
+        return new NotificationMessage(chatId, title, content, priority, category, etfSymbol, LocalDateTime.now());
     }
 
     private static void validateInputs(TelegramChatId chatId, String title,
@@ -69,6 +83,14 @@ public class NotificationMessage {
         return priority;
     }
 
+    public NotificationCategory category() {
+        return category;
+    }
+
+    public String etfSymbol() {
+        return etfSymbol;
+    }
+
     public LocalDateTime createdAt() {
         return createdAt;
     }
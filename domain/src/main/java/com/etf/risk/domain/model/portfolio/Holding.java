@@ -0,0 +1,16 @@
+package com.etf.risk.domain.model.portfolio;
+
+/**
+ * 사용자 한 명이 한 종목을 보유하고 있다는 사실. 보유자 색인 구축용 최소 정보만 담는다.
+ */
+public record Holding(
+    long userId,
+    long telegramChatId,
+    String etfSymbol
+) {
+    public Holding {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.etf.risk.domain.model.portfolio;
+
+import com.etf.risk.domain.model.common.Money;
+
+/**
+ * 원장 재생으로 얻은 특정 시점의 보유 상태. {@link Position} 과 달리 식별자/버전이 없는 값이다.
+ */
+public record LedgerPosition(
+    String etfSymbol,
+    int quantity,
+    Money averagePrice
+) {
+    public LedgerPosition {
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("보유 수량은 0보다 커야 합니다: " + quantity);
+        }
+    }
+}
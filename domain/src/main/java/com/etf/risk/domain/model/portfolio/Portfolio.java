@@ -13,6 +13,8 @@ import java.util.stream.Collectors;
 
 public class Portfolio {
     private final List<Position> positions;
+    // 저장된 적이 있는 포지션 중 제거된 것. 저장 시 버전 비교 삭제에 사용한다
+    private final List<Position> removedPositions = new ArrayList<>();
 
     private Portfolio(List<Position> positions) {
         this.positions = new ArrayList<>(positions);
@@ -22,6 +24,10 @@ public class Portfolio {
         return new Portfolio(new ArrayList<>());
     }
 
+    public static Portfolio reconstitute(List<Position> positions) {
+        return new Portfolio(positions);
+    }
+
     public void addPosition(String symbol, int quantity, Money averagePrice) {
         if (hasPosition(symbol)) {
             throw new DuplicatePositionException("이미 보유 중인 ETF: " + symbol);
@@ -40,13 +46,14 @@ public class Portfolio {
 
         if (position.getQuantity() == 0) {
             positions.remove(position);
+            trackRemoved(position);
         }
     }
 
     public void removePosition(String symbol) {
-        if (!positions.removeIf(p -> p.getSymbol().equals(symbol))) {
-            throw new PositionNotFoundException("ETF를 보유하고 있지 않습니다: " + symbol);
-        }
+        Position position = findPositionOrThrow(symbol);
+        positions.remove(position);
+        trackRemoved(position);
     }
 
     public boolean hasPosition(String symbol) {
@@ -91,6 +98,14 @@ public class Portfolio {
         return findPositionOrThrow(symbol);
     }
 
+    public List<Position> getRemovedPositions() {
+        return Collections.unmodifiableList(removedPositions);
+    }
+
+    public void clearRemovedPositions() {
+        removedPositions.clear();
+    }
+
     public boolean isEmpty() {
         return positions.isEmpty();
     }
@@ -99,6 +114,12 @@ public class Portfolio {
         return positions.size();
     }
 
+    private void trackRemoved(Position position) {
+        if (position.isPersisted()) {
+            removedPositions.add(position);
+        }
+    }
+
     private Position findPositionOrThrow(String symbol) {
         return positions.stream()
             .filter(p -> p.getSymbol().equals(symbol))
@@ -0,0 +1,61 @@
+package com.etf.risk.domain.model.portfolio;
+
+import com.etf.risk.domain.model.common.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 원장(portfolio_events)의 이벤트 한 건. 추가만 하고 수정하지 않는다.
+ *
+ * @param sequence 사용자별 1부터 빈틈없이 증가하는 순번. 저장 전에는 0
+ * @param quantity 이번 거래 수량 (CLOSED 는 정리 직전 보유 수량)
+ * @param price    OPENED 는 평균 매수가, INCREASED 는 매수가. 매도 이벤트는 null
+ */
+public record PortfolioEvent(
+    Long userId,
+    long sequence,
+    String etfSymbol,
+    PortfolioEventType type,
+    int quantity,
+    Money price,
+    LocalDateTime occurredAt
+) {
+    public PortfolioEvent {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        if (etfSymbol == null || etfSymbol.isBlank()) {
+            throw new IllegalArgumentException("ETF 심볼은 필수입니다");
+        }
+        if (type == null || occurredAt == null) {
+            throw new IllegalArgumentException("이벤트 유형과 발생 시각은 필수입니다");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("이벤트 수량은 0보다 커야 합니다: " + quantity);
+        }
+        boolean buy = type == PortfolioEventType.OPENED || type == PortfolioEventType.INCREASED;
+        if (buy != (price != null)) {
+            throw new IllegalArgumentException("매수 이벤트에만 가격이 있어야 합니다: " + type);
+        }
+    }
+
+    public static PortfolioEvent opened(Long userId, String etfSymbol, int quantity, Money averagePrice) {
+        return new PortfolioEvent(userId, 0L, etfSymbol, PortfolioEventType.OPENED, quantity, averagePrice, LocalDateTime.now());
+    }
+
+    public static PortfolioEvent increased(Long userId, String etfSymbol, int quantity, Money purchasePrice) {
+        return new PortfolioEvent(userId, 0L, etfSymbol, PortfolioEventType.INCREASED, quantity, purchasePrice, LocalDateTime.now());
+    }
+
+    public static PortfolioEvent reduced(Long userId, String etfSymbol, int quantity) {
+        return new PortfolioEvent(userId, 0L, etfSymbol, PortfolioEventType.REDUCED, quantity, null, LocalDateTime.now());
+    }
+
+    public static PortfolioEvent closed(Long userId, String etfSymbol, int heldQuantity) {
+        return new PortfolioEvent(userId, 0L, etfSymbol, PortfolioEventType.CLOSED, heldQuantity, null, LocalDateTime.now());
+    }
+
+    public PortfolioEvent withSequence(long sequence) {
+        return new PortfolioEvent(userId, sequence, etfSymbol, type, quantity, price, occurredAt);
+    }
+}
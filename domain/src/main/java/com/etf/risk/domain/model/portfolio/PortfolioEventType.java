@@ -0,0 +1,18 @@
+package com.etf.risk.domain.model.portfolio;
+
+public enum PortfolioEventType {
+    OPENED("신규 매수"),
+    INCREASED("추가 매수"),
+    REDUCED("매도"),
+    CLOSED("포지션 정리");
+
+    private final String displayName;
+
+    PortfolioEventType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,104 @@
+package com.etf.risk.domain.model.portfolio;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 원장을 {@link #lastSequence} 까지 재생한 사용자 포트폴리오. 스냅샷(portfolio_snapshots)으로 저장되며,
+ * 이후 상태는 스냅샷에 그 다음 순번의 이벤트만 재생해 얻는다.
+ *
+ * @param asOf 마지막으로 반영한 이벤트의 발생 시각. 이벤트가 없으면 null
+ */
+public record PortfolioState(
+    Long userId,
+    long lastSequence,
+    LocalDateTime asOf,
+    List<LedgerPosition> positions
+) {
+    public PortfolioState {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        positions = List.copyOf(positions);
+    }
+
+    public static PortfolioState empty(Long userId) {
+        return new PortfolioState(userId, 0L, null, List.of());
+    }
+
+    public PortfolioState replay(Collection<PortfolioEvent> events) {
+        PortfolioState state = this;
+        for (PortfolioEvent event : events) {
+            state = state.apply(event);
+        }
+        return state;
+    }
+
+    /**
+     * 이벤트 하나를 반영한 새 상태를 반환한다. 평균 매수가 계산은 {@link Position} 과 같은 규칙을 따른다.
+     */
+    public PortfolioState apply(PortfolioEvent event) {
+        if (!userId.equals(event.userId())) {
+            throw new IllegalArgumentException("다른 사용자의 이벤트입니다: " + event.userId());
+        }
+        if (event.sequence() <= lastSequence) {
+            throw new IllegalStateException(
+                "이미 반영된 순번의 이벤트입니다: sequence=" + event.sequence() + ", lastSequence=" + lastSequence);
+        }
+
+        SortedMap<String, LedgerPosition> next = new TreeMap<>();
+        positions.forEach(position -> next.put(position.etfSymbol(), position));
+
+        String symbol = event.etfSymbol();
+        LedgerPosition current = next.get(symbol);
+        switch (event.type()) {
+            case OPENED -> {
+                if (current != null) {
+                    throw new IllegalStateException("이미 보유 중인 종목의 신규 매수 이벤트입니다: " + symbol);
+                }
+                next.put(symbol, new LedgerPosition(symbol, event.quantity(), event.price()));
+            }
+            case INCREASED -> {
+                Position position = toPosition(required(current, event));
+                position.addQuantity(event.quantity(), event.price());
+                next.put(symbol, new LedgerPosition(symbol, position.getQuantity(), position.getAveragePrice()));
+            }
+            case REDUCED -> {
+                Position position = toPosition(required(current, event));
+                position.reduceQuantity(event.quantity());
+                if (position.getQuantity() == 0) {
+                    next.remove(symbol);
+                } else {
+                    next.put(symbol, new LedgerPosition(symbol, position.getQuantity(), position.getAveragePrice()));
+                }
+            }
+            case CLOSED -> {
+                required(current, event);
+                next.remove(symbol);
+            }
+        }
+        return new PortfolioState(userId, event.sequence(), event.occurredAt(), List.copyOf(next.values()));
+    }
+
+    public Optional<LedgerPosition> position(String etfSymbol) {
+        return positions.stream()
+            .filter(position -> position.etfSymbol().equals(etfSymbol))
+            .findFirst();
+    }
+
+    private static LedgerPosition required(LedgerPosition current, PortfolioEvent event) {
+        if (current == null) {
+            throw new IllegalStateException("보유하지 않은 종목의 이벤트입니다: " + event.etfSymbol() + " " + event.type());
+        }
+        return current;
+    }
+
+    private Position toPosition(LedgerPosition position) {
+        return Position.reconstitute(null, position.etfSymbol(), position.quantity(), position.averagePrice(), 0L,
+            asOf, asOf);
+    }
+}
@@ -13,14 +13,20 @@ public class Position {
     private final String symbol;
     private int quantity;
     private Money averagePrice;
+    // 낙관적 잠금 버전. 저장 시 읽어온 버전과 DB 버전이 다르면 동시 수정으로 판단한다
+    private long version;
+    // 마지막 저장 이후 수량/평단가가 바뀌었는지. 저장소는 변경된 포지션만 CAS 갱신한다
+    private boolean dirty;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    private Position(Long id, String symbol, int quantity, Money averagePrice, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    private Position(Long id, String symbol, int quantity, Money averagePrice, long version,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.symbol = symbol;
         this.quantity = quantity;
         this.averagePrice = averagePrice;
+        this.version = version;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -34,7 +40,18 @@ public class Position {
         }
 
         LocalDateTime now = LocalDateTime.now();
-        return new Position(null, symbol, quantity, averagePrice, now, now);
+        return new Position(null, symbol, quantity, averagePrice, 0L, now, now);
+    }
+
+    public static Position reconstitute(Long id, String symbol, int quantity, Money averagePrice, long version,
+                                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Position(id, symbol, quantity, averagePrice, version, createdAt, updatedAt);
+    }
+
+    public void markPersisted(Long id, long version) {
+        this.id = id;
+        this.version = version;
+        this.dirty = false;
     }
 
     public void addQuantity(int additionalQuantity, Money purchasePrice) {
@@ -52,6 +69,7 @@ public class Position {
         this.quantity += additionalQuantity;
         this.averagePrice = newTotalValue.divide(BigDecimal.valueOf(quantity));
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public void reduceQuantity(int quantityToSell) {
@@ -64,6 +82,7 @@ public class Position {
 
         this.quantity -= quantityToSell;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public Money calculateValue(Money currentPrice) {
@@ -97,6 +116,18 @@ public class Position {
         return averagePrice;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isPersisted() {
+        return id != null;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,117 @@
+package com.etf.risk.domain.model.portfolio;
+
+import java.util.Arrays;
+
+/**
+ * 한 종목의 보유자 목록. userId 오름차순으로 정렬된 long 배열 두 개(userId, chatId)로 보관한다.
+ *
+ * <p>불변 객체이며 {@link #with}, {@link #without} 은 새 인스턴스를 돌려준다(copy-on-write).</p>
+ */
+public final class SymbolHolders {
+
+    public static final SymbolHolders EMPTY = new SymbolHolders(new long[0], new long[0]);
+
+    private final long[] userIds;
+    private final long[] chatIds;
+
+    private SymbolHolders(long[] userIds, long[] chatIds) {
+        this.userIds = userIds;
+        this.chatIds = chatIds;
+    }
+
+    /**
+     * 정렬되지 않은 병렬 배열로부터 생성한다. 같은 userId 가 여러 번 나오면 마지막 chatId 를 사용한다.
+     */
+    public static SymbolHolders of(long[] userIds, long[] chatIds, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        Integer[] order = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(userIds[a], userIds[b]));
+
+        long[] sortedUserIds = new long[length];
+        long[] sortedChatIds = new long[length];
+        int size = 0;
+        for (int index : order) {
+            if (size > 0 && sortedUserIds[size - 1] == userIds[index]) {
+                sortedChatIds[size - 1] = chatIds[index];
+                continue;
+            }
+            sortedUserIds[size] = userIds[index];
+            sortedChatIds[size] = chatIds[index];
+            size++;
+        }
+        return new SymbolHolders(Arrays.copyOf(sortedUserIds, size), Arrays.copyOf(sortedChatIds, size));
+    }
+
+    public SymbolHolders with(long userId, long chatId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index >= 0) {
+            if (chatIds[index] == chatId) {
+                return this;
+            }
+            long[] nextChatIds = chatIds.clone();
+            nextChatIds[index] = chatId;
+            return new SymbolHolders(userIds, nextChatIds);
+        }
+
+        int insertAt = -index - 1;
+        long[] nextUserIds = new long[userIds.length + 1];
+        long[] nextChatIds = new long[chatIds.length + 1];
+        System.arraycopy(userIds, 0, nextUserIds, 0, insertAt);
+        System.arraycopy(chatIds, 0, nextChatIds, 0, insertAt);
+        nextUserIds[insertAt] = userId;
+        nextChatIds[insertAt] = chatId;
+        System.arraycopy(userIds, insertAt, nextUserIds, insertAt + 1, userIds.length - insertAt);
+        System.arraycopy(chatIds, insertAt, nextChatIds, insertAt + 1, chatIds.length - insertAt);
+        return new SymbolHolders(nextUserIds, nextChatIds);
+    }
+
+    public SymbolHolders without(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index < 0) {
+            return this;
+        }
+        if (userIds.length == 1) {
+            return EMPTY;
+        }
+        long[] nextUserIds = new long[userIds.length - 1];
+        long[] nextChatIds = new long[chatIds.length - 1];
+        System.arraycopy(userIds, 0, nextUserIds, 0, index);
+        System.arraycopy(chatIds, 0, nextChatIds, 0, index);
+        System.arraycopy(userIds, index + 1, nextUserIds, index, userIds.length - index - 1);
+        System.arraycopy(chatIds, index + 1, nextChatIds, index, chatIds.length - index - 1);
+        return new SymbolHolders(nextUserIds, nextChatIds);
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(userIds, userId) >= 0;
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    public boolean isEmpty() {
+        return userIds.length == 0;
+    }
+
+    public long userIdAt(int index) {
+        return userIds[index];
+    }
+
+    public long chatIdAt(int index) {
+        return chatIds[index];
+    }
+
+    public long[] userIds() {
+        return userIds.clone();
+    }
+
+    public long[] chatIds() {
+        return chatIds.clone();
+    }
+}
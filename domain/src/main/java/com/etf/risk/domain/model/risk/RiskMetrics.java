@@ -1,18 +1,23 @@
 package com.etf.risk.domain.model.risk;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class RiskMetrics {
     private final String etfSymbol;
     private final RiskLevel overallRiskLevel;
     private final List<RiskFactor> riskFactors;
+    // 실시간 시세 대신 마지막으로 저장된 스냅샷으로 평가했다면 그 기준일. 실시간이면 null
+    private final LocalDate staleAsOf;
 
-    private RiskMetrics(String etfSymbol, RiskLevel overallRiskLevel, List<RiskFactor> riskFactors) {
+    private RiskMetrics(String etfSymbol, RiskLevel overallRiskLevel, List<RiskFactor> riskFactors, LocalDate staleAsOf) {
         this.etfSymbol = etfSymbol;
         this.overallRiskLevel = overallRiskLevel;
         this.riskFactors = new ArrayList<>(riskFactors);
+        this.staleAsOf = staleAsOf;
     }
 
     public static Builder builder(String etfSymbol) {
@@ -27,6 +32,10 @@ public class RiskMetrics {
         return overallRiskLevel == RiskLevel.LOW;
     }
 
+    public boolean isStale() {
+        return staleAsOf != null;
+    }
+
     public String etfSymbol() {
         return etfSymbol;
     }
@@ -39,14 +48,27 @@ public class RiskMetrics {
         return Collections.unmodifiableList(riskFactors);
     }
 
+    public Optional<LocalDate> staleAsOf() {
+        return Optional.ofNullable(staleAsOf);
+    }
+
     public static class Builder {
         private final String etfSymbol;
         private final List<RiskFactor> riskFactors = new ArrayList<>();
+        private LocalDate staleAsOf;
 
         private Builder(String etfSymbol) {
             this.etfSymbol = etfSymbol;
         }
 
+        /**
+         * recordedDate 에 저장된 데이터로 평가했음을 표시한다.
+         */
+        public Builder staleAsOf(LocalDate recordedDate) {
+            this.staleAsOf = recordedDate;
+            return this;
+        }
+
         public Builder addRiskFactor(String category, RiskLevel level, String message) {
             riskFactors.add(new RiskFactor(category, level, message));
             return this;
@@ -58,7 +80,7 @@ public class RiskMetrics {
                 .max(RiskLevel::compareTo)
                 .orElse(RiskLevel.LOW);
 
-            return new RiskMetrics(etfSymbol, maxLevel, riskFactors);
+            return new RiskMetrics(etfSymbol, maxLevel, riskFactors, staleAsOf);
         }
     }
 
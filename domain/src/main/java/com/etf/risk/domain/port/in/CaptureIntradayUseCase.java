@@ -0,0 +1,15 @@
+package com.etf.risk.domain.port.in;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface CaptureIntradayUseCase {
+
+    /**
+     * 최신 시세를 받아 관측 시각과 함께 장중 1분 봉에 더한다.
+     *
+     * @return 받은 시세 수
+     */
+    Mono<Integer> captureIntraday(Collection<String> symbols);
+}
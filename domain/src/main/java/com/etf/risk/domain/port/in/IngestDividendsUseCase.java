@@ -0,0 +1,18 @@
+package com.etf.risk.domain.port.in;
+
+import java.util.Set;
+
+public interface IngestDividendsUseCase {
+
+    /**
+     * 배당 이력을 수집할 수 있는 종목.
+     */
+    Set<String> ingestibleSymbols();
+
+    /**
+     * 저장된 마지막 지급일 이후의 배당만 읽어 한 번에 저장한다.
+     *
+     * @return 새로 저장된 건수
+     */
+    int ingestNewDividends(String etfSymbol);
+}
@@ -0,0 +1,11 @@
+package com.etf.risk.domain.port.in;
+
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface QueryDividendCalendarUseCase {
+    List<DividendCalendarEntry> findUpcoming(LocalDate from, LocalDate to);
+    void refreshCalendar(LocalDate today);
+}
@@ -0,0 +1,8 @@
+package com.etf.risk.domain.port.in;
+
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
+
+public interface QueryHoldersUseCase {
+    SymbolHolders findHolders(String etfSymbol);
+    void rebuildHolders();
+}
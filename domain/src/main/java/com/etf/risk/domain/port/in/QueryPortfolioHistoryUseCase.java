@@ -0,0 +1,18 @@
+package com.etf.risk.domain.port.in;
+
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+
+import java.time.LocalDate;
+
+public interface QueryPortfolioHistoryUseCase {
+
+    /**
+     * 원장을 끝까지 재생한 현재 상태.
+     */
+    PortfolioState getCurrentState(Long userId);
+
+    /**
+     * date 당일까지(다음 날 0시 이전)의 이벤트만 반영한 상태.
+     */
+    PortfolioState getStateAsOf(Long userId, LocalDate date);
+}
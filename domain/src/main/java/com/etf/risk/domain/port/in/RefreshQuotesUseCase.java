@@ -0,0 +1,14 @@
+package com.etf.risk.domain.port.in;
+
+import com.etf.risk.domain.model.risk.RiskMetrics;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface RefreshQuotesUseCase {
+
+    /**
+     * 최신 시세를 받아 저장하고, 종목별로 다시 평가한 리스크를 시세가 도착하는 대로 내보낸다.
+     */
+    Flux<RiskMetrics> refreshQuotes(Collection<String> symbols);
+}
@@ -1,9 +1,26 @@
 package com.etf.risk.domain.port.in;
 
 import com.etf.risk.domain.model.notification.NotificationMessage;
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
 
 public interface SendNotificationUseCase {
     void sendNotification(NotificationMessage message);
     void sendDividendNotification(Long userId, String etfSymbol);
+
+    /**
+     * 종목 보유자 전원에게 배당 알림을 보낸다. 보유자는 페이지 단위로 읽고 최신 배당은 한 번만 조회한다.
+     * 오늘 이미 같은 종목 배당 알림을 받은 보유자는 건너뛴다.
+     *
+     * @return 발송에 성공한 보유자 수
+     */
+    int sendDividendNotifications(String etfSymbol);
     void sendRiskAlert(Long userId, String etfSymbol);
+
+    /**
+     * 보유자 색인의 chatId 로 리스크 알림을 보낸다. 리스크 분석은 종목당 한 번만 한다.
+     * 오늘 이미 같은 종목 리스크 알림을 받은 보유자는 건너뛴다.
+     *
+     * @return 발송에 성공한 보유자 수
+     */
+    int sendRiskAlerts(String etfSymbol, SymbolHolders holders);
 }
@@ -0,0 +1,20 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface DividendCalendarRepository {
+
+    /**
+     * from 달 이후의 추정 일정을 교체한다. 실제 배당으로 확정된 달은 건드리지 않는다.
+     */
+    void replaceProjections(String etfSymbol, YearMonth from, List<DividendCalendarEntry> projections);
+
+    /**
+     * 지급일이 [from, to] 구간에 있는 일정을 지급일 순으로 조회한다.
+     */
+    List<DividendCalendarEntry> findUpcoming(LocalDate from, LocalDate to);
+}
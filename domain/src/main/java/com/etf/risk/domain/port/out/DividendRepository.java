@@ -8,6 +8,14 @@ import java.util.Optional;
 
 public interface DividendRepository {
     void save(Dividend dividend);
+
+    /**
+     * 여러 배당을 한 번에 저장한다. 이미 있는 (etf_symbol, payment_date) 는 건너뛴다.
+     *
+     * @return 새로 저장된 건수
+     */
+    int saveAll(List<Dividend> dividends);
+
     Optional<Dividend> findLatest(String etfSymbol);
     List<Dividend> findByETFSymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate);
     List<Dividend> findByPaymentDate(LocalDate paymentDate);
@@ -0,0 +1,25 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 운용사 페이지 등 외부에서 배당 이력을 읽는다.
+ */
+public interface DividendSourcePort {
+
+    /**
+     * 배당 이력을 제공하는 종목.
+     */
+    Set<String> supportedSymbols();
+
+    /**
+     * knownPaymentDate 보다 뒤에 지급된 배당만 최신순으로 돌려준다. 출처가 최신순이므로 이미 아는 지급일에 닿으면 더 읽지 않는다.
+     *
+     * @param knownPaymentDate 이미 저장된 마지막 지급일. null 이면 전체 이력
+     */
+    List<Dividend> fetchDividendsAfter(String etfSymbol, LocalDate knownPaymentDate);
+}
@@ -3,10 +3,18 @@ package com.etf.risk.domain.port.out;
 import com.etf.risk.domain.model.etf.ETF;
 import com.etf.risk.domain.model.etf.ETFSnapshot;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ETFDataPort {
     Optional<ETF> findETFBySymbol(String symbol);
     ETFSnapshot fetchLatestSnapshot(String symbol);
+
+    /**
+     * 여러 종목의 최신 시세를 묶어서 조회한다. 시세를 받지 못한 종목은 결과에 포함되지 않는다.
+     */
+    Map<String, ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols);
+
     void saveSnapshot(ETFSnapshot snapshot);
 }
@@ -0,0 +1,21 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.model.etf.ETFType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ETFMetadataRepository {
+    Optional<ETFMetadata> findBySymbol(String symbol);
+    List<ETFMetadata> findAll();
+    boolean hasType(String symbol, ETFType type);
+
+    /**
+     * types 를 모두 가진 ETF 를 심볼 순으로 조회한다. types 는 비어 있을 수 없다.
+     */
+    List<ETFMetadata> findContainingTypes(Set<ETFType> types);
+    void save(ETFMetadata metadata);
+    void refresh();
+}
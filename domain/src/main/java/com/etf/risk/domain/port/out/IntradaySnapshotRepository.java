@@ -0,0 +1,20 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import com.etf.risk.domain.model.etf.MinuteBar;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IntradaySnapshotRepository {
+
+    /**
+     * 장중 시세를 1분 봉에 더한다. 구현체는 호출 스레드를 막지 않아야 하며, 봉을 메모리에 모았다가 일괄 저장한다.
+     */
+    void append(IntradaySnapshot snapshot);
+
+    /**
+     * [from, to) 구간의 1분 봉을 시간 순으로 조회한다. 아직 저장하지 않은 진행 중인 봉은 빠질 수 있다.
+     */
+    List<MinuteBar> findMinuteBars(String etfSymbol, Instant from, Instant to);
+}
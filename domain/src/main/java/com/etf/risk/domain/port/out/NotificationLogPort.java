@@ -0,0 +1,23 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface NotificationLogPort {
+
+    /**
+     * 발송 기록을 추가한다. 구현체는 호출 스레드를 막지 않아야 하며(비동기/일괄 저장),
+     * 저장 실패가 발송 흐름으로 전파되어서는 안 된다.
+     */
+    void append(NotificationLogEntry entry);
+
+    /**
+     * (chatId, etfSymbol, category) 로 since 이후(포함) 가장 최근에 성공한 발송 기록을 조회한다.
+     * etfSymbol 은 null 일 수 있다. 일괄 저장 전의 기록은 보이지 않을 수 있다.
+     */
+    Optional<NotificationLogEntry> findLastDelivered(Long chatId, String etfSymbol, NotificationCategory category,
+                                                     LocalDateTime since);
+}
@@ -0,0 +1,34 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 추가 전용 포트폴리오 원장(portfolio_events)과 사용자별 스냅샷(portfolio_snapshots).
+ */
+public interface PortfolioLedgerRepository {
+
+    /**
+     * 사용자의 다음 순번을 부여해 이벤트를 추가하고, 순번이 채워진 이벤트를 반환한다.
+     * 같은 사용자에 대한 동시 추가로 순번이 충돌하면
+     * {@link com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException} 을 던진다.
+     */
+    PortfolioEvent append(PortfolioEvent event);
+
+    /**
+     * afterSequence 보다 큰 순번 중 until 이전(미포함)에 발생한 이벤트를 순번 오름차순으로 조회한다.
+     * until 이 null 이면 끝까지 읽는다.
+     */
+    List<PortfolioEvent> findEventsAfter(Long userId, long afterSequence, LocalDateTime until);
+
+    /**
+     * until 이전(미포함) 이벤트까지만 반영한 가장 최근 스냅샷. until 이 null 이면 가장 최근 스냅샷.
+     */
+    Optional<PortfolioState> findLatestSnapshot(Long userId, LocalDateTime until);
+
+    void saveSnapshot(PortfolioState snapshot);
+}
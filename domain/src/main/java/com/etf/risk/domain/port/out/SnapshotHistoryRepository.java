@@ -0,0 +1,24 @@
+package com.etf.risk.domain.port.out;
+
+import com.etf.risk.domain.model.etf.BarInterval;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.SnapshotBar;
+import com.etf.risk.domain.model.etf.SnapshotStatistics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SnapshotHistoryRepository {
+    List<ETFSnapshot> findBySymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate);
+    List<ETFSnapshot> findLatest(String etfSymbol, int limit);
+
+    /**
+     * 마지막으로 저장된 스냅샷. 시세 출처를 쓸 수 없을 때 last-known-good 으로 쓴다.
+     */
+    Optional<ETFSnapshot> findLatestSnapshot(String etfSymbol);
+    Optional<ETFSnapshot> findAsOf(String etfSymbol, LocalDate date);
+    Optional<SnapshotStatistics> summarize(String etfSymbol, LocalDate startDate, LocalDate endDate);
+    List<SnapshotBar> findBars(String etfSymbol, BarInterval interval, LocalDate startDate, LocalDate endDate);
+    void rebuildBars(String etfSymbol, LocalDate startDate, LocalDate endDate);
+}
@@ -1,15 +1,30 @@
 package com.etf.risk.domain.port.out;
 
+import com.etf.risk.domain.model.portfolio.Holding;
 import com.etf.risk.domain.model.user.TelegramChatId;
 import com.etf.risk.domain.model.user.User;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserRepository {
     User save(User user);
     Optional<User> findById(Long id);
     Optional<User> findByTelegramChatId(TelegramChatId chatId);
     List<User> findUsersWithETF(String etfSymbol);
+
+    /**
+     * id 오름차순 keyset 페이지. afterId 가 null 이면 처음부터 읽고,
+     * 다음 페이지는 마지막 사용자의 id 를 afterId 로 넘긴다.
+     */
+    List<User> findAllAfter(Long afterId, int limit);
+
+    List<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit);
     boolean existsByTelegramChatId(TelegramChatId chatId);
+
+    /**
+     * 모든 (사용자, 종목) 보유 관계를 한 번의 스트리밍 조회로 전달한다. 결과를 메모리에 모으지 않는다.
+     */
+    void scanHoldings(Consumer<Holding> consumer);
 }
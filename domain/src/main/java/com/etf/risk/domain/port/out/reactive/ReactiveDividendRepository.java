@@ -0,0 +1,19 @@
+package com.etf.risk.domain.port.out.reactive;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link com.etf.risk.domain.port.out.DividendRepository} 의 논블로킹 버전.
+ */
+public interface ReactiveDividendRepository {
+    Mono<Void> save(Dividend dividend);
+    Mono<Integer> saveAll(List<Dividend> dividends);
+    Mono<Dividend> findLatest(String etfSymbol);
+    Flux<Dividend> findByETFSymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate);
+    Flux<Dividend> findByPaymentDate(LocalDate paymentDate);
+}
@@ -0,0 +1,21 @@
+package com.etf.risk.domain.port.out.reactive;
+
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@link com.etf.risk.domain.port.out.ETFDataPort} 시세 조회의 논블로킹 버전.
+ * 구독을 취소하면 진행 중인 요청도 함께 취소된다.
+ * 출처 장애(열린 회로, 연결 실패, 타임아웃, 오류 응답)는 {@link java.io.IOException} 으로 끝난다.
+ */
+public interface ReactiveQuotePort {
+    Mono<ETFSnapshot> fetchLatestSnapshot(String symbol);
+
+    /**
+     * 시세를 받은 순서대로 내보낸다. 시세를 받지 못한 종목은 빠진다.
+     */
+    Flux<ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols);
+}
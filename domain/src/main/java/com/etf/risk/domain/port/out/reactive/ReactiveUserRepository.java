@@ -0,0 +1,22 @@
+package com.etf.risk.domain.port.out.reactive;
+
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link com.etf.risk.domain.port.out.UserRepository} 의 논블로킹 버전.
+ * 조회 결과가 없으면 빈 Mono 를 돌려준다.
+ */
+public interface ReactiveUserRepository {
+    Mono<User> save(User user);
+    Mono<User> findById(Long id);
+    Mono<User> findByTelegramChatId(TelegramChatId chatId);
+    Flux<User> findUsersWithETF(String etfSymbol);
+    Flux<User> findAllAfter(Long afterId, int limit);
+    Flux<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit);
+    Mono<Boolean> existsByTelegramChatId(TelegramChatId chatId);
+    Flux<Holding> scanHoldings();
+}
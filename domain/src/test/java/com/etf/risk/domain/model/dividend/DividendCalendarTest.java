@@ -0,0 +1,61 @@
+package com.etf.risk.domain.model.dividend;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.model.etf.ETFType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DividendCalendar 추정 테스트")
+class DividendCalendarTest {
+
+    @Test
+    @DisplayName("지급일이 말일보다 크면 그 달의 말일로 보정한다")
+    void project_clampsPaymentDayToMonthLength() {
+        // Given: 매월 31일 지급, 배당락일은 지급일 3일 전
+        ETFMetadata metadata = new ETFMetadata("GOF", "Guggenheim", Set.of(ETFType.CEF), 31, 3, null);
+
+        // When
+        List<DividendCalendarEntry> entries = DividendCalendar.project(metadata, Optional.empty(), YearMonth.of(2024, 1), 3);
+
+        // Then
+        assertThat(entries).extracting(DividendCalendarEntry::paymentDate)
+            .containsExactly(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31));
+        assertThat(entries.get(1).exDividendDate()).isEqualTo(LocalDate.of(2024, 2, 26));
+        assertThat(entries).noneMatch(DividendCalendarEntry::confirmed);
+    }
+
+    @Test
+    @DisplayName("메타데이터에 일정이 없으면 최근 실제 배당의 지급일과 배당락 간격을 사용한다")
+    void project_fallsBackToLatestDividend() {
+        // Given
+        ETFMetadata metadata = new ETFMetadata("QQQI", "NEOS", Set.of(), null, null, null);
+        Dividend latest = Dividend.create("QQQI", LocalDate.of(2024, 5, 22), LocalDate.of(2024, 5, 28),
+            Money.of("0.60"), null);
+
+        // When
+        List<DividendCalendarEntry> entries = DividendCalendar.project(metadata, Optional.of(latest), YearMonth.of(2024, 6), 12);
+
+        // Then
+        assertThat(entries).hasSize(12);
+        assertThat(entries.get(0).paymentDate()).isEqualTo(LocalDate.of(2024, 6, 28));
+        assertThat(entries.get(0).exDividendDate()).isEqualTo(LocalDate.of(2024, 6, 22));
+        assertThat(entries.get(11).paymentDate()).isEqualTo(LocalDate.of(2025, 5, 28));
+    }
+
+    @Test
+    @DisplayName("일정 정보도 배당 이력도 없으면 추정하지 않는다")
+    void project_withoutScheduleOrHistory_returnsEmpty() {
+        ETFMetadata metadata = new ETFMetadata("SPY", "SPDR", Set.of(), null, null, null);
+
+        assertThat(DividendCalendar.project(metadata, Optional.empty(), YearMonth.of(2024, 1), 12)).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.etf.risk.domain.model.etf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BarInterval 버킷 경계 테스트")
+class BarIntervalTest {
+
+    @Test
+    @DisplayName("주봉 버킷은 월요일에 시작한다")
+    void weeklyBucket_startsOnMonday() {
+        // Given: 2026-10-18 (일요일)
+        LocalDate sunday = LocalDate.of(2026, 10, 18);
+
+        // When & Then
+        assertThat(BarInterval.WEEKLY.bucketStart(sunday)).isEqualTo(LocalDate.of(2026, 10, 12));
+        assertThat(BarInterval.WEEKLY.nextBucketStart(sunday)).isEqualTo(LocalDate.of(2026, 10, 19));
+    }
+
+    @Test
+    @DisplayName("월요일은 자기 자신이 버킷 시작일이다")
+    void weeklyBucket_mondayIsItsOwnStart() {
+        LocalDate monday = LocalDate.of(2026, 10, 19);
+
+        assertThat(BarInterval.WEEKLY.bucketStart(monday)).isEqualTo(monday);
+    }
+
+    @Test
+    @DisplayName("월봉 버킷은 1일에 시작하고 다음 달 1일에 끝난다")
+    void monthlyBucket_coversWholeMonth() {
+        LocalDate date = LocalDate.of(2026, 2, 28);
+
+        assertThat(BarInterval.MONTHLY.bucketStart(date)).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(BarInterval.MONTHLY.nextBucketStart(date)).isEqualTo(LocalDate.of(2026, 3, 1));
+    }
+}
@@ -331,6 +331,41 @@ class GOFTest {
         assertThat(updatedRisk.overallRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
     }
 
+    @Test
+    @DisplayName("시세 기반 리스크 - 저장된 프리미엄 대신 스냅샷의 가격/NAV 로 프리미엄을 평가")
+    void addQuoteRiskFactors_usesSnapshotPremium() {
+        // Given: 저장된 프리미엄은 8% 이지만 현재 시세는 20% 프리미엄
+        GOF gof = createGOF(Premium.of("8.0"), Leverage.of("25.0", "25.0"), ROC.of("25.0"));
+        gof.updateSnapshot(new ETFSnapshot("GOF", Money.of("24.00"), Money.of("20.00"), LocalDate.now()));
+        RiskMetrics.Builder builder = RiskMetrics.builder("GOF");
+
+        // When
+        gof.addQuoteRiskFactors(builder);
+        RiskMetrics riskMetrics = builder.build();
+
+        // Then: 프리미엄 요인만 평가
+        assertThat(riskMetrics.riskFactors()).singleElement()
+            .satisfies(factor -> {
+                assertThat(factor.category()).isEqualTo("프리미엄/할인율");
+                assertThat(factor.level()).isEqualTo(RiskLevel.HIGH);
+            });
+    }
+
+    @Test
+    @DisplayName("시세 기반 리스크 - NAV 가 0 이면 프리미엄 정보 없음 (MEDIUM)")
+    void addQuoteRiskFactors_zeroNav_returnsMedium() {
+        // Given
+        ETF gof = ETF.fromSnapshot(new ETFSnapshot("GOF", Money.of("21.50"), Money.ZERO, LocalDate.now()))
+            .orElseThrow();
+        RiskMetrics.Builder builder = RiskMetrics.builder("GOF");
+
+        // When
+        gof.addQuoteRiskFactors(builder);
+
+        // Then
+        assertThat(builder.build().overallRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
+    }
+
     private GOF createGOF(Premium premium, Leverage leverage, ROC roc) {
         ETFSnapshot snapshot = new ETFSnapshot(
             "GOF",
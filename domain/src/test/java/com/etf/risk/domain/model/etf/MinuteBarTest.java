@@ -0,0 +1,61 @@
+package com.etf.risk.domain.model.etf;
+
+import com.etf.risk.domain.model.common.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MinuteBar 1분 봉 집계 테스트")
+class MinuteBarTest {
+
+    private static final Instant MINUTE = Instant.parse("2026-10-19T14:31:00Z");
+
+    @Test
+    @DisplayName("같은 분의 시세를 시가/고가/저가/종가와 프리미엄 최고/최저로 모은다")
+    void add_aggregatesSamplesInMinute() {
+        // Given: NAV 20.00 에서 가격 22.00 -> 23.00 -> 21.50
+        MinuteBar bar = MinuteBar.of(sample("22.00", "20.00", 5));
+
+        // When
+        bar = bar.add(sample("23.00", "20.00", 20)).add(sample("21.50", "20.00", 45));
+
+        // Then
+        assertThat(bar.bucketStart()).isEqualTo(MINUTE);
+        assertThat(bar.openPrice()).isEqualTo(Money.of("22.00"));
+        assertThat(bar.highPrice()).isEqualTo(Money.of("23.00"));
+        assertThat(bar.lowPrice()).isEqualTo(Money.of("21.50"));
+        assertThat(bar.closePrice()).isEqualTo(Money.of("21.50"));
+        assertThat(bar.highPremium()).isEqualByComparingTo("15.00");
+        assertThat(bar.lowPremium()).isEqualByComparingTo("7.50");
+        assertThat(bar.sampleCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("프리미엄을 계산할 수 없는 시세는 가격만 반영한다")
+    void add_withoutPremium_keepsKnownPremium() {
+        MinuteBar bar = MinuteBar.of(sample("22.00", "0", 0)).add(sample("21.00", "20.00", 30));
+
+        assertThat(bar.highPremium()).isEqualByComparingTo("5.00");
+        assertThat(bar.lowPremium()).isEqualByComparingTo("5.00");
+        assertThat(bar.lowPrice()).isEqualTo(Money.of("21.00"));
+    }
+
+    @Test
+    @DisplayName("다른 분의 시세는 더할 수 없다")
+    void add_otherMinute_rejected() {
+        MinuteBar bar = MinuteBar.of(sample("22.00", "20.00", 0));
+
+        assertThatThrownBy(() -> bar.add(sample("22.00", "20.00", 60)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private IntradaySnapshot sample(String price, String nav, int secondsIntoMinute) {
+        return new IntradaySnapshot(
+            new ETFSnapshot("GOF", Money.of(price), Money.of(nav), LocalDate.of(2026, 10, 19)),
+            MINUTE.plusSeconds(secondsIntoMinute));
+    }
+}
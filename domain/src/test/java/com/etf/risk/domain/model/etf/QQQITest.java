@@ -360,6 +360,22 @@ class QQQITest {
         assertThat(nasdaqFactor.level()).isEqualTo(RiskLevel.LOW);
     }
 
+    @Test
+    @DisplayName("시세 기반 리스크 - 커버드콜은 프리미엄으로 평가하지 않음")
+    void addQuoteRiskFactors_ignoresPremium() {
+        // Given: NAV 대비 20% 프리미엄
+        ETF qqqi = ETF.fromSnapshot(new ETFSnapshot("QQQI", Money.of("60.00"), Money.of("50.00"), LocalDate.now()))
+            .orElseThrow();
+        RiskMetrics.Builder builder = RiskMetrics.builder("QQQI");
+
+        // When
+        qqqi.addQuoteRiskFactors(builder);
+
+        // Then
+        assertThat(qqqi).isInstanceOf(QQQI.class);
+        assertThat(builder.build().riskFactors()).isEmpty();
+    }
+
     private QQQI createQQQI(ROC roc, BigDecimal nasdaqTrend) {
         ETFSnapshot snapshot = new ETFSnapshot(
             "QQQI",
@@ -0,0 +1,86 @@
+package com.etf.risk.domain.model.portfolio;
+
+import com.etf.risk.domain.model.common.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PortfolioState 재생 테스트")
+class PortfolioStateTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 30, 10, 0);
+
+    @Test
+    @DisplayName("추가 매수는 Position 과 같은 규칙으로 평균 매수가를 다시 계산한다")
+    void replay_averagesLikePosition() {
+        // Given
+        Position position = Position.create("GOF", 100, Money.of("20.00"));
+        position.addQuantity(50, Money.of("23.00"));
+
+        // When
+        PortfolioState state = PortfolioState.empty(USER_ID).replay(List.of(
+            event(1, "GOF", PortfolioEventType.OPENED, 100, "20.00"),
+            event(2, "GOF", PortfolioEventType.INCREASED, 50, "23.00")
+        ));
+
+        // Then
+        assertThat(state.lastSequence()).isEqualTo(2);
+        assertThat(state.position("GOF")).hasValueSatisfying(ledger -> {
+            assertThat(ledger.quantity()).isEqualTo(150);
+            assertThat(ledger.averagePrice()).isEqualTo(position.getAveragePrice());
+        });
+    }
+
+    @Test
+    @DisplayName("전량 매도나 정리 이벤트는 포지션을 없앤다")
+    void replay_removesClosedPositions() {
+        PortfolioState state = PortfolioState.empty(USER_ID).replay(List.of(
+            event(1, "GOF", PortfolioEventType.OPENED, 100, "20.00"),
+            event(2, "QQQI", PortfolioEventType.OPENED, 10, "50.00"),
+            event(3, "GOF", PortfolioEventType.REDUCED, 100, null),
+            event(4, "QQQI", PortfolioEventType.CLOSED, 10, null)
+        ));
+
+        assertThat(state.positions()).isEmpty();
+        assertThat(state.asOf()).isEqualTo(T0.plusMinutes(4));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 이후 이벤트만 재생해도 처음부터 재생한 결과와 같다")
+    void replayFromSnapshot_equalsFullReplay() {
+        // Given
+        List<PortfolioEvent> events = List.of(
+            event(1, "GOF", PortfolioEventType.OPENED, 100, "20.00"),
+            event(2, "GOF", PortfolioEventType.INCREASED, 30, "21.10"),
+            event(3, "QQQI", PortfolioEventType.OPENED, 10, "50.00"),
+            event(4, "GOF", PortfolioEventType.REDUCED, 40, null)
+        );
+        PortfolioState snapshot = PortfolioState.empty(USER_ID).replay(events.subList(0, 2));
+
+        // When
+        PortfolioState fromSnapshot = snapshot.replay(events.subList(2, 4));
+
+        // Then
+        assertThat(fromSnapshot).isEqualTo(PortfolioState.empty(USER_ID).replay(events));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 순번의 이벤트는 거부한다")
+    void apply_rejectsAlreadyAppliedSequence() {
+        PortfolioState state = PortfolioState.empty(USER_ID)
+            .apply(event(1, "GOF", PortfolioEventType.OPENED, 100, "20.00"));
+
+        assertThatThrownBy(() -> state.apply(event(1, "GOF", PortfolioEventType.INCREASED, 1, "20.00")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private PortfolioEvent event(long sequence, String symbol, PortfolioEventType type, int quantity, String price) {
+        return new PortfolioEvent(USER_ID, sequence, symbol, type, quantity,
+            price != null ? Money.of(price) : null, T0.plusMinutes(sequence));
+    }
+}
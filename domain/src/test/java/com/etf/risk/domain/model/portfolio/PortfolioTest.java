@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -145,6 +146,26 @@ class PortfolioTest {
             .isInstanceOf(PositionNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("저장된 포지션을 제거하면 버전 비교 삭제 대상으로 기록된다")
+    void removePosition_persisted_tracksRemoved() {
+        // Given: DB 에서 읽어온 GOF(version 3) + 아직 저장 전인 QQQI
+        LocalDateTime now = LocalDateTime.now();
+        Portfolio portfolio = Portfolio.reconstitute(List.of(
+            Position.reconstitute(1L, "GOF", 10, Money.of("20.00"), 3L, now, now)
+        ));
+        portfolio.addPosition("QQQI", 20, Money.of("55.00"));
+
+        // When
+        portfolio.removePosition("GOF");
+        portfolio.removePosition("QQQI");
+
+        // Then: 저장된 적 없는 QQQI 는 기록하지 않음
+        assertThat(portfolio.getRemovedPositions())
+            .extracting(Position::getSymbol, Position::getVersion)
+            .containsExactly(tuple("GOF", 3L));
+    }
+
     @Test
     @DisplayName("포트폴리오 총 가치 계산")
     void calculateTotalValue() {
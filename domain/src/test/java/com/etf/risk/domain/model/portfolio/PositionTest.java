@@ -120,6 +120,23 @@ class PositionTest {
             .isInstanceOf(InvalidQuantityException.class);
     }
 
+    @Test
+    @DisplayName("저장된 포지션의 수량이 바뀌면 변경 상태가 되고, 저장 후 해제된다")
+    void dirty_trackedUntilPersisted() {
+        // Given
+        Position position = Position.reconstitute(1L, "GOF", 10, Money.of("20.00"), 3L, null, null);
+        assertThat(position.isDirty()).isFalse();
+
+        // When
+        position.reduceQuantity(2);
+
+        // Then
+        assertThat(position.isDirty()).isTrue();
+        position.markPersisted(1L, 4L);
+        assertThat(position.isDirty()).isFalse();
+        assertThat(position.getVersion()).isEqualTo(4L);
+    }
+
     @Test
     @DisplayName("현재 가치 계산이 정확하다 (수량 × 현재가)")
     void calculateValue() {
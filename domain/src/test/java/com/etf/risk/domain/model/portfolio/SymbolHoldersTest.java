@@ -0,0 +1,67 @@
+package com.etf.risk.domain.model.portfolio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SymbolHolders 테스트")
+class SymbolHoldersTest {
+
+    @Test
+    @DisplayName("정렬되지 않은 배열로 생성하면 userId 오름차순으로 정렬하고 중복을 제거한다")
+    void of_sortsAndDeduplicates() {
+        // Given
+        long[] userIds = {30L, 10L, 20L, 10L, 99L};
+        long[] chatIds = {300L, 100L, 200L, 101L, 999L};
+
+        // When: 마지막 원소(99)는 length 밖이므로 무시된다
+        SymbolHolders holders = SymbolHolders.of(userIds, chatIds, 4);
+
+        // Then
+        assertThat(holders.userIds()).containsExactly(10L, 20L, 30L);
+        assertThat(holders.chatIds()).containsExactly(101L, 200L, 300L);
+    }
+
+    @Test
+    @DisplayName("with 는 정렬 순서를 유지하며 보유자를 추가하고 원본은 바뀌지 않는다")
+    void with_insertsInOrder() {
+        // Given
+        SymbolHolders holders = SymbolHolders.of(new long[]{10L, 30L}, new long[]{100L, 300L}, 2);
+
+        // When
+        SymbolHolders next = holders.with(20L, 200L);
+
+        // Then
+        assertThat(next.userIds()).containsExactly(10L, 20L, 30L);
+        assertThat(next.chatIds()).containsExactly(100L, 200L, 300L);
+        assertThat(holders.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 있는 보유자를 같은 chatId 로 추가하면 같은 인스턴스를 돌려준다")
+    void with_existingHolder_returnsSameInstance() {
+        // Given
+        SymbolHolders holders = SymbolHolders.EMPTY.with(10L, 100L);
+
+        // When & Then
+        assertThat(holders.with(10L, 100L)).isSameAs(holders);
+    }
+
+    @Test
+    @DisplayName("without 은 보유자를 제거하고 마지막 보유자가 빠지면 비어 있다")
+    void without_removesHolder() {
+        // Given
+        SymbolHolders holders = SymbolHolders.EMPTY.with(10L, 100L).with(20L, 200L);
+
+        // When
+        SymbolHolders removed = holders.without(10L);
+
+        // Then
+        assertThat(removed.contains(10L)).isFalse();
+        assertThat(removed.userIdAt(0)).isEqualTo(20L);
+        assertThat(removed.chatIdAt(0)).isEqualTo(200L);
+        assertThat(removed.without(20L).isEmpty()).isTrue();
+        assertThat(removed.without(99L)).isSameAs(removed);
+    }
+}
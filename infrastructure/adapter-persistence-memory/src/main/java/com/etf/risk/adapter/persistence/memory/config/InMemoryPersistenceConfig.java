@@ -0,0 +1,21 @@
+package com.etf.risk.adapter.persistence.memory.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * memory 프로파일: PostgreSQL 없이 ConcurrentMap 저장소로 실행한다.
+ *
+ * <p>DataSource / MyBatis 자동 구성은 application-memory.yml 에서 제외한다.</p>
+ */
+@Configuration
+@Profile("memory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+}
@@ -0,0 +1,49 @@
+package com.etf.risk.adapter.persistence.memory.config;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 실제 자원 없이 트랜잭션 경계와 동기화 콜백(afterCommit 등)만 제공한다.
+ *
+ * <p>자원이 없으므로 커밋/롤백 자체는 아무것도 하지 않는다. 사용자 저장과 원장 추가는
+ * 트랜잭션 동기화로 사용자 잠금을 완료까지 잡고, 롤백되면 afterCompletion 에서 변경을 되돌린다
+ * (InMemoryUserLocks). 버전 충돌처럼 실패하는 연산은 아무것도 바꾸지 않은 채 예외를 던진다.</p>
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    // 전파 속성(REQUIRED 합류, NOT_SUPPORTED/REQUIRES_NEW 일시 중단)이 JDBC 트랜잭션과 같게 동작하도록 한다
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return null;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    // 되돌리기는 저장소가 등록한 동기화의 afterCompletion(STATUS_ROLLED_BACK) 에서 한다
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+import com.etf.risk.domain.port.out.DividendCalendarRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * dividend_calendar 를 흉내 낸다. 종목별 일정 맵은 compute 안에서 통째로 교체한다.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryDividendCalendarRepository implements DividendCalendarRepository {
+
+    // etf_symbol -> payment_date -> 일정. (etf_symbol, payment_date) 기본 키와 같은 키 구조
+    private final Map<String, NavigableMap<LocalDate, DividendCalendarEntry>> calendars = new ConcurrentHashMap<>();
+
+    @Override
+    public void replaceProjections(String etfSymbol, YearMonth from, List<DividendCalendarEntry> projections) {
+        calendars.compute(etfSymbol, (symbol, current) -> {
+            NavigableMap<LocalDate, DividendCalendarEntry> next = current != null ? new TreeMap<>(current) : new TreeMap<>();
+            next.tailMap(from.atDay(1), true).values().removeIf(entry -> !entry.confirmed());
+            for (DividendCalendarEntry projection : projections) {
+                if (!hasConfirmedIn(next, YearMonth.from(projection.paymentDate()))) {
+                    next.putIfAbsent(projection.paymentDate(), projection);
+                }
+            }
+            return next;
+        });
+    }
+
+    @Override
+    public List<DividendCalendarEntry> findUpcoming(LocalDate from, LocalDate to) {
+        return calendars.values().stream()
+            .flatMap(calendar -> calendar.subMap(from, true, to, true).values().stream())
+            .sorted(Comparator.comparing(DividendCalendarEntry::paymentDate)
+                .thenComparing(DividendCalendarEntry::etfSymbol))
+            .toList();
+    }
+
+    /**
+     * 실제 배당 저장 시 같은 달의 추정 일정을 확정 일정으로 교체한다.
+     */
+    void confirm(Dividend dividend) {
+        YearMonth month = YearMonth.from(dividend.paymentDate());
+        calendars.compute(dividend.etfSymbol(), (symbol, current) -> {
+            NavigableMap<LocalDate, DividendCalendarEntry> next = current != null ? new TreeMap<>(current) : new TreeMap<>();
+            next.subMap(month.atDay(1), true, month.atEndOfMonth(), true).values()
+                .removeIf(entry -> !entry.confirmed());
+            next.put(dividend.paymentDate(), DividendCalendarEntry.confirmed(dividend));
+            return next;
+        });
+    }
+
+    private boolean hasConfirmedIn(NavigableMap<LocalDate, DividendCalendarEntry> calendar, YearMonth month) {
+        return calendar.subMap(month.atDay(1), true, month.atEndOfMonth(), true).values().stream()
+            .anyMatch(DividendCalendarEntry::confirmed);
+    }
+}
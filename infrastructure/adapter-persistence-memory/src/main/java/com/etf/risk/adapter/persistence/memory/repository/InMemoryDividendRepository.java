@@ -0,0 +1,78 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.port.out.DividendRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Repository
+@Profile("memory")
+public class InMemoryDividendRepository implements DividendRepository {
+
+    // etf_symbol -> payment_date -> 배당. (etf_symbol, payment_date) 유니크 제약과 같은 키 구조
+    private final Map<String, NavigableMap<LocalDate, Dividend>> dividends = new ConcurrentHashMap<>();
+
+    private final InMemoryDividendCalendarRepository calendarRepository;
+
+    public InMemoryDividendRepository(InMemoryDividendCalendarRepository calendarRepository) {
+        this.calendarRepository = calendarRepository;
+    }
+
+    @Override
+    public void save(Dividend dividend) {
+        // ON CONFLICT (etf_symbol, payment_date) DO NOTHING
+        dividends.computeIfAbsent(dividend.etfSymbol(), symbol -> new ConcurrentSkipListMap<>())
+            .putIfAbsent(dividend.paymentDate(), dividend);
+        calendarRepository.confirm(dividend);
+    }
+
+    @Override
+    public int saveAll(List<Dividend> newDividends) {
+        int inserted = 0;
+        for (Dividend dividend : newDividends) {
+            Dividend previous = dividends.computeIfAbsent(dividend.etfSymbol(), symbol -> new ConcurrentSkipListMap<>())
+                .putIfAbsent(dividend.paymentDate(), dividend);
+            if (previous == null) {
+                inserted++;
+            }
+            calendarRepository.confirm(dividend);
+        }
+        return inserted;
+    }
+
+    @Override
+    public Optional<Dividend> findLatest(String etfSymbol) {
+        NavigableMap<LocalDate, Dividend> history = dividends.get(etfSymbol);
+        if (history == null || history.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(history.lastEntry().getValue());
+    }
+
+    @Override
+    public List<Dividend> findByETFSymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        NavigableMap<LocalDate, Dividend> history = dividends.get(etfSymbol);
+        if (history == null) {
+            return List.of();
+        }
+        return List.copyOf(history.subMap(startDate, true, endDate, true).descendingMap().values());
+    }
+
+    @Override
+    public List<Dividend> findByPaymentDate(LocalDate paymentDate) {
+        return dividends.values().stream()
+            .map(history -> history.get(paymentDate))
+            .filter(dividend -> dividend != null)
+            .sorted(Comparator.comparing(Dividend::etfSymbol))
+            .toList();
+    }
+}
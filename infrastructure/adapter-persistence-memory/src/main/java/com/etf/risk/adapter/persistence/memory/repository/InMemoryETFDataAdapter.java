@@ -0,0 +1,43 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.etf.ETF;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.port.out.ETFDataPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Qualifier("snapshotStore")
+@Profile("memory")
+@RequiredArgsConstructor
+public class InMemoryETFDataAdapter implements ETFDataPort {
+
+    private final InMemorySnapshotStore snapshotStore;
+
+    @Override
+    public Optional<ETF> findETFBySymbol(String symbol) {
+        // ETF 생성은 메타데이터만으로 불가능하므로 scraper adapter에서 처리
+        throw new UnsupportedOperationException("findETFBySymbol should be implemented by scraper adapter");
+    }
+
+    @Override
+    public ETFSnapshot fetchLatestSnapshot(String symbol) {
+        throw new UnsupportedOperationException("fetchLatestSnapshot should be implemented by scraper adapter");
+    }
+
+    @Override
+    public Map<String, ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols) {
+        throw new UnsupportedOperationException("fetchLatestSnapshots should be implemented by scraper adapter");
+    }
+
+    @Override
+    public void saveSnapshot(ETFSnapshot snapshot) {
+        snapshotStore.upsert(snapshot);
+    }
+}
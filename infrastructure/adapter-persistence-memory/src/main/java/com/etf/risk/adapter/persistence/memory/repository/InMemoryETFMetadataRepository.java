@@ -0,0 +1,60 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.model.etf.ETFType;
+import com.etf.risk.domain.port.out.ETFMetadataRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@Profile("memory")
+public class InMemoryETFMetadataRepository implements ETFMetadataRepository {
+
+    private final Map<String, ETFMetadata> metadata = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<ETFMetadata> findBySymbol(String symbol) {
+        return Optional.ofNullable(metadata.get(symbol));
+    }
+
+    @Override
+    public List<ETFMetadata> findAll() {
+        return metadata.values().stream()
+            .sorted(Comparator.comparing(ETFMetadata::symbol))
+            .toList();
+    }
+
+    @Override
+    public boolean hasType(String symbol, ETFType type) {
+        ETFMetadata found = metadata.get(symbol);
+        return found != null && found.hasType(type);
+    }
+
+    @Override
+    public List<ETFMetadata> findContainingTypes(Set<ETFType> types) {
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("조회할 ETF 타입이 없습니다");
+        }
+        return metadata.values().stream()
+            .filter(found -> found.types().containsAll(types))
+            .sorted(Comparator.comparing(ETFMetadata::symbol))
+            .toList();
+    }
+
+    @Override
+    public void save(ETFMetadata etfMetadata) {
+        metadata.put(etfMetadata.symbol(), etfMetadata);
+    }
+
+    @Override
+    public void refresh() {
+        // 저장소 자체가 원본이므로 다시 읽을 것이 없다
+    }
+}
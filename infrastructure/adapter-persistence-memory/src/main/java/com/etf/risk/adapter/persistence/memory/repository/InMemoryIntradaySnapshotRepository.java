@@ -0,0 +1,47 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import com.etf.risk.domain.model.etf.MinuteBar;
+import com.etf.risk.domain.port.out.IntradaySnapshotRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 시세를 받는 즉시 1분 봉에 더하므로 진행 중인 봉도 바로 조회된다.
+ * 종목마다 최근 {@value #MAX_BARS_PER_SYMBOL}개 봉만 남기고 오래된 봉은 버린다.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryIntradaySnapshotRepository implements IntradaySnapshotRepository {
+
+    // 정규장 + NAV 공시 구간 기준 약 2주
+    static final int MAX_BARS_PER_SYMBOL = 5_000;
+
+    private final Map<String, NavigableMap<Instant, MinuteBar>> bars = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(IntradaySnapshot snapshot) {
+        NavigableMap<Instant, MinuteBar> symbolBars = bars.computeIfAbsent(snapshot.symbol(),
+            symbol -> new ConcurrentSkipListMap<>());
+        symbolBars.merge(MinuteBar.bucketOf(snapshot.observedAt()), MinuteBar.of(snapshot), MinuteBar::merge);
+        while (symbolBars.size() > MAX_BARS_PER_SYMBOL) {
+            symbolBars.pollFirstEntry();
+        }
+    }
+
+    @Override
+    public List<MinuteBar> findMinuteBars(String etfSymbol, Instant from, Instant to) {
+        NavigableMap<Instant, MinuteBar> symbolBars = bars.get(etfSymbol);
+        if (symbolBars == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        return List.copyOf(symbolBars.subMap(from, true, to, false).values());
+    }
+}
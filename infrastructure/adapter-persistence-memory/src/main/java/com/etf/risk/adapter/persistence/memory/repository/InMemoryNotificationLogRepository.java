@@ -0,0 +1,42 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+import com.etf.risk.domain.port.out.NotificationLogPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * notification_log 의 "(chat, symbol, category) 마지막 성공 발송" 조회만 흉내 낸다.
+ * 전체 이력은 보관하지 않는다.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryNotificationLogRepository implements NotificationLogPort {
+
+    private final Map<Key, NotificationLogEntry> lastDelivered = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(NotificationLogEntry entry) {
+        if (!entry.delivered()) {
+            return;
+        }
+        lastDelivered.merge(new Key(entry.chatId(), entry.etfSymbol(), entry.category()), entry,
+            (current, candidate) -> candidate.sentAt().isBefore(current.sentAt()) ? current : candidate);
+    }
+
+    @Override
+    public Optional<NotificationLogEntry> findLastDelivered(Long chatId, String etfSymbol, NotificationCategory category,
+                                                            LocalDateTime since) {
+        return Optional.ofNullable(lastDelivered.get(new Key(chatId, etfSymbol, category)))
+            .filter(entry -> !entry.sentAt().isBefore(since));
+    }
+
+    private record Key(Long chatId, String etfSymbol, NotificationCategory category) {
+    }
+}
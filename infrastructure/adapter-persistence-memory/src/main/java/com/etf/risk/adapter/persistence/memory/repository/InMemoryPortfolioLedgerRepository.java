@@ -0,0 +1,89 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+import com.etf.risk.domain.port.out.PortfolioLedgerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * portfolio_events / portfolio_snapshots 를 흉내 낸다.
+ *
+ * <p>순번 부여는 {@link InMemoryUserRepository} 의 저장과 같은 {@link InMemoryUserLocks} 사용자 잠금 안에서 하므로
+ * 원장 순서가 사용자 저장 순서와 어긋나지 않는다. 트랜잭션이 롤백되면 추가한 이벤트도 지운다.</p>
+ */
+@Repository
+@Profile("memory")
+public class InMemoryPortfolioLedgerRepository implements PortfolioLedgerRepository {
+
+    private final Map<Long, List<PortfolioEvent>> events = new ConcurrentHashMap<>();
+    // user_id -> last_sequence -> 스냅샷
+    private final Map<Long, NavigableMap<Long, PortfolioState>> snapshots = new ConcurrentHashMap<>();
+
+    private final InMemoryUserLocks userLocks;
+
+    public InMemoryPortfolioLedgerRepository(InMemoryUserLocks userLocks) {
+        this.userLocks = userLocks;
+    }
+
+    @Override
+    public PortfolioEvent append(PortfolioEvent event) {
+        List<PortfolioEvent> ledger = events.computeIfAbsent(event.userId(), userId -> new ArrayList<>());
+        return userLocks.write(event.userId(), () -> {
+            // 조회는 사용자 잠금 없이 하므로 리스트 자체의 잠금도 유지한다
+            synchronized (ledger) {
+                PortfolioEvent appended = event.withSequence(ledger.size() + 1L);
+                ledger.add(appended);
+                return appended;
+            }
+        }, appended -> {
+            synchronized (ledger) {
+                ledger.remove(appended);
+            }
+        });
+    }
+
+    @Override
+    public List<PortfolioEvent> findEventsAfter(Long userId, long afterSequence, LocalDateTime until) {
+        List<PortfolioEvent> ledger = events.get(userId);
+        if (ledger == null) {
+            return List.of();
+        }
+        synchronized (ledger) {
+            // sequence 가 1부터 빈틈없으므로 afterSequence 가 곧 시작 인덱스다
+            return ledger.subList((int) Math.min(afterSequence, ledger.size()), ledger.size()).stream()
+                .filter(event -> until == null || event.occurredAt().isBefore(until))
+                .toList();
+        }
+    }
+
+    @Override
+    public Optional<PortfolioState> findLatestSnapshot(Long userId, LocalDateTime until) {
+        NavigableMap<Long, PortfolioState> userSnapshots = snapshots.get(userId);
+        if (userSnapshots == null) {
+            return Optional.empty();
+        }
+        synchronized (userSnapshots) {
+            return userSnapshots.descendingMap().values().stream()
+                .filter(snapshot -> until == null || snapshot.asOf().isBefore(until))
+                .findFirst();
+        }
+    }
+
+    @Override
+    public void saveSnapshot(PortfolioState snapshot) {
+        NavigableMap<Long, PortfolioState> userSnapshots = snapshots.computeIfAbsent(snapshot.userId(), userId -> new TreeMap<>());
+        synchronized (userSnapshots) {
+            userSnapshots.putIfAbsent(snapshot.lastSequence(), snapshot);
+        }
+    }
+}
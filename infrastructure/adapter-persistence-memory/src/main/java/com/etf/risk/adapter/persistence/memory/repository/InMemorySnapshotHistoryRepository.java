@@ -0,0 +1,163 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.adapter.persistence.memory.repository.InMemorySnapshotStore.StoredSnapshot;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.BarInterval;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.SnapshotBar;
+import com.etf.risk.domain.model.etf.SnapshotStatistics;
+import com.etf.risk.domain.port.out.SnapshotHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주봉/월봉은 별도 롤업 없이 조회 시점에 일별 스냅샷으로 계산한다.
+ */
+@Repository
+@Profile("memory")
+@RequiredArgsConstructor
+public class InMemorySnapshotHistoryRepository implements SnapshotHistoryRepository {
+
+    private static final int AVERAGE_SCALE = 4;
+
+    private final InMemorySnapshotStore snapshotStore;
+
+    @Override
+    public List<ETFSnapshot> findBySymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        return snapshotStore.range(etfSymbol, startDate, endDate).stream()
+            .map(StoredSnapshot::snapshot)
+            .toList();
+    }
+
+    @Override
+    public List<ETFSnapshot> findLatest(String etfSymbol, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 건수는 0보다 커야 합니다: " + limit);
+        }
+        return snapshotStore.history(etfSymbol).descendingMap().values().stream()
+            .limit(limit)
+            .map(StoredSnapshot::snapshot)
+            .toList();
+    }
+
+    @Override
+    public Optional<ETFSnapshot> findLatestSnapshot(String etfSymbol) {
+        return Optional.ofNullable(snapshotStore.history(etfSymbol).lastEntry())
+            .map(entry -> entry.getValue().snapshot());
+    }
+
+    @Override
+    public Optional<ETFSnapshot> findAsOf(String etfSymbol, LocalDate date) {
+        return Optional.ofNullable(snapshotStore.history(etfSymbol).floorEntry(date))
+            .map(entry -> entry.getValue().snapshot());
+    }
+
+    @Override
+    public Optional<SnapshotStatistics> summarize(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        List<StoredSnapshot> rows = snapshotStore.range(etfSymbol, startDate, endDate);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<BigDecimal> prices = rows.stream().map(row -> row.snapshot().currentPrice().getAmount()).toList();
+        List<BigDecimal> premiums = premiums(rows);
+
+        return Optional.of(new SnapshotStatistics(
+            etfSymbol,
+            rows.get(0).snapshot().recordedDate(),
+            rows.get(rows.size() - 1).snapshot().recordedDate(),
+            rows.size(),
+            Money.of(prices.stream().min(Comparator.naturalOrder()).orElseThrow()),
+            Money.of(prices.stream().max(Comparator.naturalOrder()).orElseThrow()),
+            Money.of(average(prices)),
+            premiums.isEmpty() ? null : average(premiums),
+            premiums.stream().max(Comparator.naturalOrder()).orElse(null)
+        ));
+    }
+
+    @Override
+    public List<SnapshotBar> findBars(String etfSymbol, BarInterval interval, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        LocalDate firstBucket = interval.bucketStart(startDate);
+
+        // bucket_start BETWEEN firstBucket AND endDate → 마지막 버킷은 endDate 이후 일자까지 포함
+        LocalDate lastDay = interval.nextBucketStart(endDate).minusDays(1);
+        Map<LocalDate, List<StoredSnapshot>> buckets = snapshotStore.range(etfSymbol, firstBucket, lastDay).stream()
+            .collect(Collectors.groupingBy(
+                row -> interval.bucketStart(row.snapshot().recordedDate()),
+                TreeMap::new,
+                Collectors.toList()
+            ));
+
+        return buckets.entrySet().stream()
+            .map(entry -> toBar(etfSymbol, interval, entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    @Override
+    public void rebuildBars(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        // 봉은 조회 시 계산하므로 재구성할 롤업이 없다
+        validateRange(startDate, endDate);
+    }
+
+    private SnapshotBar toBar(String etfSymbol, BarInterval interval, LocalDate bucketStart, List<StoredSnapshot> rows) {
+        List<ETFSnapshot> snapshots = rows.stream().map(StoredSnapshot::snapshot).toList();
+        ETFSnapshot first = snapshots.get(0);
+        ETFSnapshot last = snapshots.get(snapshots.size() - 1);
+        List<BigDecimal> premiums = premiums(rows);
+
+        return new SnapshotBar(
+            etfSymbol,
+            interval,
+            bucketStart,
+            first.currentPrice(),
+            snapshots.stream().map(ETFSnapshot::currentPrice).max(Comparator.comparing(Money::getAmount)).orElseThrow(),
+            snapshots.stream().map(ETFSnapshot::currentPrice).min(Comparator.comparing(Money::getAmount)).orElseThrow(),
+            last.currentPrice(),
+            first.nav(),
+            snapshots.stream().map(ETFSnapshot::nav).max(Comparator.comparing(Money::getAmount)).orElseThrow(),
+            snapshots.stream().map(ETFSnapshot::nav).min(Comparator.comparing(Money::getAmount)).orElseThrow(),
+            last.nav(),
+            premiums.isEmpty() ? null : average(premiums),
+            null,
+            snapshots.size()
+        );
+    }
+
+    // SQL AVG/MAX 처럼 NULL 프리미엄은 제외
+    private List<BigDecimal> premiums(List<StoredSnapshot> rows) {
+        return rows.stream()
+            .map(StoredSnapshot::premiumDiscount)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private BigDecimal average(List<BigDecimal> values) {
+        return values.stream()
+            .reduce(BigDecimal.ZERO, BigDecimal::add)
+            .divide(BigDecimal.valueOf(values.size()), AVERAGE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("조회 기간은 필수입니다");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다");
+        }
+    }
+}
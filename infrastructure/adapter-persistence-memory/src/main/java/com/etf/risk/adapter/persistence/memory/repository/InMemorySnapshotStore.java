@@ -0,0 +1,58 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * risk_metrics_history 에 해당하는 종목별 일별 스냅샷 저장소.
+ * ETF 데이터 저장 어댑터와 이력 조회 어댑터가 함께 사용한다.
+ */
+@Component
+@Profile("memory")
+public class InMemorySnapshotStore {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final Map<String, NavigableMap<LocalDate, StoredSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * ON CONFLICT (etf_symbol, recorded_date) DO UPDATE 와 같이 같은 날짜는 덮어쓴다.
+     */
+    public void upsert(ETFSnapshot snapshot) {
+        snapshots.computeIfAbsent(snapshot.symbol(), symbol -> new ConcurrentSkipListMap<>())
+            .put(snapshot.recordedDate(), new StoredSnapshot(snapshot, premiumDiscount(snapshot)));
+    }
+
+    public NavigableMap<LocalDate, StoredSnapshot> history(String etfSymbol) {
+        NavigableMap<LocalDate, StoredSnapshot> history = snapshots.get(etfSymbol);
+        return history != null ? history : new ConcurrentSkipListMap<>();
+    }
+
+    public List<StoredSnapshot> range(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        return List.copyOf(history(etfSymbol).subMap(startDate, true, endDate, true).values());
+    }
+
+    // ETFMybatisAdapter 와 같은 방식의 프리미엄/디스카운트(%) 계산
+    private BigDecimal premiumDiscount(ETFSnapshot snapshot) {
+        BigDecimal nav = snapshot.nav().getAmount();
+        if (nav.compareTo(BigDecimal.ZERO) == 0) {
+            return null;
+        }
+        return snapshot.currentPrice().getAmount().subtract(nav)
+            .divide(nav, 4, RoundingMode.HALF_UP)
+            .multiply(HUNDRED);
+    }
+
+    public record StoredSnapshot(ETFSnapshot snapshot, BigDecimal premiumDiscount) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * users 행 잠금을 흉내 낸다. 사용자 저장과 원장 추가가 같은 사용자 잠금을 공유한다.
+ *
+ * <p>JDBC 에서 UPDATE users 가 잡은 행 잠금은 커밋/롤백까지 유지되어 같은 사용자의 저장과
+ * 원장 순번 부여를 함께 직렬화한다. 여기서도 트랜잭션 안의 쓰기는 잠금을 트랜잭션 완료까지 잡고,
+ * 롤백되면 등록된 되돌리기 작업을 잠금을 놓기 전에 실행한다. 트랜잭션 밖의 쓰기는 쓰기 동안만 잡는다.</p>
+ */
+@Component
+@Profile("memory")
+public class InMemoryUserLocks {
+
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 잠금을 잡고 write 를 실행한다. write 는 실패하면 아무것도 바꾸지 않아야 한다.
+     *
+     * @param undo write 가 성공한 뒤 트랜잭션이 롤백되면 write 의 결과로 실행할 되돌리기 작업
+     */
+    public <T> T write(Long userId, Supplier<T> write, Consumer<T> undo) {
+        ReentrantLock lock = locks.computeIfAbsent(userId, id -> new ReentrantLock());
+        lock.lock();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                return write.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        T result;
+        try {
+            result = write.get();
+        } catch (RuntimeException e) {
+            releaseOnCompletion(lock, () -> { });
+            throw e;
+        }
+        T written = result;
+        releaseOnCompletion(lock, () -> undo.accept(written));
+        return written;
+    }
+
+    // 같은 스레드가 여러 번 잡으면 재진입 횟수만큼 등록되어 마지막 완료 콜백에서 잠금이 풀린다
+    private void releaseOnCompletion(ReentrantLock lock, Runnable undo) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.run();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,274 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.portfolio.Portfolio;
+import com.etf.risk.domain.model.portfolio.Position;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.port.out.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * users / user_portfolios 를 ConcurrentMap 으로 흉내 낸다.
+ *
+ * <p>도메인 객체는 공유하지 않고 불변 행(record)으로 보관한다. 사용자별 포지션 맵은
+ * {@link ConcurrentHashMap#compute} 안에서 통째로 교체하므로 버전 비교(compare-and-set)와
+ * (user_id, etf_symbol) 유니크 제약이 MyBatis 어댑터와 같은 의미로 동작한다.</p>
+ *
+ * <p>저장은 {@link InMemoryUserLocks} 의 사용자 잠금 안에서 하므로 같은 트랜잭션의 원장 추가와
+ * 함께 직렬화되고, 트랜잭션이 롤백되면 저장 전 행으로 되돌린다.</p>
+ */
+@Repository
+@Profile("memory")
+public class InMemoryUserRepository implements UserRepository {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final AtomicLong userIdSequence = new AtomicLong();
+    private final AtomicLong positionIdSequence = new AtomicLong();
+
+    private final ConcurrentNavigableMap<Long, UserRow> users = new ConcurrentSkipListMap<>();
+    private final Map<Long, Long> userIdByChatId = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, PositionRow>> positionsByUser = new ConcurrentHashMap<>();
+
+    private final InMemoryUserLocks userLocks;
+
+    public InMemoryUserRepository(InMemoryUserLocks userLocks) {
+        this.userLocks = userLocks;
+    }
+
+    @Override
+    public User save(User user) {
+        Long chatId = user.getTelegramChatId().value();
+        if (user.getId() == null) {
+            long id = userIdSequence.incrementAndGet();
+            if (userIdByChatId.putIfAbsent(chatId, id) != null) {
+                throw new DuplicateKeyException("이미 등록된 telegram_chat_id 입니다: " + chatId);
+            }
+            user.setId(id);
+        }
+
+        Long userId = user.getId();
+        userLocks.write(userId, () -> {
+            PreviousRows previous = new PreviousRows(users.get(userId), positionsByUser.get(userId));
+            // 포지션 충돌이면 아무것도 바꾸지 않은 채 예외가 나도록 사용자 행은 마지막에 쓴다
+            savePositions(user);
+            users.put(userId, new UserRow(
+                userId,
+                chatId,
+                user.getTelegramUsername(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+            ));
+            return previous;
+        }, previous -> restore(userId, chatId, previous));
+        return user;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(users.get(id)).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<User> findByTelegramChatId(TelegramChatId chatId) {
+        return Optional.ofNullable(userIdByChatId.get(chatId.value()))
+            .flatMap(this::findById);
+    }
+
+    @Override
+    public List<User> findUsersWithETF(String etfSymbol) {
+        return users.values().stream()
+            .filter(row -> holds(row.id(), etfSymbol))
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<User> findAllAfter(Long afterId, int limit) {
+        validatePageSize(limit);
+        return users.tailMap(cursorOf(afterId), false).values().stream()
+            .limit(limit)
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit) {
+        validatePageSize(limit);
+        return users.tailMap(cursorOf(afterId), false).values().stream()
+            .filter(row -> holds(row.id(), etfSymbol))
+            .limit(limit)
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public boolean existsByTelegramChatId(TelegramChatId chatId) {
+        return userIdByChatId.containsKey(chatId.value());
+    }
+
+    @Override
+    public void scanHoldings(Consumer<Holding> consumer) {
+        users.values().forEach(row ->
+            positionsByUser.getOrDefault(row.id(), Map.of()).keySet().forEach(symbol ->
+                consumer.accept(new Holding(row.id(), row.telegramChatId(), symbol))));
+    }
+
+    private void savePositions(User user) {
+        Portfolio portfolio = user.getPortfolio();
+        Long userId = user.getId();
+        List<Runnable> onSuccess = new ArrayList<>();
+
+        positionsByUser.compute(userId, (id, current) -> {
+            Map<String, PositionRow> next = current != null ? new HashMap<>(current) : new HashMap<>();
+            onSuccess.clear();
+
+            // DELETE ... WHERE id = ? AND version = ?
+            for (Position removed : portfolio.getRemovedPositions()) {
+                PositionRow row = next.get(removed.getSymbol());
+                if (!matches(row, removed)) {
+                    throw conflict(userId, removed.getSymbol());
+                }
+                next.remove(removed.getSymbol());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Position position : portfolio.getPositions()) {
+                if (position.isPersisted() && !position.isDirty()) {
+                    continue;
+                }
+                PositionRow row = next.get(position.getSymbol());
+
+                if (position.isPersisted()) {
+                    // UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?
+                    if (!matches(row, position)) {
+                        throw conflict(userId, position.getSymbol());
+                    }
+                    long nextVersion = row.version() + 1;
+                    next.put(position.getSymbol(), new PositionRow(row.id(), position.getSymbol(), position.getQuantity(),
+                        position.getAveragePrice().getAmount(), nextVersion, row.createdAt(), now));
+                    onSuccess.add(() -> position.markPersisted(row.id(), nextVersion));
+                    continue;
+                }
+
+                // (user_id, etf_symbol) 유니크 제약
+                if (row != null) {
+                    throw new ConcurrentPortfolioUpdateException(
+                        "다른 요청이 먼저 같은 ETF를 추가했습니다: userId=" + userId + ", symbol=" + position.getSymbol());
+                }
+                long positionId = positionIdSequence.incrementAndGet();
+                next.put(position.getSymbol(), new PositionRow(positionId, position.getSymbol(), position.getQuantity(),
+                    position.getAveragePrice().getAmount(), 0L, position.getCreatedAt(), now));
+                onSuccess.add(() -> position.markPersisted(positionId, 0L));
+            }
+            return Map.copyOf(next);
+        });
+
+        onSuccess.forEach(Runnable::run);
+        portfolio.clearRemovedPositions();
+    }
+
+    // 롤백 시 저장 전 행으로 되돌린다. 사용자 잠금을 잡은 채 실행되므로 그 사이 다른 쓰기는 없다
+    private void restore(Long userId, Long chatId, PreviousRows previous) {
+        if (previous.user() == null) {
+            users.remove(userId);
+            userIdByChatId.remove(chatId, userId);
+        } else {
+            users.put(userId, previous.user());
+        }
+        if (previous.positions() == null) {
+            positionsByUser.remove(userId);
+        } else {
+            positionsByUser.put(userId, previous.positions());
+        }
+    }
+
+    private boolean matches(PositionRow row, Position position) {
+        return row != null && row.id() == position.getId() && row.version() == position.getVersion();
+    }
+
+    private ConcurrentPortfolioUpdateException conflict(Long userId, String symbol) {
+        return new ConcurrentPortfolioUpdateException(
+            "다른 요청이 먼저 포트폴리오를 수정했습니다: userId=" + userId + ", symbol=" + symbol);
+    }
+
+    private boolean holds(Long userId, String etfSymbol) {
+        Map<String, PositionRow> positions = positionsByUser.get(userId);
+        return positions != null && positions.containsKey(etfSymbol);
+    }
+
+    private User toDomain(UserRow row) {
+        List<Position> positions = positionsByUser.getOrDefault(row.id(), Map.of()).values().stream()
+            .sorted((a, b) -> a.symbol().compareTo(b.symbol()))
+            .map(position -> Position.reconstitute(
+                position.id(),
+                position.symbol(),
+                position.quantity(),
+                Money.of(position.averagePrice()),
+                position.version(),
+                position.createdAt(),
+                position.updatedAt()
+            ))
+            .toList();
+
+        return User.reconstitute(
+            row.id(),
+            new TelegramChatId(row.telegramChatId()),
+            row.telegramUsername(),
+            Portfolio.reconstitute(positions),
+            row.createdAt(),
+            row.updatedAt()
+        );
+    }
+
+    private long cursorOf(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + limit);
+        }
+    }
+
+    private record UserRow(
+        Long id,
+        Long telegramChatId,
+        String telegramUsername,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+
+    private record PreviousRows(UserRow user, Map<String, PositionRow> positions) {
+    }
+
+    private record PositionRow(
+        long id,
+        String symbol,
+        int quantity,
+        BigDecimal averagePrice,
+        long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+}
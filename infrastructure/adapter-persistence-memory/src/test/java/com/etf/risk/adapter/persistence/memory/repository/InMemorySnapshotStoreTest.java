@@ -0,0 +1,51 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("In-memory ON CONFLICT 동작 테스트")
+class InMemorySnapshotStoreTest {
+
+    @Test
+    @DisplayName("같은 날짜 스냅샷은 덮어쓴다 (ON CONFLICT DO UPDATE)")
+    void snapshot_sameDate_upserts() {
+        // Given
+        InMemorySnapshotStore store = new InMemorySnapshotStore();
+        LocalDate date = LocalDate.of(2024, 11, 1);
+
+        // When
+        store.upsert(new ETFSnapshot("GOF", Money.of("21.00"), Money.of("20.00"), date));
+        store.upsert(new ETFSnapshot("GOF", Money.of("22.00"), Money.of("20.00"), date));
+
+        // Then
+        assertThat(store.history("GOF")).hasSize(1);
+        InMemorySnapshotStore.StoredSnapshot stored = store.history("GOF").get(date);
+        assertThat(stored.snapshot().currentPrice()).isEqualTo(Money.of("22.00"));
+        assertThat(stored.premiumDiscount()).isEqualByComparingTo(new BigDecimal("10.00"));
+    }
+
+    @Test
+    @DisplayName("같은 지급일 배당은 처음 저장한 값을 유지한다 (ON CONFLICT DO NOTHING)")
+    void dividend_samePaymentDate_keepsFirst() {
+        // Given
+        InMemoryDividendRepository repository = new InMemoryDividendRepository(new InMemoryDividendCalendarRepository());
+        LocalDate exDate = LocalDate.of(2024, 11, 15);
+        LocalDate payDate = LocalDate.of(2024, 11, 29);
+
+        // When
+        repository.save(Dividend.create("GOF", exDate, payDate, Money.of("0.1821"), null));
+        repository.save(Dividend.create("GOF", exDate, payDate, Money.of("0.2000"), null));
+
+        // Then
+        assertThat(repository.findByPaymentDate(payDate)).hasSize(1);
+        assertThat(repository.findLatest("GOF").orElseThrow().amountPerShare()).isEqualTo(Money.of("0.1821"));
+    }
+}
@@ -0,0 +1,173 @@
+package com.etf.risk.adapter.persistence.memory.repository;
+
+import com.etf.risk.adapter.persistence.memory.config.InMemoryTransactionManager;
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryUserRepository 테스트")
+class InMemoryUserRepositoryTest {
+
+    private InMemoryUserRepository repository;
+    private InMemoryPortfolioLedgerRepository ledgerRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryUserLocks userLocks = new InMemoryUserLocks();
+        repository = new InMemoryUserRepository(userLocks);
+        ledgerRepository = new InMemoryPortfolioLedgerRepository(userLocks);
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+    }
+
+    @Test
+    @DisplayName("저장 후 조회하면 포지션과 버전이 복원된다")
+    void saveAndFind() {
+        // Given
+        User user = User.register(new TelegramChatId(1001L), "alice");
+        user.addPosition("GOF", 100, Money.of("20.00"));
+
+        // When
+        repository.save(user);
+        User found = repository.findByTelegramChatId(new TelegramChatId(1001L)).orElseThrow();
+
+        // Then
+        assertThat(found.getId()).isEqualTo(user.getId());
+        assertThat(found.getPosition("GOF").getQuantity()).isEqualTo(100);
+        assertThat(found.getPosition("GOF").getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 chatId 로 신규 등록하면 유니크 제약 예외 발생")
+    void duplicateChatId_throwsException() {
+        repository.save(User.register(new TelegramChatId(1001L), "alice"));
+
+        assertThatThrownBy(() -> repository.save(User.register(new TelegramChatId(1001L), "alice2")))
+            .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 버전으로 저장하면 동시 수정 충돌 예외 발생")
+    void staleVersion_throwsConflict() {
+        // Given
+        User user = User.register(new TelegramChatId(1001L), "alice");
+        user.addPosition("GOF", 100, Money.of("20.00"));
+        repository.save(user);
+
+        User first = repository.findById(user.getId()).orElseThrow();
+        User second = repository.findById(user.getId()).orElseThrow();
+
+        // When
+        first.addToPosition("GOF", 10, Money.of("20.00"));
+        repository.save(first);
+        second.addToPosition("GOF", 5, Money.of("20.00"));
+
+        // Then
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(ConcurrentPortfolioUpdateException.class);
+        assertThat(repository.findById(user.getId()).orElseThrow().getPosition("GOF").getQuantity())
+            .isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("같은 종목을 동시에 추가하면 한쪽만 성공한다")
+    void concurrentAddSameSymbol_throwsConflict() {
+        // Given
+        User user = repository.save(User.register(new TelegramChatId(1001L), "alice"));
+        User first = repository.findById(user.getId()).orElseThrow();
+        User second = repository.findById(user.getId()).orElseThrow();
+
+        // When
+        first.addPosition("GOF", 100, Money.of("20.00"));
+        repository.save(first);
+        second.addPosition("GOF", 50, Money.of("21.00"));
+
+        // Then
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(ConcurrentPortfolioUpdateException.class);
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 포지션은 갱신하지 않아 다른 종목 수정과 충돌하지 않는다")
+    void untouchedPosition_isNotUpdated() {
+        // Given
+        User user = User.register(new TelegramChatId(1001L), "alice");
+        user.addPosition("GOF", 100, Money.of("20.00"));
+        user.addPosition("QQQI", 50, Money.of("55.00"));
+        repository.save(user);
+
+        User first = repository.findById(user.getId()).orElseThrow();
+        User second = repository.findById(user.getId()).orElseThrow();
+
+        // When
+        first.addToPosition("GOF", 10, Money.of("20.00"));
+        repository.save(first);
+        second.addToPosition("QQQI", 5, Money.of("55.00"));
+        repository.save(second);
+
+        // Then
+        User found = repository.findById(user.getId()).orElseThrow();
+        assertThat(found.getPosition("GOF").getQuantity()).isEqualTo(110);
+        assertThat(found.getPosition("GOF").getVersion()).isEqualTo(1L);
+        assertThat(found.getPosition("QQQI").getQuantity()).isEqualTo(55);
+        assertThat(found.getPosition("QQQI").getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 사용자 저장과 원장 추가가 함께 되돌려진다")
+    void rollback_restoresUserAndLedger() {
+        // Given
+        User user = User.register(new TelegramChatId(1001L), "alice");
+        user.addPosition("GOF", 100, Money.of("20.00"));
+        repository.save(user);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            User found = repository.findById(user.getId()).orElseThrow();
+            found.addToPosition("GOF", 10, Money.of("20.00"));
+            repository.save(found);
+            ledgerRepository.append(PortfolioEvent.increased(user.getId(), "GOF", 10, Money.of("20.00")));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        User found = repository.findById(user.getId()).orElseThrow();
+        assertThat(found.getPosition("GOF").getQuantity()).isEqualTo(100);
+        assertThat(found.getPosition("GOF").getVersion()).isZero();
+        assertThat(ledgerRepository.findEventsAfter(user.getId(), 0L, null)).isEmpty();
+        assertThat(ledgerRepository.append(PortfolioEvent.increased(user.getId(), "GOF", 10, Money.of("20.00")))
+            .sequence()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("종목 보유자를 id 순서 keyset 페이지로 조회한다")
+    void findUsersWithETFAfter_pagesById() {
+        // Given: 홀수 번째 사용자만 GOF 보유
+        for (long chatId = 1; chatId <= 5; chatId++) {
+            User user = User.register(new TelegramChatId(chatId), "user" + chatId);
+            if (chatId % 2 == 1) {
+                user.addPosition("GOF", 10, Money.of("20.00"));
+            }
+            repository.save(user);
+        }
+
+        // When
+        List<User> firstPage = repository.findUsersWithETFAfter("GOF", null, 2);
+        List<User> secondPage = repository.findUsersWithETFAfter("GOF", firstPage.get(1).getId(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(User::getTelegramUsername).containsExactly("user1", "user3");
+        assertThat(secondPage).extracting(User::getTelegramUsername).containsExactly("user5");
+    }
+}
@@ -0,0 +1,85 @@
+package com.etf.risk.adapter.persistence.r2dbc.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import javax.sql.DataSource;
+
+/**
+ * r2dbc 프로필에서 사용자 조회와 배당 저장소를 R2DBC 로 처리한다. 사용자 저장은 원장 기록과 같은 JDBC 트랜잭션에서 한다.
+ *
+ * <p>ConnectionFactory 와 R2dbcTransactionManager 는 빈으로 노출하지 않는다. 노출하면 Spring Boot 의
+ * R2DBC 자동 구성과 {@code @Transactional} 의 기본 TransactionManager 선택이 JDBC 쪽과 충돌한다.
+ * 나머지 저장소는 계속 JDBC/MyBatis 를 쓰므로, 트랜잭션 경계만 열고 JDBC 를 쓰지 않는 요청이
+ * Hikari 커넥션을 잡지 않도록 DataSource 를 {@link LazyConnectionDataSourceProxy} 로 감싼다.</p>
+ */
+@Configuration
+@Profile("r2dbc")
+public class R2dbcPersistenceConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient(R2dbcPersistenceProperties properties) {
+        return DatabaseClient.create(connectionPool(properties));
+    }
+
+    @Bean
+    public TransactionalOperator r2dbcTransactionalOperator(R2dbcPersistenceProperties properties) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool(properties)));
+    }
+
+    @Bean
+    public static BeanPostProcessor lazyJdbcConnectionPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 라우팅 구성의 하위 DataSource 는 타입 그대로 주입되어야 하므로 최상위 dataSource 빈만 감싼다
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new LazyConnectionDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private synchronized ConnectionPool connectionPool(R2dbcPersistenceProperties properties) {
+        if (connectionPool == null) {
+            if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+                throw new IllegalStateException("persistence.r2dbc.url 이 설정되지 않았습니다");
+            }
+            ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+
+            connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("r2dbc")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        }
+        return connectionPool;
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.etf.risk.adapter.persistence.r2dbc.repository;
+
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.port.out.DividendRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveDividendRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 블로킹 호출자용 {@link DividendRepository}. 이벤트 루프 스레드에서 호출하면 안 된다.
+ *
+ * <p>모든 호출이 자체 R2DBC 트랜잭션으로 끝나므로 호출자의 JDBC 트랜잭션에 참여하지 않는다.
+ * 저장은 호출자 트랜잭션이 롤백돼도 남는다.</p>
+ */
+@Repository
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class DividendR2dbcAdapter implements DividendRepository {
+
+    private final ReactiveDividendRepository reactiveDividendRepository;
+
+    @Override
+    public void save(Dividend dividend) {
+        reactiveDividendRepository.save(dividend).block();
+    }
+
+    @Override
+    public int saveAll(List<Dividend> dividends) {
+        return reactiveDividendRepository.saveAll(dividends).block();
+    }
+
+    @Override
+    public Optional<Dividend> findLatest(String etfSymbol) {
+        return reactiveDividendRepository.findLatest(etfSymbol).blockOptional();
+    }
+
+    @Override
+    public List<Dividend> findByETFSymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        return reactiveDividendRepository.findByETFSymbolAndDateRange(etfSymbol, startDate, endDate).collectList().block();
+    }
+
+    @Override
+    public List<Dividend> findByPaymentDate(LocalDate paymentDate) {
+        return reactiveDividendRepository.findByPaymentDate(paymentDate).collectList().block();
+    }
+}
@@ -0,0 +1,202 @@
+package com.etf.risk.adapter.persistence.r2dbc.repository;
+
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.model.etf.ROC;
+import com.etf.risk.domain.port.out.reactive.ReactiveDividendRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * dividend_history 를 R2DBC 로 읽고 쓴다. 저장 시 dividend_calendar 의 같은 달 추정 일정도 확정한다.
+ */
+@Repository
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class ReactiveDividendR2dbcRepository implements ReactiveDividendRepository {
+
+    private static final String COLUMNS =
+        "id, etf_symbol, ex_dividend_date, payment_date, amount_per_share, roc_percentage, created_at";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<Void> save(Dividend dividend) {
+        Mono<Long> insert = databaseClient.sql("""
+                INSERT INTO dividend_history (etf_symbol, ex_dividend_date, payment_date, amount_per_share, roc_percentage, created_at)
+                VALUES (:etfSymbol, :exDividendDate, :paymentDate, :amountPerShare, :rocPercentage, :createdAt)
+                ON CONFLICT (etf_symbol, payment_date) DO NOTHING
+                """)
+            .bind("etfSymbol", dividend.etfSymbol())
+            .bind("exDividendDate", dividend.exDividendDate())
+            .bind("paymentDate", dividend.paymentDate())
+            .bind("amountPerShare", dividend.amountPerShare().getAmount())
+            .bind("rocPercentage", Parameter.fromOrEmpty(
+                dividend.rocPercentage() != null ? dividend.rocPercentage().value() : null, BigDecimal.class))
+            .bind("createdAt", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated();
+
+        // 같은 달의 추정 일정을 실제 배당일로 확정 (DividendCalendarMapper.upsertConfirmed 와 같은 SQL)
+        Mono<Long> confirm = databaseClient.sql("""
+                WITH removed AS (
+                    DELETE FROM dividend_calendar
+                    WHERE etf_symbol = :etfSymbol
+                      AND NOT confirmed
+                      AND payment_date <> :paymentDate
+                      AND payment_date >= date_trunc('month', CAST(:paymentDate AS DATE))::DATE
+                      AND payment_date < (date_trunc('month', CAST(:paymentDate AS DATE)) + INTERVAL '1 month')::DATE
+                )
+                INSERT INTO dividend_calendar (etf_symbol, payment_date, ex_dividend_date, confirmed, updated_at)
+                VALUES (:etfSymbol, :paymentDate, :exDividendDate, TRUE, now())
+                ON CONFLICT (etf_symbol, payment_date) DO UPDATE
+                    SET ex_dividend_date = EXCLUDED.ex_dividend_date,
+                        confirmed        = TRUE,
+                        updated_at       = EXCLUDED.updated_at
+                """)
+            .bind("etfSymbol", dividend.etfSymbol())
+            .bind("paymentDate", dividend.paymentDate())
+            .bind("exDividendDate", dividend.exDividendDate())
+            .fetch()
+            .rowsUpdated();
+
+        return insert.then(confirm)
+            .as(transactionalOperator::transactional)
+            .then();
+    }
+
+    @Override
+    public Mono<Integer> saveAll(List<Dividend> dividends) {
+        // 같은 지급일이 두 번 오면 ON CONFLICT DO UPDATE 가 같은 행을 두 번 건드리게 되므로 먼저 걸러낸다
+        List<Dividend> distinct = List.copyOf(dividends.stream()
+            .collect(Collectors.toMap(
+                dividend -> dividend.etfSymbol() + '|' + dividend.paymentDate(),
+                dividend -> dividend,
+                (first, second) -> first,
+                LinkedHashMap::new))
+            .values());
+        if (distinct.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        String[] symbols = distinct.stream().map(Dividend::etfSymbol).toArray(String[]::new);
+        LocalDate[] exDividendDates = distinct.stream().map(Dividend::exDividendDate).toArray(LocalDate[]::new);
+        LocalDate[] paymentDates = distinct.stream().map(Dividend::paymentDate).toArray(LocalDate[]::new);
+        BigDecimal[] amounts = distinct.stream()
+            .map(dividend -> dividend.amountPerShare().getAmount())
+            .toArray(BigDecimal[]::new);
+        BigDecimal[] rocPercentages = distinct.stream()
+            .map(dividend -> dividend.rocPercentage() != null ? dividend.rocPercentage().value() : null)
+            .toArray(BigDecimal[]::new);
+
+        // 행마다 문장을 보내지 않고 배열 파라미터를 UNNEST 해 한 번에 넣는다
+        Mono<Long> insert = databaseClient.sql("""
+                INSERT INTO dividend_history (etf_symbol, ex_dividend_date, payment_date, amount_per_share, roc_percentage, created_at)
+                SELECT v.etf_symbol, v.ex_dividend_date, v.payment_date, v.amount_per_share, v.roc_percentage, :createdAt
+                FROM UNNEST(CAST(:etfSymbols AS VARCHAR[]), CAST(:exDividendDates AS DATE[]), CAST(:paymentDates AS DATE[]),
+                            CAST(:amounts AS NUMERIC[]), CAST(:rocPercentages AS NUMERIC[]))
+                    AS v(etf_symbol, ex_dividend_date, payment_date, amount_per_share, roc_percentage)
+                ON CONFLICT (etf_symbol, payment_date) DO NOTHING
+                """)
+            .bind("etfSymbols", symbols)
+            .bind("exDividendDates", exDividendDates)
+            .bind("paymentDates", paymentDates)
+            .bind("amounts", amounts)
+            .bind("rocPercentages", rocPercentages)
+            .bind("createdAt", LocalDateTime.now())
+            .fetch()
+            .rowsUpdated();
+
+        // DividendCalendarMapper.upsertConfirmedBatch 와 같은 SQL
+        Mono<Long> confirm = databaseClient.sql("""
+                WITH v(etf_symbol, payment_date, ex_dividend_date) AS (
+                    SELECT * FROM UNNEST(CAST(:etfSymbols AS VARCHAR[]), CAST(:paymentDates AS DATE[]),
+                                         CAST(:exDividendDates AS DATE[]))
+                ),
+                removed AS (
+                    DELETE FROM dividend_calendar c
+                    USING v
+                    WHERE c.etf_symbol = v.etf_symbol
+                      AND NOT c.confirmed
+                      AND c.payment_date >= date_trunc('month', v.payment_date)::DATE
+                      AND c.payment_date < (date_trunc('month', v.payment_date) + INTERVAL '1 month')::DATE
+                      AND NOT EXISTS (
+                          SELECT 1 FROM v keep
+                          WHERE keep.etf_symbol = c.etf_symbol
+                            AND keep.payment_date = c.payment_date
+                      )
+                )
+                INSERT INTO dividend_calendar (etf_symbol, payment_date, ex_dividend_date, confirmed, updated_at)
+                SELECT etf_symbol, payment_date, ex_dividend_date, TRUE, now()
+                FROM v
+                ON CONFLICT (etf_symbol, payment_date) DO UPDATE
+                    SET ex_dividend_date = EXCLUDED.ex_dividend_date,
+                        confirmed        = TRUE,
+                        updated_at       = EXCLUDED.updated_at
+                """)
+            .bind("etfSymbols", symbols)
+            .bind("paymentDates", paymentDates)
+            .bind("exDividendDates", exDividendDates)
+            .fetch()
+            .rowsUpdated();
+
+        return insert.flatMap(inserted -> confirm.thenReturn(inserted.intValue()))
+            .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Dividend> findLatest(String etfSymbol) {
+        return databaseClient.sql("SELECT " + COLUMNS
+                + " FROM dividend_history WHERE etf_symbol = :etfSymbol ORDER BY payment_date DESC LIMIT 1")
+            .bind("etfSymbol", etfSymbol)
+            .map(ReactiveDividendR2dbcRepository::toDomain)
+            .one();
+    }
+
+    @Override
+    public Flux<Dividend> findByETFSymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM dividend_history"
+                + " WHERE etf_symbol = :etfSymbol AND payment_date BETWEEN :startDate AND :endDate"
+                + " ORDER BY payment_date DESC")
+            .bind("etfSymbol", etfSymbol)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map(ReactiveDividendR2dbcRepository::toDomain)
+            .all();
+    }
+
+    @Override
+    public Flux<Dividend> findByPaymentDate(LocalDate paymentDate) {
+        return databaseClient.sql("SELECT " + COLUMNS
+                + " FROM dividend_history WHERE payment_date = :paymentDate ORDER BY etf_symbol")
+            .bind("paymentDate", paymentDate)
+            .map(ReactiveDividendR2dbcRepository::toDomain)
+            .all();
+    }
+
+    private static Dividend toDomain(Readable row) {
+        BigDecimal rocPercentage = row.get("roc_percentage", BigDecimal.class);
+        return Dividend.create(
+            row.get("etf_symbol", String.class),
+            row.get("ex_dividend_date", LocalDate.class),
+            row.get("payment_date", LocalDate.class),
+            Money.of(row.get("amount_per_share", BigDecimal.class)),
+            rocPercentage != null ? new ROC(rocPercentage) : null
+        );
+    }
+}
@@ -0,0 +1,351 @@
+package com.etf.risk.adapter.persistence.r2dbc.repository;
+
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.portfolio.Portfolio;
+import com.etf.risk.domain.model.portfolio.Position;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.port.out.reactive.ReactiveUserRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * users / user_portfolios 를 R2DBC 로 읽고 쓴다. SQL 과 동시성 의미는 UserMybatisAdapter 와 같다.
+ *
+ * <p>포지션 저장은 버전 비교(compare-and-set)로 하며, 충돌 시 트랜잭션 전체를 롤백하고
+ * {@link ConcurrentPortfolioUpdateException} 을 낸다. 도메인 객체(id, version)는 커밋 이후에만 갱신한다.</p>
+ *
+ * <p>{@link #save} 는 자체 R2DBC 트랜잭션으로 커밋하며 호출자의 JDBC 트랜잭션에 참여하지 않고 원장도 기록하지 않는다.
+ * 애플리케이션의 사용자 저장은 {@link UserR2dbcAdapter} 를 거쳐 JDBC 로 한다.</p>
+ */
+@Repository
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class ReactiveUserR2dbcRepository implements ReactiveUserRepository {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String USER_COLUMNS = "id, telegram_chat_id, telegram_username, created_at, updated_at";
+    private static final String PORTFOLIO_COLUMNS =
+        "id, user_id, etf_symbol, quantity, average_price, created_at, updated_at, version";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<User> save(User user) {
+        List<Runnable> onCommit = new ArrayList<>();
+
+        Mono<Long> userId = user.getId() == null ? insertUser(user) : updateUser(user);
+        return userId
+            .flatMap(id -> savePositions(id, user.getPortfolio(), onCommit).thenReturn(id))
+            .as(transactionalOperator::transactional)
+            .map(id -> {
+                user.setId(id);
+                onCommit.forEach(Runnable::run);
+                user.getPortfolio().clearRemovedPositions();
+                return user;
+            });
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id = :id")
+            .bind("id", id)
+            .map(ReactiveUserR2dbcRepository::toUserRow)
+            .one()
+            .flatMap(this::withPositions);
+    }
+
+    @Override
+    public Mono<User> findByTelegramChatId(TelegramChatId chatId) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE telegram_chat_id = :chatId")
+            .bind("chatId", chatId.value())
+            .map(ReactiveUserR2dbcRepository::toUserRow)
+            .one()
+            .flatMap(this::withPositions);
+    }
+
+    @Override
+    public Flux<User> findUsersWithETF(String etfSymbol) {
+        return toDomainUsers(databaseClient.sql("""
+                SELECT u.id, u.telegram_chat_id, u.telegram_username, u.created_at, u.updated_at
+                FROM user_portfolios up
+                         INNER JOIN users u ON u.id = up.user_id
+                WHERE up.etf_symbol = :etfSymbol
+                ORDER BY up.user_id
+                """)
+            .bind("etfSymbol", etfSymbol)
+            .map(ReactiveUserR2dbcRepository::toUserRow)
+            .all());
+    }
+
+    @Override
+    public Flux<User> findAllAfter(Long afterId, int limit) {
+        return Mono.fromRunnable(() -> validatePageSize(limit))
+            .thenMany(toDomainUsers(databaseClient.sql("SELECT " + USER_COLUMNS
+                    + " FROM users WHERE id > :afterId ORDER BY id LIMIT :pageSize")
+                .bind("afterId", cursorOf(afterId))
+                .bind("pageSize", limit)
+                .map(ReactiveUserR2dbcRepository::toUserRow)
+                .all()));
+    }
+
+    @Override
+    public Flux<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit) {
+        return Mono.fromRunnable(() -> validatePageSize(limit))
+            .thenMany(toDomainUsers(databaseClient.sql("""
+                    SELECT u.id, u.telegram_chat_id, u.telegram_username, u.created_at, u.updated_at
+                    FROM user_portfolios up
+                             INNER JOIN users u ON u.id = up.user_id
+                    WHERE up.etf_symbol = :etfSymbol
+                      AND up.user_id > :afterId
+                    ORDER BY up.user_id
+                    LIMIT :pageSize
+                    """)
+                .bind("etfSymbol", etfSymbol)
+                .bind("afterId", cursorOf(afterId))
+                .bind("pageSize", limit)
+                .map(ReactiveUserR2dbcRepository::toUserRow)
+                .all()));
+    }
+
+    @Override
+    public Mono<Boolean> existsByTelegramChatId(TelegramChatId chatId) {
+        return databaseClient.sql("SELECT EXISTS(SELECT 1 FROM users WHERE telegram_chat_id = :chatId)")
+            .bind("chatId", chatId.value())
+            .map(row -> row.get(0, Boolean.class))
+            .one();
+    }
+
+    @Override
+    public Flux<Holding> scanHoldings() {
+        return databaseClient.sql("""
+                SELECT up.user_id, u.telegram_chat_id, up.etf_symbol
+                FROM user_portfolios up
+                         INNER JOIN users u ON u.id = up.user_id
+                """)
+            .map(row -> new Holding(
+                row.get("user_id", Long.class),
+                row.get("telegram_chat_id", Long.class),
+                row.get("etf_symbol", String.class)))
+            .all();
+    }
+
+    private Mono<Long> insertUser(User user) {
+        return databaseClient.sql("""
+                INSERT INTO users (telegram_chat_id, telegram_username, created_at, updated_at)
+                VALUES (:chatId, :username, :createdAt, :updatedAt)
+                RETURNING id
+                """)
+            .bind("chatId", user.getTelegramChatId().value())
+            .bind("username", Parameter.fromOrEmpty(user.getTelegramUsername(), String.class))
+            .bind("createdAt", user.getCreatedAt())
+            .bind("updatedAt", user.getUpdatedAt())
+            .map(row -> row.get("id", Long.class))
+            .one();
+    }
+
+    private Mono<Long> updateUser(User user) {
+        return databaseClient.sql("UPDATE users SET telegram_username = :username, updated_at = :updatedAt WHERE id = :id")
+            .bind("username", Parameter.fromOrEmpty(user.getTelegramUsername(), String.class))
+            .bind("updatedAt", user.getUpdatedAt())
+            .bind("id", user.getId())
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(user.getId());
+    }
+
+    private Mono<Void> savePositions(Long userId, Portfolio portfolio, List<Runnable> onCommit) {
+        Flux<Long> deletes = Flux.fromIterable(List.copyOf(portfolio.getRemovedPositions()))
+            .concatMap(removed -> databaseClient.sql("DELETE FROM user_portfolios WHERE id = :id AND version = :version")
+                .bind("id", removed.getId())
+                .bind("version", removed.getVersion())
+                .fetch()
+                .rowsUpdated()
+                .filter(rows -> rows > 0)
+                .switchIfEmpty(Mono.error(() -> conflict(userId, removed.getSymbol()))));
+
+        // 저장 이후 바뀌지 않은 포지션은 CAS 대상에서 뺀다
+        Flux<Long> upserts = Flux.fromIterable(List.copyOf(portfolio.getPositions()))
+            .filter(position -> !position.isPersisted() || position.isDirty())
+            .concatMap(position -> position.isPersisted()
+                ? updatePosition(userId, position, onCommit)
+                : insertPosition(userId, position, onCommit));
+
+        return deletes.thenMany(upserts).then();
+    }
+
+    private Mono<Long> updatePosition(Long userId, Position position, List<Runnable> onCommit) {
+        return databaseClient.sql("""
+                UPDATE user_portfolios
+                SET quantity = :quantity,
+                    average_price = :averagePrice,
+                    updated_at = :updatedAt,
+                    version = version + 1
+                WHERE id = :id
+                  AND version = :version
+                """)
+            .bind("quantity", position.getQuantity())
+            .bind("averagePrice", position.getAveragePrice().getAmount())
+            .bind("updatedAt", LocalDateTime.now())
+            .bind("id", position.getId())
+            .bind("version", position.getVersion())
+            .fetch()
+            .rowsUpdated()
+            .filter(rows -> rows > 0)
+            .switchIfEmpty(Mono.error(() -> conflict(userId, position.getSymbol())))
+            .map(rows -> {
+                long nextVersion = position.getVersion() + 1;
+                onCommit.add(() -> position.markPersisted(position.getId(), nextVersion));
+                return rows;
+            });
+    }
+
+    private Mono<Long> insertPosition(Long userId, Position position, List<Runnable> onCommit) {
+        return databaseClient.sql("""
+                INSERT INTO user_portfolios (user_id, etf_symbol, quantity, average_price, created_at, updated_at, version)
+                VALUES (:userId, :etfSymbol, :quantity, :averagePrice, :createdAt, :updatedAt, 0)
+                RETURNING id, version
+                """)
+            .bind("userId", userId)
+            .bind("etfSymbol", position.getSymbol())
+            .bind("quantity", position.getQuantity())
+            .bind("averagePrice", position.getAveragePrice().getAmount())
+            .bind("createdAt", position.getCreatedAt())
+            .bind("updatedAt", LocalDateTime.now())
+            .map(row -> {
+                long id = row.get("id", Long.class);
+                long version = row.get("version", Long.class);
+                onCommit.add(() -> position.markPersisted(id, version));
+                return id;
+            })
+            .one()
+            .onErrorMap(DuplicateKeyException.class, e -> new ConcurrentPortfolioUpdateException(
+                "다른 요청이 먼저 같은 ETF를 추가했습니다: userId=" + userId + ", symbol=" + position.getSymbol(), e));
+    }
+
+    private Mono<User> withPositions(UserRow userRow) {
+        return selectPositions(List.of(userRow.id()))
+            .collectList()
+            .map(positions -> toDomain(userRow, positions));
+    }
+
+    // 사용자 페이지 단위 일괄 조회 (사용자별 N+1 조회 방지)
+    private Flux<User> toDomainUsers(Flux<UserRow> userRows) {
+        return userRows.collectList().flatMapMany(rows -> {
+            if (rows.isEmpty()) {
+                return Flux.empty();
+            }
+            return selectPositions(rows.stream().map(UserRow::id).toList())
+                .collect(Collectors.groupingBy(PositionRow::userId))
+                .flatMapMany(positionsByUser -> Flux.fromIterable(rows)
+                    .map(row -> toDomain(row, positionsByUser.getOrDefault(row.id(), List.of()))));
+        });
+    }
+
+    private Flux<PositionRow> selectPositions(List<Long> userIds) {
+        return databaseClient.sql("SELECT " + PORTFOLIO_COLUMNS
+                + " FROM user_portfolios WHERE user_id = ANY(:userIds) ORDER BY user_id, etf_symbol")
+            .bind("userIds", userIds.toArray(Long[]::new))
+            .map(ReactiveUserR2dbcRepository::toPositionRow)
+            .all();
+    }
+
+    private User toDomain(UserRow row, List<PositionRow> positions) {
+        return User.reconstitute(
+            row.id(),
+            new TelegramChatId(row.telegramChatId()),
+            row.telegramUsername(),
+            Portfolio.reconstitute(positions.stream()
+                .map(position -> Position.reconstitute(
+                    position.id(),
+                    position.symbol(),
+                    position.quantity(),
+                    Money.of(position.averagePrice()),
+                    position.version(),
+                    position.createdAt(),
+                    position.updatedAt()
+                ))
+                .toList()),
+            row.createdAt(),
+            row.updatedAt()
+        );
+    }
+
+    private ConcurrentPortfolioUpdateException conflict(Long userId, String symbol) {
+        return new ConcurrentPortfolioUpdateException(
+            "다른 요청이 먼저 포트폴리오를 수정했습니다: userId=" + userId + ", symbol=" + symbol);
+    }
+
+    private long cursorOf(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + limit);
+        }
+    }
+
+    private static UserRow toUserRow(Readable row) {
+        return new UserRow(
+            row.get("id", Long.class),
+            row.get("telegram_chat_id", Long.class),
+            row.get("telegram_username", String.class),
+            row.get("created_at", LocalDateTime.class),
+            row.get("updated_at", LocalDateTime.class)
+        );
+    }
+
+    private static PositionRow toPositionRow(Readable row) {
+        Long version = row.get("version", Long.class);
+        return new PositionRow(
+            row.get("id", Long.class),
+            row.get("user_id", Long.class),
+            row.get("etf_symbol", String.class),
+            row.get("quantity", Integer.class),
+            row.get("average_price", BigDecimal.class),
+            version != null ? version : 0L,
+            row.get("created_at", LocalDateTime.class),
+            row.get("updated_at", LocalDateTime.class)
+        );
+    }
+
+    private record UserRow(
+        Long id,
+        Long telegramChatId,
+        String telegramUsername,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+
+    private record PositionRow(
+        Long id,
+        Long userId,
+        String symbol,
+        int quantity,
+        BigDecimal averagePrice,
+        long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.etf.risk.adapter.persistence.r2dbc.repository;
+
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.user.TelegramChatId;
+import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.port.out.UserRepository;
+import com.etf.risk.domain.port.out.reactive.ReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 블로킹 호출자(서비스, 스케줄러, 텔레그램 핸들러)용 {@link UserRepository}.
+ *
+ * <p>조회는 R2DBC 로 하므로 대기 중인 호출자는 JDBC 커넥션을 점유하지 않고, 동시 요청 수가 커넥션 풀 크기에 묶이지 않는다.
+ * 조회는 호출자의 JDBC 트랜잭션에 참여하지 않으므로 같은 트랜잭션의 커밋 전 쓰기는 보이지 않는다.
+ * 저장은 JDBC 어댑터에 맡겨 호출자의 JDBC 트랜잭션에 참여시킨다. 포트폴리오 변경은 같은 트랜잭션에서
+ * 원장(PortfolioLedgerMybatisAdapter)에 기록되어야 하므로, R2DBC 트랜잭션으로 먼저 커밋하면 안 된다.
+ * 이벤트 루프 스레드에서 호출하면 안 된다.</p>
+ */
+@Repository
+@Profile("r2dbc")
+@Primary
+public class UserR2dbcAdapter implements UserRepository {
+
+    // 보유자 스캔 시 한 번에 요청하는 행 수
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final UserRepository jdbcUserStore;
+
+    public UserR2dbcAdapter(ReactiveUserRepository reactiveUserRepository,
+                            @Qualifier("jdbcUserStore") UserRepository jdbcUserStore) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.jdbcUserStore = jdbcUserStore;
+    }
+
+    @Override
+    public User save(User user) {
+        return jdbcUserStore.save(user);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return reactiveUserRepository.findById(id).blockOptional();
+    }
+
+    @Override
+    public Optional<User> findByTelegramChatId(TelegramChatId chatId) {
+        return reactiveUserRepository.findByTelegramChatId(chatId).blockOptional();
+    }
+
+    @Override
+    public List<User> findUsersWithETF(String etfSymbol) {
+        return reactiveUserRepository.findUsersWithETF(etfSymbol).collectList().block();
+    }
+
+    @Override
+    public List<User> findAllAfter(Long afterId, int limit) {
+        return reactiveUserRepository.findAllAfter(afterId, limit).collectList().block();
+    }
+
+    @Override
+    public List<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit) {
+        return reactiveUserRepository.findUsersWithETFAfter(etfSymbol, afterId, limit).collectList().block();
+    }
+
+    @Override
+    public boolean existsByTelegramChatId(TelegramChatId chatId) {
+        return Boolean.TRUE.equals(reactiveUserRepository.existsByTelegramChatId(chatId).block());
+    }
+
+    @Override
+    public void scanHoldings(Consumer<Holding> consumer) {
+        // 소비자는 호출 스레드에서 실행하고, 요청량(backpressure)으로 메모리 사용을 제한한다
+        reactiveUserRepository.scanHoldings().toIterable(SCAN_BATCH_SIZE).forEach(consumer);
+    }
+}
@@ -0,0 +1,211 @@
+package com.etf.risk.adapter.persistence.r2dbc;
+
+import com.etf.risk.adapter.persistence.config.DataSourceRoutingProperties;
+import com.etf.risk.adapter.persistence.converter.UserConverter;
+import com.etf.risk.adapter.persistence.mapper.UserMapper;
+import com.etf.risk.adapter.persistence.mapper.UserPortfolioMapper;
+import com.etf.risk.adapter.persistence.r2dbc.repository.ReactiveUserR2dbcRepository;
+import com.etf.risk.adapter.persistence.r2dbc.repository.UserR2dbcAdapter;
+import com.etf.risk.adapter.persistence.repository.UserMybatisAdapter;
+import com.etf.risk.adapter.persistence.routing.ReadYourWritesTracker;
+import com.etf.risk.domain.port.out.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 텔레그램 알림 fan-out 과 같은 고동시성 조회에서 MyBatis(Hikari) 와 R2DBC 어댑터의 지연시간을 비교한다.
+ *
+ * <p>같은 {@link UserRepository#findById} 를 가상 스레드 {@value #CONCURRENCY} 개로 동시에 호출한다.
+ * 풀 크기가 결과를 좌우하지 않도록 두 풀 모두 커넥션 {@value #POOL_SIZE} 개로 맞추고,
+ * 커넥션당 처리량도 함께 출력한다.
+ * 실행: {@code LOADTEST_JDBC_URL=jdbc:postgresql://localhost:5432/etf_risk
+ * ./gradlew :infrastructure:adapter-persistence-r2dbc:loadTest}</p>
+ */
+@Tag("load")
+@EnabledIfEnvironmentVariable(named = "LOADTEST_JDBC_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("UserRepository 고동시성 지연시간 비교 (MyBatis vs R2DBC)")
+class UserRepositoryLoadTest {
+
+    private static final int CONCURRENCY = 512;
+    private static final int POOL_SIZE = 20;
+    private static final int REQUESTS = 50_000;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int SEED_USERS = 2_000;
+    // 운영 데이터와 섞이지 않도록 별도 chat_id 구간 사용
+    private static final long CHAT_ID_BASE = 9_000_000_000L;
+
+    private HikariDataSource dataSource;
+    private ConnectionPool connectionPool;
+    private JdbcTemplate jdbcTemplate;
+    private UserRepository mybatisRepository;
+    private UserRepository r2dbcRepository;
+    private long[] userIds;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String jdbcUrl = System.getenv("LOADTEST_JDBC_URL");
+        String username = System.getenv().getOrDefault("LOADTEST_DB_USERNAME", "postgres");
+        String password = System.getenv().getOrDefault("LOADTEST_DB_PASSWORD", "postgres");
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        dataSource.setMinimumIdle(POOL_SIZE);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
+        sessionFactory.setDataSource(dataSource);
+        sessionFactory.setMapperLocations(new PathMatchingResourcePatternResolver()
+            .getResources("classpath:mybatis/mapper/**/*.xml"));
+        sessionFactory.setTypeAliasesPackage("com.etf.risk.adapter.persistence.vo");
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        sessionFactory.setConfiguration(configuration);
+        SqlSessionFactory sqlSessionFactory = sessionFactory.getObject();
+        SqlSessionTemplate sqlSession = new SqlSessionTemplate(sqlSessionFactory);
+        mybatisRepository = new UserMybatisAdapter(
+            sqlSession.getMapper(UserMapper.class),
+            sqlSession.getMapper(UserPortfolioMapper.class),
+            new UserConverter(),
+            new ReadYourWritesTracker(new DataSourceRoutingProperties())
+        );
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse("r2dbc:" + jdbcUrl.substring("jdbc:".length())).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(POOL_SIZE)
+            .maxSize(POOL_SIZE)
+            .build());
+        r2dbcRepository = new UserR2dbcAdapter(new ReactiveUserR2dbcRepository(
+            DatabaseClient.create(connectionPool),
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionPool))
+        ), mybatisRepository);
+
+        seed();
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (jdbcTemplate != null) {
+            deleteSeed();
+        }
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 findById 의 p50/p99 지연시간을 측정한다")
+    void compareFindByIdLatency() throws Exception {
+        run(mybatisRepository, WARMUP_REQUESTS);
+        run(r2dbcRepository, WARMUP_REQUESTS);
+
+        long mybatisStart = System.nanoTime();
+        long[] mybatis = run(mybatisRepository, REQUESTS);
+        long mybatisElapsed = System.nanoTime() - mybatisStart;
+        long r2dbcStart = System.nanoTime();
+        long[] r2dbc = run(r2dbcRepository, REQUESTS);
+        long r2dbcElapsed = System.nanoTime() - r2dbcStart;
+
+        report("MyBatis/Hikari", mybatis, mybatisElapsed);
+        report("R2DBC", r2dbc, r2dbcElapsed);
+
+        assertThat(mybatis).hasSize(REQUESTS);
+        assertThat(r2dbc).hasSize(REQUESTS);
+    }
+
+    private long[] run(UserRepository repository, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                int offset = worker;
+                workers.add(executor.submit(() -> {
+                    for (int i = offset; i < requests; i += CONCURRENCY) {
+                        long userId = userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+                        long start = System.nanoTime();
+                        assertThat(repository.findById(userId)).isPresent();
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void report(String name, long[] sortedLatencies, long elapsedNanos) {
+        double throughput = sortedLatencies.length / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("%-16s pool=%d p50=%6.2fms p99=%7.2fms max=%7.2fms %8.0f req/s (%6.0f req/s per connection)%n",
+            name, POOL_SIZE, percentile(sortedLatencies, 0.50), percentile(sortedLatencies, 0.99),
+            sortedLatencies[sortedLatencies.length - 1] / 1_000_000.0, throughput, throughput / POOL_SIZE);
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private void seed() {
+        deleteSeed();
+        userIds = new long[SEED_USERS];
+        for (int i = 0; i < SEED_USERS; i++) {
+            Long id = jdbcTemplate.queryForObject("""
+                    INSERT INTO users (telegram_chat_id, telegram_username, created_at, updated_at)
+                    VALUES (?, ?, now(), now())
+                    RETURNING id
+                    """, Long.class, CHAT_ID_BASE + i, "load" + i);
+            userIds[i] = id;
+            jdbcTemplate.update("""
+                    INSERT INTO user_portfolios (user_id, etf_symbol, quantity, average_price, created_at, updated_at, version)
+                    VALUES (?, 'GOF', 10, 20.00, now(), now(), 0), (?, 'QQQI', 5, 50.00, now(), now(), 0)
+                    """, id, id);
+        }
+    }
+
+    private void deleteSeed() {
+        jdbcTemplate.update("DELETE FROM user_portfolios WHERE user_id IN (SELECT id FROM users WHERE telegram_chat_id >= ?)",
+            CHAT_ID_BASE);
+        jdbcTemplate.update("DELETE FROM users WHERE telegram_chat_id >= ?", CHAT_ID_BASE);
+    }
+}
@@ -0,0 +1,105 @@
+package com.etf.risk.adapter.persistence.config;
+
+import com.etf.risk.adapter.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary/replica 라우팅 DataSource 를 구성한다.
+ *
+ * <p>primary 는 spring.datasource(.hikari) 설정을 그대로 사용하므로 기존 설정과 호환된다.</p>
+ */
+@Configuration
+@Profile("!memory")
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties routingProperties,
+                                                             Environment environment) {
+        List<DataSourceRoutingProperties.ReplicaConfig> replicaConfigs = routingProperties.getReplicas();
+        if (replicaConfigs.isEmpty()) {
+            throw new IllegalStateException("datasource.routing.replicas 가 비어 있습니다");
+        }
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createReplica(name, replicaConfigs.get(i), dataSourceProperties));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary,
+            replicas,
+            routingProperties.getValidationTimeoutSeconds(),
+            routingProperties.getMaxReplicationLag()
+        );
+        routing.checkHealth();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createReplica(String name,
+                                           DataSourceRoutingProperties.ReplicaConfig config,
+                                           DataSourceProperties primaryProperties) {
+        if (config.getUrl() == null || config.getUrl().isBlank()) {
+            throw new IllegalStateException(name + " 의 url 이 설정되지 않았습니다");
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(name);
+        replica.setDriverClassName(primaryProperties.determineDriverClassName());
+        replica.setJdbcUrl(config.getUrl());
+        replica.setUsername(config.getUsername() != null ? config.getUsername() : primaryProperties.determineUsername());
+        replica.setPassword(config.getPassword() != null ? config.getPassword() : primaryProperties.determinePassword());
+        replica.setMaximumPoolSize(config.getMaximumPoolSize());
+        replica.setConnectionTimeout(config.getConnectionTimeoutMs());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    public static class ReplicaHealthCheck {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        public ReplicaHealthCheck(ReplicaRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:10000}")
+        public void check() {
+            routingDataSource.checkHealth();
+        }
+    }
+}
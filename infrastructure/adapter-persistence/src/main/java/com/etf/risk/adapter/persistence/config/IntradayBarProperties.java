@@ -0,0 +1,55 @@
+package com.etf.risk.adapter.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "intraday.bars")
+public class IntradayBarProperties {
+    // 메모리에 모아 두는 (종목, 분) 봉의 최대 수. 저장이 계속 실패해도 메모리가 늘지 않도록 넘치면 시세를 버린다
+    private int maxOpenBars = 10_000;
+    // multi-row upsert 한 번에 담는 최대 봉 수
+    private int batchSize = 500;
+    private long flushIntervalMs = 60_000;
+    // 이 기간이 지난 봉은 매일 purge-cron 에 삭제한다
+    private int retentionDays = 30;
+    private String purgeCron = "0 15 4 * * ?";
+
+    public int getMaxOpenBars() {
+        return maxOpenBars;
+    }
+
+    public void setMaxOpenBars(int maxOpenBars) {
+        this.maxOpenBars = maxOpenBars;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public String getPurgeCron() {
+        return purgeCron;
+    }
+
+    public void setPurgeCron(String purgeCron) {
+        this.purgeCron = purgeCron;
+    }
+}
@@ -1,22 +1,35 @@
 package com.etf.risk.adapter.persistence.config;
 
+import com.etf.risk.adapter.persistence.plugin.StatementMetricsInterceptor;
 import com.etf.risk.adapter.persistence.typehandler.ETFTypeSetTypeHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import javax.sql.DataSource;
 
 @Configuration
+@Profile("!memory")
 @MapperScan(basePackages = "com.etf.risk.adapter.persistence.mapper")
 public class MyBatisConfig {
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public StatementMetricsInterceptor statementMetricsInterceptor(MeterRegistry meterRegistry,
+                                                                   StatementMetricsProperties properties) {
+        return new StatementMetricsInterceptor(meterRegistry, properties.getRepeatedStatementThreshold());
+    }
+
+    @Bean
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource,
+                                               StatementMetricsProperties metricsProperties,
+                                               StatementMetricsInterceptor metricsInterceptor) throws Exception {
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(dataSource);
 
@@ -47,6 +60,11 @@ public class MyBatisConfig {
 
         sessionFactory.setConfiguration(configuration);
 
+        // statement 별 지연시간/행 수/N+1 메트릭
+        if (metricsProperties.isEnabled()) {
+            sessionFactory.setPlugins(new Interceptor[]{metricsInterceptor});
+        }
+
         return sessionFactory.getObject();
     }
 }
@@ -0,0 +1,36 @@
+package com.etf.risk.adapter.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "notification.log")
+public class NotificationLogProperties {
+    // 쓰기 대기열 크기. 가득 차면 알림 발송을 막지 않고 기록을 버린다
+    private int queueCapacity = 10_000;
+    // multi-row INSERT 한 번에 담는 최대 건수
+    private int batchSize = 500;
+    private long flushIntervalMs = 1000;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+}
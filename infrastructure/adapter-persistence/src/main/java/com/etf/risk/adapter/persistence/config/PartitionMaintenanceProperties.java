@@ -0,0 +1,26 @@
+package com.etf.risk.adapter.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "partition.maintenance")
+public class PartitionMaintenanceProperties {
+    // 월 파티션을 미리 만들어 두는 기간. DEFAULT 파티션에 행이 쌓이기 전에 만들어야 한다
+    private int monthsAhead = 3;
+    private String cron = "0 5 4 * * ?";
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+}
@@ -0,0 +1,26 @@
+package com.etf.risk.adapter.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "mybatis.metrics")
+public class StatementMetricsProperties {
+    private boolean enabled = true;
+    // 한 트랜잭션에서 같은 statement 가 이 횟수를 넘으면 N+1 로 본다
+    private int repeatedStatementThreshold = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+}
@@ -0,0 +1,27 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.DividendCalendarVO;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DividendCalendarConverter {
+
+    public DividendCalendarVO toVO(DividendCalendarEntry entry) {
+        return new DividendCalendarVO(
+            entry.etfSymbol(),
+            entry.paymentDate(),
+            entry.exDividendDate(),
+            entry.confirmed()
+        );
+    }
+
+    public DividendCalendarEntry toDomain(DividendCalendarVO vo) {
+        return new DividendCalendarEntry(
+            vo.etfSymbol(),
+            vo.exDividendDate(),
+            vo.paymentDate(),
+            Boolean.TRUE.equals(vo.confirmed())
+        );
+    }
+}
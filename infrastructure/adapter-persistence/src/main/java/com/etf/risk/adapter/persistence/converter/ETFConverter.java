@@ -1,11 +1,75 @@
 package com.etf.risk.adapter.persistence.converter;
 
+import com.etf.risk.adapter.persistence.vo.RiskMetricsRollupVO;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsStatisticsVO;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsVO;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.BarInterval;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.SnapshotBar;
+import com.etf.risk.domain.model.etf.SnapshotStatistics;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 @Component
 public class ETFConverter {
 
     // ETF는 메타데이터만으로 생성할 수 없습니다.
     // ETFSnapshot, Premium, Leverage, ROC 등의 추가 데이터가 필요하므로
     // 실제 ETF 생성은 scraper adapter나 application 계층에서 수행됩니다.
+
+    /**
+     * 가격이나 NAV 가 비어 있는 행(스크래핑 일부 실패)은 스냅샷으로 만들 수 없으므로 빈 값을 돌려준다.
+     */
+    public Optional<ETFSnapshot> toSnapshot(RiskMetricsVO vo) {
+        if (vo.currentPrice() == null || vo.nav() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ETFSnapshot(
+            vo.etfSymbol(),
+            Money.of(vo.currentPrice()),
+            Money.of(vo.nav()),
+            vo.recordedDate()
+        ));
+    }
+
+    public SnapshotStatistics toStatistics(String etfSymbol, RiskMetricsStatisticsVO vo) {
+        return new SnapshotStatistics(
+            etfSymbol,
+            vo.firstRecordedDate(),
+            vo.lastRecordedDate(),
+            vo.sampleCount(),
+            money(vo.minPrice()),
+            money(vo.maxPrice()),
+            money(vo.avgPrice()),
+            vo.avgPremiumDiscount(),
+            vo.maxPremiumDiscount()
+        );
+    }
+
+    public SnapshotBar toBar(BarInterval interval, RiskMetricsRollupVO vo) {
+        return new SnapshotBar(
+            vo.etfSymbol(),
+            interval,
+            vo.bucketStart(),
+            money(vo.openPrice()),
+            money(vo.highPrice()),
+            money(vo.lowPrice()),
+            money(vo.closePrice()),
+            money(vo.openNav()),
+            money(vo.highNav()),
+            money(vo.lowNav()),
+            money(vo.closeNav()),
+            vo.avgPremiumDiscount(),
+            vo.lastLeverageRatio(),
+            vo.sampleCount()
+        );
+    }
+
+    // 집계 컬럼은 구간에 값이 하나도 없으면 NULL 이다
+    private static Money money(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
 }
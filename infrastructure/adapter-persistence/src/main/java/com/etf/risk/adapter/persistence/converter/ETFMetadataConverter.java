@@ -0,0 +1,35 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.ETFMetadataVO;
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ETFMetadataConverter {
+
+    public ETFMetadata toDomain(ETFMetadataVO vo) {
+        return new ETFMetadata(
+            vo.symbol(),
+            vo.name(),
+            vo.types(),
+            vo.paymentDayOfMonth(),
+            vo.exDividendDayOffset(),
+            vo.description()
+        );
+    }
+
+    public ETFMetadataVO toVO(ETFMetadata metadata, LocalDateTime createdAt) {
+        return new ETFMetadataVO(
+            metadata.symbol(),
+            metadata.name(),
+            metadata.types(),
+            metadata.paymentDayOfMonth(),
+            metadata.exDividendDayOffset(),
+            metadata.description(),
+            createdAt,
+            LocalDateTime.now()
+        );
+    }
+}
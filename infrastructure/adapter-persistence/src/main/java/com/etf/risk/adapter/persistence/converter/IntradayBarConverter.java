@@ -0,0 +1,40 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.IntradayBarVO;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.MinuteBar;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IntradayBarConverter {
+
+    public IntradayBarVO toVO(MinuteBar bar) {
+        return new IntradayBarVO(
+            bar.etfSymbol(),
+            bar.bucketStart(),
+            bar.openPrice().getAmount(),
+            bar.highPrice().getAmount(),
+            bar.lowPrice().getAmount(),
+            bar.closePrice().getAmount(),
+            bar.closeNav().getAmount(),
+            bar.highPremium(),
+            bar.lowPremium(),
+            bar.sampleCount()
+        );
+    }
+
+    public MinuteBar toDomain(IntradayBarVO vo) {
+        return new MinuteBar(
+            vo.etfSymbol(),
+            vo.bucketStart(),
+            Money.of(vo.openPrice()),
+            Money.of(vo.highPrice()),
+            Money.of(vo.lowPrice()),
+            Money.of(vo.closePrice()),
+            Money.of(vo.closeNav()),
+            vo.highPremium(),
+            vo.lowPremium(),
+            vo.sampleCount()
+        );
+    }
+}
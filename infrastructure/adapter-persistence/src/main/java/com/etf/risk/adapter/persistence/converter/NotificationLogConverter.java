@@ -0,0 +1,40 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.NotificationLogVO;
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+import com.etf.risk.domain.model.notification.NotificationPriority;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationLogConverter {
+
+    public NotificationLogVO toVO(NotificationLogEntry entry) {
+        return new NotificationLogVO(
+            null,
+            entry.chatId(),
+            entry.etfSymbol(),
+            entry.category().name(),
+            entry.priority().name(),
+            entry.title(),
+            entry.requestedAt(),
+            entry.sentAt(),
+            entry.delivered(),
+            entry.errorMessage()
+        );
+    }
+
+    public NotificationLogEntry toDomain(NotificationLogVO vo) {
+        return new NotificationLogEntry(
+            vo.chatId(),
+            vo.etfSymbol(),
+            NotificationCategory.valueOf(vo.category()),
+            NotificationPriority.valueOf(vo.priority()),
+            vo.title(),
+            vo.requestedAt(),
+            vo.sentAt(),
+            Boolean.TRUE.equals(vo.delivered()),
+            vo.errorMessage()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.PortfolioEventVO;
+import com.etf.risk.adapter.persistence.vo.PortfolioSnapshotPositionVO;
+import com.etf.risk.adapter.persistence.vo.PortfolioSnapshotVO;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.portfolio.LedgerPosition;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioEventType;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class PortfolioLedgerConverter {
+
+    public PortfolioEventVO toVO(PortfolioEvent event) {
+        return new PortfolioEventVO(
+            event.userId(),
+            event.sequence(),
+            event.etfSymbol(),
+            event.type().name(),
+            event.quantity(),
+            event.price() != null ? event.price().getAmount() : null,
+            event.occurredAt()
+        );
+    }
+
+    public PortfolioEvent toDomain(PortfolioEventVO vo) {
+        return new PortfolioEvent(
+            vo.userId(),
+            vo.sequence(),
+            vo.etfSymbol(),
+            PortfolioEventType.valueOf(vo.eventType()),
+            vo.quantity(),
+            vo.price() != null ? Money.of(vo.price()) : null,
+            vo.occurredAt()
+        );
+    }
+
+    public PortfolioSnapshotVO toSnapshotVO(PortfolioState state) {
+        return new PortfolioSnapshotVO(state.userId(), state.lastSequence(), state.asOf());
+    }
+
+    public List<PortfolioSnapshotPositionVO> toSnapshotPositionVOs(PortfolioState state) {
+        return state.positions().stream()
+            .map(position -> new PortfolioSnapshotPositionVO(
+                state.userId(),
+                state.lastSequence(),
+                position.etfSymbol(),
+                position.quantity(),
+                position.averagePrice().getAmount()
+            ))
+            .toList();
+    }
+
+    public PortfolioState toState(PortfolioSnapshotVO snapshot, List<PortfolioSnapshotPositionVO> positions) {
+        return new PortfolioState(
+            snapshot.userId(),
+            snapshot.lastSequence(),
+            snapshot.asOf(),
+            positions.stream()
+                .map(position -> new LedgerPosition(position.etfSymbol(), position.quantity(), Money.of(position.averagePrice())))
+                .toList()
+        );
+    }
+}
@@ -33,27 +33,23 @@ public class UserConverter {
 
     public UserPortfolioVO toPortfolioVO(Long userId, Position position) {
         return new UserPortfolioVO(
-            null,
+            position.getId(),
             userId,
             position.getSymbol(),
             position.getQuantity(),
             position.getAveragePrice().getAmount(),
+            position.getCreatedAt(),
             LocalDateTime.now(),
-            LocalDateTime.now()
+            position.getVersion()
         );
     }
 
     public User toDomain(UserVO userVO, List<UserPortfolioVO> portfolioVOs) {
-        Portfolio portfolio = Portfolio.createEmpty();
-
-        for (UserPortfolioVO portfolioVO : portfolioVOs) {
-            Position position = Position.create(
-                portfolioVO.etfSymbol(),
-                portfolioVO.quantity(),
-                Money.of(portfolioVO.averagePrice())
-            );
-            portfolio.getPositions().add(position);
-        }
+        Portfolio portfolio = Portfolio.reconstitute(
+            portfolioVOs.stream()
+                .map(this::positionFromVO)
+                .toList()
+        );
 
         return User.reconstitute(
             userVO.id(),
@@ -66,10 +62,14 @@ public class UserConverter {
     }
 
     public Position positionFromVO(UserPortfolioVO vo) {
-        return Position.create(
+        return Position.reconstitute(
+            vo.id(),
             vo.etfSymbol(),
             vo.quantity(),
-            Money.of(vo.averagePrice())
+            Money.of(vo.averagePrice()),
+            vo.version() != null ? vo.version() : 0L,
+            vo.createdAt(),
+            vo.updatedAt()
         );
     }
 }
@@ -0,0 +1,72 @@
+package com.etf.risk.adapter.persistence.maintenance;
+
+import com.etf.risk.adapter.persistence.config.PartitionMaintenanceProperties;
+import com.etf.risk.adapter.persistence.mapper.PartitionMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
+/**
+ * risk_metrics_history(001) 와 notification_log(007) 의 월 파티션을 이번 달부터 {@code monthsAhead} 개월 뒤까지 미리 만든다.
+ *
+ * <p>마이그레이션이 만든 파티션이 다 지난 뒤 행이 DEFAULT 파티션에 쌓이면 그 달의 파티션을 만들 수 없으므로,
+ * 기동 시와 매일 한 번 실행한다. 파티션 생성 함수는 이미 있는 파티션을 건너뛴다.</p>
+ */
+@Component
+@Profile("!memory")
+public class MonthlyPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyPartitionMaintainer.class);
+
+    private final PartitionMapper partitionMapper;
+    private final int monthsAhead;
+    private final Clock clock;
+
+    @Autowired
+    public MonthlyPartitionMaintainer(PartitionMapper partitionMapper, PartitionMaintenanceProperties properties) {
+        this(partitionMapper, properties, Clock.systemUTC());
+    }
+
+    MonthlyPartitionMaintainer(PartitionMapper partitionMapper, PartitionMaintenanceProperties properties, Clock clock) {
+        if (properties.getMonthsAhead() < 1) {
+            throw new IllegalArgumentException("미리 만들 파티션 개월 수는 1 이상이어야 합니다: " + properties.getMonthsAhead());
+        }
+        this.partitionMapper = partitionMapper;
+        this.monthsAhead = properties.getMonthsAhead();
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        createUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${partition.maintenance.cron:0 5 4 * * ?}")
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate month = current.plusMonths(i).atDay(1);
+            create("risk_metrics_history", month, partitionMapper::createRiskMetricsPartition);
+            create("notification_log", month, partitionMapper::createNotificationLogPartition);
+        }
+    }
+
+    private void create(String table, LocalDate month, Consumer<LocalDate> createPartition) {
+        try {
+            createPartition.accept(month);
+        } catch (RuntimeException e) {
+            // DEFAULT 파티션에 이미 그 달의 행이 있으면 실패한다. 행을 옮긴 뒤 다시 만들어야 한다
+            log.error("Failed to create {} partition for {}: {}", table, YearMonth.from(month), e.getMessage(), e);
+        }
+    }
+}
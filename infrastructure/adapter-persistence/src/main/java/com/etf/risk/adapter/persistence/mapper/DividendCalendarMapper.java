@@ -0,0 +1,22 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import com.etf.risk.adapter.persistence.vo.DividendCalendarVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface DividendCalendarMapper {
+
+    int deleteProjectionsFrom(@Param("etfSymbol") String etfSymbol, @Param("fromDate") LocalDate fromDate);
+
+    int insertProjections(@Param("entries") List<DividendCalendarVO> entries);
+
+    void upsertConfirmed(DividendCalendarVO entry);
+
+    int upsertConfirmedBatch(@Param("entries") List<DividendCalendarVO> entries);
+
+    List<DividendCalendarVO> selectUpcoming(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+}
@@ -13,6 +13,8 @@ public interface DividendMapper {
 
     void insertDividend(DividendVO dividend);
 
+    int insertDividends(@Param("dividends") List<DividendVO> dividends);
+
     Optional<DividendVO> selectLatestBySymbol(@Param("etfSymbol") String etfSymbol);
 
     List<DividendVO> selectBySymbolAndDateRange(
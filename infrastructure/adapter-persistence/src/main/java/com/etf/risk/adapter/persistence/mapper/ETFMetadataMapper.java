@@ -4,6 +4,7 @@ import com.etf.risk.adapter.persistence.vo.ETFMetadataVO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -11,6 +12,13 @@ public interface ETFMetadataMapper {
 
     Optional<ETFMetadataVO> selectBySymbol(@Param("symbol") String symbol);
 
+    List<ETFMetadataVO> selectAll();
+
+    /**
+     * typeBits 의 모든 비트를 가진 메타데이터. 각 비트는 SQL 상수로 펼쳐져 003 의 타입별 부분 인덱스와 일치한다.
+     */
+    List<ETFMetadataVO> selectContainingTypes(@Param("typeBits") List<Integer> typeBits);
+
     void insertMetadata(ETFMetadataVO metadata);
 
     void updateMetadata(ETFMetadataVO metadata);
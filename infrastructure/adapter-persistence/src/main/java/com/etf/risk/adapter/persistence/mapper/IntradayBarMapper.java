@@ -0,0 +1,22 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import com.etf.risk.adapter.persistence.vo.IntradayBarVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+@Mapper
+public interface IntradayBarMapper {
+
+    int upsertBatch(@Param("bars") List<IntradayBarVO> bars);
+
+    List<IntradayBarVO> selectBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    int deleteBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,22 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import com.etf.risk.adapter.persistence.vo.NotificationLogVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface NotificationLogMapper {
+
+    int insertBatch(@Param("entries") List<NotificationLogVO> entries);
+
+    Optional<NotificationLogVO> selectLastDelivered(
+        @Param("chatId") Long chatId,
+        @Param("etfSymbol") String etfSymbol,
+        @Param("category") String category,
+        @Param("since") LocalDateTime since
+    );
+}
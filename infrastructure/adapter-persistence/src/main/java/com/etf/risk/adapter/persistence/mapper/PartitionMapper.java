@@ -0,0 +1,14 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+@Mapper
+public interface PartitionMapper {
+
+    void createRiskMetricsPartition(@Param("month") LocalDate month);
+
+    void createNotificationLogPartition(@Param("month") LocalDate month);
+}
@@ -0,0 +1,37 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import com.etf.risk.adapter.persistence.vo.PortfolioEventVO;
+import com.etf.risk.adapter.persistence.vo.PortfolioSnapshotPositionVO;
+import com.etf.risk.adapter.persistence.vo.PortfolioSnapshotVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface PortfolioLedgerMapper {
+
+    /**
+     * 사용자의 다음 순번으로 이벤트를 추가하고 부여된 순번을 반환한다.
+     */
+    long insertEvent(PortfolioEventVO event);
+
+    List<PortfolioEventVO> selectEventsAfter(
+        @Param("userId") Long userId,
+        @Param("afterSequence") long afterSequence,
+        @Param("until") LocalDateTime until
+    );
+
+    int insertSnapshot(PortfolioSnapshotVO snapshot);
+
+    int insertSnapshotPositions(@Param("positions") List<PortfolioSnapshotPositionVO> positions);
+
+    Optional<PortfolioSnapshotVO> selectLatestSnapshot(@Param("userId") Long userId, @Param("until") LocalDateTime until);
+
+    List<PortfolioSnapshotPositionVO> selectSnapshotPositions(
+        @Param("userId") Long userId,
+        @Param("lastSequence") long lastSequence
+    );
+}
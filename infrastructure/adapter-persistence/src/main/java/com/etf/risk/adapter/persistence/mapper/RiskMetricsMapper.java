@@ -1,9 +1,12 @@
 package com.etf.risk.adapter.persistence.mapper;
 
+import com.etf.risk.adapter.persistence.vo.RiskMetricsStatisticsVO;
 import com.etf.risk.adapter.persistence.vo.RiskMetricsVO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -12,4 +15,26 @@ public interface RiskMetricsMapper {
     void insertRiskMetrics(RiskMetricsVO riskMetrics);
 
     Optional<RiskMetricsVO> selectLatestBySymbol(@Param("etfSymbol") String etfSymbol);
+
+    List<RiskMetricsVO> selectBySymbolAndDateRange(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    List<RiskMetricsVO> selectLatestNBySymbol(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("limit") int limit
+    );
+
+    Optional<RiskMetricsVO> selectAsOfDate(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("asOfDate") LocalDate asOfDate
+    );
+
+    RiskMetricsStatisticsVO selectStatisticsBySymbolAndDateRange(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
 }
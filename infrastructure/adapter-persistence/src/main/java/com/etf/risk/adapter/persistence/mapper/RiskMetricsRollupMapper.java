@@ -0,0 +1,49 @@
+package com.etf.risk.adapter.persistence.mapper;
+
+import com.etf.risk.adapter.persistence.vo.RiskMetricsRollupVO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface RiskMetricsRollupMapper {
+
+    // [startDate, endDate) 구간의 일별 데이터로 해당 버킷만 재계산하여 upsert
+    void upsertWeeklyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    void upsertMonthlyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    void deleteWeeklyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    void deleteMonthlyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    List<RiskMetricsRollupVO> selectWeeklyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    List<RiskMetricsRollupVO> selectMonthlyBars(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+}
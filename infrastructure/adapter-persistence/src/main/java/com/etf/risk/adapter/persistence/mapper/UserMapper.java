@@ -20,5 +20,16 @@ public interface UserMapper {
 
     List<UserVO> selectUsersHoldingETF(@Param("etfSymbol") String etfSymbol);
 
+    List<UserVO> selectUsersAfterId(
+        @Param("afterId") long afterId,
+        @Param("pageSize") int pageSize
+    );
+
+    List<UserVO> selectUsersHoldingETFAfterId(
+        @Param("etfSymbol") String etfSymbol,
+        @Param("afterId") long afterId,
+        @Param("pageSize") int pageSize
+    );
+
     boolean existsByTelegramChatId(@Param("telegramChatId") Long telegramChatId);
 }
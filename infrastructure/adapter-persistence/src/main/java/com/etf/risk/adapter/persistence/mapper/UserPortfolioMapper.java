@@ -1,8 +1,10 @@
 package com.etf.risk.adapter.persistence.mapper;
 
+import com.etf.risk.adapter.persistence.vo.HoldingVO;
 import com.etf.risk.adapter.persistence.vo.UserPortfolioVO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,16 +12,28 @@ import java.util.Optional;
 @Mapper
 public interface UserPortfolioMapper {
 
-    void insertPortfolio(UserPortfolioVO portfolio);
+    /**
+     * @return 생성된 id 와 version 을 담은 행
+     */
+    UserPortfolioVO insertPortfolio(UserPortfolioVO portfolio);
 
-    void updatePortfolio(UserPortfolioVO portfolio);
+    /**
+     * version 이 일치할 때만 갱신하고 version 을 1 증가시킨다.
+     *
+     * @return 갱신된 행 수. 0 이면 다른 요청이 먼저 수정한 것이다
+     */
+    int updatePortfolio(UserPortfolioVO portfolio);
 
-    void deletePortfolio(@Param("id") Long id);
+    int deletePortfolio(@Param("id") Long id, @Param("version") Long version);
 
     List<UserPortfolioVO> selectByUserId(@Param("userId") Long userId);
 
+    List<UserPortfolioVO> selectByUserIds(@Param("userIds") List<Long> userIds);
+
     Optional<UserPortfolioVO> selectByUserIdAndSymbol(
         @Param("userId") Long userId,
         @Param("etfSymbol") String etfSymbol
     );
+
+    void scanHoldings(ResultHandler<HoldingVO> handler);
 }
@@ -0,0 +1,179 @@
+package com.etf.risk.adapter.persistence.plugin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * statement id 별 실행 시간 히스토그램과 처리 행 수를 Micrometer 로 기록하고,
+ * 한 트랜잭션에서 같은 statement 가 임계값을 넘게 반복되면 N+1 로 집계한다.
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code mybatis.statement} (Timer, mapper/statement/command/outcome 태그)</li>
+ *   <li>{@code mybatis.statement.rows} (조회 결과 행 수 또는 변경 행 수, ResultHandler 조회는 제외)</li>
+ *   <li>{@code mybatis.statement.repeated} (N+1 로 판정된 트랜잭션 수, statement 태그)</li>
+ * </ul>
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry, int repeatedStatementThreshold) {
+        if (repeatedStatementThreshold < 1) {
+            throw new IllegalArgumentException("반복 임계값은 1 이상이어야 합니다: " + repeatedStatementThreshold);
+        }
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        boolean streamed = args.length > 3 && args[3] != null;
+
+        countInTransaction(statement.getId());
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            successTimers.computeIfAbsent(statement.getId(), id -> timer(statement, "success"))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!streamed) {
+                recordRows(statement, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            failureTimers.computeIfAbsent(statement.getId(), id -> timer(statement, "error"))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(MappedStatement statement, String outcome) {
+        return Timer.builder("mybatis.statement")
+            .description("MyBatis statement 실행 시간")
+            .tag("mapper", mapperOf(statement.getId()))
+            .tag("statement", statement.getId())
+            .tag("command", statement.getSqlCommandType().name())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private void recordRows(MappedStatement statement, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Number number) {
+            rows = number.longValue();
+        } else {
+            return;
+        }
+        rowSummaries.computeIfAbsent(statement.getId(), id -> DistributionSummary.builder("mybatis.statement.rows")
+                .description("MyBatis statement 조회/변경 행 수")
+                .tag("mapper", mapperOf(id))
+                .tag("statement", id)
+                .tag("command", statement.getSqlCommandType().name())
+                .register(meterRegistry))
+            .record(rows);
+    }
+
+    private void countInTransaction(String statementId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        StatementCounts counts = (StatementCounts) TransactionSynchronizationManager.getResource(this);
+        if (counts == null) {
+            counts = new StatementCounts(TransactionSynchronizationManager.getCurrentTransactionName());
+            TransactionSynchronizationManager.bindResource(this, counts);
+            TransactionSynchronizationManager.registerSynchronization(counts);
+        }
+        counts.increment(statementId);
+    }
+
+    private static String mapperOf(String statementId) {
+        int methodStart = statementId.lastIndexOf('.');
+        String namespace = methodStart > 0 ? statementId.substring(0, methodStart) : statementId;
+        return namespace.substring(namespace.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * 트랜잭션 하나에서 실행된 statement 별 횟수. 트랜잭션이 끝나면 N+1 여부를 판정하고 리소스를 해제한다.
+     */
+    private final class StatementCounts implements TransactionSynchronization {
+
+        private final String transactionName;
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+
+        private StatementCounts(String transactionName) {
+            this.transactionName = transactionName;
+        }
+
+        void increment(String statementId) {
+            counts.merge(statementId, 1, Integer::sum);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StatementMetricsInterceptor.this);
+
+            Map<String, Integer> repeated = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > repeatedStatementThreshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+            if (repeated.isEmpty()) {
+                return;
+            }
+
+            repeated.keySet().forEach(statementId -> Counter.builder("mybatis.statement.repeated")
+                .description("같은 statement 가 임계값을 넘게 반복된(N+1 의심) 트랜잭션 수")
+                .tag("mapper", mapperOf(statementId))
+                .tag("statement", statementId)
+                .register(meterRegistry)
+                .increment());
+
+            if (log.isDebugEnabled()) {
+                log.debug("Possible N+1 in transaction {}: repeated={}, all={}",
+                    transactionName != null ? transactionName : "<unnamed>", repeated, counts);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.converter.DividendCalendarConverter;
+import com.etf.risk.adapter.persistence.mapper.DividendCalendarMapper;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+import com.etf.risk.domain.port.out.DividendCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Repository
+@Profile("!memory")
+@Transactional
+@RequiredArgsConstructor
+public class DividendCalendarMybatisAdapter implements DividendCalendarRepository {
+
+    private final DividendCalendarMapper dividendCalendarMapper;
+    private final DividendCalendarConverter converter;
+
+    @Override
+    public void replaceProjections(String etfSymbol, YearMonth from, List<DividendCalendarEntry> projections) {
+        dividendCalendarMapper.deleteProjectionsFrom(etfSymbol, from.atDay(1));
+        if (projections.isEmpty()) {
+            return;
+        }
+        dividendCalendarMapper.insertProjections(projections.stream()
+            .map(converter::toVO)
+            .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DividendCalendarEntry> findUpcoming(LocalDate from, LocalDate to) {
+        return dividendCalendarMapper.selectUpcoming(from, to).stream()
+            .map(converter::toDomain)
+            .toList();
+    }
+}
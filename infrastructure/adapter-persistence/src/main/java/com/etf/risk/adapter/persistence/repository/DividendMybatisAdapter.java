@@ -1,28 +1,62 @@
 package com.etf.risk.adapter.persistence.repository;
 
+import com.etf.risk.adapter.persistence.converter.DividendCalendarConverter;
 import com.etf.risk.adapter.persistence.converter.DividendConverter;
+import com.etf.risk.adapter.persistence.mapper.DividendCalendarMapper;
 import com.etf.risk.adapter.persistence.mapper.DividendMapper;
 import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
 import com.etf.risk.domain.port.out.DividendRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
+@Profile("!memory & !r2dbc")
 @Transactional
 @RequiredArgsConstructor
 public class DividendMybatisAdapter implements DividendRepository {
 
     private final DividendMapper dividendMapper;
+    private final DividendCalendarMapper dividendCalendarMapper;
     private final DividendConverter converter;
+    private final DividendCalendarConverter calendarConverter;
 
     @Override
     public void save(Dividend dividend) {
         dividendMapper.insertDividend(converter.toVO(dividend));
+        // 같은 달의 추정 일정을 실제 배당일로 확정
+        dividendCalendarMapper.upsertConfirmed(calendarConverter.toVO(DividendCalendarEntry.confirmed(dividend)));
+    }
+
+    @Override
+    public int saveAll(List<Dividend> dividends) {
+        // 같은 지급일이 두 번 오면 VALUES 안에서 ON CONFLICT DO UPDATE 가 같은 행을 두 번 건드리게 되므로 먼저 걸러낸다
+        List<Dividend> distinct = dividends.stream()
+            .collect(Collectors.toMap(
+                dividend -> dividend.etfSymbol() + '|' + dividend.paymentDate(),
+                dividend -> dividend,
+                (first, second) -> first,
+                LinkedHashMap::new))
+            .values().stream()
+            .toList();
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = dividendMapper.insertDividends(distinct.stream().map(converter::toVO).toList());
+        dividendCalendarMapper.upsertConfirmedBatch(distinct.stream()
+            .map(DividendCalendarEntry::confirmed)
+            .map(calendarConverter::toVO)
+            .toList());
+        return inserted;
     }
 
     @Override
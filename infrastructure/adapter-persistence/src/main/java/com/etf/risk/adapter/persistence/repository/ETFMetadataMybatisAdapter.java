@@ -0,0 +1,182 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.converter.ETFMetadataConverter;
+import com.etf.risk.adapter.persistence.mapper.ETFMetadataMapper;
+import com.etf.risk.adapter.persistence.typehandler.ETFTypeBitmask;
+import com.etf.risk.adapter.persistence.vo.ETFMetadataVO;
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.model.etf.ETFType;
+import com.etf.risk.domain.port.out.ETFMetadataRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 분기에 한 번 수준으로 바뀌는 etf_metadata 를 불변 Map 스냅샷으로 캐싱한다.
+ *
+ * <p>조회는 캐시만 읽으므로 DB 커넥션을 잡지 않도록 클래스 레벨 {@code @Transactional}을 두지 않는다.
+ * 저장 시에는 커밋 이후에 새 스냅샷으로 통째로 교체한다.
+ * 적재가 실패하면 {@value #RETRY_BACKOFF_SECONDS}초 동안은 다시 시도하지 않아 조회마다 DB 를 두드리지 않는다.</p>
+ */
+@Repository
+@Profile("!memory")
+public class ETFMetadataMybatisAdapter implements ETFMetadataRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ETFMetadataMybatisAdapter.class);
+
+    static final long RETRY_BACKOFF_SECONDS = 30;
+
+    private final ETFMetadataMapper metadataMapper;
+    private final ETFMetadataConverter converter;
+    private final Clock clock;
+
+    // 전체 재적재는 한 번에 하나만 수행한다. 조회는 이 락을 잡지 않는다
+    private final Object refreshLock = new Object();
+    private final Object swapLock = new Object();
+    private volatile Map<String, ETFMetadata> snapshot = Map.of();
+    private volatile boolean loaded = false;
+    private volatile Instant retryAt = Instant.MIN;
+
+    // 재적재가 DB 를 읽는 동안 커밋된 저장이 새 스냅샷에서 사라지지 않도록 순번과 함께 기억한다 (swapLock 보호)
+    private long writeSequence = 0;
+    private final Map<String, SequencedWrite> recentWrites = new HashMap<>();
+
+    @Autowired
+    public ETFMetadataMybatisAdapter(ETFMetadataMapper metadataMapper, ETFMetadataConverter converter) {
+        this(metadataMapper, converter, Clock.systemUTC());
+    }
+
+    ETFMetadataMybatisAdapter(ETFMetadataMapper metadataMapper, ETFMetadataConverter converter, Clock clock) {
+        this.metadataMapper = metadataMapper;
+        this.converter = converter;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void preload() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 기동은 계속하고, 대기 시간이 지난 뒤 조회 시 다시 적재를 시도한다
+            retryAt = clock.instant().plusSeconds(RETRY_BACKOFF_SECONDS);
+            log.warn("Failed to preload ETF metadata cache, retrying after {}: {}", retryAt, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<ETFMetadata> findBySymbol(String symbol) {
+        return Optional.ofNullable(currentSnapshot().get(symbol));
+    }
+
+    @Override
+    public List<ETFMetadata> findAll() {
+        return List.copyOf(currentSnapshot().values());
+    }
+
+    @Override
+    public boolean hasType(String symbol, ETFType type) {
+        ETFMetadata metadata = currentSnapshot().get(symbol);
+        return metadata != null && metadata.hasType(type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ETFMetadata> findContainingTypes(Set<ETFType> types) {
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("조회할 ETF 타입이 없습니다");
+        }
+        List<Integer> typeBits = types.stream()
+            .sorted()
+            .map(ETFTypeBitmask::bitOf)
+            .toList();
+        return metadataMapper.selectContainingTypes(typeBits).stream()
+            .map(converter::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void save(ETFMetadata metadata) {
+        Optional<ETFMetadataVO> existing = metadataMapper.selectBySymbol(metadata.symbol());
+
+        if (existing.isPresent()) {
+            metadataMapper.updateMetadata(converter.toVO(metadata, existing.get().createdAt()));
+        } else {
+            metadataMapper.insertMetadata(converter.toVO(metadata, LocalDateTime.now()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(metadata);
+                }
+            });
+        } else {
+            put(metadata);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        synchronized (refreshLock) {
+            long readFrom;
+            synchronized (swapLock) {
+                readFrom = writeSequence;
+            }
+
+            Map<String, ETFMetadata> reloaded = new HashMap<>();
+            metadataMapper.selectAll().stream()
+                .map(converter::toDomain)
+                .forEach(metadata -> reloaded.put(metadata.symbol(), metadata));
+
+            synchronized (swapLock) {
+                // 조회 시작 전에 커밋된 저장은 reloaded 에 이미 반영되어 있다
+                recentWrites.values().removeIf(write -> write.sequence() <= readFrom);
+                recentWrites.values().forEach(write -> reloaded.put(write.metadata().symbol(), write.metadata()));
+                snapshot = Map.copyOf(reloaded);
+                loaded = true;
+            }
+            log.info("ETF metadata cache loaded: {}", reloaded.keySet());
+        }
+    }
+
+    private Map<String, ETFMetadata> currentSnapshot() {
+        if (!loaded && !clock.instant().isBefore(retryAt)) {
+            synchronized (refreshLock) {
+                // 기다리는 동안 다른 스레드가 적재했거나 실패해 대기 시간이 새로 잡혔을 수 있다
+                if (!loaded && !clock.instant().isBefore(retryAt)) {
+                    preload();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private void put(ETFMetadata metadata) {
+        synchronized (swapLock) {
+            recentWrites.put(metadata.symbol(), new SequencedWrite(++writeSequence, metadata));
+            Map<String, ETFMetadata> next = new HashMap<>(snapshot);
+            next.put(metadata.symbol(), metadata);
+            snapshot = Map.copyOf(next);
+        }
+    }
+
+    private record SequencedWrite(long sequence, ETFMetadata metadata) {
+    }
+}
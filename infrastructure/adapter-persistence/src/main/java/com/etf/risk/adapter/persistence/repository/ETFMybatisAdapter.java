@@ -3,25 +3,35 @@ package com.etf.risk.adapter.persistence.repository;
 import com.etf.risk.adapter.persistence.converter.ETFConverter;
 import com.etf.risk.adapter.persistence.mapper.ETFMetadataMapper;
 import com.etf.risk.adapter.persistence.mapper.RiskMetricsMapper;
+import com.etf.risk.adapter.persistence.mapper.RiskMetricsRollupMapper;
 import com.etf.risk.adapter.persistence.vo.RiskMetricsVO;
+import com.etf.risk.domain.model.etf.BarInterval;
 import com.etf.risk.domain.model.etf.ETF;
 import com.etf.risk.domain.model.etf.ETFSnapshot;
 import com.etf.risk.domain.port.out.ETFDataPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
+@Qualifier("snapshotStore")
+@Profile("!memory")
 @Transactional
 @RequiredArgsConstructor
 public class ETFMybatisAdapter implements ETFDataPort {
 
     private final ETFMetadataMapper metadataMapper;
     private final RiskMetricsMapper riskMetricsMapper;
+    private final RiskMetricsRollupMapper rollupMapper;
     private final ETFConverter converter;
 
     @Override
@@ -36,6 +46,11 @@ public class ETFMybatisAdapter implements ETFDataPort {
         throw new UnsupportedOperationException("fetchLatestSnapshot should be implemented by scraper adapter");
     }
 
+    @Override
+    public Map<String, ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols) {
+        throw new UnsupportedOperationException("fetchLatestSnapshots should be implemented by scraper adapter");
+    }
+
     @Override
     public void saveSnapshot(ETFSnapshot snapshot) {
         // Premium/Discount 계산 (%)
@@ -59,5 +74,14 @@ public class ETFMybatisAdapter implements ETFDataPort {
         );
 
         riskMetricsMapper.insertRiskMetrics(vo);
+        refreshRollups(snapshot.symbol(), snapshot.recordedDate());
+    }
+
+    // 저장된 날짜가 속한 주/월 버킷만 일별 데이터로 재계산 (같은 날 재저장 시에도 중복 집계 없음)
+    private void refreshRollups(String symbol, LocalDate recordedDate) {
+        rollupMapper.upsertWeeklyBars(symbol,
+            BarInterval.WEEKLY.bucketStart(recordedDate), BarInterval.WEEKLY.nextBucketStart(recordedDate));
+        rollupMapper.upsertMonthlyBars(symbol,
+            BarInterval.MONTHLY.bucketStart(recordedDate), BarInterval.MONTHLY.nextBucketStart(recordedDate));
     }
 }
@@ -0,0 +1,169 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.config.IntradayBarProperties;
+import com.etf.risk.adapter.persistence.converter.IntradayBarConverter;
+import com.etf.risk.adapter.persistence.mapper.IntradayBarMapper;
+import com.etf.risk.adapter.persistence.vo.IntradayBarVO;
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import com.etf.risk.domain.model.etf.MinuteBar;
+import com.etf.risk.domain.port.out.IntradaySnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장중 시세를 메모리의 (종목, 분) 봉으로 모으고, 분이 끝난 봉만 주기적으로 multi-row upsert 로 저장한다.
+ *
+ * <p>시세를 몇 초마다 받아도 DB 쓰기는 종목당 분당 한 행이다. 진행 중인 봉 수가 상한을 넘으면 새 분의 시세를 버리고
+ * {@code intraday.bars.dropped} 를 증가시킨다. 저장이 끝난 분에 늦게 도착한 시세는 다음 flush 때 upsert 로 합쳐진다.
+ * 종료 시 진행 중인 봉까지 모두 저장한다.</p>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code intraday.bars.pending} (메모리에 모인 봉 수)</li>
+ *   <li>{@code intraday.bars.written} (저장한 봉 수)</li>
+ *   <li>{@code intraday.bars.dropped} (봉 수 상한으로 버린 시세 수)</li>
+ * </ul>
+ */
+@Repository
+@Profile("!memory")
+public class IntradaySnapshotMybatisAdapter implements IntradaySnapshotRepository, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IntradaySnapshotMybatisAdapter.class);
+
+    private final IntradayBarMapper intradayBarMapper;
+    private final IntradayBarConverter converter;
+    private final int maxOpenBars;
+    private final int batchSize;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<BarKey, MinuteBar> openBars = new ConcurrentHashMap<>();
+    private final Counter written;
+    private final Counter dropped;
+
+    @Autowired
+    public IntradaySnapshotMybatisAdapter(IntradayBarMapper intradayBarMapper,
+                                          IntradayBarConverter converter,
+                                          IntradayBarProperties properties,
+                                          MeterRegistry meterRegistry) {
+        this(intradayBarMapper, converter, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    IntradaySnapshotMybatisAdapter(IntradayBarMapper intradayBarMapper,
+                                   IntradayBarConverter converter,
+                                   IntradayBarProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   Clock clock) {
+        if (properties.getMaxOpenBars() < 1 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("장중 봉 상한과 배치 크기는 1 이상이어야 합니다");
+        }
+        if (properties.getRetentionDays() < 1) {
+            throw new IllegalArgumentException("장중 봉 보관 기간은 1일 이상이어야 합니다: " + properties.getRetentionDays());
+        }
+        this.intradayBarMapper = intradayBarMapper;
+        this.converter = converter;
+        this.maxOpenBars = properties.getMaxOpenBars();
+        this.batchSize = properties.getBatchSize();
+        this.retention = Duration.ofDays(properties.getRetentionDays());
+        this.clock = clock;
+        this.written = Counter.builder("intraday.bars.written")
+            .description("저장한 장중 1분 봉 수")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("intraday.bars.dropped")
+            .description("진행 중인 봉 수 상한을 넘어 버린 장중 시세 수")
+            .register(meterRegistry);
+        meterRegistry.gauge("intraday.bars.pending", openBars, Map::size);
+    }
+
+    @Override
+    public void append(IntradaySnapshot snapshot) {
+        BarKey key = new BarKey(snapshot.symbol(), MinuteBar.bucketOf(snapshot.observedAt()));
+        if (openBars.size() >= maxOpenBars && !openBars.containsKey(key)) {
+            dropped.increment();
+            log.warn("Intraday bar buffer full ({} bars), dropping sample: symbol={}, observedAt={}",
+                maxOpenBars, snapshot.symbol(), snapshot.observedAt());
+            return;
+        }
+        openBars.merge(key, MinuteBar.of(snapshot), MinuteBar::merge);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MinuteBar> findMinuteBars(String etfSymbol, Instant from, Instant to) {
+        return intradayBarMapper.selectBars(etfSymbol, from, to).stream()
+            .map(converter::toDomain)
+            .toList();
+    }
+
+    /**
+     * 현재 분 이전에 끝난 봉만 저장한다. 진행 중인 봉은 다음 flush 까지 계속 모은다.
+     */
+    @Scheduled(fixedDelayString = "${intraday.bars.flush-interval-ms:60000}")
+    public void flush() {
+        write(MinuteBar.bucketOf(clock.instant()));
+    }
+
+    @Scheduled(cron = "${intraday.bars.purge-cron:0 15 4 * * ?}")
+    public void purgeExpired() {
+        Instant cutoff = clock.instant().minus(retention);
+        try {
+            int deleted = intradayBarMapper.deleteBefore(cutoff);
+            log.info("Purged {} intraday bars older than {}", deleted, cutoff);
+        } catch (RuntimeException e) {
+            log.error("Failed to purge intraday bars older than {}", cutoff, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        write(null);
+    }
+
+    /**
+     * before 이전 분의 봉(null 이면 전부)을 꺼내 배치 크기 단위로 저장한다.
+     */
+    private void write(Instant before) {
+        List<MinuteBar> completed = new ArrayList<>();
+        for (BarKey key : openBars.keySet()) {
+            if (before == null || key.bucketStart().isBefore(before)) {
+                MinuteBar bar = openBars.remove(key);
+                if (bar != null) {
+                    completed.add(bar);
+                }
+            }
+        }
+        completed.sort(Comparator.comparing(MinuteBar::bucketStart).thenComparing(MinuteBar::etfSymbol));
+
+        for (int from = 0; from < completed.size(); from += batchSize) {
+            List<IntradayBarVO> rows = completed.subList(from, Math.min(from + batchSize, completed.size())).stream()
+                .map(converter::toVO)
+                .toList();
+            try {
+                intradayBarMapper.upsertBatch(rows);
+                written.increment(rows.size());
+            } catch (RuntimeException e) {
+                // 장중 봉은 리스크 평가에 쓰지 않는 보조 기록이므로 버리고 로그만 남긴다
+                log.error("Failed to write {} intraday bars", rows.size(), e);
+            }
+        }
+    }
+
+    private record BarKey(String etfSymbol, Instant bucketStart) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.config.NotificationLogProperties;
+import com.etf.risk.adapter.persistence.converter.NotificationLogConverter;
+import com.etf.risk.adapter.persistence.mapper.NotificationLogMapper;
+import com.etf.risk.adapter.persistence.vo.NotificationLogVO;
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+import com.etf.risk.domain.port.out.NotificationLogPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 알림 발송 기록을 메모리 대기열에 쌓아 두고 주기적으로 multi-row INSERT 로 저장한다.
+ *
+ * <p>발송 스레드는 offer 만 하므로 DB 지연이 알림 발송에 전파되지 않는다. 대기열이 가득 차면
+ * 기록을 버리고 {@code notification.log.dropped} 를 증가시킨다. 종료 시 남은 기록을 모두 저장한다.</p>
+ */
+@Repository
+@Profile("!memory")
+public class NotificationLogMybatisAdapter implements NotificationLogPort, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationLogMybatisAdapter.class);
+
+    private final NotificationLogMapper notificationLogMapper;
+    private final NotificationLogConverter converter;
+    private final int batchSize;
+    private final BlockingQueue<NotificationLogEntry> pending;
+    private final Counter dropped;
+    private final Counter written;
+
+    public NotificationLogMybatisAdapter(NotificationLogMapper notificationLogMapper,
+                                         NotificationLogConverter converter,
+                                         NotificationLogProperties properties,
+                                         MeterRegistry meterRegistry) {
+        if (properties.getQueueCapacity() < 1 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("발송 기록 대기열 크기와 배치 크기는 1 이상이어야 합니다");
+        }
+        this.notificationLogMapper = notificationLogMapper;
+        this.converter = converter;
+        this.batchSize = properties.getBatchSize();
+        this.pending = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.dropped = Counter.builder("notification.log.dropped")
+            .description("대기열이 가득 차 저장하지 못한 발송 기록 수")
+            .register(meterRegistry);
+        this.written = Counter.builder("notification.log.written")
+            .description("저장한 발송 기록 수")
+            .register(meterRegistry);
+        meterRegistry.gauge("notification.log.pending", pending, BlockingQueue::size);
+    }
+
+    @Override
+    public void append(NotificationLogEntry entry) {
+        if (!pending.offer(entry)) {
+            dropped.increment();
+            log.warn("Notification log queue full, dropping entry: chatId={}, category={}",
+                entry.chatId(), entry.category());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<NotificationLogEntry> findLastDelivered(Long chatId, String etfSymbol, NotificationCategory category,
+                                                            LocalDateTime since) {
+        // sent_at 하한이 있어야 그 이전 월 파티션이 실행 시 제외된다
+        return notificationLogMapper.selectLastDelivered(chatId, etfSymbol, category.name(), since)
+            .map(converter::toDomain);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.log.flush-interval-ms:1000}")
+    public void flush() {
+        List<NotificationLogEntry> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            List<NotificationLogVO> rows = batch.stream().map(converter::toVO).toList();
+            try {
+                notificationLogMapper.insertBatch(rows);
+                written.increment(rows.size());
+            } catch (RuntimeException e) {
+                // 기록 저장 실패는 알림 흐름에 영향을 주지 않도록 버리고 로그만 남긴다
+                log.error("Failed to write {} notification log entries", rows.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,70 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.converter.PortfolioLedgerConverter;
+import com.etf.risk.adapter.persistence.mapper.PortfolioLedgerMapper;
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
+import com.etf.risk.domain.model.portfolio.PortfolioEvent;
+import com.etf.risk.domain.model.portfolio.PortfolioState;
+import com.etf.risk.domain.port.out.PortfolioLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 이벤트는 사용자 저장과 같은 JDBC 트랜잭션에서 추가되어야 한다.
+ *
+ * <p>r2dbc 프로필에서도 사용자 쓰기는 {@link UserMybatisAdapter} 로 JDBC 트랜잭션에 참여하므로
+ * 원장 추가가 충돌해 롤백되면 사용자 저장도 함께 롤백된다.</p>
+ */
+@Repository
+@Profile("!memory")
+@Transactional
+@RequiredArgsConstructor
+public class PortfolioLedgerMybatisAdapter implements PortfolioLedgerRepository {
+
+    private final PortfolioLedgerMapper portfolioLedgerMapper;
+    private final PortfolioLedgerConverter converter;
+
+    @Override
+    public PortfolioEvent append(PortfolioEvent event) {
+        try {
+            return event.withSequence(portfolioLedgerMapper.insertEvent(converter.toVO(event)));
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrentPortfolioUpdateException(
+                "다른 요청이 먼저 포트폴리오 원장에 기록했습니다: userId=" + event.userId(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioEvent> findEventsAfter(Long userId, long afterSequence, LocalDateTime until) {
+        return portfolioLedgerMapper.selectEventsAfter(userId, afterSequence, until).stream()
+            .map(converter::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PortfolioState> findLatestSnapshot(Long userId, LocalDateTime until) {
+        return portfolioLedgerMapper.selectLatestSnapshot(userId, until)
+            .map(snapshot -> converter.toState(snapshot,
+                portfolioLedgerMapper.selectSnapshotPositions(userId, snapshot.lastSequence())));
+    }
+
+    @Override
+    public void saveSnapshot(PortfolioState snapshot) {
+        // 같은 순번의 스냅샷이 이미 있으면 내용도 같으므로 건너뛴다
+        if (portfolioLedgerMapper.insertSnapshot(converter.toSnapshotVO(snapshot)) == 0) {
+            return;
+        }
+        if (!snapshot.positions().isEmpty()) {
+            portfolioLedgerMapper.insertSnapshotPositions(converter.toSnapshotPositionVOs(snapshot));
+        }
+    }
+}
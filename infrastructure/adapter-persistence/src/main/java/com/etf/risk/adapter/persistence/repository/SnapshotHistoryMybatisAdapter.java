@@ -0,0 +1,110 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.converter.ETFConverter;
+import com.etf.risk.adapter.persistence.mapper.RiskMetricsMapper;
+import com.etf.risk.adapter.persistence.mapper.RiskMetricsRollupMapper;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsRollupVO;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsStatisticsVO;
+import com.etf.risk.domain.model.etf.BarInterval;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.SnapshotBar;
+import com.etf.risk.domain.model.etf.SnapshotStatistics;
+import com.etf.risk.domain.port.out.SnapshotHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("!memory")
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SnapshotHistoryMybatisAdapter implements SnapshotHistoryRepository {
+
+    private final RiskMetricsMapper riskMetricsMapper;
+    private final RiskMetricsRollupMapper rollupMapper;
+    private final ETFConverter converter;
+
+    @Override
+    public List<ETFSnapshot> findBySymbolAndDateRange(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        return riskMetricsMapper.selectBySymbolAndDateRange(etfSymbol, startDate, endDate).stream()
+            .flatMap(vo -> converter.toSnapshot(vo).stream())
+            .toList();
+    }
+
+    @Override
+    public List<ETFSnapshot> findLatest(String etfSymbol, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 건수는 0보다 커야 합니다: " + limit);
+        }
+        return riskMetricsMapper.selectLatestNBySymbol(etfSymbol, limit).stream()
+            .flatMap(vo -> converter.toSnapshot(vo).stream())
+            .toList();
+    }
+
+    @Override
+    public Optional<ETFSnapshot> findLatestSnapshot(String etfSymbol) {
+        return riskMetricsMapper.selectLatestBySymbol(etfSymbol)
+            .flatMap(converter::toSnapshot);
+    }
+
+    @Override
+    public Optional<ETFSnapshot> findAsOf(String etfSymbol, LocalDate date) {
+        return riskMetricsMapper.selectAsOfDate(etfSymbol, date)
+            .flatMap(converter::toSnapshot);
+    }
+
+    @Override
+    public Optional<SnapshotStatistics> summarize(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        RiskMetricsStatisticsVO vo = riskMetricsMapper.selectStatisticsBySymbolAndDateRange(etfSymbol, startDate, endDate);
+        if (vo == null || vo.sampleCount() == null || vo.sampleCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(converter.toStatistics(etfSymbol, vo));
+    }
+
+    @Override
+    public List<SnapshotBar> findBars(String etfSymbol, BarInterval interval, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        LocalDate firstBucket = interval.bucketStart(startDate);
+        List<RiskMetricsRollupVO> bars = switch (interval) {
+            case WEEKLY -> rollupMapper.selectWeeklyBars(etfSymbol, firstBucket, endDate);
+            case MONTHLY -> rollupMapper.selectMonthlyBars(etfSymbol, firstBucket, endDate);
+        };
+        return bars.stream()
+            .map(vo -> converter.toBar(interval, vo))
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void rebuildBars(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        // 일별 데이터가 삭제된 버킷도 정리되도록 구간 삭제 후 재계산
+        LocalDate weekStart = BarInterval.WEEKLY.bucketStart(startDate);
+        LocalDate weekEnd = BarInterval.WEEKLY.nextBucketStart(endDate);
+        rollupMapper.deleteWeeklyBars(etfSymbol, weekStart, weekEnd);
+        rollupMapper.upsertWeeklyBars(etfSymbol, weekStart, weekEnd);
+
+        LocalDate monthStart = BarInterval.MONTHLY.bucketStart(startDate);
+        LocalDate monthEnd = BarInterval.MONTHLY.nextBucketStart(endDate);
+        rollupMapper.deleteMonthlyBars(etfSymbol, monthStart, monthEnd);
+        rollupMapper.upsertMonthlyBars(etfSymbol, monthStart, monthEnd);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("조회 기간은 필수입니다");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다");
+        }
+    }
+}
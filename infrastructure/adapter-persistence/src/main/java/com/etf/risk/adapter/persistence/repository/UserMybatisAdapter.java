@@ -3,26 +3,49 @@ package com.etf.risk.adapter.persistence.repository;
 import com.etf.risk.adapter.persistence.converter.UserConverter;
 import com.etf.risk.adapter.persistence.mapper.UserMapper;
 import com.etf.risk.adapter.persistence.mapper.UserPortfolioMapper;
+import com.etf.risk.adapter.persistence.routing.ReadYourWritesTracker;
+import com.etf.risk.adapter.persistence.vo.HoldingVO;
 import com.etf.risk.adapter.persistence.vo.UserPortfolioVO;
 import com.etf.risk.adapter.persistence.vo.UserVO;
+import com.etf.risk.domain.exception.ConcurrentPortfolioUpdateException;
+import com.etf.risk.domain.model.portfolio.Holding;
+import com.etf.risk.domain.model.portfolio.Portfolio;
+import com.etf.risk.domain.model.portfolio.Position;
 import com.etf.risk.domain.model.user.TelegramChatId;
 import com.etf.risk.domain.model.user.User;
 import com.etf.risk.domain.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+/**
+ * r2dbc 프로필에서는 조회를 R2DBC 어댑터(@Primary)가 맡고, 이 어댑터는 그 어댑터의 쓰기 대상으로만 쓰인다.
+ * 사용자 저장이 포트폴리오 원장 기록과 같은 JDBC 트랜잭션에 참여해야 하기 때문이다.
+ */
 @Repository
+@Profile("!memory")
+@Qualifier("jdbcUserStore")
 @Transactional
 @RequiredArgsConstructor
 public class UserMybatisAdapter implements UserRepository {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserMapper userMapper;
     private final UserPortfolioMapper portfolioMapper;
     private final UserConverter converter;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Override
     public User save(User user) {
@@ -35,76 +58,158 @@ public class UserMybatisAdapter implements UserRepository {
             userMapper.updateUser(userVO);
         }
 
-        List<UserPortfolioVO> existingPortfolios = portfolioMapper.selectByUserId(user.getId());
-        List<String> currentSymbols = user.getPortfolio().getPositions().stream()
-            .map(position -> position.getSymbol())
-            .toList();
-
-        for (UserPortfolioVO existing : existingPortfolios) {
-            if (!currentSymbols.contains(existing.etfSymbol())) {
-                portfolioMapper.deletePortfolio(existing.id());
-            }
-        }
-
-        for (var position : user.getPortfolio().getPositions()) {
-            Optional<UserPortfolioVO> existing = portfolioMapper
-                .selectByUserIdAndSymbol(user.getId(), position.getSymbol());
-
-            UserPortfolioVO portfolioVO = converter.toPortfolioVO(user.getId(), position);
-
-            if (existing.isPresent()) {
-                portfolioVO = new UserPortfolioVO(
-                    existing.get().id(),
-                    user.getId(),
-                    position.getSymbol(),
-                    position.getQuantity(),
-                    position.getAveragePrice().getAmount(),
-                    existing.get().createdAt(),
-                    portfolioVO.updatedAt()
-                );
-                portfolioMapper.updatePortfolio(portfolioVO);
-            } else {
-                portfolioMapper.insertPortfolio(portfolioVO);
-            }
-        }
+        savePositions(user);
 
+        markWritten(user);
         return user;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
-        return userMapper.selectById(id)
-            .map(userVO -> {
-                List<UserPortfolioVO> portfolios = portfolioMapper.selectByUserId(id);
-                return converter.toDomain(userVO, portfolios);
-            });
+        return readYourWritesTracker.read(ReadYourWritesTracker.userKey(id), () ->
+            userMapper.selectById(id)
+                .map(userVO -> {
+                    List<UserPortfolioVO> portfolios = portfolioMapper.selectByUserId(id);
+                    return converter.toDomain(userVO, portfolios);
+                }));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findByTelegramChatId(TelegramChatId chatId) {
-        return userMapper.selectByTelegramChatId(chatId.value())
-            .map(userVO -> {
-                List<UserPortfolioVO> portfolios = portfolioMapper.selectByUserId(userVO.id());
-                return converter.toDomain(userVO, portfolios);
-            });
+        return readYourWritesTracker.read(ReadYourWritesTracker.chatKey(chatId.value()), () ->
+            userMapper.selectByTelegramChatId(chatId.value())
+                .map(userVO -> {
+                    List<UserPortfolioVO> portfolios = portfolioMapper.selectByUserId(userVO.id());
+                    return converter.toDomain(userVO, portfolios);
+                }));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<User> findUsersWithETF(String etfSymbol) {
-        return userMapper.selectUsersHoldingETF(etfSymbol).stream()
-            .map(userVO -> {
-                List<UserPortfolioVO> portfolios = portfolioMapper.selectByUserId(userVO.id());
-                return converter.toDomain(userVO, portfolios);
-            })
-            .toList();
+        return toDomainUsers(userMapper.selectUsersHoldingETF(etfSymbol));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllAfter(Long afterId, int limit) {
+        validatePageSize(limit);
+        return toDomainUsers(userMapper.selectUsersAfterId(cursorOf(afterId), limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findUsersWithETFAfter(String etfSymbol, Long afterId, int limit) {
+        validatePageSize(limit);
+        return toDomainUsers(userMapper.selectUsersHoldingETFAfterId(etfSymbol, cursorOf(afterId), limit));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByTelegramChatId(TelegramChatId chatId) {
-        return userMapper.existsByTelegramChatId(chatId.value());
+        return readYourWritesTracker.read(ReadYourWritesTracker.chatKey(chatId.value()), () ->
+            userMapper.existsByTelegramChatId(chatId.value()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void scanHoldings(Consumer<Holding> consumer) {
+        // PostgreSQL 은 트랜잭션 안(autocommit off)에서만 fetchSize 단위 커서 조회를 한다
+        portfolioMapper.scanHoldings(context -> {
+            HoldingVO vo = context.getResultObject();
+            consumer.accept(new Holding(vo.userId(), vo.telegramChatId(), vo.etfSymbol()));
+        });
+    }
+
+    private List<User> toDomainUsers(List<UserVO> userVOs) {
+        if (userVOs.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<UserPortfolioVO>> portfoliosByUser = portfolioMapper
+            .selectByUserIds(userVOs.stream().map(UserVO::id).toList())
+            .stream()
+            .collect(Collectors.groupingBy(UserPortfolioVO::userId));
+
+        return userVOs.stream()
+            .map(userVO -> converter.toDomain(userVO, portfoliosByUser.getOrDefault(userVO.id(), List.of())))
+            .toList();
+    }
+
+    private long cursorOf(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + limit);
+        }
+    }
+
+    /**
+     * 포지션을 버전 비교(compare-and-set)로 저장한다. 저장 이후 바뀌지 않은 포지션은 건드리지 않는다.
+     * 읽은 이후 다른 요청이 같은 행을 수정/삭제했거나 같은 종목을 먼저 추가했다면
+     * {@link ConcurrentPortfolioUpdateException} 을 던져 트랜잭션 전체를 롤백시킨다.
+     */
+    private void savePositions(User user) {
+        Portfolio portfolio = user.getPortfolio();
+
+        for (Position removed : portfolio.getRemovedPositions()) {
+            if (portfolioMapper.deletePortfolio(removed.getId(), removed.getVersion()) == 0) {
+                throw conflict(user, removed.getSymbol());
+            }
+        }
+        portfolio.clearRemovedPositions();
+
+        for (Position position : portfolio.getPositions()) {
+            if (position.isPersisted() && !position.isDirty()) {
+                continue;
+            }
+            UserPortfolioVO portfolioVO = converter.toPortfolioVO(user.getId(), position);
+
+            if (position.isPersisted()) {
+                if (portfolioMapper.updatePortfolio(portfolioVO) == 0) {
+                    throw conflict(user, position.getSymbol());
+                }
+                position.markPersisted(position.getId(), position.getVersion() + 1);
+                continue;
+            }
+
+            UserPortfolioVO inserted;
+            try {
+                inserted = portfolioMapper.insertPortfolio(portfolioVO);
+            } catch (DuplicateKeyException e) {
+                throw new ConcurrentPortfolioUpdateException(
+                    "다른 요청이 먼저 같은 ETF를 추가했습니다: userId=" + user.getId() + ", symbol=" + position.getSymbol(), e);
+            }
+            position.markPersisted(inserted.id(), inserted.version());
+        }
+    }
+
+    private ConcurrentPortfolioUpdateException conflict(User user, String symbol) {
+        return new ConcurrentPortfolioUpdateException(
+            "다른 요청이 먼저 포트폴리오를 수정했습니다: userId=" + user.getId() + ", symbol=" + symbol);
+    }
+
+    // 커밋 이후부터 읽기 일관성 구간을 시작해야 replica 지연을 온전히 덮는다
+    private void markWritten(User user) {
+        Long userId = user.getId();
+        Long chatId = user.getTelegramChatId().value();
+        Runnable mark = () -> {
+            readYourWritesTracker.markWritten(ReadYourWritesTracker.userKey(userId));
+            readYourWritesTracker.markWritten(ReadYourWritesTracker.chatKey(chatId));
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark.run();
+                }
+            });
+        } else {
+            mark.run();
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.etf.risk.adapter.persistence.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 primary 로 고정한다.
+ *
+ * <p>커넥션은 {@code LazyConnectionDataSourceProxy} 로 첫 SQL 실행 시점에 얻으므로,
+ * 고정은 트랜잭션 안에서 첫 조회가 일어나기 전에 걸려 있어야 효과가 있다.</p>
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReadYourWritesContext() {
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get();
+    }
+
+    public static <T> T callOnPrimary(Supplier<T> reader) {
+        boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous) {
+                PINNED.set(Boolean.TRUE);
+            } else {
+                PINNED.remove();
+            }
+        }
+    }
+}
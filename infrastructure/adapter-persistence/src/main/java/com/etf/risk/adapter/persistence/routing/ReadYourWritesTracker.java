@@ -0,0 +1,65 @@
+package com.etf.risk.adapter.persistence.routing;
+
+import com.etf.risk.adapter.persistence.config.DataSourceRoutingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 포트폴리오 변경 직후 일정 시간 동안 해당 사용자의 조회를 primary 로 보낸다.
+ *
+ * <p>복제 지연 때문에 방금 추가한 종목이 replica 에서 보이지 않는 문제를 막는다.
+ * 키는 사용자 ID 와 텔레그램 chatId 두 가지로 기록한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final DataSourceRoutingProperties properties;
+
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public void markWritten(String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        recentWrites.put(key, now + properties.getReadYourWritesWindow().toNanos());
+
+        if (recentWrites.size() > CLEANUP_THRESHOLD) {
+            recentWrites.entrySet().removeIf(entry -> now - entry.getValue() > 0);
+        }
+    }
+
+    public boolean isWithinWindow(String key) {
+        Long expiresAt = recentWrites.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt > 0) {
+            recentWrites.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public <T> T read(String key, Supplier<T> reader) {
+        if (isWithinWindow(key)) {
+            return ReadYourWritesContext.callOnPrimary(reader);
+        }
+        return reader.get();
+    }
+
+    public static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    public static String chatKey(Long chatId) {
+        return "chat:" + chatId;
+    }
+}
@@ -0,0 +1,173 @@
+package com.etf.risk.adapter.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 상태의 replica 로, 나머지는 primary 로 보낸다.
+ *
+ * <p>트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로 반드시
+ * {@code LazyConnectionDataSourceProxy} 로 감싸서 사용해야 한다.
+ * replica 는 헬스 체크를 통과하기 전까지 사용하지 않고, 커넥션 획득에 실패하면
+ * 즉시 비정상으로 표시한 뒤 primary 로 대신 연결한다.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // 수신한 WAL 을 모두 재생했으면 지연 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    private static final String REPLICATION_LAG_QUERY = """
+        SELECT CASE
+                   WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+               END
+        """;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final int validationTimeoutSeconds;
+    private final Duration maxReplicationLag;
+
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    int validationTimeoutSeconds, Duration maxReplicationLag) {
+        if (replicas.containsKey(PRIMARY)) {
+            throw new IllegalArgumentException("replica 이름으로 '" + PRIMARY + "' 를 사용할 수 없습니다");
+        }
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(this.replicas.keySet());
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxReplicationLag = maxReplicationLag;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica().orElse(PRIMARY);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy((String) key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 모든 replica 의 연결 가능 여부와 복제 지연을 확인해 라우팅 대상을 갱신한다.
+     */
+    public void checkHealth() {
+        for (String key : replicaKeys) {
+            Optional<String> problem = diagnose(replicas.get(key));
+            if (problem.isEmpty()) {
+                if (healthyReplicas.add(key)) {
+                    log.info("Replica {} is healthy, routing read-only transactions to it", key);
+                }
+            } else {
+                markUnhealthy(key, problem.get());
+            }
+        }
+    }
+
+    public Set<String> getHealthyReplicas() {
+        return Set.copyOf(healthyReplicas);
+    }
+
+    @Override
+    public void close() {
+        List<DataSource> all = new ArrayList<>(replicas.values());
+        all.add(primary);
+        for (DataSource dataSource : all) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close data source: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Optional<String> nextHealthyReplica() {
+        if (healthyReplicas.isEmpty()) {
+            return Optional.empty();
+        }
+        int size = replicaKeys.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthyReplicas.contains(key)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> diagnose(DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                return Optional.of("connection validation failed");
+            }
+            if (maxReplicationLag == null || maxReplicationLag.isZero()) {
+                return Optional.empty();
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                double lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxReplicationLag.toMillis()) {
+                    return Optional.of("replication lag " + lagSeconds + "s");
+                }
+            }
+            return Optional.empty();
+        } catch (SQLException e) {
+            return Optional.of(e.getMessage());
+        }
+    }
+
+    private void markUnhealthy(String key, String reason) {
+        if (healthyReplicas.remove(key)) {
+            log.warn("Replica {} marked unhealthy, falling back to primary: {}", key, reason);
+        }
+    }
+}
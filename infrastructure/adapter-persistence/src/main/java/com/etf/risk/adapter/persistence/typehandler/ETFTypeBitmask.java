@@ -0,0 +1,55 @@
+package com.etf.risk.adapter.persistence.typehandler;
+
+import com.etf.risk.domain.model.etf.ETFType;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@code Set<ETFType>} 을 ordinal 기반 int 비트마스크로 변환한다.
+ *
+ * <p>비트 위치가 곧 ordinal 이므로 ETFType 에 새 상수는 반드시 맨 뒤에만 추가해야 한다.
+ * 순서를 바꾸면 저장된 types_mask 값의 의미가 달라진다.</p>
+ */
+public final class ETFTypeBitmask {
+
+    private static final ETFType[] TYPES = ETFType.values();
+
+    static {
+        if (TYPES.length > Integer.SIZE - 1) {
+            throw new IllegalStateException("ETFType 개수가 int 비트마스크 범위를 초과합니다: " + TYPES.length);
+        }
+    }
+
+    private ETFTypeBitmask() {
+    }
+
+    public static int encode(Set<ETFType> types) {
+        int mask = 0;
+        if (types == null) {
+            return mask;
+        }
+        for (ETFType type : types) {
+            mask |= bitOf(type);
+        }
+        return mask;
+    }
+
+    public static EnumSet<ETFType> decode(int mask) {
+        EnumSet<ETFType> types = EnumSet.noneOf(ETFType.class);
+        int remaining = mask;
+        while (remaining != 0) {
+            int ordinal = Integer.numberOfTrailingZeros(remaining);
+            if (ordinal >= TYPES.length) {
+                throw new IllegalArgumentException("알 수 없는 ETFType 비트가 포함되어 있습니다: " + mask);
+            }
+            types.add(TYPES[ordinal]);
+            remaining &= remaining - 1;
+        }
+        return types;
+    }
+
+    public static int bitOf(ETFType type) {
+        return 1 << type.ordinal();
+    }
+}
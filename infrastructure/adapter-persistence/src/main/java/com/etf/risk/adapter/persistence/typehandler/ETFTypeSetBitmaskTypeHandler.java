@@ -0,0 +1,46 @@
+package com.etf.risk.adapter.persistence.typehandler;
+
+import com.etf.risk.domain.model.etf.ETFType;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class ETFTypeSetBitmaskTypeHandler extends BaseTypeHandler<Set<ETFType>> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Set<ETFType> parameter, JdbcType jdbcType) throws SQLException {
+        ps.setInt(i, ETFTypeBitmask.encode(parameter));
+    }
+
+    @Override
+    public Set<ETFType> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        int mask = rs.getInt(columnName);
+        return rs.wasNull() ? EnumSet.noneOf(ETFType.class) : decode(mask);
+    }
+
+    @Override
+    public Set<ETFType> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        int mask = rs.getInt(columnIndex);
+        return rs.wasNull() ? EnumSet.noneOf(ETFType.class) : decode(mask);
+    }
+
+    @Override
+    public Set<ETFType> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        int mask = cs.getInt(columnIndex);
+        return cs.wasNull() ? EnumSet.noneOf(ETFType.class) : decode(mask);
+    }
+
+    private Set<ETFType> decode(int mask) throws SQLException {
+        try {
+            return ETFTypeBitmask.decode(mask);
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("Error decoding types_mask to Set<ETFType>: " + mask, e);
+        }
+    }
+}
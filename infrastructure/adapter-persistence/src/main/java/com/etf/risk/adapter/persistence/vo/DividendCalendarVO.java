@@ -0,0 +1,11 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.time.LocalDate;
+
+public record DividendCalendarVO(
+    String etfSymbol,
+    LocalDate paymentDate,
+    LocalDate exDividendDate,
+    Boolean confirmed
+) {
+}
@@ -0,0 +1,8 @@
+package com.etf.risk.adapter.persistence.vo;
+
+public record HoldingVO(
+    Long userId,
+    Long telegramChatId,
+    String etfSymbol
+) {
+}
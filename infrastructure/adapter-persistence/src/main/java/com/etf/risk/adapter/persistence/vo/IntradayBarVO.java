@@ -0,0 +1,18 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record IntradayBarVO(
+    String etfSymbol,
+    Instant bucketStart,
+    BigDecimal openPrice,
+    BigDecimal highPrice,
+    BigDecimal lowPrice,
+    BigDecimal closePrice,
+    BigDecimal closeNav,
+    BigDecimal highPremium,
+    BigDecimal lowPremium,
+    Integer sampleCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.time.LocalDateTime;
+
+public record NotificationLogVO(
+    Long id,
+    Long chatId,
+    String etfSymbol,
+    String category,
+    String priority,
+    String title,
+    LocalDateTime requestedAt,
+    LocalDateTime sentAt,
+    Boolean delivered,
+    String errorMessage
+) {
+}
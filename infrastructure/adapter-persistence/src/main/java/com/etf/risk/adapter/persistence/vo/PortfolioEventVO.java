@@ -0,0 +1,15 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PortfolioEventVO(
+    Long userId,
+    Long sequence,
+    String etfSymbol,
+    String eventType,
+    Integer quantity,
+    BigDecimal price,
+    LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.math.BigDecimal;
+
+public record PortfolioSnapshotPositionVO(
+    Long userId,
+    Long lastSequence,
+    String etfSymbol,
+    Integer quantity,
+    BigDecimal averagePrice
+) {
+}
@@ -0,0 +1,10 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.time.LocalDateTime;
+
+public record PortfolioSnapshotVO(
+    Long userId,
+    Long lastSequence,
+    LocalDateTime asOf
+) {
+}
@@ -0,0 +1,25 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record RiskMetricsRollupVO(
+    String etfSymbol,
+    LocalDate bucketStart,
+    BigDecimal openPrice,
+    BigDecimal highPrice,
+    BigDecimal lowPrice,
+    BigDecimal closePrice,
+    BigDecimal openNav,
+    BigDecimal highNav,
+    BigDecimal lowNav,
+    BigDecimal closeNav,
+    BigDecimal avgPremiumDiscount,
+    BigDecimal lastLeverageRatio,
+    Integer sampleCount,
+    LocalDate firstRecordedDate,
+    LocalDate lastRecordedDate,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.etf.risk.adapter.persistence.vo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RiskMetricsStatisticsVO(
+    Long sampleCount,
+    LocalDate firstRecordedDate,
+    LocalDate lastRecordedDate,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    BigDecimal avgPrice,
+    BigDecimal avgPremiumDiscount,
+    BigDecimal maxPremiumDiscount
+) {
+}
@@ -10,6 +10,7 @@ public record UserPortfolioVO(
     Integer quantity,
     BigDecimal averagePrice,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    Long version
 ) {
 }
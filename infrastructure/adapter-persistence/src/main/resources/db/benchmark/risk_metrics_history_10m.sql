@@ -0,0 +1,73 @@
+-- risk_metrics_history 조회 벤치마크 (합성 데이터 1,000만 건)
+--
+-- 001_partition_risk_metrics_history.sql 적용 후 별도 벤치마크용 DB에서 실행한다.
+--   psql -d etf_risk_bench -f risk_metrics_history_10m.sql
+-- 4,000개 심볼 x 2,500일(약 7년) = 10,000,000 행
+
+\timing on
+
+DO
+$$
+DECLARE
+    month DATE := date_trunc('month', DATE '2019-01-01')::DATE;
+BEGIN
+    WHILE month <= DATE '2025-12-01' LOOP
+        PERFORM create_risk_metrics_partition(month);
+        month := (month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO risk_metrics_history (etf_symbol, recorded_date, nav, current_price, premium_discount,
+                                  leverage_ratio, nasdaq_trend, created_at)
+SELECT 'S' || lpad(s::TEXT, 4, '0'),
+       DATE '2019-01-01' + d,
+       round((20 + random() * 5)::NUMERIC, 4),
+       round((20 + random() * 6)::NUMERIC, 4),
+       round((random() * 20 - 5)::NUMERIC, 4),
+       round((20 + random() * 10)::NUMERIC, 4),
+       NULL,
+       now()
+FROM generate_series(0, 3999) AS s,
+     generate_series(0, 2499) AS d;
+
+ANALYZE risk_metrics_history;
+
+-- 심볼 + 1년 구간 (selectBySymbolAndDateRange)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, etf_symbol, recorded_date, nav, current_price, premium_discount, leverage_ratio, nasdaq_trend, created_at
+FROM risk_metrics_history
+WHERE etf_symbol = 'S1234'
+  AND recorded_date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31'
+ORDER BY recorded_date;
+
+-- 최근 N건 (selectLatestNBySymbol)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, etf_symbol, recorded_date, nav, current_price, premium_discount, leverage_ratio, nasdaq_trend, created_at
+FROM risk_metrics_history
+WHERE etf_symbol = 'S1234'
+ORDER BY recorded_date DESC
+LIMIT 30;
+
+-- 기준일 시점 조회 (selectAsOfDate)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, etf_symbol, recorded_date, nav, current_price, premium_discount, leverage_ratio, nasdaq_trend, created_at
+FROM risk_metrics_history
+WHERE etf_symbol = 'S1234'
+  AND recorded_date <= DATE '2023-06-15'
+ORDER BY recorded_date DESC
+LIMIT 1;
+
+-- 구간 집계 (selectStatisticsBySymbolAndDateRange)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*), MIN(recorded_date), MAX(recorded_date), MIN(current_price), MAX(current_price),
+       AVG(current_price), AVG(premium_discount), MAX(premium_discount)
+FROM risk_metrics_history
+WHERE etf_symbol = 'S1234'
+  AND recorded_date BETWEEN DATE '2022-01-01' AND DATE '2024-12-31';
+
+-- 전 심볼 하루치 스캔 (BRIN + 파티션 프루닝)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM risk_metrics_history
+WHERE recorded_date = DATE '2024-03-15';
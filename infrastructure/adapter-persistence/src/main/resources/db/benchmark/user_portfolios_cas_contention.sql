@@ -0,0 +1,37 @@
+-- user_portfolios compare-and-set 경합 벤치마크 (pgbench 커스텀 스크립트)
+--
+-- 준비:
+--   INSERT INTO users (id, telegram_chat_id, telegram_username, created_at, updated_at)
+--   VALUES (900000001, 900000001, 'bench', now(), now()) ON CONFLICT DO NOTHING;
+--   INSERT INTO user_portfolios (user_id, etf_symbol, quantity, average_price, created_at, updated_at, version)
+--   VALUES (900000001, 'GOF', 0, 10, now(), now(), 0) ON CONFLICT DO NOTHING;
+--
+-- 실행 (한 사용자, 한 행에 64 클라이언트 집중):
+--   pgbench -n -c 64 -j 8 -T 30 -f user_portfolios_cas_contention.sql etf_risk
+--
+-- 비교 대상은 같은 읽기-수정-쓰기를 SELECT ... FOR UPDATE 로 감싼 user_portfolios_for_update_contention.sql 이다.
+-- 검증: 실행 후 quantity = 성공한 CAS 건수(= version) 이면 유실된 갱신이 없다.
+--   SELECT quantity, version, quantity = version AS no_lost_updates
+--   FROM user_portfolios WHERE user_id = 900000001 AND etf_symbol = 'GOF';
+--
+-- 비교 절차: 두 스크립트 사이에 행을 초기화하고 같은 옵션으로 각각 실행한다.
+--   UPDATE user_portfolios SET quantity = 0, version = 0
+--   WHERE user_id = 900000001 AND etf_symbol = 'GOF';
+-- pgbench 의 tps 와 latency average 는 두 방식의 처리량/대기 시간을, 실행 후 version 증가분은
+-- 실제로 반영된 갱신 수를 보여 준다. CAS 는 (version 증가분 / 처리된 트랜잭션 수) 가 성공률이고
+-- 나머지는 애플리케이션이 재시도해야 하는 충돌이다. FOR UPDATE 는 성공률이 항상 1 이지만 대기가 길어진다.
+--
+-- CAS 가 0건이면(충돌) 해당 트랜잭션은 아무것도 바꾸지 않는다. 애플리케이션은 이 경우 재시도한다.
+
+BEGIN;
+SELECT quantity AS q, version AS v
+FROM user_portfolios
+WHERE user_id = 900000001 AND etf_symbol = 'GOF' \gset
+UPDATE user_portfolios
+SET quantity = :q + 1,
+    updated_at = now(),
+    version = version + 1
+WHERE user_id = 900000001
+  AND etf_symbol = 'GOF'
+  AND version = :v;
+COMMIT;
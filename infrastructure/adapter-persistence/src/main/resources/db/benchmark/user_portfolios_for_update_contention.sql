@@ -0,0 +1,23 @@
+-- user_portfolios 비관적 잠금(SELECT ... FOR UPDATE) 경합 벤치마크 (pgbench 커스텀 스크립트)
+--
+-- user_portfolios_cas_contention.sql 과 같은 읽기-수정-쓰기를 행 잠금으로 감싼 비교 대상이다.
+-- 준비 단계와 검증 쿼리는 CAS 스크립트와 같다.
+--
+-- 실행 (한 사용자, 한 행에 64 클라이언트 집중):
+--   pgbench -n -c 64 -j 8 -T 30 -f user_portfolios_for_update_contention.sql etf_risk
+--
+-- 잠금을 기다리므로 충돌로 버려지는 트랜잭션이 없다. 실행 후 quantity = version 이어야 한다.
+
+BEGIN;
+SELECT quantity AS q, version AS v
+FROM user_portfolios
+WHERE user_id = 900000001 AND etf_symbol = 'GOF'
+FOR UPDATE \gset
+UPDATE user_portfolios
+SET quantity = :q + 1,
+    updated_at = now(),
+    version = version + 1
+WHERE user_id = 900000001
+  AND etf_symbol = 'GOF'
+  AND version = :v;
+COMMIT;
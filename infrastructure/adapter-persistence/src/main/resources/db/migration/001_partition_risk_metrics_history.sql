@@ -0,0 +1,70 @@
+-- risk_metrics_history 월별 RANGE 파티셔닝 + recorded_date BRIN 인덱스
+--
+-- 기존 테이블을 *_legacy로 이름을 바꾼 뒤 동일 컬럼 구조의 파티션 테이블을 만들고 데이터를 옮긴다.
+-- (etf_symbol, recorded_date) UNIQUE 제약은 파티션 키를 포함하므로 insertRiskMetrics의
+-- ON CONFLICT (etf_symbol, recorded_date) 절을 그대로 사용할 수 있다.
+
+BEGIN;
+
+ALTER TABLE risk_metrics_history RENAME TO risk_metrics_history_legacy;
+
+CREATE TABLE risk_metrics_history (
+    LIKE risk_metrics_history_legacy INCLUDING DEFAULTS
+) PARTITION BY RANGE (recorded_date);
+
+-- 파티션 테이블의 PK/UNIQUE 제약에는 파티션 키가 포함되어야 한다
+ALTER TABLE risk_metrics_history
+    ADD CONSTRAINT pk_risk_metrics_history_partitioned PRIMARY KEY (id, recorded_date),
+    ADD CONSTRAINT uk_risk_metrics_history_symbol_date UNIQUE (etf_symbol, recorded_date);
+
+-- 월 단위 파티션 생성 함수 (이미 존재하면 무시)
+CREATE OR REPLACE FUNCTION create_risk_metrics_partition(target_month DATE)
+    RETURNS VOID AS
+$$
+DECLARE
+    start_date     DATE := date_trunc('month', target_month)::DATE;
+    end_date       DATE := (date_trunc('month', target_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'risk_metrics_history_' || to_char(start_date, 'YYYY_MM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF risk_metrics_history FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터 범위 ~ 향후 24개월 파티션을 미리 생성
+DO
+$$
+DECLARE
+    first_month DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(recorded_date) FROM risk_metrics_history_legacy), CURRENT_DATE))::DATE;
+    last_month  DATE := date_trunc('month', CURRENT_DATE + INTERVAL '24 months')::DATE;
+    month       DATE := first_month;
+BEGIN
+    WHILE month <= last_month LOOP
+        PERFORM create_risk_metrics_partition(month);
+        month := (month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- 범위를 벗어난 데이터 수용용. 이 파티션에 데이터가 쌓이면 해당 월 파티션을 만들 수 없으므로
+-- 이후의 월 파티션은 MonthlyPartitionMaintainer 가 기동 시와 매일 create_risk_metrics_partition으로 미리 생성한다.
+CREATE TABLE risk_metrics_history_default PARTITION OF risk_metrics_history DEFAULT;
+
+-- 일 단위로 단조 증가하며 적재되므로 BRIN이 B-Tree 대비 수백 배 작다.
+-- 심볼 단위 조회는 UNIQUE (etf_symbol, recorded_date) 인덱스가 담당한다.
+CREATE INDEX idx_risk_metrics_history_recorded_date_brin
+    ON risk_metrics_history USING BRIN (recorded_date) WITH (pages_per_range = 32);
+
+INSERT INTO risk_metrics_history
+SELECT * FROM risk_metrics_history_legacy;
+
+-- id 시퀀스의 소유권을 새 테이블로 이전 (legacy 삭제 시 시퀀스가 함께 삭제되지 않도록)
+ALTER SEQUENCE risk_metrics_history_id_seq OWNED BY risk_metrics_history.id;
+
+COMMIT;
+
+-- 검증 후 수동 삭제
+-- DROP TABLE risk_metrics_history_legacy;
@@ -0,0 +1,76 @@
+-- risk_metrics_history 주봉/월봉 롤업 테이블
+--
+-- ETFMybatisAdapter.saveSnapshot 에서 저장된 날짜가 속한 버킷만 재계산하여 upsert 한다.
+-- 1년 조회 시 일별 약 250행 대신 주봉 약 52행 / 월봉 12행만 읽는다.
+
+CREATE TABLE IF NOT EXISTS risk_metrics_weekly (
+    etf_symbol           VARCHAR(20) NOT NULL,
+    bucket_start         DATE        NOT NULL,
+    open_price           NUMERIC,
+    high_price           NUMERIC,
+    low_price            NUMERIC,
+    close_price          NUMERIC,
+    open_nav             NUMERIC,
+    high_nav             NUMERIC,
+    low_nav              NUMERIC,
+    close_nav            NUMERIC,
+    avg_premium_discount NUMERIC,
+    last_leverage_ratio  NUMERIC,
+    sample_count         INTEGER     NOT NULL,
+    first_recorded_date  DATE        NOT NULL,
+    last_recorded_date   DATE        NOT NULL,
+    updated_at           TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (etf_symbol, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS risk_metrics_monthly (
+    LIKE risk_metrics_weekly INCLUDING DEFAULTS,
+    PRIMARY KEY (etf_symbol, bucket_start)
+);
+
+-- 기존 일별 데이터로 초기 적재
+INSERT INTO risk_metrics_weekly (etf_symbol, bucket_start, open_price, high_price, low_price, close_price,
+                                 open_nav, high_nav, low_nav, close_nav, avg_premium_discount, last_leverage_ratio,
+                                 sample_count, first_recorded_date, last_recorded_date, updated_at)
+SELECT etf_symbol,
+       date_trunc('week', recorded_date)::DATE,
+       (array_agg(current_price ORDER BY recorded_date))[1],
+       MAX(current_price),
+       MIN(current_price),
+       (array_agg(current_price ORDER BY recorded_date DESC))[1],
+       (array_agg(nav ORDER BY recorded_date))[1],
+       MAX(nav),
+       MIN(nav),
+       (array_agg(nav ORDER BY recorded_date DESC))[1],
+       AVG(premium_discount),
+       (array_agg(leverage_ratio ORDER BY recorded_date DESC) FILTER (WHERE leverage_ratio IS NOT NULL))[1],
+       COUNT(*),
+       MIN(recorded_date),
+       MAX(recorded_date),
+       now()
+FROM risk_metrics_history
+GROUP BY etf_symbol, date_trunc('week', recorded_date)
+ON CONFLICT (etf_symbol, bucket_start) DO NOTHING;
+
+INSERT INTO risk_metrics_monthly (etf_symbol, bucket_start, open_price, high_price, low_price, close_price,
+                                  open_nav, high_nav, low_nav, close_nav, avg_premium_discount, last_leverage_ratio,
+                                  sample_count, first_recorded_date, last_recorded_date, updated_at)
+SELECT etf_symbol,
+       date_trunc('month', recorded_date)::DATE,
+       (array_agg(current_price ORDER BY recorded_date))[1],
+       MAX(current_price),
+       MIN(current_price),
+       (array_agg(current_price ORDER BY recorded_date DESC))[1],
+       (array_agg(nav ORDER BY recorded_date))[1],
+       MAX(nav),
+       MIN(nav),
+       (array_agg(nav ORDER BY recorded_date DESC))[1],
+       AVG(premium_discount),
+       (array_agg(leverage_ratio ORDER BY recorded_date DESC) FILTER (WHERE leverage_ratio IS NOT NULL))[1],
+       COUNT(*),
+       MIN(recorded_date),
+       MAX(recorded_date),
+       now()
+FROM risk_metrics_history
+GROUP BY etf_symbol, date_trunc('month', recorded_date)
+ON CONFLICT (etf_symbol, bucket_start) DO NOTHING;
@@ -0,0 +1,35 @@
+-- etf_metadata.types(JSONB) -> types_mask(INTEGER) 비트마스크
+--
+-- 비트 위치 = ETFType.ordinal(). 아래 배열 순서는 ETFType 선언 순서와 반드시 같아야 한다.
+-- 전환 기간 동안 애플리케이션은 두 컬럼을 모두 쓰고 types_mask 만 읽는다.
+
+ALTER TABLE etf_metadata
+    ADD COLUMN IF NOT EXISTS types_mask INTEGER NOT NULL DEFAULT 0;
+
+UPDATE etf_metadata m
+SET types_mask = COALESCE((
+    SELECT bit_or(1 << (array_position(
+        ARRAY ['INDEX', 'SECTOR', 'THEMATIC', 'BOND', 'COMMODITY', 'REIT', 'LEVERAGED',
+               'INVERSE', 'DIVIDEND', 'GLOBAL', 'SMART_BETA', 'CEF', 'COVERED_CALL'],
+        t.value) - 1))
+    FROM jsonb_array_elements_text(m.types) AS t(value)
+), 0)
+WHERE m.types IS NOT NULL;
+
+-- 타입 포함 조회용 타입별 부분 인덱스. ETFType 상수마다 하나씩 만든다.
+-- 부분 인덱스는 쿼리 조건이 인덱스 조건과 같은 상수여야 쓰이므로, selectContainingTypes 는 비트를 바인딩하지 않고
+-- (types_mask & 4096) <> 0 처럼 타입별 상수로 펼쳐 쓴다.
+DO
+$$
+DECLARE
+    type_names TEXT[] := ARRAY ['INDEX', 'SECTOR', 'THEMATIC', 'BOND', 'COMMODITY', 'REIT', 'LEVERAGED',
+                                'INVERSE', 'DIVIDEND', 'GLOBAL', 'SMART_BETA', 'CEF', 'COVERED_CALL'];
+BEGIN
+    FOR i IN 1 .. array_length(type_names, 1) LOOP
+        EXECUTE format(
+            'CREATE INDEX IF NOT EXISTS %I ON etf_metadata (symbol) WHERE (types_mask & %s) <> 0',
+            'idx_etf_metadata_type_' || lower(type_names[i]), 1 << (i - 1)
+        );
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,11 @@
+-- user_portfolios 낙관적 잠금
+--
+-- UPDATE/DELETE 는 WHERE version = :읽은버전 으로 compare-and-set 하고 version 을 1 증가시킨다.
+-- 같은 종목 동시 추가는 (user_id, etf_symbol) 유니크 제약으로 한쪽만 성공한다.
+-- 중복 행이 이미 있으면 유니크 인덱스 생성이 실패하므로 먼저 정리해야 한다.
+
+ALTER TABLE user_portfolios
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_portfolios_user_symbol
+    ON user_portfolios (user_id, etf_symbol);
@@ -0,0 +1,8 @@
+-- 종목별 보유자 keyset 스캔용 인덱스
+--
+-- WHERE etf_symbol = ? AND user_id > ? ORDER BY user_id LIMIT ? 를
+-- 정렬 없이 인덱스 범위 스캔(Index Only Scan)으로 처리한다.
+-- 운영 중 적용 시에는 트랜잭션 밖에서 CONCURRENTLY 로 생성한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_portfolios_symbol_user
+    ON user_portfolios (etf_symbol, user_id);
@@ -0,0 +1,25 @@
+-- 배당 일정 프로젝션
+--
+-- etf_metadata.payment_day_of_month / ex_dividend_day_offset 과 최근 배당 이력으로 향후 12개월의
+-- 예정 지급일을 추정해 두고(confirmed = false), dividend_history 에 실제 배당이 저장되면
+-- 같은 달의 추정 행을 지우고 확정 행(confirmed = true)으로 바꾼다.
+-- "이번 주 지급 예정" 조회는 idx_dividend_calendar_payment_date 한 번의 범위 스캔으로 끝난다.
+
+CREATE TABLE IF NOT EXISTS dividend_calendar (
+    etf_symbol       VARCHAR(20) NOT NULL,
+    payment_date     DATE        NOT NULL,
+    ex_dividend_date DATE        NOT NULL,
+    confirmed        BOOLEAN     NOT NULL DEFAULT FALSE,
+    updated_at       TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (etf_symbol, payment_date),
+    CHECK (payment_date >= ex_dividend_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dividend_calendar_payment_date
+    ON dividend_calendar (payment_date) INCLUDE (etf_symbol, ex_dividend_date, confirmed);
+
+-- 기존 배당 이력으로 확정 일정 초기 적재
+INSERT INTO dividend_calendar (etf_symbol, payment_date, ex_dividend_date, confirmed, updated_at)
+SELECT etf_symbol, payment_date, ex_dividend_date, TRUE, now()
+FROM dividend_history
+ON CONFLICT (etf_symbol, payment_date) DO NOTHING;
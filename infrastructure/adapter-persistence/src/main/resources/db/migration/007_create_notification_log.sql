@@ -0,0 +1,68 @@
+-- 알림 발송 기록 (추가 전용, sent_at 월별 RANGE 파티셔닝)
+--
+-- 애플리케이션은 INSERT 만 하며 UPDATE/DELETE 하지 않는다. 보관 기간이 지난 달은
+-- 해당 파티션을 DETACH/DROP 하여 VACUUM 부담 없이 정리한다.
+--
+-- "(chat, symbol, category) 의 마지막 알림" 조회는 idx_notification_log_last_sent 를 사용한다.
+-- DEFAULT 파티션은 어느 구간의 행이든 담을 수 있어 파티션 순서대로 정렬된 Append 를 쓸 수 없으므로,
+-- ORDER BY sent_at DESC LIMIT 1 은 남은 파티션마다 인덱스를 한 번씩 탐색해 MergeAppend 로 합친다.
+-- 그래서 조회에 sent_at 하한(중복 발송 판단 구간의 시작)을 주어 그 이전 월 파티션은 실행 시 제외시킨다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS notification_log (
+    id             BIGSERIAL,
+    chat_id        BIGINT       NOT NULL,
+    etf_symbol     VARCHAR(20),
+    category       VARCHAR(20)  NOT NULL,
+    priority       VARCHAR(20)  NOT NULL,
+    title          VARCHAR(200),
+    requested_at   TIMESTAMP    NOT NULL,
+    sent_at        TIMESTAMP    NOT NULL,
+    delivered      BOOLEAN      NOT NULL,
+    error_message  TEXT,
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+CREATE OR REPLACE FUNCTION create_notification_log_partition(target_month DATE)
+    RETURNS VOID AS
+$$
+DECLARE
+    start_date     DATE := date_trunc('month', target_month)::DATE;
+    end_date       DATE := (date_trunc('month', target_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'notification_log_' || to_char(start_date, 'YYYY_MM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF notification_log FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+-- 이번 달 ~ 향후 24개월 파티션을 미리 생성
+DO
+$$
+DECLARE
+    month      DATE := date_trunc('month', CURRENT_DATE)::DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '24 months')::DATE;
+BEGIN
+    WHILE month <= last_month LOOP
+        PERFORM create_notification_log_partition(month);
+        month := (month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- 이후의 월 파티션은 MonthlyPartitionMaintainer 가 기동 시와 매일 미리 생성한다.
+-- DEFAULT 파티션에 그 달의 행이 쌓이면 해당 월 파티션을 만들 수 없다
+CREATE TABLE IF NOT EXISTS notification_log_default PARTITION OF notification_log DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_notification_log_last_sent
+    ON notification_log (chat_id, etf_symbol, category, sent_at DESC)
+    WHERE delivered;
+
+-- 발송 지연 집계(기간 조회)용. 시간 순으로 추가되므로 BRIN 으로 충분하다
+CREATE INDEX IF NOT EXISTS idx_notification_log_sent_at_brin
+    ON notification_log USING BRIN (sent_at) WITH (pages_per_range = 32);
+
+COMMIT;
@@ -0,0 +1,72 @@
+-- 포트폴리오 원장 (이벤트 소싱)
+--
+-- user_portfolios 는 현재 상태만 덮어쓰므로, 모든 포지션 변경을 portfolio_events 에 추가 전용으로 남긴다.
+-- sequence 는 사용자별 1부터 빈틈없이 증가하며 (user_id, sequence) 기본 키가 동시 추가를 직렬화한다.
+-- 사용자별 순번이 50의 배수가 될 때마다 그때까지의 상태를 portfolio_snapshots(+positions)에 저장하므로,
+-- 현재/과거 시점 조회는 가장 가까운 스냅샷 이후의 이벤트만 재생한다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS portfolio_events (
+    user_id      BIGINT      NOT NULL,
+    sequence     BIGINT      NOT NULL,
+    etf_symbol   VARCHAR(20) NOT NULL,
+    event_type   VARCHAR(20) NOT NULL,
+    quantity     INTEGER     NOT NULL CHECK (quantity > 0),
+    price        NUMERIC,
+    occurred_at  TIMESTAMP   NOT NULL,
+    PRIMARY KEY (user_id, sequence)
+);
+
+-- 시점 조회: 사용자별 occurred_at 범위
+CREATE INDEX IF NOT EXISTS idx_portfolio_events_user_occurred_at
+    ON portfolio_events (user_id, occurred_at);
+
+-- 추가 전용: 원장 행 수정 금지
+CREATE OR REPLACE FUNCTION reject_portfolio_events_update()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    RAISE EXCEPTION 'portfolio_events is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_portfolio_events_append_only ON portfolio_events;
+CREATE TRIGGER trg_portfolio_events_append_only
+    BEFORE UPDATE ON portfolio_events
+    FOR EACH ROW EXECUTE FUNCTION reject_portfolio_events_update();
+
+CREATE TABLE IF NOT EXISTS portfolio_snapshots (
+    user_id        BIGINT    NOT NULL,
+    last_sequence  BIGINT    NOT NULL,
+    as_of          TIMESTAMP NOT NULL,
+    created_at     TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, last_sequence)
+);
+
+CREATE TABLE IF NOT EXISTS portfolio_snapshot_positions (
+    user_id        BIGINT      NOT NULL,
+    last_sequence  BIGINT      NOT NULL,
+    etf_symbol     VARCHAR(20) NOT NULL,
+    quantity       INTEGER     NOT NULL,
+    average_price  NUMERIC     NOT NULL,
+    PRIMARY KEY (user_id, last_sequence, etf_symbol),
+    FOREIGN KEY (user_id, last_sequence) REFERENCES portfolio_snapshots (user_id, last_sequence) ON DELETE CASCADE
+);
+
+-- 원장 도입 전부터 보유 중인 포지션을 OPENED 이벤트로 옮긴다. 없으면 이후 INCREASED/REDUCED/CLOSED 재생이 실패한다.
+-- 도입 전 변경 이력은 남아 있지 않으므로 현재 수량과 평균 매수가로 포지션 생성 시각에 연 것으로 기록한다.
+-- 원장이 이미 있는 사용자는 건너뛰므로 다시 실행해도 중복되지 않는다.
+INSERT INTO portfolio_events (user_id, sequence, etf_symbol, event_type, quantity, price, occurred_at)
+SELECT p.user_id,
+       ROW_NUMBER() OVER (PARTITION BY p.user_id ORDER BY p.created_at, p.etf_symbol),
+       p.etf_symbol,
+       'OPENED',
+       p.quantity,
+       p.average_price,
+       p.created_at
+FROM user_portfolios p
+WHERE p.quantity > 0
+  AND NOT EXISTS (SELECT 1 FROM portfolio_events e WHERE e.user_id = p.user_id);
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- 장중 1분 봉 (IntradaySnapshotMybatisAdapter)
+--
+-- 장중 폴링 시세는 행 단위로 저장하지 않고 애플리케이션 메모리에서 (종목, 분) 봉으로 모은 뒤
+-- 분이 끝나면 multi-row upsert 로 저장한다. 같은 분이 다시 저장되면(늦게 도착한 시세, 종료 시 진행 중인 봉)
+-- 고가/저가/프리미엄 최고·최저는 넓히고 종가는 덮어쓰며 시세 수는 더한다.
+-- 정규장 + NAV 공시 구간만 폴링하므로 종목당 하루 약 500행이고, 보관 기간이 지난 봉은 매일 삭제한다.
+
+CREATE TABLE IF NOT EXISTS etf_intraday_bars (
+    etf_symbol    VARCHAR(20) NOT NULL,
+    bucket_start  TIMESTAMPTZ NOT NULL,
+    open_price    NUMERIC     NOT NULL,
+    high_price    NUMERIC     NOT NULL,
+    low_price     NUMERIC     NOT NULL,
+    close_price   NUMERIC     NOT NULL,
+    close_nav     NUMERIC     NOT NULL,
+    high_premium  NUMERIC,
+    low_premium   NUMERIC,
+    sample_count  INTEGER     NOT NULL,
+    updated_at    TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (etf_symbol, bucket_start)
+);
+
+-- 보관 기간 삭제(bucket_start 범위)용. 시간 순으로 추가되므로 BRIN 으로 충분하다
+CREATE INDEX IF NOT EXISTS idx_etf_intraday_bars_bucket_brin
+    ON etf_intraday_bars USING BRIN (bucket_start) WITH (pages_per_range = 32);
@@ -0,0 +1,92 @@
+package com.etf.risk.adapter.persistence.converter;
+
+import com.etf.risk.adapter.persistence.vo.RiskMetricsRollupVO;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsStatisticsVO;
+import com.etf.risk.adapter.persistence.vo.RiskMetricsVO;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.BarInterval;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.SnapshotBar;
+import com.etf.risk.domain.model.etf.SnapshotStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ETFConverter 테스트")
+class ETFConverterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 16);
+
+    private final ETFConverter converter = new ETFConverter();
+
+    @Test
+    @DisplayName("가격과 NAV 가 있으면 스냅샷으로 변환한다")
+    void convertsSnapshot() {
+        // Given
+        RiskMetricsVO vo = riskMetrics(new BigDecimal("11.25"), new BigDecimal("14.76"));
+
+        // When
+        Optional<ETFSnapshot> snapshot = converter.toSnapshot(vo);
+
+        // Then
+        assertThat(snapshot).hasValueSatisfying(s -> {
+            assertThat(s.nav()).isEqualTo(Money.of("11.25"));
+            assertThat(s.currentPrice()).isEqualTo(Money.of("14.76"));
+        });
+    }
+
+    @Test
+    @DisplayName("NAV 나 가격이 NULL 인 행은 스냅샷으로 만들지 않는다")
+    void skipsSnapshotWithNullColumns() {
+        // When & Then
+        assertThat(converter.toSnapshot(riskMetrics(null, new BigDecimal("14.76")))).isEmpty();
+        assertThat(converter.toSnapshot(riskMetrics(new BigDecimal("11.25"), null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 집계 컬럼이 NULL 이면 통계의 해당 값도 null 이다")
+    void convertsStatisticsWithNullAggregates() {
+        // Given
+        RiskMetricsStatisticsVO vo = new RiskMetricsStatisticsVO(
+            3L, DATE.minusDays(2), DATE, null, null, null, null, null);
+
+        // When
+        SnapshotStatistics statistics = converter.toStatistics("GOF", vo);
+
+        // Then
+        assertThat(statistics.sampleCount()).isEqualTo(3);
+        assertThat(statistics.lowestPrice()).isNull();
+        assertThat(statistics.highestPrice()).isNull();
+        assertThat(statistics.averagePrice()).isNull();
+        assertThat(statistics.hasPremiumData()).isFalse();
+    }
+
+    @Test
+    @DisplayName("NAV 가 없던 구간의 봉은 NAV 값을 null 로 둔다")
+    void convertsBarWithNullNav() {
+        // Given
+        RiskMetricsRollupVO vo = new RiskMetricsRollupVO(
+            "GOF", LocalDate.of(2026, 10, 12),
+            new BigDecimal("14.50"), new BigDecimal("14.90"), new BigDecimal("14.40"), new BigDecimal("14.76"),
+            null, null, null, null,
+            null, null, 5, LocalDate.of(2026, 10, 12), DATE, null);
+
+        // When
+        SnapshotBar bar = converter.toBar(BarInterval.WEEKLY, vo);
+
+        // Then
+        assertThat(bar.closePrice()).isEqualTo(Money.of("14.76"));
+        assertThat(bar.openNav()).isNull();
+        assertThat(bar.closeNav()).isNull();
+        assertThat(bar.averagePremium()).isNull();
+    }
+
+    private static RiskMetricsVO riskMetrics(BigDecimal nav, BigDecimal currentPrice) {
+        return new RiskMetricsVO(1L, "GOF", DATE, nav, currentPrice, null, null, null, null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.etf.risk.adapter.persistence.maintenance;
+
+import com.etf.risk.adapter.persistence.config.PartitionMaintenanceProperties;
+import com.etf.risk.adapter.persistence.mapper.PartitionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MonthlyPartitionMaintainer 테스트")
+class MonthlyPartitionMaintainerTest {
+
+    private final PartitionMaintenanceProperties properties = new PartitionMaintenanceProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-12-15T04:05:00Z"), ZoneOffset.UTC);
+    private PartitionMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(PartitionMapper.class);
+        properties.setMonthsAhead(2);
+    }
+
+    @Test
+    @DisplayName("이번 달부터 months-ahead 개월 뒤까지 두 테이블의 월 파티션을 만든다")
+    void createUpcomingPartitions_createsCurrentAndUpcomingMonths() {
+        // When
+        new MonthlyPartitionMaintainer(mapper, properties, clock).createUpcomingPartitions();
+
+        // Then: 2026-12, 2027-01, 2027-02
+        for (LocalDate month : new LocalDate[]{
+            LocalDate.of(2026, 12, 1), LocalDate.of(2027, 1, 1), LocalDate.of(2027, 2, 1)}) {
+            verify(mapper).createRiskMetricsPartition(month);
+            verify(mapper).createNotificationLogPartition(month);
+        }
+        verifyNoMoreInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("한 달의 파티션 생성이 실패해도 나머지 달과 다른 테이블은 계속 만든다")
+    void createUpcomingPartitions_continuesAfterFailure() {
+        // Given: DEFAULT 파티션에 2027-01 행이 있어 생성 실패
+        willThrow(new IllegalStateException("updated partition constraint for default partition would be violated"))
+            .given(mapper).createRiskMetricsPartition(LocalDate.of(2027, 1, 1));
+
+        // When
+        new MonthlyPartitionMaintainer(mapper, properties, clock).createUpcomingPartitions();
+
+        // Then
+        verify(mapper).createRiskMetricsPartition(LocalDate.of(2027, 2, 1));
+        verify(mapper).createNotificationLogPartition(LocalDate.of(2027, 1, 1));
+    }
+
+    @Test
+    @DisplayName("미리 만들 개월 수는 1 이상이어야 한다")
+    void constructor_rejectsNonPositiveMonthsAhead() {
+        properties.setMonthsAhead(0);
+
+        assertThatThrownBy(() -> new MonthlyPartitionMaintainer(mapper, properties, clock))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
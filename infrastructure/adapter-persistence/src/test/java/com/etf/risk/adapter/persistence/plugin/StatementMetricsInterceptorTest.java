@@ -0,0 +1,121 @@
+package com.etf.risk.adapter.persistence.plugin;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StatementMetricsInterceptor 테스트")
+class StatementMetricsInterceptorTest {
+
+    private static final String SELECT_BY_USER_ID = "com.etf.risk.adapter.persistence.mapper.UserPortfolioMapper.selectByUserId";
+
+    private final Configuration configuration = new Configuration();
+    private SimpleMeterRegistry meterRegistry;
+    private StatementMetricsInterceptor interceptor;
+    private Executor executor;
+    private Method queryMethod;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new StatementMetricsInterceptor(meterRegistry, 3);
+        executor = mock(Executor.class);
+        queryMethod = Executor.class.getMethod("query",
+            MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        given(executor.query(any(), any(), any(), any())).willReturn(List.of("a", "b"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("statement 별 실행 시간과 조회 행 수를 기록한다")
+    void recordsLatencyAndRows() throws Throwable {
+        // When
+        query(SELECT_BY_USER_ID);
+        query(SELECT_BY_USER_ID);
+
+        // Then
+        assertThat(meterRegistry.get("mybatis.statement")
+            .tag("mapper", "UserPortfolioMapper")
+            .tag("statement", SELECT_BY_USER_ID)
+            .tag("outcome", "success")
+            .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mybatis.statement.rows")
+            .tag("statement", SELECT_BY_USER_ID)
+            .summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 같은 statement 가 임계값을 넘게 반복되면 N+1 로 집계한다")
+    void detectsRepeatedStatementInTransaction() throws Throwable {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When: 임계값 3을 넘는 4회 실행
+        for (int i = 0; i < 4; i++) {
+            query(SELECT_BY_USER_ID);
+        }
+        completeTransaction();
+
+        // Then
+        assertThat(meterRegistry.get("mybatis.statement.repeated")
+            .tag("statement", SELECT_BY_USER_ID)
+            .counter().count()).isEqualTo(1);
+        assertThat(TransactionSynchronizationManager.getResource(interceptor)).isNull();
+    }
+
+    @Test
+    @DisplayName("임계값 이하로 실행되면 N+1 로 보지 않는다")
+    void ignoresStatementsWithinThreshold() throws Throwable {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            query(SELECT_BY_USER_ID);
+        }
+        completeTransaction();
+
+        // Then
+        assertThat(meterRegistry.find("mybatis.statement.repeated").counter()).isNull();
+    }
+
+    private void query(String statementId) throws Throwable {
+        SqlSource sqlSource = parameter -> null;
+        MappedStatement statement = new MappedStatement.Builder(configuration, statementId, sqlSource, SqlCommandType.SELECT)
+            .build();
+        interceptor.intercept(new Invocation(executor, queryMethod,
+            new Object[]{statement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER}));
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,159 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.converter.ETFMetadataConverter;
+import com.etf.risk.adapter.persistence.mapper.ETFMetadataMapper;
+import com.etf.risk.adapter.persistence.vo.ETFMetadataVO;
+import com.etf.risk.domain.model.etf.ETFMetadata;
+import com.etf.risk.domain.model.etf.ETFType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ETFMetadataMybatisAdapter 테스트")
+class ETFMetadataMybatisAdapterTest {
+
+    private final ETFMetadataConverter converter = new ETFMetadataConverter();
+    private ETFMetadataMapper mapper;
+    private MutableClock clock;
+    private ETFMetadataMybatisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(ETFMetadataMapper.class);
+        clock = new MutableClock(Instant.parse("2026-10-19T09:00:00Z"));
+        adapter = new ETFMetadataMybatisAdapter(mapper, converter, clock);
+    }
+
+    @Test
+    @DisplayName("재적재가 DB 를 읽는 동안 저장된 메타데이터는 새 스냅샷에서 사라지지 않는다")
+    void refresh_keepsWritesCommittedDuringReload() {
+        // Given: selectAll 이 실행되는 동안 QQQI 가 저장되지만 조회 결과에는 없다
+        ETFMetadata qqqi = metadata("QQQI", ETFType.COVERED_CALL);
+        willAnswer(invocation -> {
+            adapter.save(qqqi);
+            return List.of(vo(metadata("GOF", ETFType.CEF)));
+        }).given(mapper).selectAll();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findBySymbol("GOF")).isPresent();
+        assertThat(adapter.findBySymbol("QQQI")).contains(qqqi);
+    }
+
+    @Test
+    @DisplayName("재적재 전에 반영된 저장은 DB 결과로 대체된다")
+    void refresh_replacesWritesAlreadyInDatabase() {
+        // Given
+        adapter.save(metadata("GOF", ETFType.CEF));
+        ETFMetadata updated = metadata("GOF", ETFType.CEF, ETFType.LEVERAGED);
+        given(mapper.selectAll()).willReturn(List.of(vo(updated)));
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findBySymbol("GOF")).contains(updated);
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 대기 시간 동안 조회가 DB 를 다시 읽지 않는다")
+    void read_backsOffAfterFailedLoad() {
+        // Given
+        given(mapper.selectAll())
+            .willThrow(new IllegalStateException("connection refused"))
+            .willReturn(List.of(vo(metadata("GOF", ETFType.CEF))));
+        adapter.preload();
+
+        // When: 대기 시간 안의 조회
+        clock.advance(Duration.ofSeconds(ETFMetadataMybatisAdapter.RETRY_BACKOFF_SECONDS - 1));
+        List<ETFMetadata> duringBackoff = adapter.findAll();
+        boolean hasTypeDuringBackoff = adapter.hasType("GOF", ETFType.CEF);
+
+        // Then
+        assertThat(duringBackoff).isEmpty();
+        assertThat(hasTypeDuringBackoff).isFalse();
+        verify(mapper, times(1)).selectAll();
+
+        // When: 대기 시간이 지난 뒤 조회
+        clock.advance(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(adapter.findBySymbol("GOF")).isPresent();
+        assertThat(adapter.findAll()).hasSize(1);
+        verify(mapper, times(2)).selectAll();
+    }
+
+    @Test
+    @DisplayName("타입 포함 조회는 타입별 비트를 ordinal 순으로 넘겨 DB 에서 조회한다")
+    void findContainingTypes_queriesTypeBits() {
+        // Given
+        ETFMetadata gof = metadata("GOF", ETFType.CEF, ETFType.LEVERAGED);
+        given(mapper.selectContainingTypes(List.of(64, 2048))).willReturn(List.of(vo(gof)));
+
+        // When
+        List<ETFMetadata> found = adapter.findContainingTypes(Set.of(ETFType.CEF, ETFType.LEVERAGED));
+
+        // Then
+        assertThat(found).containsExactly(gof);
+        verify(mapper, never()).selectAll();
+    }
+
+    @Test
+    @DisplayName("조회할 타입이 없으면 거부한다")
+    void findContainingTypes_rejectsEmptyTypes() {
+        assertThatThrownBy(() -> adapter.findContainingTypes(Set.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ETFMetadataVO vo(ETFMetadata metadata) {
+        return converter.toVO(metadata, LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    private static ETFMetadata metadata(String symbol, ETFType... types) {
+        return new ETFMetadata(symbol, symbol, Set.of(types), 15, -2, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.config.IntradayBarProperties;
+import com.etf.risk.adapter.persistence.converter.IntradayBarConverter;
+import com.etf.risk.adapter.persistence.mapper.IntradayBarMapper;
+import com.etf.risk.adapter.persistence.vo.IntradayBarVO;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.model.etf.IntradaySnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IntradaySnapshotMybatisAdapter 테스트")
+class IntradaySnapshotMybatisAdapterTest {
+
+    // 14:33:30 UTC. 14:31, 14:32 봉은 끝났고 14:33 봉은 진행 중
+    private static final Instant NOW = Instant.parse("2026-10-19T14:33:30Z");
+
+    private IntradayBarMapper mapper;
+    private SimpleMeterRegistry meterRegistry;
+    private IntradaySnapshotMybatisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(IntradayBarMapper.class);
+        meterRegistry = new SimpleMeterRegistry();
+        IntradayBarProperties properties = new IntradayBarProperties();
+        properties.setMaxOpenBars(4);
+        properties.setBatchSize(2);
+        adapter = new IntradaySnapshotMybatisAdapter(mapper, new IntradayBarConverter(), properties, meterRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("같은 분의 시세는 봉 하나로 모으고, flush 때 끝난 분의 봉만 배치 단위로 저장한다")
+    void flush_writesCompletedMinutesInBatches() {
+        // Given: GOF 14:31 (2건), QQQI 14:31, GOF 14:32, GOF 14:33 (진행 중)
+        adapter.append(sample("GOF", "22.00", "2026-10-19T14:31:05Z"));
+        adapter.append(sample("GOF", "23.00", "2026-10-19T14:31:50Z"));
+        adapter.append(sample("QQQI", "50.00", "2026-10-19T14:31:10Z"));
+        adapter.append(sample("GOF", "22.50", "2026-10-19T14:32:10Z"));
+        adapter.append(sample("GOF", "22.40", "2026-10-19T14:33:10Z"));
+        verifyNoInteractions(mapper);
+
+        // When
+        adapter.flush();
+
+        // Then: 끝난 봉 3개 -> 2 + 1
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IntradayBarVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper, times(2)).upsertBatch(captor.capture());
+        List<IntradayBarVO> written = captor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(written).extracting(IntradayBarVO::etfSymbol, IntradayBarVO::bucketStart).containsExactly(
+            tuple("GOF", Instant.parse("2026-10-19T14:31:00Z")),
+            tuple("QQQI", Instant.parse("2026-10-19T14:31:00Z")),
+            tuple("GOF", Instant.parse("2026-10-19T14:32:00Z")));
+        IntradayBarVO gof = written.get(0);
+        assertThat(gof.openPrice()).isEqualByComparingTo("22.00");
+        assertThat(gof.highPrice()).isEqualByComparingTo("23.00");
+        assertThat(gof.closePrice()).isEqualByComparingTo("23.00");
+        assertThat(gof.sampleCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("intraday.bars.written").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("intraday.bars.pending").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 진행 중인 봉까지 저장한다")
+    void destroy_writesOpenBars() {
+        // Given
+        adapter.append(sample("GOF", "22.40", "2026-10-19T14:33:10Z"));
+        adapter.flush();
+        verifyNoInteractions(mapper);
+
+        // When
+        adapter.destroy();
+
+        // Then
+        verify(mapper).upsertBatch(argThat(rows -> rows.size() == 1
+            && rows.get(0).bucketStart().equals(Instant.parse("2026-10-19T14:33:00Z"))));
+    }
+
+    @Test
+    @DisplayName("진행 중인 봉이 상한에 닿으면 새 봉의 시세는 버리고, 이미 있는 봉에는 계속 더한다")
+    void append_whenBufferFull_dropsNewBars() {
+        // Given: 상한 4
+        for (int minute = 0; minute < 4; minute++) {
+            adapter.append(sample("GOF", "22.00", "2026-10-19T14:2" + minute + ":00Z"));
+        }
+
+        // When
+        adapter.append(sample("GOF", "22.00", "2026-10-19T14:25:00Z"));
+        adapter.append(sample("GOF", "22.10", "2026-10-19T14:20:30Z"));
+
+        // Then
+        assertThat(meterRegistry.get("intraday.bars.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("intraday.bars.pending").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("저장 실패는 예외를 전파하지 않고 다음 배치를 계속 저장한다")
+    void flush_whenUpsertFails_continues() {
+        // Given
+        when(mapper.upsertBatch(anyList()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(1);
+        adapter.append(sample("GOF", "22.00", "2026-10-19T14:30:00Z"));
+        adapter.append(sample("GOF", "22.00", "2026-10-19T14:31:00Z"));
+        adapter.append(sample("GOF", "22.00", "2026-10-19T14:32:00Z"));
+
+        // When & Then
+        assertThatCode(adapter::flush).doesNotThrowAnyException();
+        verify(mapper, times(2)).upsertBatch(anyList());
+        assertThat(meterRegistry.get("intraday.bars.written").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 봉을 삭제한다")
+    void purgeExpired_deletesBeforeRetention() {
+        adapter.purgeExpired();
+
+        verify(mapper).deleteBefore(Instant.parse("2026-09-19T14:33:30Z"));
+    }
+
+    private IntradaySnapshot sample(String symbol, String price, String observedAt) {
+        return new IntradaySnapshot(
+            new ETFSnapshot(symbol, Money.of(price), Money.of("20.00"), LocalDate.of(2026, 10, 19)),
+            Instant.parse(observedAt));
+    }
+}
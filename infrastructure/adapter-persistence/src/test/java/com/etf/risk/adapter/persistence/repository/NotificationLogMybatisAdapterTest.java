@@ -0,0 +1,96 @@
+package com.etf.risk.adapter.persistence.repository;
+
+import com.etf.risk.adapter.persistence.config.NotificationLogProperties;
+import com.etf.risk.adapter.persistence.converter.NotificationLogConverter;
+import com.etf.risk.adapter.persistence.mapper.NotificationLogMapper;
+import com.etf.risk.adapter.persistence.vo.NotificationLogVO;
+import com.etf.risk.domain.model.notification.NotificationCategory;
+import com.etf.risk.domain.model.notification.NotificationLogEntry;
+import com.etf.risk.domain.model.notification.NotificationPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NotificationLogMybatisAdapter 테스트")
+class NotificationLogMybatisAdapterTest {
+
+    private NotificationLogMapper mapper;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationLogMybatisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(NotificationLogMapper.class);
+        meterRegistry = new SimpleMeterRegistry();
+        NotificationLogProperties properties = new NotificationLogProperties();
+        properties.setQueueCapacity(5);
+        properties.setBatchSize(2);
+        adapter = new NotificationLogMybatisAdapter(mapper, new NotificationLogConverter(), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("append 는 저장하지 않고, flush 때 배치 크기 단위로 multi-row INSERT 한다")
+    void flush_writesInBatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            adapter.append(entry(i));
+        }
+        verifyNoInteractions(mapper);
+
+        // When
+        adapter.flush();
+
+        // Then: 2 + 2 + 1
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationLogVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper, times(3)).insertBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(meterRegistry.get("notification.log.written").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기록을 버리고 dropped 를 증가시킨다")
+    void append_whenQueueFull_drops() {
+        // When
+        for (int i = 0; i < 7; i++) {
+            adapter.append(entry(i));
+        }
+
+        // Then
+        assertThat(meterRegistry.get("notification.log.dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.log.pending").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장 실패는 예외를 전파하지 않고 다음 배치를 계속 저장한다")
+    void flush_whenInsertFails_continues() {
+        // Given
+        given(mapper.insertBatch(anyList()))
+            .willThrow(new IllegalStateException("db down"))
+            .willReturn(2);
+        for (int i = 0; i < 4; i++) {
+            adapter.append(entry(i));
+        }
+
+        // When & Then
+        assertThatCode(adapter::flush).doesNotThrowAnyException();
+        verify(mapper, times(2)).insertBatch(anyList());
+        assertThat(meterRegistry.get("notification.log.written").counter().count()).isEqualTo(2);
+    }
+
+    private NotificationLogEntry entry(int i) {
+        LocalDateTime requestedAt = LocalDateTime.of(2024, 6, 1, 9, 0).plusSeconds(i);
+        return new NotificationLogEntry(100L + i, "GOF", NotificationCategory.DIVIDEND, NotificationPriority.NORMAL,
+            "GOF 배당 알림", requestedAt, requestedAt.plusSeconds(1), true, null);
+    }
+}
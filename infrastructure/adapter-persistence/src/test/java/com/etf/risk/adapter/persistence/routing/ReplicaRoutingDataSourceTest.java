@@ -0,0 +1,144 @@
+package com.etf.risk.adapter.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReplicaRoutingDataSource 라우팅 테스트 (H2 primary/replica)")
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaDown = new AtomicBoolean(false);
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        DriverManagerDataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("replica unavailable");
+                }
+                return super.getConnection();
+            }
+        };
+        initNode(primary, "primary");
+        initNode(replica, "replica");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), 1, Duration.ZERO);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(h2("primary")).execute("DROP TABLE node");
+        new JdbcTemplate(h2("replica")).execute("DROP TABLE node");
+    }
+
+    @Test
+    @DisplayName("헬스 체크를 통과하기 전에는 읽기 전용 트랜잭션도 primary 로 간다")
+    void readOnly_beforeHealthCheck_usesPrimary() {
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 replica 로 라우팅된다")
+    void readOnly_routesToReplica() {
+        // Given
+        routingDataSource.checkHealth();
+
+        // When
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 항상 primary 로 라우팅된다")
+    void readWrite_routesToPrimary() {
+        routingDataSource.checkHealth();
+
+        assertThat(readWriteTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("read-your-writes 고정 중에는 읽기 전용이어도 primary 를 사용한다")
+    void pinned_routesToPrimary() {
+        routingDataSource.checkHealth();
+
+        String node = ReadYourWritesContext.callOnPrimary(() -> readOnlyTx.execute(status -> currentNode()));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("replica 커넥션 획득에 실패하면 primary 로 대체하고 비정상으로 표시한다")
+    void replicaFailure_fallsBackToPrimary() {
+        // Given
+        routingDataSource.checkHealth();
+        replicaDown.set(true);
+
+        // When
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+        assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헬스 체크가 다시 성공하면 replica 로 복귀한다")
+    void replicaRecovery_routesBackToReplica() {
+        // Given
+        replicaDown.set(true);
+        routingDataSource.checkHealth();
+        assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+
+        // When
+        replicaDown.set(false);
+        routingDataSource.checkHealth();
+
+        // Then
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    }
+
+    private static void initNode(DriverManagerDataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+}
@@ -0,0 +1,61 @@
+package com.etf.risk.adapter.persistence.typehandler;
+
+import com.etf.risk.domain.model.etf.ETFType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ETFTypeBitmask 변환 테스트")
+class ETFTypeBitmaskTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 원래 집합과 같다")
+    void encodeDecode_roundTrip() {
+        // Given
+        Set<ETFType> types = Set.of(ETFType.CEF, ETFType.LEVERAGED, ETFType.DIVIDEND);
+
+        // When
+        int mask = ETFTypeBitmask.encode(types);
+
+        // Then
+        assertThat(ETFTypeBitmask.decode(mask)).containsExactlyInAnyOrderElementsOf(types);
+    }
+
+    @Test
+    @DisplayName("비트 위치는 ETFType ordinal 과 같다")
+    void bitPosition_matchesOrdinal() {
+        assertThat(ETFTypeBitmask.bitOf(ETFType.INDEX)).isEqualTo(1);
+        assertThat(ETFTypeBitmask.bitOf(ETFType.LEVERAGED)).isEqualTo(64);
+        assertThat(ETFTypeBitmask.bitOf(ETFType.CEF)).isEqualTo(2048);
+        assertThat(ETFTypeBitmask.bitOf(ETFType.COVERED_CALL)).isEqualTo(4096);
+    }
+
+    @Test
+    @DisplayName("빈 집합과 null 은 0 으로 인코딩된다")
+    void emptyOrNull_encodesToZero() {
+        assertThat(ETFTypeBitmask.encode(Set.of())).isZero();
+        assertThat(ETFTypeBitmask.encode(null)).isZero();
+        assertThat(ETFTypeBitmask.decode(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 타입 집합도 왕복 변환된다")
+    void allTypes_roundTrip() {
+        EnumSet<ETFType> all = EnumSet.allOf(ETFType.class);
+
+        assertThat(ETFTypeBitmask.decode(ETFTypeBitmask.encode(all))).isEqualTo(all);
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 비트가 있으면 예외 발생")
+    void unknownBit_throwsException() {
+        int unknownBit = 1 << ETFType.values().length;
+
+        assertThatThrownBy(() -> ETFTypeBitmask.decode(unknownBit))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
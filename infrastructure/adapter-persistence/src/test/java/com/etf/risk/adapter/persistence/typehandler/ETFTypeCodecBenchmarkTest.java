@@ -0,0 +1,84 @@
+package com.etf.risk.adapter.persistence.typehandler;
+
+import com.etf.risk.domain.model.etf.ETFType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * types 컬럼 한 건을 쓰고 읽는 비용을 JSONB 경로({@link ETFTypeSetTypeHandler} 와 같은 ObjectMapper 직렬화/역직렬화)와
+ * 비트마스크 경로({@link ETFTypeBitmask})로 비교한다. JDBC 왕복은 두 경로가 같으므로 코덱만 잰다.
+ *
+ * <p>실행: {@code ./gradlew :infrastructure:adapter-persistence:benchmark}</p>
+ */
+@Tag("benchmark")
+@DisplayName("ETFType 집합 코덱 벤치마크 (JSONB vs 비트마스크)")
+class ETFTypeCodecBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Set<ETFType>> TYPE_REF = new TypeReference<>() {};
+
+    // 실제 메타데이터에 있는 조합 (GOF, QQQI, 빈 집합)
+    private static final List<Set<ETFType>> SAMPLES = List.of(
+        EnumSet.of(ETFType.CEF, ETFType.LEVERAGED, ETFType.DIVIDEND),
+        EnumSet.of(ETFType.COVERED_CALL, ETFType.DIVIDEND, ETFType.INDEX),
+        EnumSet.noneOf(ETFType.class)
+    );
+
+    @Test
+    @DisplayName("쓰기(encode) + 읽기(decode) 왕복: Jackson vs 비트마스크")
+    void compareRoundTrip() throws Exception {
+        for (Set<ETFType> sample : SAMPLES) {
+            assertThat(jacksonRoundTrip(sample)).isEqualTo(sample);
+            assertThat(bitmaskRoundTrip(sample)).isEqualTo(sample);
+        }
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            Set<ETFType> sample = SAMPLES.get(i % SAMPLES.size());
+            sink += jacksonRoundTrip(sample).size() + bitmaskRoundTrip(sample).size();
+        }
+
+        long jacksonStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += jacksonRoundTrip(SAMPLES.get(i % SAMPLES.size())).size();
+        }
+        long jacksonNanos = System.nanoTime() - jacksonStart;
+
+        long bitmaskStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += bitmaskRoundTrip(SAMPLES.get(i % SAMPLES.size())).size();
+        }
+        long bitmaskNanos = System.nanoTime() - bitmaskStart;
+
+        report("jackson (JSONB)", jacksonNanos);
+        report("bitmask (int)", bitmaskNanos);
+        // JIT 가 루프를 지우지 않도록 결과를 사용한다
+        assertThat(sink).isPositive();
+        assertThat(bitmaskNanos).isLessThan(jacksonNanos);
+    }
+
+    private Set<ETFType> jacksonRoundTrip(Set<ETFType> types) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(types), TYPE_REF);
+    }
+
+    private Set<ETFType> bitmaskRoundTrip(Set<ETFType> types) {
+        return ETFTypeBitmask.decode(ETFTypeBitmask.encode(types));
+    }
+
+    private void report(String name, long totalNanos) {
+        System.out.printf("%-16s %8.1f ns/op  %12.0f ops/s%n", name,
+            (double) totalNanos / ITERATIONS, ITERATIONS / (totalNanos / 1_000_000_000.0));
+    }
+}
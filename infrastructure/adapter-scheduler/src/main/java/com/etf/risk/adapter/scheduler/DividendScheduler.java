@@ -1,16 +1,18 @@
 package com.etf.risk.adapter.scheduler;
 
 import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
-import com.etf.risk.domain.model.user.User;
+import com.etf.risk.domain.model.dividend.DividendCalendarEntry;
+import com.etf.risk.domain.model.portfolio.SymbolHolders;
+import com.etf.risk.domain.port.in.QueryDividendCalendarUseCase;
+import com.etf.risk.domain.port.in.IngestDividendsUseCase;
+import com.etf.risk.domain.port.in.QueryHoldersUseCase;
 import com.etf.risk.domain.port.in.SendNotificationUseCase;
-import com.etf.risk.domain.port.out.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Set;
 
 @Component
@@ -20,19 +22,22 @@ public class DividendScheduler {
 
     private static final Set<String> SUPPORTED_ETFS = Set.of("GOF", "QQQI");
 
-    private static final int GOF_PAYMENT_DAY = 31;
-    private static final int QQQI_PAYMENT_DAY = 28;
-
     private final SchedulerProperties properties;
-    private final UserRepository userRepository;
+    private final QueryHoldersUseCase queryHoldersUseCase;
+    private final QueryDividendCalendarUseCase queryDividendCalendarUseCase;
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final IngestDividendsUseCase ingestDividendsUseCase;
 
     public DividendScheduler(SchedulerProperties properties,
-                             UserRepository userRepository,
-                             SendNotificationUseCase sendNotificationUseCase) {
+                             QueryHoldersUseCase queryHoldersUseCase,
+                             QueryDividendCalendarUseCase queryDividendCalendarUseCase,
+                             SendNotificationUseCase sendNotificationUseCase,
+                             IngestDividendsUseCase ingestDividendsUseCase) {
         this.properties = properties;
-        this.userRepository = userRepository;
+        this.queryHoldersUseCase = queryHoldersUseCase;
+        this.queryDividendCalendarUseCase = queryDividendCalendarUseCase;
         this.sendNotificationUseCase = sendNotificationUseCase;
+        this.ingestDividendsUseCase = ingestDividendsUseCase;
     }
 
     @Scheduled(cron = "${scheduler.dividend.cron}", zone = "${scheduler.dividend.zone}")
@@ -45,50 +50,67 @@ public class DividendScheduler {
         log.info("Starting dividend notification process");
         LocalDate today = LocalDate.now();
 
-        for (String etfSymbol : SUPPORTED_ETFS) {
-            if (isPaymentDay(etfSymbol, today)) {
-                processETFDividend(etfSymbol);
-            }
-        }
+        // 새로 발표된 배당을 먼저 저장해야 추정 일정이 실제 지급일로 확정된다
+        ingestDividends();
+
+        // 향후 12개월 추정 일정을 갱신한 뒤 오늘 지급 예정인 종목만 처리
+        queryDividendCalendarUseCase.refreshCalendar(today);
+        queryDividendCalendarUseCase.findUpcoming(today, today).stream()
+            .map(DividendCalendarEntry::etfSymbol)
+            .filter(SUPPORTED_ETFS::contains)
+            .distinct()
+            .forEach(this::processETFDividend);
 
         log.info("Dividend notification process completed");
     }
 
-    private boolean isPaymentDay(String etfSymbol, LocalDate date) {
-        int dayOfMonth = date.getDayOfMonth();
-        int lastDayOfMonth = date.lengthOfMonth();
-
-        return switch (etfSymbol) {
-            case "GOF" -> dayOfMonth == lastDayOfMonth || dayOfMonth == GOF_PAYMENT_DAY;
-            case "QQQI" -> dayOfMonth == QQQI_PAYMENT_DAY || dayOfMonth == lastDayOfMonth;
-            default -> false;
-        };
+    private void ingestDividends() {
+        for (String etfSymbol : ingestDividendsUseCase.ingestibleSymbols()) {
+            try {
+                int ingested = ingestDividendsUseCase.ingestNewDividends(etfSymbol);
+                if (ingested > 0) {
+                    log.info("Ingested {} new dividends for {}", ingested, etfSymbol);
+                }
+            } catch (Exception e) {
+                log.error("Failed to ingest dividends for {}: {}", etfSymbol, e.getMessage(), e);
+            }
+        }
     }
 
     private void processETFDividend(String etfSymbol) {
         log.info("Processing dividend notifications for ETF: {}", etfSymbol);
 
-        List<User> users = userRepository.findUsersWithETF(etfSymbol);
-
-        if (users.isEmpty()) {
+        // 보유자 목록은 메모리 색인에서 읽으므로 DB 조회가 없다
+        SymbolHolders holders = queryHoldersUseCase.findHolders(etfSymbol);
+        if (holders.isEmpty()) {
             log.info("No users holding {} found", etfSymbol);
             return;
         }
 
-        log.info("Found {} users holding {}", users.size(), etfSymbol);
+        // 배당 알림은 보유 수량이 필요해 보유자를 페이지 단위로 조회하고, 리스크 알림은 색인의 chatId 로 바로 보낸다
+        int notified = sendDividendNotifications(etfSymbol);
+        int alerted = sendRiskAlerts(etfSymbol, holders);
 
-        for (User user : users) {
-            try {
-                sendNotificationUseCase.sendDividendNotification(user.getId(), etfSymbol);
-                sendNotificationUseCase.sendRiskAlert(user.getId(), etfSymbol);
-                log.debug("Notifications sent to user {} for {}", user.getId(), etfSymbol);
-            } catch (Exception e) {
-                log.error("Failed to send notification to user {} for {}: {}",
-                        user.getId(), etfSymbol, e.getMessage(), e);
-            }
+        log.info("Completed dividend notifications for {} ({} users, {} dividend notifications, {} risk alerts)",
+                etfSymbol, holders.size(), notified, alerted);
+    }
+
+    private int sendDividendNotifications(String etfSymbol) {
+        try {
+            return sendNotificationUseCase.sendDividendNotifications(etfSymbol);
+        } catch (Exception e) {
+            log.error("Failed to send dividend notifications for {}: {}", etfSymbol, e.getMessage(), e);
+            return 0;
         }
+    }
 
-        log.info("Completed dividend notifications for {}", etfSymbol);
+    private int sendRiskAlerts(String etfSymbol, SymbolHolders holders) {
+        try {
+            return sendNotificationUseCase.sendRiskAlerts(etfSymbol, holders);
+        } catch (Exception e) {
+            log.error("Failed to send risk alerts for {}: {}", etfSymbol, e.getMessage(), e);
+            return 0;
+        }
     }
 
     public void triggerManually(String etfSymbol) {
@@ -0,0 +1,39 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
+import com.etf.risk.domain.port.in.QueryHoldersUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HoldersIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldersIndexScheduler.class);
+
+    private final SchedulerProperties properties;
+    private final QueryHoldersUseCase queryHoldersUseCase;
+
+    public HoldersIndexScheduler(SchedulerProperties properties,
+                                 QueryHoldersUseCase queryHoldersUseCase) {
+        this.properties = properties;
+        this.queryHoldersUseCase = queryHoldersUseCase;
+    }
+
+    @Scheduled(cron = "${scheduler.holders-rebuild.cron:0 45 3 * * ?}", zone = "${scheduler.holders-rebuild.zone:Asia/Seoul}")
+    public void rebuildHolders() {
+        if (!properties.isEnabled()) {
+            log.debug("Scheduler is disabled, skipping holders index rebuild");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            queryHoldersUseCase.rebuildHolders();
+            log.info("Holders index rebuilt in {}ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to rebuild holders index: {}", e.getMessage(), e);
+        }
+    }
+}
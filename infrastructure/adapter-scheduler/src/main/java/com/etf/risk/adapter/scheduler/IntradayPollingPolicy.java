@@ -0,0 +1,111 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties.IntradayConfig;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * 장중과 NAV 공시 구간에는 짧은 간격으로, 그 밖에는 다음 구간이 열릴 때까지 쉬도록 다음 폴링 시각을 정한다.
+ *
+ * <p>시각은 거래소 시간대(zone) 기준이며 서머타임 전환은 {@link ZonedDateTime} 이 처리한다.
+ * 주말과 설정된 휴장일에는 두 구간 모두 열리지 않는다.</p>
+ */
+public final class IntradayPollingPolicy {
+
+    // 휴장일 설정이 잘못되어도 무한히 찾지 않도록 제한
+    private static final int MAX_LOOKAHEAD_DAYS = 14;
+
+    public enum Phase {
+        MARKET, NAV_PUBLICATION, CLOSED
+    }
+
+    private final ZoneId zone;
+    private final LocalTime marketOpen;
+    private final LocalTime marketClose;
+    private final long marketIntervalMs;
+    private final LocalTime navWindowStart;
+    private final LocalTime navWindowEnd;
+    private final long navIntervalMs;
+    private final Set<LocalDate> holidays;
+
+    public IntradayPollingPolicy(IntradayConfig config) {
+        if (!config.getMarketOpen().isBefore(config.getMarketClose())) {
+            throw new IllegalArgumentException("장 시작 시각은 마감 시각보다 앞서야 합니다: "
+                + config.getMarketOpen() + " ~ " + config.getMarketClose());
+        }
+        if (!config.getNavWindowStart().isBefore(config.getNavWindowEnd())) {
+            throw new IllegalArgumentException("NAV 공시 구간의 시작은 끝보다 앞서야 합니다: "
+                + config.getNavWindowStart() + " ~ " + config.getNavWindowEnd());
+        }
+        if (config.getMarketIntervalMs() <= 0 || config.getNavIntervalMs() <= 0) {
+            throw new IllegalArgumentException("폴링 간격은 0보다 커야 합니다");
+        }
+        this.zone = ZoneId.of(config.getZone());
+        this.marketOpen = config.getMarketOpen();
+        this.marketClose = config.getMarketClose();
+        this.marketIntervalMs = config.getMarketIntervalMs();
+        this.navWindowStart = config.getNavWindowStart();
+        this.navWindowEnd = config.getNavWindowEnd();
+        this.navIntervalMs = config.getNavIntervalMs();
+        this.holidays = Set.copyOf(config.getHolidays());
+    }
+
+    public Phase phaseAt(Instant now) {
+        ZonedDateTime local = now.atZone(zone);
+        if (!isTradingDay(local.toLocalDate())) {
+            return Phase.CLOSED;
+        }
+        LocalTime time = local.toLocalTime();
+        if (within(time, marketOpen, marketClose)) {
+            return Phase.MARKET;
+        }
+        if (within(time, navWindowStart, navWindowEnd)) {
+            return Phase.NAV_PUBLICATION;
+        }
+        return Phase.CLOSED;
+    }
+
+    /**
+     * now 에 폴링(또는 폴링 여부 판단)을 마친 뒤 다음으로 폴링할 시각.
+     */
+    public Instant nextPollAfter(Instant now) {
+        return switch (phaseAt(now)) {
+            case MARKET -> now.plusMillis(marketIntervalMs);
+            case NAV_PUBLICATION -> now.plusMillis(navIntervalMs);
+            case CLOSED -> nextWindowStart(now);
+        };
+    }
+
+    Instant nextWindowStart(Instant now) {
+        LocalDate date = now.atZone(zone).toLocalDate();
+        LocalTime first = marketOpen.isBefore(navWindowStart) ? marketOpen : navWindowStart;
+        LocalTime second = first == marketOpen ? navWindowStart : marketOpen;
+        for (int day = 0; day <= MAX_LOOKAHEAD_DAYS; day++, date = date.plusDays(1)) {
+            if (!isTradingDay(date)) {
+                continue;
+            }
+            for (LocalTime start : new LocalTime[]{first, second}) {
+                Instant candidate = date.atTime(start).atZone(zone).toInstant();
+                if (candidate.isAfter(now)) {
+                    return candidate;
+                }
+            }
+        }
+        return now.plusSeconds(86_400);
+    }
+
+    private boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+
+    private static boolean within(LocalTime time, LocalTime start, LocalTime end) {
+        return !time.isBefore(start) && time.isBefore(end);
+    }
+}
@@ -0,0 +1,92 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.IntradayPollingPolicy.Phase;
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
+import com.etf.risk.domain.port.in.CaptureIntradayUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 장중/NAV 공시 구간에만 시세를 짧은 간격으로 수집한다.
+ *
+ * <p>짧은 주기(tick)로 깨어나 {@link IntradayPollingPolicy} 가 정한 다음 폴링 시각이 지났을 때만 요청을 보낸다.
+ * 장외 시간에는 다음 구간이 열리는 시각까지 아무 요청도 보내지 않는다.</p>
+ */
+@Component
+public class IntradayPollingScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IntradayPollingScheduler.class);
+
+    private final SchedulerProperties properties;
+    private final CaptureIntradayUseCase captureIntradayUseCase;
+    private final IntradayPollingPolicy policy;
+
+    private final AtomicReference<Disposable> inFlight = new AtomicReference<>();
+    // 스케줄러 스레드에서만 읽고 쓴다
+    private Instant nextPollAt = Instant.EPOCH;
+    private Phase phase;
+
+    public IntradayPollingScheduler(SchedulerProperties properties,
+                                    CaptureIntradayUseCase captureIntradayUseCase) {
+        this.properties = properties;
+        this.captureIntradayUseCase = captureIntradayUseCase;
+        this.policy = new IntradayPollingPolicy(properties.getIntraday());
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.intraday.tick-ms:5000}")
+    public void tick() {
+        if (!properties.isEnabled() || !properties.getIntraday().isEnabled()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        if (now.isBefore(nextPollAt)) {
+            return;
+        }
+
+        Phase current = policy.phaseAt(now);
+        if (current != Phase.CLOSED) {
+            capture();
+        }
+        nextPollAt = policy.nextPollAfter(now);
+
+        if (current != phase) {
+            if (current == Phase.CLOSED) {
+                log.info("Intraday polling idle until {}", nextPollAt);
+            } else {
+                log.info("Intraday polling entered {} phase", current);
+            }
+            phase = current;
+        }
+    }
+
+    private void capture() {
+        Disposable previous = inFlight.get();
+        if (previous != null && !previous.isDisposed()) {
+            log.warn("Previous intraday capture is still running, skipping");
+            return;
+        }
+
+        Disposable subscription = captureIntradayUseCase.captureIntraday(properties.getIntraday().getSymbols())
+            .subscribe(
+                count -> log.debug("Captured {} intraday snapshots", count),
+                e -> log.error("Intraday capture failed: {}", e.getMessage(), e)
+            );
+        inFlight.set(subscription);
+    }
+
+    @Override
+    public void destroy() {
+        Disposable subscription = inFlight.getAndSet(null);
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
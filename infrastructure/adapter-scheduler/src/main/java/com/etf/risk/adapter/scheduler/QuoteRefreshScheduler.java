@@ -0,0 +1,71 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
+import com.etf.risk.domain.model.risk.RiskMetrics;
+import com.etf.risk.domain.port.in.RefreshQuotesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class QuoteRefreshScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteRefreshScheduler.class);
+
+    private final SchedulerProperties properties;
+    private final RefreshQuotesUseCase refreshQuotesUseCase;
+
+    // 진행 중인 갱신 구독. 스케줄러 스레드는 구독만 하고 바로 반환한다
+    private final AtomicReference<Disposable> inFlight = new AtomicReference<>();
+
+    public QuoteRefreshScheduler(SchedulerProperties properties,
+                                 RefreshQuotesUseCase refreshQuotesUseCase) {
+        this.properties = properties;
+        this.refreshQuotesUseCase = refreshQuotesUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.quote-refresh.interval-ms:300000}")
+    public void refreshQuotes() {
+        if (!properties.isEnabled()) {
+            log.debug("Scheduler is disabled, skipping quote refresh");
+            return;
+        }
+
+        Disposable previous = inFlight.get();
+        if (previous != null && !previous.isDisposed()) {
+            log.warn("Previous quote refresh is still running, skipping");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Disposable subscription = refreshQuotesUseCase.refreshQuotes(properties.getQuoteRefresh().getSymbols())
+            .subscribe(
+                this::report,
+                e -> log.error("Quote refresh failed: {}", e.getMessage(), e),
+                () -> log.info("Quote refresh completed in {}ms", (System.nanoTime() - start) / 1_000_000)
+            );
+        inFlight.set(subscription);
+    }
+
+    private void report(RiskMetrics metrics) {
+        if (metrics.requiresAction()) {
+            log.warn("Risk level {} for {}: {}", metrics.overallRiskLevel(), metrics.etfSymbol(), metrics.riskFactors());
+        } else {
+            log.debug("Risk level {} for {}", metrics.overallRiskLevel(), metrics.etfSymbol());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // 종료 시 진행 중인 HTTP 요청과 저장 작업을 취소한다
+        Disposable subscription = inFlight.getAndSet(null);
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties;
+import com.etf.risk.domain.port.out.SnapshotHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class RollupRepairScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupRepairScheduler.class);
+
+    private final SchedulerProperties properties;
+    private final SnapshotHistoryRepository snapshotHistoryRepository;
+
+    public RollupRepairScheduler(SchedulerProperties properties,
+                                 SnapshotHistoryRepository snapshotHistoryRepository) {
+        this.properties = properties;
+        this.snapshotHistoryRepository = snapshotHistoryRepository;
+    }
+
+    @Scheduled(cron = "${scheduler.rollup-repair.cron}", zone = "${scheduler.rollup-repair.zone}")
+    public void repairRecentRollups() {
+        if (!properties.isEnabled()) {
+            log.debug("Scheduler is disabled, skipping rollup repair");
+            return;
+        }
+
+        SchedulerProperties.RollupRepairConfig config = properties.getRollupRepair();
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(config.getLookbackDays());
+
+        log.info("Starting rollup repair for {} ~ {}", startDate, endDate);
+        for (String etfSymbol : config.getSymbols()) {
+            repair(etfSymbol, startDate, endDate);
+        }
+        log.info("Rollup repair completed");
+    }
+
+    public void repair(String etfSymbol, LocalDate startDate, LocalDate endDate) {
+        try {
+            snapshotHistoryRepository.rebuildBars(etfSymbol, startDate, endDate);
+            log.debug("Rebuilt rollups for {} ({} ~ {})", etfSymbol, startDate, endDate);
+        } catch (Exception e) {
+            log.error("Failed to rebuild rollups for {}: {}", etfSymbol, e.getMessage(), e);
+        }
+    }
+}
@@ -2,10 +2,19 @@ package com.etf.risk.adapter.scheduler.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "scheduler")
 public class SchedulerProperties {
     private boolean enabled = true;
     private DividendConfig dividend = new DividendConfig();
+    private RollupRepairConfig rollupRepair = new RollupRepairConfig();
+    private HoldersRebuildConfig holdersRebuild = new HoldersRebuildConfig();
+    private QuoteRefreshConfig quoteRefresh = new QuoteRefreshConfig();
+    private IntradayConfig intraday = new IntradayConfig();
 
     public boolean isEnabled() {
         return enabled;
@@ -23,6 +32,38 @@ public class SchedulerProperties {
         this.dividend = dividend;
     }
 
+    public RollupRepairConfig getRollupRepair() {
+        return rollupRepair;
+    }
+
+    public void setRollupRepair(RollupRepairConfig rollupRepair) {
+        this.rollupRepair = rollupRepair;
+    }
+
+    public HoldersRebuildConfig getHoldersRebuild() {
+        return holdersRebuild;
+    }
+
+    public void setHoldersRebuild(HoldersRebuildConfig holdersRebuild) {
+        this.holdersRebuild = holdersRebuild;
+    }
+
+    public QuoteRefreshConfig getQuoteRefresh() {
+        return quoteRefresh;
+    }
+
+    public void setQuoteRefresh(QuoteRefreshConfig quoteRefresh) {
+        this.quoteRefresh = quoteRefresh;
+    }
+
+    public IntradayConfig getIntraday() {
+        return intraday;
+    }
+
+    public void setIntraday(IntradayConfig intraday) {
+        this.intraday = intraday;
+    }
+
     public static class DividendConfig {
         private String cron = "0 0 18 * * ?";
         private String zone = "Asia/Seoul";
@@ -43,4 +84,190 @@ public class SchedulerProperties {
             this.zone = zone;
         }
     }
+
+    public static class RollupRepairConfig {
+        private String cron = "0 30 3 * * ?";
+        private String zone = "Asia/Seoul";
+        private int lookbackDays = 35;
+        private List<String> symbols = new ArrayList<>(List.of("GOF", "QQQI"));
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public String getZone() {
+            return zone;
+        }
+
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+
+        public int getLookbackDays() {
+            return lookbackDays;
+        }
+
+        public void setLookbackDays(int lookbackDays) {
+            this.lookbackDays = lookbackDays;
+        }
+
+        public List<String> getSymbols() {
+            return symbols;
+        }
+
+        public void setSymbols(List<String> symbols) {
+            this.symbols = symbols;
+        }
+    }
+
+    public static class HoldersRebuildConfig {
+        private String cron = "0 45 3 * * ?";
+        private String zone = "Asia/Seoul";
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public String getZone() {
+            return zone;
+        }
+
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+    }
+
+    public static class QuoteRefreshConfig {
+        private long intervalMs = 300_000;
+        private List<String> symbols = new ArrayList<>(List.of("GOF", "QQQI"));
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public List<String> getSymbols() {
+            return symbols;
+        }
+
+        public void setSymbols(List<String> symbols) {
+            this.symbols = symbols;
+        }
+    }
+
+    public static class IntradayConfig {
+        private boolean enabled = true;
+        private List<String> symbols = new ArrayList<>(List.of("GOF", "QQQI"));
+        // 다음 폴링 시각이 되었는지 확인하는 주기. 실제 요청은 구간별 간격으로만 보낸다
+        private long tickMs = 5_000;
+        private String zone = "America/New_York";
+        private LocalTime marketOpen = LocalTime.of(9, 30);
+        private LocalTime marketClose = LocalTime.of(16, 0);
+        private long marketIntervalMs = 15_000;
+        // 장 마감 후 NAV 공시 구간 (CEF 는 보통 장 마감 후 1~2시간 안에 공시)
+        private LocalTime navWindowStart = LocalTime.of(16, 0);
+        private LocalTime navWindowEnd = LocalTime.of(18, 30);
+        private long navIntervalMs = 30_000;
+        // 주말 외 휴장일 (zone 기준 날짜)
+        private List<LocalDate> holidays = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getSymbols() {
+            return symbols;
+        }
+
+        public void setSymbols(List<String> symbols) {
+            this.symbols = symbols;
+        }
+
+        public long getTickMs() {
+            return tickMs;
+        }
+
+        public void setTickMs(long tickMs) {
+            this.tickMs = tickMs;
+        }
+
+        public String getZone() {
+            return zone;
+        }
+
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+
+        public LocalTime getMarketOpen() {
+            return marketOpen;
+        }
+
+        public void setMarketOpen(LocalTime marketOpen) {
+            this.marketOpen = marketOpen;
+        }
+
+        public LocalTime getMarketClose() {
+            return marketClose;
+        }
+
+        public void setMarketClose(LocalTime marketClose) {
+            this.marketClose = marketClose;
+        }
+
+        public long getMarketIntervalMs() {
+            return marketIntervalMs;
+        }
+
+        public void setMarketIntervalMs(long marketIntervalMs) {
+            this.marketIntervalMs = marketIntervalMs;
+        }
+
+        public LocalTime getNavWindowStart() {
+            return navWindowStart;
+        }
+
+        public void setNavWindowStart(LocalTime navWindowStart) {
+            this.navWindowStart = navWindowStart;
+        }
+
+        public LocalTime getNavWindowEnd() {
+            return navWindowEnd;
+        }
+
+        public void setNavWindowEnd(LocalTime navWindowEnd) {
+            this.navWindowEnd = navWindowEnd;
+        }
+
+        public long getNavIntervalMs() {
+            return navIntervalMs;
+        }
+
+        public void setNavIntervalMs(long navIntervalMs) {
+            this.navIntervalMs = navIntervalMs;
+        }
+
+        public List<LocalDate> getHolidays() {
+            return holidays;
+        }
+
+        public void setHolidays(List<LocalDate> holidays) {
+            this.holidays = holidays;
+        }
+    }
 }
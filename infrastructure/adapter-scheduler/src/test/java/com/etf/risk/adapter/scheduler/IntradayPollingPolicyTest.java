@@ -0,0 +1,94 @@
+package com.etf.risk.adapter.scheduler;
+
+import com.etf.risk.adapter.scheduler.IntradayPollingPolicy.Phase;
+import com.etf.risk.adapter.scheduler.config.SchedulerProperties.IntradayConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IntradayPollingPolicy 테스트")
+class IntradayPollingPolicyTest {
+
+    private final IntradayPollingPolicy policy = new IntradayPollingPolicy(config());
+
+    @Test
+    @DisplayName("장중에는 장중 간격으로 폴링한다")
+    void pollsAtMarketIntervalDuringSession() {
+        // Given: 2026-10-19(월) 10:00 EDT
+        Instant now = Instant.parse("2026-10-19T14:00:00Z");
+
+        // When & Then
+        assertThat(policy.phaseAt(now)).isEqualTo(Phase.MARKET);
+        assertThat(policy.nextPollAfter(now)).isEqualTo(now.plusSeconds(15));
+    }
+
+    @Test
+    @DisplayName("장 마감 후 NAV 공시 구간에는 NAV 간격으로 폴링한다")
+    void pollsAtNavIntervalAfterClose() {
+        // Given: 16:30 EDT
+        Instant now = Instant.parse("2026-10-19T20:30:00Z");
+
+        // When & Then
+        assertThat(policy.phaseAt(now)).isEqualTo(Phase.NAV_PUBLICATION);
+        assertThat(policy.nextPollAfter(now)).isEqualTo(now.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("장 시작 전과 NAV 구간 이후에는 다음 장 시작까지 쉰다")
+    void sleepsUntilNextOpen() {
+        // Given: 08:00 EDT, 19:00 EDT
+        Instant beforeOpen = Instant.parse("2026-10-19T12:00:00Z");
+        Instant evening = Instant.parse("2026-10-19T23:00:00Z");
+
+        // When & Then
+        assertThat(policy.phaseAt(beforeOpen)).isEqualTo(Phase.CLOSED);
+        assertThat(policy.nextPollAfter(beforeOpen)).isEqualTo(Instant.parse("2026-10-19T13:30:00Z"));
+        assertThat(policy.nextPollAfter(evening)).isEqualTo(Instant.parse("2026-10-20T13:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("주말을 건너뛰어 월요일 장 시작에 깨어난다")
+    void skipsWeekend() {
+        // Given: 2026-10-23(금) 19:00 EDT
+        Instant fridayEvening = Instant.parse("2026-10-23T23:00:00Z");
+
+        // When & Then
+        assertThat(policy.nextPollAfter(fridayEvening)).isEqualTo(Instant.parse("2026-10-26T13:30:00Z"));
+        assertThat(policy.phaseAt(Instant.parse("2026-10-24T15:00:00Z"))).isEqualTo(Phase.CLOSED);
+    }
+
+    @Test
+    @DisplayName("휴장일을 건너뛰고 서머타임 해제 후 시각으로 계산한다")
+    void skipsHolidayAfterDaylightSavingEnds() {
+        // Given: 2026-11-25(수) 19:00 EST, 다음 날은 추수감사절 휴장
+        Instant wednesdayEvening = Instant.parse("2026-11-26T00:00:00Z");
+
+        // When & Then: 금요일 09:30 EST
+        assertThat(policy.phaseAt(Instant.parse("2026-11-26T15:00:00Z"))).isEqualTo(Phase.CLOSED);
+        assertThat(policy.nextPollAfter(wednesdayEvening)).isEqualTo(Instant.parse("2026-11-27T14:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("장 시작이 마감보다 늦으면 생성할 수 없다")
+    void rejectsInvalidMarketHours() {
+        // Given
+        IntradayConfig config = config();
+        config.setMarketOpen(LocalTime.of(17, 0));
+
+        // When & Then
+        assertThatThrownBy(() -> new IntradayPollingPolicy(config))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static IntradayConfig config() {
+        IntradayConfig config = new IntradayConfig();
+        config.setHolidays(List.of(LocalDate.of(2026, 11, 26)));
+        return config;
+    }
+}
@@ -0,0 +1,59 @@
+package com.etf.risk.adapter.scraper;
+
+import com.etf.risk.adapter.scraper.extract.ExtractedRow;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.dividend.Dividend;
+import com.etf.risk.domain.port.out.DividendSourcePort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 추출 프로필의 {@code dividends} 표를 배당 이력으로 읽는다.
+ * 표는 최신순이라 이미 저장된 지급일에 닿으면 나머지 행은 파싱하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DividendScraperAdapter implements DividendSourcePort {
+
+    private static final Logger log = LoggerFactory.getLogger(DividendScraperAdapter.class);
+
+    static final String TABLE = "dividends";
+    static final String EX_DIVIDEND_DATE = "ex-dividend-date";
+    static final String PAYMENT_DATE = "payment-date";
+    static final String AMOUNT = "amount";
+
+    private final FundScraper fundScraper;
+
+    @Override
+    public Set<String> supportedSymbols() {
+        return fundScraper.symbolsWithTable(TABLE);
+    }
+
+    @Override
+    public List<Dividend> fetchDividendsAfter(String etfSymbol, LocalDate knownPaymentDate) {
+        List<ExtractedRow> rows = fundScraper.scrapeRowsAfter(etfSymbol, TABLE, PAYMENT_DATE, knownPaymentDate);
+        List<Dividend> dividends = new ArrayList<>(rows.size());
+        for (ExtractedRow row : rows) {
+            try {
+                dividends.add(Dividend.create(
+                    etfSymbol,
+                    row.date(EX_DIVIDEND_DATE),
+                    row.date(PAYMENT_DATE),
+                    Money.of(row.decimal(AMOUNT)),
+                    null
+                ));
+            } catch (IllegalArgumentException e) {
+                // 지급일이 배당락일보다 앞서는 등 도메인 규칙에 맞지 않는 행은 건너뛴다
+                log.warn("Skipping invalid dividend row for {}: {} ({})", etfSymbol, row.cells(), e.getMessage());
+            }
+        }
+        return dividends;
+    }
+}
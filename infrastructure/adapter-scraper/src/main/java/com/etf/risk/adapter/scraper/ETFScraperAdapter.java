@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -16,8 +18,6 @@ import java.util.Optional;
 public class ETFScraperAdapter implements ETFDataPort {
 
     private final YahooFinanceClient yahooFinanceClient;
-    private final GuggenheimScraper guggenheimScraper;
-    private final NEOSScraper neosScraper;
 
     @Override
     public Optional<ETF> findETFBySymbol(String symbol) {
@@ -33,6 +33,11 @@ public class ETFScraperAdapter implements ETFDataPort {
         return yahooFinanceClient.fetchSnapshot(symbol);
     }
 
+    @Override
+    public Map<String, ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols) {
+        return yahooFinanceClient.fetchSnapshots(symbols);
+    }
+
     @Override
     public void saveSnapshot(ETFSnapshot snapshot) {
         // Scraper adapter는 읽기 전용. 저장은 persistence adapter가 담당
@@ -0,0 +1,156 @@
+package com.etf.risk.adapter.scraper;
+
+import com.etf.risk.adapter.scraper.cache.PageExtractor;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties;
+import com.etf.risk.adapter.scraper.extract.CompiledField;
+import com.etf.risk.adapter.scraper.extract.CompiledProfile;
+import com.etf.risk.adapter.scraper.extract.CompiledTable;
+import com.etf.risk.adapter.scraper.extract.ExtractedRow;
+import com.etf.risk.adapter.scraper.extract.ExtractionProfiles;
+import com.etf.risk.adapter.scraper.extract.FundExtraction;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 설정의 추출 프로필({@code scraper.extraction.funds})로 모든 종목을 수집하는 범용 스크래퍼.
+ *
+ * <p>프로필은 기동 시 한 번 컴파일한다. 같은 페이지를 쓰는 필드와 표는 {@link PageExtractor} 가 캐시한 한 번의 응답을
+ * 공유하고, 값마다 따로 저장해 두므로 페이지가 바뀌지 않았으면(304) 다시 추출하지 않는다.</p>
+ *
+ * <p>현재 운영 경로는 {@link DividendScraperAdapter} 가 쓰는 {@code dividends} 표뿐이다. 필드(ROC 등)를 받는
+ * 도메인 포트는 아직 없어서 {@link #scrape(String)} 와 {@link #scrapeAll()} 는 호출하는 곳이 없다.</p>
+ */
+@Component
+public class FundScraper {
+
+    private static final Logger log = LoggerFactory.getLogger(FundScraper.class);
+
+    private static final TypeReference<BigDecimal> DECIMAL = new TypeReference<>() {
+    };
+    private static final TypeReference<List<ExtractedRow>> ROWS = new TypeReference<>() {
+    };
+
+    private final PageExtractor pageExtractor;
+    private final Map<String, CompiledProfile> profiles;
+    private final int maxConcurrentFunds;
+
+    public FundScraper(ExtractionProfileProperties properties, PageExtractor pageExtractor) {
+        if (properties.getMaxConcurrentFunds() < 1) {
+            throw new IllegalArgumentException("동시 수집 종목 수는 1 이상이어야 합니다: " + properties.getMaxConcurrentFunds());
+        }
+        this.pageExtractor = pageExtractor;
+        this.profiles = ExtractionProfiles.compile(properties);
+        this.maxConcurrentFunds = properties.getMaxConcurrentFunds();
+        log.info("Loaded extraction profiles: {}", profiles.keySet());
+    }
+
+    public Set<String> symbols() {
+        return Collections.unmodifiableSet(profiles.keySet());
+    }
+
+    public FundExtraction scrape(String symbol) {
+        CompiledProfile profile = profiles.get(symbol);
+        if (profile == null) {
+            throw new IllegalArgumentException("추출 프로필이 없는 종목입니다: " + symbol);
+        }
+        try {
+            return scrape(profile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scrape " + symbol + " from " + profile.url(), e);
+        }
+    }
+
+    /**
+     * name 표를 가진 종목.
+     */
+    public Set<String> symbolsWithTable(String name) {
+        return profiles.values().stream()
+            .filter(profile -> profile.tables().stream().anyMatch(table -> table.name().equals(name)))
+            .map(CompiledProfile::symbol)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * 최신 행이 위에 오는 표에서 dateColumn 이 after 이하인 첫 행에 닿을 때까지만 읽는다.
+     * after 가 null 이면 표 전체를 돌려준다.
+     */
+    public List<ExtractedRow> scrapeRowsAfter(String symbol, String tableName, String dateColumn, LocalDate after) {
+        CompiledProfile profile = profiles.get(symbol);
+        if (profile == null) {
+            throw new IllegalArgumentException("추출 프로필이 없는 종목입니다: " + symbol);
+        }
+        CompiledTable table = profile.tables().stream()
+            .filter(candidate -> candidate.name().equals(tableName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("추출 프로필에 없는 표입니다: " + symbol + "." + tableName));
+
+        try {
+            if (after == null) {
+                return pageExtractor.extractPage(profile.url(), "table:" + tableName, ROWS, table::extract);
+            }
+            // 기준일마다 결과가 다르므로 키에 기준일을 넣는다. 페이지가 바뀌면 검증자와 함께 버려진다
+            return pageExtractor.extractPage(profile.url(), "table:" + tableName + ":after:" + after, ROWS,
+                page -> table.extract(page, row -> {
+                    LocalDate date = row.date(dateColumn);
+                    return date != null && !date.isAfter(after);
+                }));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scrape " + symbol + "." + tableName + " from " + profile.url(), e);
+        }
+    }
+
+    /**
+     * 모든 종목을 최대 {@code maxConcurrentFunds} 개씩 동시에 수집한다. 실패한 종목은 로그만 남기고 결과에서 빠진다.
+     * 필드 값을 저장할 포트가 생기면 그 갱신 작업이 호출한다.
+     */
+    public Map<String, FundExtraction> scrapeAll() {
+        Map<String, FundExtraction> results = Flux.fromIterable(profiles.values())
+            .flatMap(profile -> Mono.fromCallable(() -> scrape(profile))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("Failed to scrape {} from {}: {}", profile.symbol(), profile.url(), e.getMessage(), e);
+                    return Mono.empty();
+                }), maxConcurrentFunds)
+            .collectMap(FundExtraction::symbol, extraction -> extraction, LinkedHashMap::new)
+            .block();
+        return results != null ? results : Map.of();
+    }
+
+    private FundExtraction scrape(CompiledProfile profile) throws IOException {
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (CompiledField field : profile.fields()) {
+            BigDecimal value = pageExtractor.extractPage(profile.url(), "field:" + field.name(), DECIMAL, field::extract);
+            if (value == null && field.fallback() != null) {
+                log.debug("Using fallback for {}.{}: {}", profile.symbol(), field.name(), field.fallback());
+                value = field.fallback();
+            }
+            if (value != null) {
+                values.put(field.name(), value);
+            }
+        }
+
+        Map<String, List<ExtractedRow>> tables = new LinkedHashMap<>();
+        for (CompiledTable table : profile.tables()) {
+            tables.put(table.name(), pageExtractor.extractPage(profile.url(), "table:" + table.name(), ROWS, table::extract));
+        }
+
+        return new FundExtraction(profile.symbol(), values, tables, LocalDate.now());
+    }
+}
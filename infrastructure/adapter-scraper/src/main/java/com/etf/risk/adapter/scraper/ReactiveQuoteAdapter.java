@@ -0,0 +1,42 @@
+package com.etf.risk.adapter.scraper;
+
+import com.etf.risk.adapter.scraper.client.YahooFinanceClient;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.domain.port.out.reactive.ReactiveQuotePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@RequiredArgsConstructor
+public class ReactiveQuoteAdapter implements ReactiveQuotePort {
+
+    private final YahooFinanceClient yahooFinanceClient;
+
+    @Override
+    public Mono<ETFSnapshot> fetchLatestSnapshot(String symbol) {
+        return yahooFinanceClient.snapshot(symbol)
+            .onErrorMap(ReactiveQuoteAdapter::isSourceFailure, ReactiveQuoteAdapter::toIOException);
+    }
+
+    @Override
+    public Flux<ETFSnapshot> fetchLatestSnapshots(Collection<String> symbols) {
+        return yahooFinanceClient.snapshots(symbols)
+            .onErrorMap(ReactiveQuoteAdapter::isSourceFailure, ReactiveQuoteAdapter::toIOException);
+    }
+
+    // 회로 차단(CircuitOpenException)은 이미 IOException 이다. WebClient/타임아웃 오류만 포트 계약에 맞춰 감싼다
+    private static boolean isSourceFailure(Throwable error) {
+        return error instanceof WebClientException || error instanceof TimeoutException;
+    }
+
+    private static IOException toIOException(Throwable error) {
+        return new IOException("Quote source failed: " + error.getMessage(), error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.etf.risk.adapter.scraper.cache;
+
+/**
+ * 파싱 전 응답. charset 이 null 이면 본문의 meta 태그 또는 UTF-8 로 해석한다.
+ *
+ * @param notModified 조건부 요청에 304 가 돌아온 경우. 이때 body 는 비어 있고 validators 는 요청에 쓴 값이다
+ */
+public record FetchedPage(
+    String url,
+    boolean notModified,
+    byte[] body,
+    String charset,
+    PageValidators validators
+) {
+    public static FetchedPage notModified(String url, PageValidators validators) {
+        return new FetchedPage(url, true, new byte[0], null, validators);
+    }
+}
@@ -0,0 +1,75 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.etf.risk.adapter.scraper.resilience.HostRateLimiter;
+import com.etf.risk.adapter.scraper.resilience.SourceResilience;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 운용사 페이지를 내려받는다. 호스트별 회로 차단기를 거치므로 사이트가 계속 실패하면
+ * 타임아웃({@value #TIMEOUT_MILLIS}ms)을 기다리지 않고 바로 실패한다.
+ * 요청은 {@link HostRateLimiter} 의 호스트별 토큰을 얻은 뒤에 보내고, 429/503 의 Retry-After 를 따른다.
+ */
+@Component
+public class JsoupPageFetcher implements PageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final int TIMEOUT_MILLIS = 10000;
+    private static final int NOT_MODIFIED = 304;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int FIRST_ERROR_STATUS = 400;
+
+    private final SourceResilience sourceResilience;
+    private final HostRateLimiter rateLimiter;
+
+    public JsoupPageFetcher(SourceResilience sourceResilience, HostRateLimiter rateLimiter) {
+        this.sourceResilience = sourceResilience;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public FetchedPage fetch(String url, PageValidators validators) throws IOException {
+        String host = HostRateLimiter.hostOf(url);
+        return sourceResilience.circuitBreaker(host)
+            .execute(() -> request(host, url, validators), JsoupPageFetcher::isSourceFailure);
+    }
+
+    private FetchedPage request(String host, String url, PageValidators validators) throws IOException {
+        rateLimiter.acquireBlocking(host);
+
+        // Retry-After 를 읽으려면 오류 응답도 받아야 한다
+        Connection connection = Jsoup.connect(url)
+            .userAgent(USER_AGENT)
+            .timeout(TIMEOUT_MILLIS)
+            .ignoreHttpErrors(true);
+        if (validators.etag() != null) {
+            connection.header("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            connection.header("If-Modified-Since", validators.lastModified());
+        }
+
+        Connection.Response response = connection.execute();
+        if (response.statusCode() >= FIRST_ERROR_STATUS) {
+            rateLimiter.onResponse(host, response.statusCode(), response.header("Retry-After"));
+            throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+        }
+        if (response.statusCode() == NOT_MODIFIED) {
+            return FetchedPage.notModified(url, validators);
+        }
+        return new FetchedPage(url, false, response.bodyAsBytes(), response.charset(),
+            new PageValidators(response.header("ETag"), response.header("Last-Modified")));
+    }
+
+    // 404 처럼 사이트가 정상 응답한 오류는 회로 실패로 세지 않는다
+    private static boolean isSourceFailure(IOException e) {
+        if (e instanceof HttpStatusException status) {
+            return status.getStatusCode() >= 500 || status.getStatusCode() == TOO_MANY_REQUESTS;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import io.micrometer.core.instrument.Timer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 캐시된 페이지. 조건부 요청에 304 가 돌아왔다면 본문이 없으며,
+ * 호출자는 같은 validators 로 저장해 둔 추출 결과를 사용한다.
+ *
+ * <p>본문은 내려받은 바이트로 보관한다. 전체 DOM 은 {@link #document()} 를 처음 호출할 때 한 번만 파싱하고,
+ * 표나 섹션 하나만 필요한 추출기는 {@link #streamParser()} 로 대상까지만 읽고 멈춘다.</p>
+ */
+public final class Page {
+
+    private final String url;
+    private final byte[] body;
+    private final String charset;
+    private final PageValidators validators;
+    private final Timer parseTimer;
+    private volatile Document document;
+
+    private Page(String url, byte[] body, String charset, PageValidators validators, Timer parseTimer) {
+        this.url = url;
+        this.body = body;
+        this.charset = charset;
+        this.validators = validators;
+        this.parseTimer = parseTimer;
+    }
+
+    static Page notModified(String url, PageValidators validators) {
+        return new Page(url, null, null, validators, null);
+    }
+
+    static Page of(FetchedPage fetched, Timer parseTimer) {
+        return new Page(fetched.url(), fetched.body(), fetched.charset(), fetched.validators(), parseTimer);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public PageValidators validators() {
+        return validators;
+    }
+
+    public boolean notModified() {
+        return body == null;
+    }
+
+    /**
+     * 전체 DOM. 304 페이지면 null 이다. 여러 스크래퍼가 함께 읽으므로 수정해서는 안 된다.
+     */
+    public Document document() {
+        if (notModified()) {
+            return null;
+        }
+        Document parsed = document;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = document;
+                if (parsed == null) {
+                    parsed = parseTimer.record(this::parse);
+                    document = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 본문을 처음부터 읽는 새 스트리밍 파서. 닫힌 요소부터 차례로 내보내므로 찾는 요소가 닫히면 멈출 수 있다.
+     * charset 을 모르면 UTF-8 로 읽는다.
+     */
+    public StreamParser streamParser() {
+        if (notModified()) {
+            throw new IllegalStateException("본문이 없는 304 페이지입니다: " + url);
+        }
+        InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(body), streamCharset());
+        return new StreamParser(Parser.htmlParser()).parse(reader, url);
+    }
+
+    private Document parse() {
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(body), charset, url);
+        } catch (IOException e) {
+            // 메모리의 바이트를 읽으므로 charset 오류 외에는 발생하지 않는다
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Charset streamCharset() {
+        if (charset == null) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
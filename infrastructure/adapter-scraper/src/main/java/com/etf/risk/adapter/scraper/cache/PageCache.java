@@ -0,0 +1,192 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * URL 별로 내려받은 {@link Page} 를 TTL 동안 공유한다. DOM 파싱은 처음 필요할 때 한 번만 한다.
+ *
+ * <p>같은 URL 을 동시에 요청하면 한 스레드만 내려받고 나머지는 그 결과를 기다린다(single-flight).
+ * 실패한 적재는 캐시에 남기지 않으므로 다음 요청이 다시 시도한다.
+ * 반환된 Page 의 Document 는 여러 스크래퍼가 함께 읽으므로 수정해서는 안 된다.</p>
+ *
+ * <p>조건부 적재는 {@link PageStateStore} 에 저장된 ETag / Last-Modified 를 보내고,
+ * 304 이면 HTML 을 받지도 파싱하지도 않은 {@link Page#notModified()} 페이지를 캐시한다.</p>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code scraper.page.cache.requests} (result=hit|miss)</li>
+ *   <li>{@code scraper.page.cache.hit.ratio}</li>
+ *   <li>{@code scraper.page.not.modified} (304 로 내려받기/파싱을 건너뛴 수)</li>
+ *   <li>{@code scraper.page.fetch.bytes} (host 태그)</li>
+ *   <li>{@code scraper.page.parse} (전체 DOM 파싱, host 태그)</li>
+ * </ul>
+ */
+@Component
+public class PageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PageCache.class);
+
+    private final PageFetcher pageFetcher;
+    private final PageStateStore pageStateStore;
+    private final long ttlNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<CachedPage>> pages = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public PageCache(PageFetcher pageFetcher, PageStateStore pageStateStore,
+                     PageCacheProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getTtl() == null || properties.getTtl().isNegative()) {
+            throw new IllegalArgumentException("페이지 캐시 TTL은 0 이상이어야 합니다: " + properties.getTtl());
+        }
+        this.pageFetcher = pageFetcher;
+        this.pageStateStore = pageStateStore;
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("scraper.page.cache.requests")
+            .description("페이지 캐시 조회 수")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("scraper.page.cache.requests")
+            .description("페이지 캐시 조회 수")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.notModified = Counter.builder("scraper.page.not.modified")
+            .description("조건부 요청에 304 가 돌아와 내려받기와 파싱을 건너뛴 수")
+            .register(meterRegistry);
+        Gauge.builder("scraper.page.cache.hit.ratio", this, PageCache::hitRatio)
+            .description("페이지 캐시 적중률 (진행 중인 적재에 합류한 요청 포함)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 조건부로 적재한다. 저장된 검증자가 있고 페이지가 바뀌지 않았다면 {@link Page#notModified()} 이다.
+     */
+    public Page get(String url) throws IOException {
+        return get(url, true);
+    }
+
+    /**
+     * 항상 본문이 있는 페이지를 반환한다. 캐시된 304 페이지가 있으면 조건 없이 다시 받는다.
+     */
+    public Page getDocument(String url) throws IOException {
+        return get(url, false);
+    }
+
+    private Page get(String url, boolean conditional) throws IOException {
+        long now = System.nanoTime();
+        CompletableFuture<CachedPage> loading = new CompletableFuture<>();
+        CompletableFuture<CachedPage> current = pages.compute(url,
+            (key, existing) -> existing != null && isUsable(existing, now, conditional) ? existing : loading);
+
+        if (current != loading) {
+            hits.increment();
+            Page page = await(current).page();
+            if (conditional || !page.notModified()) {
+                return page;
+            }
+            // 304 적재에 합류했지만 본문이 필요한 경우
+            return get(url, false);
+        }
+
+        misses.increment();
+        try {
+            CachedPage page = load(url, conditional);
+            loading.complete(page);
+            return page.page();
+        } catch (IOException | RuntimeException e) {
+            pages.remove(url, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private CachedPage load(String url, boolean conditional) throws IOException {
+        PageValidators validators = conditional ? pageStateStore.validators(url) : PageValidators.NONE;
+        FetchedPage fetched = pageFetcher.fetch(url, validators);
+        if (fetched.notModified()) {
+            notModified.increment();
+            log.debug("Not modified: {}", url);
+            return new CachedPage(Page.notModified(url, fetched.validators()), System.nanoTime());
+        }
+
+        String host = hostOf(url);
+        DistributionSummary.builder("scraper.page.fetch.bytes")
+            .description("내려받은 페이지 크기")
+            .baseUnit("bytes")
+            .tag("host", host)
+            .register(meterRegistry)
+            .record(fetched.body().length);
+        Timer parseTimer = Timer.builder("scraper.page.parse")
+            .description("전체 DOM 파싱 시간 (스트리밍 추출만 한 페이지는 파싱하지 않는다)")
+            .tag("host", host)
+            .register(meterRegistry);
+
+        log.debug("Fetched {} ({} bytes)", url, fetched.body().length);
+        pageStateStore.updateValidators(url, fetched.validators());
+        return new CachedPage(Page.of(fetched, parseTimer), System.nanoTime());
+    }
+
+    private boolean isUsable(CompletableFuture<CachedPage> page, long now, boolean conditional) {
+        if (!page.isDone()) {
+            // 진행 중인 304 적재는 본문이 필요한 요청도 일단 기다렸다가 다시 받는다
+            return true;
+        }
+        if (page.isCompletedExceptionally()) {
+            return false;
+        }
+        CachedPage cached = page.join();
+        if (now - cached.loadedAtNanos() >= ttlNanos) {
+            return false;
+        }
+        return conditional || !cached.page().notModified();
+    }
+
+    private CachedPage await(CompletableFuture<CachedPage> page) throws IOException {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("페이지 적재 대기가 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static String hostOf(String url) {
+        String host = URI.create(url).getHost();
+        return host != null ? host : "unknown";
+    }
+
+    private record CachedPage(Page page, long loadedAtNanos) {
+    }
+}
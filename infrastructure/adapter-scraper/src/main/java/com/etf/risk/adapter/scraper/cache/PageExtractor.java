@@ -0,0 +1,51 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 페이지에서 DTO 를 추출하되, 페이지가 바뀌지 않았으면(304) 파싱 없이 저장해 둔 추출 결과를 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageExtractor {
+
+    private final PageCache pageCache;
+    private final PageStateStore pageStateStore;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param key 한 페이지에서 여러 값을 추출할 때 구분하는 이름 (예: "dividend-history", "roc")
+     */
+    public <T> T extract(String url, String key, TypeReference<T> type, Function<Document, T> extractor)
+        throws IOException {
+        return extractPage(url, key, type, page -> extractor.apply(page.document()));
+    }
+
+    /**
+     * {@link #extract} 와 같지만 추출기가 {@link Page} 를 받는다. 스트리밍 추출기는 전체 DOM 을 만들지 않는다.
+     */
+    public <T> T extractPage(String url, String key, TypeReference<T> type, PageParser<T> parser)
+        throws IOException {
+        Page page = pageCache.get(url);
+        if (page.notModified()) {
+            JsonNode stored = pageStateStore.extraction(url, key, page.validators());
+            if (stored != null) {
+                return objectMapper.convertValue(stored, type);
+            }
+            // 이 키로 추출해 둔 결과가 없으면 본문을 다시 받는다
+            page = pageCache.getDocument(url);
+        }
+
+        T value = parser.parse(page);
+        pageStateStore.saveExtraction(url, key, page.validators(), value);
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface PageFetcher {
+
+    /**
+     * validators 가 비어 있지 않으면 If-None-Match / If-Modified-Since 를 붙여 조건부로 요청한다.
+     */
+    FetchedPage fetch(String url, PageValidators validators) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import java.io.IOException;
+
+/**
+ * 본문이 있는 {@link Page} 에서 값을 추출한다. 전체 DOM 또는 스트리밍 파서 중 필요한 쪽을 고른다.
+ */
+@FunctionalInterface
+public interface PageParser<T> {
+    T parse(Page page) throws IOException;
+}
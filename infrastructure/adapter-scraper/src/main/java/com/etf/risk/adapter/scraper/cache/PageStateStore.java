@@ -0,0 +1,131 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * URL 별 응답 검증자(ETag / Last-Modified)와 그 응답에서 추출한 결과를 파일로 보관한다.
+ *
+ * <p>URL 하나당 JSON 파일 하나이며, 추출 결과마다 어떤 검증자의 응답에서 나왔는지 함께 저장한다.
+ * 검증자가 바뀐 뒤에는 이전 응답의 추출 결과를 돌려주지 않으므로, 304 에서 돌려받는 값은 항상
+ * 현재 페이지 내용과 일치한다. 재시작 후에도 조건부 요청을 이어갈 수 있도록 파일에 남기며,
+ * 파일 저장 실패는 로그만 남기고 수집을 계속한다.</p>
+ */
+@Component
+public class PageStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PageStateStore.class);
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public PageStateStore(PageCacheProperties properties, ObjectMapper objectMapper) {
+        this.directory = Path.of(properties.getStateDir());
+        this.objectMapper = objectMapper;
+    }
+
+    public synchronized PageValidators validators(String url) {
+        ObjectNode state = read(url);
+        return state != null ? validatorsOf(state) : PageValidators.NONE;
+    }
+
+    /**
+     * 새 응답의 검증자를 저장한다. 검증자가 바뀌면 이전 추출 결과는 버린다.
+     */
+    public synchronized void updateValidators(String url, PageValidators validators) {
+        ObjectNode state = read(url);
+        if (state != null && validators.equals(validatorsOf(state))) {
+            return;
+        }
+        ObjectNode next = objectMapper.createObjectNode();
+        next.put("url", url);
+        next.put("etag", validators.etag());
+        next.put("lastModified", validators.lastModified());
+        next.putObject("extractions");
+        write(url, next);
+    }
+
+    /**
+     * validators 응답에서 추출해 둔 결과. 없거나 다른 응답에서 추출한 것이면 null.
+     */
+    public synchronized JsonNode extraction(String url, String key, PageValidators validators) {
+        ObjectNode state = read(url);
+        if (state == null || !validators.equals(validatorsOf(state))) {
+            return null;
+        }
+        return state.path("extractions").get(key);
+    }
+
+    public synchronized void saveExtraction(String url, String key, PageValidators validators, Object value) {
+        ObjectNode state = read(url);
+        if (state == null || !validators.equals(validatorsOf(state))) {
+            // 그 사이 페이지가 바뀌었다면 오래된 추출 결과를 새 검증자에 붙이지 않는다
+            return;
+        }
+        state.withObject("/extractions").set(key, objectMapper.valueToTree(value));
+        write(url, state);
+    }
+
+    private ObjectNode read(String url) {
+        Path file = fileOf(url);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(file.toFile());
+            if (node instanceof ObjectNode state && url.equals(text(state, "url"))) {
+                return state;
+            }
+            return null;
+        } catch (IOException e) {
+            // 손상된 파일은 없는 것으로 보고 다음 응답으로 덮어쓴다
+            log.warn("Ignoring unreadable page state {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String url, ObjectNode state) {
+        Path file = fileOf(url);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), state);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 저장 실패는 다음 실행에서 조건부 요청을 못 하는 것뿐이므로 수집을 중단하지 않는다
+            log.warn("Failed to persist page state for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private Path fileOf(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PageValidators validatorsOf(ObjectNode state) {
+        return new PageValidators(text(state, "etag"), text(state, "lastModified"));
+    }
+
+    private static String text(ObjectNode state, String field) {
+        JsonNode value = state.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,15 @@
+package com.etf.risk.adapter.scraper.cache;
+
+/**
+ * 조건부 요청에 쓰는 응답 검증자. 서버가 보내지 않은 값은 null 이다.
+ */
+public record PageValidators(
+    String etag,
+    String lastModified
+) {
+    public static final PageValidators NONE = new PageValidators(null, null);
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
@@ -1,40 +1,155 @@
 package com.etf.risk.adapter.scraper.client;
 
 import com.etf.risk.adapter.scraper.dto.YahooFinanceResponse;
+import com.etf.risk.adapter.scraper.resilience.CircuitBreaker;
+import com.etf.risk.adapter.scraper.resilience.CircuitOpenException;
+import com.etf.risk.adapter.scraper.resilience.HostRateLimiter;
+import com.etf.risk.adapter.scraper.resilience.LatencyHedge;
+import com.etf.risk.adapter.scraper.resilience.SourceResilience;
 import com.etf.risk.domain.model.common.Money;
 import com.etf.risk.domain.model.etf.ETFSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @Component
 public class YahooFinanceClient {
 
+    private static final Logger log = LoggerFactory.getLogger(YahooFinanceClient.class);
+
     private static final String YAHOO_FINANCE_API_URL = "https://query1.finance.yahoo.com/v7/finance/quote";
+    // v7 quote 는 symbols=GOF,QQQI,... 로 여러 종목을 받는다. URL 길이를 넘지 않도록 요청당 종목 수를 제한한다
+    static final int MAX_SYMBOLS_PER_REQUEST = 50;
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    // 일시 장애(연결 실패, 5xx, 429, 타임아웃)만 지터를 준 지수 백오프로 재시도한다
+    static final int MAX_RETRIES = 2;
+    static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+    private static final double RETRY_JITTER = 0.5;
+    static final String SOURCE = "yahoo-finance";
+
     private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyHedge hedge;
 
-    public YahooFinanceClient(WebClient.Builder webClientBuilder) {
+    public YahooFinanceClient(WebClient.Builder webClientBuilder, SourceResilience sourceResilience,
+                              HostRateLimiter rateLimiter) {
+        // 헤지/재시도로 다시 보내는 요청도 모두 호스트별 속도 제한을 거친다
         this.webClient = webClientBuilder
             .baseUrl(YAHOO_FINANCE_API_URL)
+            .filter(rateLimiter.filter())
             .build();
+        this.circuitBreaker = sourceResilience.circuitBreaker(SOURCE);
+        this.hedge = sourceResilience.hedge(SOURCE);
     }
 
     public ETFSnapshot fetchSnapshot(String symbol) {
-        YahooFinanceResponse response = webClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .queryParam("symbols", symbol)
-                .build())
-            .retrieve()
-            .bodyToMono(YahooFinanceResponse.class)
+        return snapshot(symbol).block();
+    }
+
+    /**
+     * 종목을 {@value #MAX_SYMBOLS_PER_REQUEST}개씩 묶어 최대 {@value #MAX_CONCURRENT_REQUESTS}개 요청을 동시에 보낸다.
+     * 응답에 없거나 가격이 없는 종목, 요청이 실패한 묶음의 종목은 결과에서 빠진다.
+     */
+    public Map<String, ETFSnapshot> fetchSnapshots(Collection<String> symbols) {
+        Map<String, ETFSnapshot> snapshots = snapshots(symbols)
+            .collectMap(ETFSnapshot::symbol, Function.identity(), LinkedHashMap::new)
             .block();
+        return snapshots != null ? snapshots : Map.of();
+    }
+
+    public Mono<ETFSnapshot> snapshot(String symbol) {
+        return requestQuotes(List.of(symbol))
+            .flatMap(response -> quotesOf(response).next())
+            .switchIfEmpty(Mono.error(() ->
+                new IllegalStateException("Yahoo Finance API returned empty response for symbol: " + symbol)));
+    }
 
-        if (response == null || response.quoteResponse() == null || response.quoteResponse().result().isEmpty()) {
-            throw new IllegalStateException("Yahoo Finance API returned empty response for symbol: " + symbol);
+    /**
+     * {@link #fetchSnapshots(Collection)} 와 같은 묶음/동시성 제한으로 요청하되, 응답이 도착하는 대로 내보낸다.
+     * 한 묶음의 출처 장애는 기록만 하고 다른 묶음의 결과는 그대로 내보낸다. 그 밖의 오류는 전파한다.
+     */
+    public Flux<ETFSnapshot> snapshots(Collection<String> symbols) {
+        List<String> distinct = symbols.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return Flux.empty();
         }
 
-        YahooFinanceResponse.Quote quote = response.quoteResponse().result().get(0);
+        return Flux.fromIterable(chunk(distinct))
+            .flatMap(this::requestChunk, MAX_CONCURRENT_REQUESTS)
+            .flatMap(this::quotesOf);
+    }
+
+    private Mono<YahooFinanceResponse> requestChunk(List<String> symbols) {
+        return requestQuotes(symbols)
+            .onErrorResume(YahooFinanceClient::isSourceFailure, e -> {
+                log.warn("Failed to fetch {} quotes starting at {} from {}: {}",
+                    symbols.size(), symbols.get(0), SOURCE, e.toString());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 시도마다 응답이 늦으면 헤지하고, 재시도까지 마친 한 번의 조회를 회로 차단기 호출 하나로 센다.
+     * 회로가 열려 있으면 타임아웃을 기다리지 않고 {@link com.etf.risk.adapter.scraper.resilience.CircuitOpenException} 으로 끝난다.
+     */
+    private Mono<YahooFinanceResponse> requestQuotes(List<String> symbols) {
+        Mono<YahooFinanceResponse> request = hedge.hedge(() -> webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                    .queryParam("symbols", String.join(",", symbols))
+                    .build())
+                .retrieve()
+                .bodyToMono(YahooFinanceResponse.class)
+                .timeout(REQUEST_TIMEOUT))
+            .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                .jitter(RETRY_JITTER)
+                .filter(YahooFinanceClient::isTransient)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        return circuitBreaker.protect(request, YahooFinanceClient::isTransient);
+    }
 
+    private Flux<ETFSnapshot> quotesOf(YahooFinanceResponse response) {
+        if (response.quoteResponse() == null || response.quoteResponse().result() == null) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(response.quoteResponse().result())
+            .filter(quote -> quote.symbol() != null && quote.regularMarketPrice() != null)
+            .map(this::toSnapshot);
+    }
+
+    // 출처 쪽 장애(오류 응답, 연결 실패, 타임아웃, 열린 회로)만 묶음 단위로 삼킨다
+    private static boolean isSourceFailure(Throwable error) {
+        return isTransient(error) || error instanceof CircuitOpenException || error instanceof WebClientException;
+    }
+
+    private static boolean isTransient(Throwable error) {
+        // 429 는 JsoupPageFetcher 와 같이 출처 장애로 보고 회로 차단기에도 센다
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private ETFSnapshot toSnapshot(YahooFinanceResponse.Quote quote) {
         return new ETFSnapshot(
             quote.symbol(),
             Money.of(quote.regularMarketPrice()),
@@ -42,4 +157,12 @@ public class YahooFinanceClient {
             LocalDate.now()
         );
     }
+
+    private static List<List<String>> chunk(List<String> symbols) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < symbols.size(); from += MAX_SYMBOLS_PER_REQUEST) {
+            chunks.add(symbols.subList(from, Math.min(from + MAX_SYMBOLS_PER_REQUEST, symbols.size())));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,226 @@
+package com.etf.risk.adapter.scraper.config;
+
+import com.etf.risk.adapter.scraper.extract.ValueUnit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 종목별 추출 프로필. 종목을 추가할 때는 설정만 추가하면 된다.
+ *
+ * <pre>
+ * scraper.extraction.funds.QQQI:
+ *   url: https://neosfunds.com/qqqi
+ *   fields.roc: { label: "Return of Capital", unit: percent, min: 0, max: 100, fallback: 100.00 }
+ *   tables.dividends:
+ *     container: "#distTable"
+ *     rows: "#distTable tbody tr"
+ *     columns.amount: { index: 3, unit: usd }
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "scraper.extraction")
+public class ExtractionProfileProperties {
+    // 여러 종목을 동시에 수집할 때 동시에 진행하는 종목 수
+    private int maxConcurrentFunds = 4;
+    private Map<String, FundProfile> funds = new LinkedHashMap<>();
+
+    public int getMaxConcurrentFunds() {
+        return maxConcurrentFunds;
+    }
+
+    public void setMaxConcurrentFunds(int maxConcurrentFunds) {
+        this.maxConcurrentFunds = maxConcurrentFunds;
+    }
+
+    public Map<String, FundProfile> getFunds() {
+        return funds;
+    }
+
+    public void setFunds(Map<String, FundProfile> funds) {
+        this.funds = funds;
+    }
+
+    public static class FundProfile {
+        private String url;
+        private Map<String, FieldProfile> fields = new LinkedHashMap<>();
+        private Map<String, TableProfile> tables = new LinkedHashMap<>();
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Map<String, FieldProfile> getFields() {
+            return fields;
+        }
+
+        public void setFields(Map<String, FieldProfile> fields) {
+            this.fields = fields;
+        }
+
+        public Map<String, TableProfile> getTables() {
+            return tables;
+        }
+
+        public void setTables(Map<String, TableProfile> tables) {
+            this.tables = tables;
+        }
+    }
+
+    /**
+     * 라벨 옆의 값 하나. label 은 요소의 자기 텍스트에서 찾고, value 를 비워 두면 단위의 기본 패턴을 쓴다.
+     * 값이 없거나 min/max 를 벗어나면 fallback 을 쓴다.
+     */
+    public static class FieldProfile {
+        private String label;
+        private String value;
+        private ValueUnit unit = ValueUnit.DECIMAL;
+        private int maxAncestors = 2;
+        private BigDecimal min;
+        private BigDecimal max;
+        private BigDecimal fallback;
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public ValueUnit getUnit() {
+            return unit;
+        }
+
+        public void setUnit(ValueUnit unit) {
+            this.unit = unit;
+        }
+
+        public int getMaxAncestors() {
+            return maxAncestors;
+        }
+
+        public void setMaxAncestors(int maxAncestors) {
+            this.maxAncestors = maxAncestors;
+        }
+
+        public BigDecimal getMin() {
+            return min;
+        }
+
+        public void setMin(BigDecimal min) {
+            this.min = min;
+        }
+
+        public BigDecimal getMax() {
+            return max;
+        }
+
+        public void setMax(BigDecimal max) {
+            this.max = max;
+        }
+
+        public BigDecimal getFallback() {
+            return fallback;
+        }
+
+        public void setFallback(BigDecimal fallback) {
+            this.fallback = fallback;
+        }
+    }
+
+    /**
+     * container 가 닫힐 때까지 rows 에 맞는 행을 읽는다. 값을 읽지 못하거나 범위를 벗어난 칸이 있는 행은 건너뛴다.
+     */
+    public static class TableProfile {
+        private String container;
+        private String rows;
+        private Map<String, ColumnProfile> columns = new LinkedHashMap<>();
+
+        public String getContainer() {
+            return container;
+        }
+
+        public void setContainer(String container) {
+            this.container = container;
+        }
+
+        public String getRows() {
+            return rows;
+        }
+
+        public void setRows(String rows) {
+            this.rows = rows;
+        }
+
+        public Map<String, ColumnProfile> getColumns() {
+            return columns;
+        }
+
+        public void setColumns(Map<String, ColumnProfile> columns) {
+            this.columns = columns;
+        }
+    }
+
+    public static class ColumnProfile {
+        private int index;
+        private ValueUnit unit = ValueUnit.DECIMAL;
+        // unit 이 date 일 때의 날짜 형식
+        private String format = "MM/dd/yyyy";
+        private BigDecimal min;
+        private BigDecimal max;
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public ValueUnit getUnit() {
+            return unit;
+        }
+
+        public void setUnit(ValueUnit unit) {
+            this.unit = unit;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public void setFormat(String format) {
+            this.format = format;
+        }
+
+        public BigDecimal getMin() {
+            return min;
+        }
+
+        public void setMin(BigDecimal min) {
+            this.min = min;
+        }
+
+        public BigDecimal getMax() {
+            return max;
+        }
+
+        public void setMax(BigDecimal max) {
+            this.max = max;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.etf.risk.adapter.scraper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "scraper.page-cache")
+public class PageCacheProperties {
+    // 한 번의 수집 주기 안에서 같은 페이지를 다시 받지 않을 만큼이면 충분하다
+    private Duration ttl = Duration.ofMinutes(10);
+    // ETag / Last-Modified 와 추출 결과를 보관하는 디렉터리
+    private String stateDir = "data/scraper-pages";
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public String getStateDir() {
+        return stateDir;
+    }
+
+    public void setStateDir(String stateDir) {
+        this.stateDir = stateDir;
+    }
+}
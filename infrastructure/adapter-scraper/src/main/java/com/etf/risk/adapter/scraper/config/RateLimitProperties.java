@@ -0,0 +1,92 @@
+package com.etf.risk.adapter.scraper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 호스트별 외부 요청 속도 제한(토큰 버킷). hosts 에 없는 호스트는 기본값을 쓴다.
+ *
+ * <pre>
+ * scraper.rate-limit:
+ *   permits-per-second: 1
+ *   burst: 2
+ *   hosts:
+ *     "[query1.finance.yahoo.com]": { permits-per-second: 5, burst: 10 }
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "scraper.rate-limit")
+public class RateLimitProperties {
+    private double permitsPerSecond = 1.0;
+    // 쉬고 있던 호스트에 한 번에 보낼 수 있는 요청 수
+    private int burst = 2;
+    // 서버가 보낸 Retry-After 가 이보다 길면 이 값까지만 기다린다
+    private Duration maxRetryAfter = Duration.ofMinutes(5);
+    private Map<String, HostLimit> hosts = new LinkedHashMap<>();
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public void setMaxRetryAfter(Duration maxRetryAfter) {
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public Map<String, HostLimit> getHosts() {
+        return hosts;
+    }
+
+    public void setHosts(Map<String, HostLimit> hosts) {
+        this.hosts = hosts;
+    }
+
+    public HostLimit limitFor(String host) {
+        HostLimit limit = hosts.get(host);
+        if (limit != null) {
+            return limit;
+        }
+        HostLimit defaults = new HostLimit();
+        defaults.setPermitsPerSecond(permitsPerSecond);
+        defaults.setBurst(burst);
+        return defaults;
+    }
+
+    public static class HostLimit {
+        private double permitsPerSecond = 1.0;
+        private int burst = 2;
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.etf.risk.adapter.scraper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 출처(Yahoo, 운용사 사이트 호스트)별 회로 차단기와 헤지 요청 설정.
+ */
+@ConfigurationProperties(prefix = "scraper.resilience")
+public class ResilienceProperties {
+    // 최근 slidingWindowSize 번의 호출 중 실패 비율(%)이 이 값 이상이면 회로를 연다
+    private int failureRateThreshold = 50;
+    private int slidingWindowSize = 20;
+    // 호출 수가 이보다 적으면 실패율을 판단하지 않는다
+    private int minimumCalls = 10;
+    // 열린 회로는 이 시간 동안 호출을 바로 거절한 뒤 반열림으로 시험 호출을 허용한다
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 3;
+    private Hedge hedge = new Hedge();
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public Hedge getHedge() {
+        return hedge;
+    }
+
+    public void setHedge(Hedge hedge) {
+        this.hedge = hedge;
+    }
+
+    public static class Hedge {
+        private boolean enabled = true;
+        // 최근 성공 응답 시간의 이 분위수만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보낸다
+        private double percentile = 0.95;
+        // 표본이 이보다 적으면 헤지하지 않는다
+        private int minSamples = 20;
+        private Duration minDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import java.math.BigDecimal;
+
+/**
+ * 추출 값의 허용 범위(양끝 포함). 비어 있는 쪽은 제한하지 않는다.
+ */
+public record Bounds(BigDecimal min, BigDecimal max) {
+
+    public static final Bounds UNBOUNDED = new Bounds(null, null);
+
+    public Bounds {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("최솟값이 최댓값보다 큽니다: " + min + " > " + max);
+        }
+    }
+
+    public boolean contains(BigDecimal value) {
+        return (min == null || value.compareTo(min) >= 0)
+            && (max == null || value.compareTo(max) <= 0);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + (min != null ? min.toPlainString() : "") + ", " + (max != null ? max.toPlainString() : "") + "]";
+    }
+}
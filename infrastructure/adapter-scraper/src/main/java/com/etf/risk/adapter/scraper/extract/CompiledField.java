@@ -0,0 +1,47 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.cache.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 라벨 값 추출기. 패턴은 프로필을 읽을 때 한 번만 컴파일한다.
+ */
+public record CompiledField(
+    String name,
+    Pattern label,
+    Pattern value,
+    int maxAncestors,
+    ValueUnit unit,
+    Bounds bounds,
+    BigDecimal fallback
+) {
+    private static final Logger log = LoggerFactory.getLogger(CompiledField.class);
+
+    /**
+     * @return 범위 안의 값. 찾지 못했거나 범위를 벗어나면 null (fallback 은 적용하지 않는다)
+     */
+    public BigDecimal extract(Page page) throws IOException {
+        Optional<String> found = StreamingExtractor.findLabeledValue(page, label, value, maxAncestors);
+        if (found.isEmpty()) {
+            log.debug("Field {} not found on {}", name, page.url());
+            return null;
+        }
+        try {
+            BigDecimal number = unit.parseNumber(found.get());
+            if (!bounds.contains(number)) {
+                log.warn("Field {} on {} is out of bounds {}: {}", name, page.url(), bounds, number);
+                return null;
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            log.warn("Field {} on {} is not a number: {}", name, page.url(), found.get());
+            return null;
+        }
+    }
+}
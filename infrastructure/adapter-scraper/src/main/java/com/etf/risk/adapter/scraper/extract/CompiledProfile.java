@@ -0,0 +1,14 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import java.util.List;
+
+/**
+ * 종목 하나의 컴파일된 추출 프로필.
+ */
+public record CompiledProfile(
+    String symbol,
+    String url,
+    List<CompiledField> fields,
+    List<CompiledTable> tables
+) {
+}
@@ -0,0 +1,95 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.cache.Page;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 컴파일된 표 추출기. 셀렉터와 날짜 형식은 프로필을 읽을 때 한 번만 만든다.
+ */
+public record CompiledTable(
+    String name,
+    Evaluator container,
+    Evaluator rows,
+    List<Column> columns
+) {
+    private static final Logger log = LoggerFactory.getLogger(CompiledTable.class);
+
+    public List<ExtractedRow> extract(Page page) throws IOException {
+        return extract(page, row -> false);
+    }
+
+    /**
+     * stopAt 에 맞는 첫 행에서 읽기를 멈추고 그 앞의 행만 돌려준다. 멈춘 행은 포함하지 않는다.
+     */
+    public List<ExtractedRow> extract(Page page, Predicate<ExtractedRow> stopAt) throws IOException {
+        List<ExtractedRow> extracted = new ArrayList<>();
+        int[] skipped = {0};
+        boolean closed = StreamingExtractor.forEachWithin(page, container, rows, element -> {
+            ExtractedRow row = toRow(element.select("td"));
+            if (row == null) {
+                skipped[0]++;
+                return true;
+            }
+            if (stopAt.test(row)) {
+                return false;
+            }
+            extracted.add(row);
+            return true;
+        });
+        if (skipped[0] > 0) {
+            log.debug("Skipped {} rows in table {} on {}", skipped[0], name, page.url());
+        }
+        return closed ? extracted : List.of();
+    }
+
+    private ExtractedRow toRow(Elements cells) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Column column : columns) {
+            if (column.index() >= cells.size()) {
+                return null;
+            }
+            String value = column.parse(cells.get(column.index()).text());
+            if (value == null) {
+                // 개별 행 파싱 실패는 무시하고 계속 진행
+                return null;
+            }
+            values.put(column.name(), value);
+        }
+        return new ExtractedRow(values);
+    }
+
+    public record Column(String name, int index, ValueUnit unit, DateTimeFormatter dateFormat, Bounds bounds) {
+
+        /**
+         * @return 정규화한 값. 비어 있거나 형식이 맞지 않거나 범위를 벗어나면 null
+         */
+        String parse(String text) {
+            if (text == null || text.isBlank()) {
+                return null;
+            }
+            try {
+                if (unit == ValueUnit.DATE) {
+                    return LocalDate.parse(text.trim(), dateFormat).toString();
+                }
+                BigDecimal number = unit.parseNumber(text);
+                return bounds.contains(number) ? number.toPlainString() : null;
+            } catch (DateTimeParseException | NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
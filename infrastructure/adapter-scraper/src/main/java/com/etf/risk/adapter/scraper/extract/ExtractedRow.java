@@ -0,0 +1,22 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 표의 한 행. 칸 값은 단위 변환과 범위 검사를 마친 정규화 문자열(날짜는 ISO-8601, 숫자는 plain)로 보관해
+ * 추출 결과를 그대로 JSON 으로 저장하고 다시 읽을 수 있다.
+ */
+public record ExtractedRow(Map<String, String> cells) {
+
+    public LocalDate date(String column) {
+        String value = cells.get(column);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    public BigDecimal decimal(String column) {
+        String value = cells.get(column);
+        return value != null ? new BigDecimal(value) : null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.ColumnProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.FieldProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.FundProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.TableProfile;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.Selector;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 설정의 추출 프로필을 검증하고 재사용 가능한 추출기로 컴파일한다.
+ * 잘못된 패턴이나 셀렉터는 수집 시점이 아니라 기동 시점에 실패한다.
+ */
+public final class ExtractionProfiles {
+
+    private ExtractionProfiles() {
+    }
+
+    /**
+     * @return 종목 심볼(대문자) 별 컴파일된 프로필. 설정 순서를 유지한다
+     */
+    public static Map<String, CompiledProfile> compile(ExtractionProfileProperties properties) {
+        Map<String, CompiledProfile> profiles = new LinkedHashMap<>();
+        properties.getFunds().forEach((symbol, fund) -> {
+            CompiledProfile profile = compileFund(symbol.toUpperCase(Locale.ROOT), fund);
+            if (profiles.putIfAbsent(profile.symbol(), profile) != null) {
+                throw new IllegalArgumentException("추출 프로필이 중복되었습니다: " + profile.symbol());
+            }
+        });
+        return profiles;
+    }
+
+    private static CompiledProfile compileFund(String symbol, FundProfile fund) {
+        if (fund.getUrl() == null || fund.getUrl().isBlank()) {
+            throw new IllegalArgumentException("추출 프로필에 URL이 없습니다: " + symbol);
+        }
+        if (fund.getFields().isEmpty() && fund.getTables().isEmpty()) {
+            throw new IllegalArgumentException("추출할 필드나 표가 없습니다: " + symbol);
+        }
+
+        List<CompiledField> fields = new ArrayList<>();
+        fund.getFields().forEach((name, field) -> fields.add(compileField(symbol + "." + name, name, field)));
+        List<CompiledTable> tables = new ArrayList<>();
+        fund.getTables().forEach((name, table) -> tables.add(compileTable(symbol + "." + name, name, table)));
+        return new CompiledProfile(symbol, fund.getUrl(), List.copyOf(fields), List.copyOf(tables));
+    }
+
+    private static CompiledField compileField(String path, String name, FieldProfile field) {
+        if (!field.getUnit().isNumeric()) {
+            throw new IllegalArgumentException("라벨 값은 숫자 단위만 지원합니다: " + path + " (" + field.getUnit() + ")");
+        }
+        if (field.getMaxAncestors() < 0) {
+            throw new IllegalArgumentException("maxAncestors 는 0 이상이어야 합니다: " + path);
+        }
+        Pattern label = pattern(path + ".label", required(path + ".label", field.getLabel()));
+        Pattern value = field.getValue() != null
+            ? pattern(path + ".value", field.getValue())
+            : field.getUnit().defaultValuePattern();
+        Bounds bounds = bounds(path, field.getMin(), field.getMax());
+        if (field.getFallback() != null && !bounds.contains(field.getFallback())) {
+            throw new IllegalArgumentException("fallback 이 허용 범위를 벗어났습니다: " + path + " " + bounds);
+        }
+        return new CompiledField(name, label, value, field.getMaxAncestors(), field.getUnit(), bounds, field.getFallback());
+    }
+
+    private static CompiledTable compileTable(String path, String name, TableProfile table) {
+        if (table.getColumns().isEmpty()) {
+            throw new IllegalArgumentException("표에 읽을 열이 없습니다: " + path);
+        }
+        List<CompiledTable.Column> columns = new ArrayList<>();
+        table.getColumns().forEach((columnName, column) -> columns.add(compileColumn(path + "." + columnName, columnName, column)));
+        return new CompiledTable(name,
+            selector(path + ".container", table.getContainer()),
+            selector(path + ".rows", table.getRows()),
+            List.copyOf(columns));
+    }
+
+    private static CompiledTable.Column compileColumn(String path, String name, ColumnProfile column) {
+        if (column.getIndex() < 0) {
+            throw new IllegalArgumentException("열 번호는 0 이상이어야 합니다: " + path);
+        }
+        DateTimeFormatter dateFormat = null;
+        if (column.getUnit() == ValueUnit.DATE) {
+            try {
+                dateFormat = DateTimeFormatter.ofPattern(required(path + ".format", column.getFormat()), Locale.US);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + path + " (" + column.getFormat() + ")", e);
+            }
+        }
+        return new CompiledTable.Column(name, column.getIndex(), column.getUnit(), dateFormat,
+            bounds(path, column.getMin(), column.getMax()));
+    }
+
+    private static Pattern pattern(String path, String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("정규식이 올바르지 않습니다: " + path + " (" + regex + ")", e);
+        }
+    }
+
+    private static Evaluator selector(String path, String cssQuery) {
+        try {
+            return StreamingExtractor.query(required(path, cssQuery));
+        } catch (Selector.SelectorParseException e) {
+            throw new IllegalArgumentException("CSS 셀렉터가 올바르지 않습니다: " + path + " (" + cssQuery + ")", e);
+        }
+    }
+
+    private static Bounds bounds(String path, BigDecimal min, BigDecimal max) {
+        try {
+            return new Bounds(min, max);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + ": " + path, e);
+        }
+    }
+
+    private static String required(String path, String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("필수 설정이 없습니다: " + path);
+        }
+        return value;
+    }
+}
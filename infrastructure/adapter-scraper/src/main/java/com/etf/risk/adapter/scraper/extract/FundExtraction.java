@@ -0,0 +1,25 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 추출 프로필 하나를 실행한 결과. 값을 찾지 못한 필드는 fallback 이 없으면 빠진다.
+ */
+public record FundExtraction(
+    String symbol,
+    Map<String, BigDecimal> values,
+    Map<String, List<ExtractedRow>> tables,
+    LocalDate recordedDate
+) {
+    public Optional<BigDecimal> value(String field) {
+        return Optional.ofNullable(values.get(field));
+    }
+
+    public List<ExtractedRow> table(String name) {
+        return tables.getOrDefault(name, List.of());
+    }
+}
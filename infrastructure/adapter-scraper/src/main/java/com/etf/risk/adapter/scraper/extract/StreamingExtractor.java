@@ -0,0 +1,121 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.cache.Page;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전체 DOM 을 만들지 않고 {@link StreamParser} 로 필요한 표나 섹션까지만 읽는 추출기.
+ *
+ * <p>StreamParser 는 요소가 닫히는 순서(자식 먼저)로 내보내므로, 찾는 요소가 닫히면 그 뒤의 본문은 토큰화하지 않는다.
+ * {@code *:contains(...)} 처럼 모든 조상의 텍스트를 다시 훑지 않도록, 라벨은 각 요소의 자기 텍스트(ownText)에서만 찾고
+ * 값은 라벨이 나온 요소와 정해진 단계까지의 조상에서만 찾는다. 패턴은 호출자가 미리 컴파일해 넘긴다.</p>
+ */
+public final class StreamingExtractor {
+
+    private StreamingExtractor() {
+    }
+
+    public static Evaluator query(String cssQuery) {
+        return QueryParser.parse(cssQuery);
+    }
+
+    /**
+     * container 요소가 닫힐 때까지 items 에 맞는 요소를 문서 순서대로 모으고 멈춘다.
+     * container 가 없으면 끝까지 읽고 빈 목록을 돌려준다.
+     */
+    public static List<Element> selectWithin(Page page, Evaluator container, Evaluator items) throws IOException {
+        List<Element> matched = new ArrayList<>();
+        boolean closed = forEachWithin(page, container, items, element -> {
+            matched.add(element);
+            return true;
+        });
+        return closed ? matched : List.of();
+    }
+
+    /**
+     * items 에 맞는 요소를 문서 순서대로 visitor 에 넘긴다. visitor 가 false 를 돌려주거나 container 가 닫히면
+     * 그 뒤는 토큰화하지 않는다. 최신 행이 위에 오는 표에서 이미 아는 행에 닿으면 멈추는 용도.
+     *
+     * @return container 가 닫혔거나 visitor 가 멈췄으면 true, container 없이 문서가 끝났으면 false
+     */
+    public static boolean forEachWithin(Page page, Evaluator container, Evaluator items, Predicate<Element> visitor)
+        throws IOException {
+        try (StreamParser parser = page.streamParser()) {
+            Iterator<Element> elements = parser.iterator();
+            while (elements.hasNext()) {
+                Element element = elements.next();
+                if (element.is(items) && !visitor.test(element)) {
+                    parser.stop();
+                    return true;
+                }
+                if (element.is(container)) {
+                    parser.stop();
+                    return true;
+                }
+            }
+            return false;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * label 이 자기 텍스트에 나오는 첫 요소를 찾고, 그 요소와 최대 maxAncestors 단계 위 조상이 닫힐 때마다
+     * 텍스트에서 value 를 찾는다. 찾지 못하면 다음 라벨을 계속 찾는다.
+     *
+     * @return value 의 첫 번째 그룹(그룹이 없으면 전체 일치)
+     */
+    public static Optional<String> findLabeledValue(Page page, Pattern label, Pattern value, int maxAncestors)
+        throws IOException {
+        try (StreamParser parser = page.streamParser()) {
+            Element scope = null;
+            int level = 0;
+            Iterator<Element> elements = parser.iterator();
+            while (elements.hasNext()) {
+                Element element = elements.next();
+                if (scope == null) {
+                    if (!label.matcher(element.ownText()).find()) {
+                        continue;
+                    }
+                    scope = element;
+                    level = 0;
+                } else if (element != scope) {
+                    continue;
+                }
+
+                Optional<String> found = find(value, scope.text());
+                if (found.isPresent()) {
+                    parser.stop();
+                    return found;
+                }
+                // 값이 옆 칸이나 다음 줄에 있을 수 있으므로 부모가 닫힐 때 다시 본다
+                scope = level < maxAncestors ? scope.parent() : null;
+                level++;
+            }
+            return Optional.empty();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Optional<String> find(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(matcher.groupCount() > 0 ? matcher.group(1) : matcher.group());
+    }
+}
@@ -0,0 +1,41 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+/**
+ * 추출한 텍스트의 단위. 라벨 값은 단위 기호가 붙은 숫자만 찾고, 표의 칸은 기호를 떼고 읽는다.
+ */
+public enum ValueUnit {
+    PERCENT("(-?\\d+(?:\\.\\d+)?)\\s*%"),
+    USD("\\$\\s*(\\d[\\d,]*(?:\\.\\d+)?)"),
+    DECIMAL("(-?\\d[\\d,]*(?:\\.\\d+)?)"),
+    DATE(null);
+
+    private final Pattern defaultValuePattern;
+
+    ValueUnit(String defaultValuePattern) {
+        this.defaultValuePattern = defaultValuePattern != null ? Pattern.compile(defaultValuePattern) : null;
+    }
+
+    /**
+     * 라벨 옆에서 값을 찾는 기본 패턴. 날짜는 기본 패턴이 없다.
+     */
+    public Pattern defaultValuePattern() {
+        return defaultValuePattern;
+    }
+
+    public boolean isNumeric() {
+        return this != DATE;
+    }
+
+    /**
+     * "$1,234.50", "54.84%" 같은 텍스트를 숫자로 읽는다.
+     *
+     * @throws NumberFormatException 숫자가 아니면
+     */
+    public BigDecimal parseNumber(String text) {
+        String cleaned = text.replace("$", "").replace("%", "").replace(",", "").trim();
+        return new BigDecimal(cleaned);
+    }
+}
@@ -0,0 +1,291 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 출처 하나의 회로 차단기. 최근 호출의 실패율이 임계값을 넘으면 열려서 호출을 바로 거절하고,
+ * 정해진 시간이 지나면 반열림 상태로 몇 번의 시험 호출만 허용해 모두 성공하면 닫는다.
+ *
+ * <p>호출 빈도가 낮으므로(수집 주기당 수 회) 상태 전이는 단순하게 모니터 락으로 보호한다.
+ * 호출 결과는 {@link Permit} 으로 알리며, 상태가 바뀐 뒤 도착한 이전 세대 호출의 결과는 무시한다.</p>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code scraper.circuit.state} (source 태그, 0=closed 1=half-open 2=open)</li>
+ *   <li>{@code scraper.circuit.calls} (source/outcome=success|failure|rejected)</li>
+ *   <li>{@code scraper.circuit.transitions} (source/state, 상태 전이 수)</li>
+ * </ul>
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED(0), HALF_OPEN(1), OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        public int code() {
+            return code;
+        }
+    }
+
+    private final String source;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+
+    // 닫힌 상태의 최근 호출 결과(true=실패) 링 버퍼
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+
+    public CircuitBreaker(String source, ResilienceProperties properties, MeterRegistry meterRegistry,
+                          LongSupplier nanoClock) {
+        if (properties.getFailureRateThreshold() < 1 || properties.getFailureRateThreshold() > 100) {
+            throw new IllegalArgumentException("실패율 임계값은 1~100 이어야 합니다: " + properties.getFailureRateThreshold());
+        }
+        if (properties.getSlidingWindowSize() < 1 || properties.getMinimumCalls() < 1) {
+            throw new IllegalArgumentException("회로 차단기 윈도 크기와 최소 호출 수는 1 이상이어야 합니다");
+        }
+        if (properties.getOpenDuration() == null || properties.getOpenDuration().isNegative()) {
+            throw new IllegalArgumentException("회로 열림 시간은 0 이상이어야 합니다: " + properties.getOpenDuration());
+        }
+        if (properties.getHalfOpenCalls() < 1) {
+            throw new IllegalArgumentException("반열림 시험 호출 수는 1 이상이어야 합니다: " + properties.getHalfOpenCalls());
+        }
+        this.source = source;
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.minimumCalls = Math.min(properties.getMinimumCalls(), properties.getSlidingWindowSize());
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = properties.getHalfOpenCalls();
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[properties.getSlidingWindowSize()];
+
+        Gauge.builder("scraper.circuit.state", this, breaker -> breaker.state().code())
+            .description("출처별 회로 상태 (0=closed, 1=half-open, 2=open)")
+            .tag("source", source)
+            .register(meterRegistry);
+        this.successes = calls("success");
+        this.failures = calls("failure");
+        this.rejections = calls("rejected");
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return 호출해도 되면 결과를 알릴 Permit, 회로가 열려 있거나 반열림 시험 호출이 모두 나갔으면 null
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+                rejections.increment();
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenCalls) {
+                rejections.increment();
+                return null;
+            }
+            halfOpenIssued++;
+        }
+        return new Permit(generation);
+    }
+
+    /**
+     * call 을 회로로 보호한다. 회로가 열려 있으면 구독 시점에 {@link CircuitOpenException} 으로 끝난다.
+     * isFailure 에 맞지 않는 오류(예: 4xx)는 출처가 응답한 것으로 보고 성공으로 센다.
+     */
+    public <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit == null) {
+                return Mono.error(new CircuitOpenException(source));
+            }
+            return call
+                .doOnSuccess(value -> permit.success())
+                .doOnError(error -> permit.complete(isFailure.test(error)))
+                .doOnCancel(permit::release);
+        });
+    }
+
+    /**
+     * {@link #protect} 의 블로킹 버전.
+     */
+    public <T> T execute(IOCall<T> call, Predicate<IOException> isFailure) throws IOException {
+        Permit permit = tryAcquire();
+        if (permit == null) {
+            throw new CircuitOpenException(source);
+        }
+        try {
+            T result = call.call();
+            permit.success();
+            return result;
+        } catch (IOException e) {
+            permit.complete(isFailure.test(e));
+            throw e;
+        } catch (RuntimeException e) {
+            permit.failure();
+            throw e;
+        }
+    }
+
+    private synchronized void record(long callGeneration, boolean failed) {
+        (failed ? failures : successes).increment();
+        if (callGeneration != generation) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                if (windowCount == window.length && window[windowNext]) {
+                    windowFailures--;
+                }
+                window[windowNext] = failed;
+                windowNext = (windowNext + 1) % window.length;
+                windowCount = Math.min(windowCount + 1, window.length);
+                if (failed) {
+                    windowFailures++;
+                }
+                if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (failed) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // 같은 세대에서 OPEN 이 되는 경우는 없다
+            }
+        }
+    }
+
+    private synchronized void release(long callGeneration) {
+        if (callGeneration == generation && state == State.HALF_OPEN && halfOpenIssued > 0) {
+            halfOpenIssued--;
+        }
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        generation++;
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+
+        Counter.builder("scraper.circuit.transitions")
+            .description("회로 상태 전이 수")
+            .tag("source", source)
+            .tag("state", next.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        if (next == State.OPEN) {
+            log.warn("Circuit for {} opened (was {})", source, previous);
+        } else {
+            log.info("Circuit for {} is now {} (was {})", source, next, previous);
+        }
+    }
+
+    private Counter calls(String outcome) {
+        return Counter.builder("scraper.circuit.calls")
+            .description("회로 차단기를 거친 호출 수")
+            .tag("source", source)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 허용된 호출 하나. 결과는 한 번만 반영된다.
+     */
+    public final class Permit {
+
+        private final long generation;
+        private boolean completed;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+
+        public void success() {
+            complete(false);
+        }
+
+        public void failure() {
+            complete(true);
+        }
+
+        void complete(boolean failed) {
+            synchronized (CircuitBreaker.this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+                record(generation, failed);
+            }
+        }
+
+        /**
+         * 결과 없이 끝난 호출(취소). 반열림 시험 호출 자리를 돌려준다.
+         */
+        public void release() {
+            synchronized (CircuitBreaker.this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+                CircuitBreaker.this.release(generation);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IOCall<T> {
+        T call() throws IOException;
+    }
+}
@@ -0,0 +1,20 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import java.io.IOException;
+
+/**
+ * 회로가 열려 있어 출처를 호출하지 않고 거절했다. 페이지 적재와 같은 IOException 경로로 처리되도록 IOException 이다.
+ */
+public class CircuitOpenException extends IOException {
+
+    private final String source;
+
+    public CircuitOpenException(String source) {
+        super("Circuit for " + source + " is open");
+        this.source = source;
+    }
+
+    public String source() {
+        return source;
+    }
+}
@@ -0,0 +1,187 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import com.etf.risk.adapter.scraper.config.RateLimitProperties.HostLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 외부 요청(Jsoup 페이지, Yahoo WebClient)이 함께 쓰는 호스트별 속도 제한.
+ *
+ * <p>호스트마다 {@link TokenBucket} 을 두고, 리액티브 호출은 {@link Mono#delay} 로, 블로킹 호출은 호출 스레드에서
+ * 토큰 예약 시각까지 기다린다. 429/503 응답의 Retry-After(초 또는 HTTP-date)를 받으면 그 시각까지 해당 호스트의
+ * 요청을 멈춘다.</p>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code scraper.ratelimit.queue} (host 태그, 토큰을 기다리는 요청 수)</li>
+ *   <li>{@code scraper.ratelimit.wait} (host 태그, 토큰을 기다린 시간)</li>
+ *   <li>{@code scraper.ratelimit.retry.after} (host 태그, Retry-After 로 멈춘 횟수)</li>
+ * </ul>
+ */
+@Component
+public class HostRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(HostRateLimiter.class);
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostBucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getMaxRetryAfter() == null || properties.getMaxRetryAfter().isNegative()) {
+            throw new IllegalArgumentException("Retry-After 최대 대기 시간은 0 이상이어야 합니다: " + properties.getMaxRetryAfter());
+        }
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * host 의 토큰을 얻으면 완료된다. 구독할 때 토큰을 예약한다.
+     */
+    public Mono<Void> acquire(String host) {
+        return Mono.defer(() -> {
+            HostBucket bucket = bucket(host);
+            long waitNanos = bucket.tokens.reserve();
+            bucket.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            if (waitNanos == 0) {
+                return Mono.empty();
+            }
+            bucket.waiting.incrementAndGet();
+            return Mono.delay(Duration.ofNanos(waitNanos))
+                .doFinally(signal -> bucket.waiting.decrementAndGet())
+                .then();
+        });
+    }
+
+    /**
+     * {@link #acquire} 의 블로킹 버전. boundedElastic 등 블로킹이 허용된 스레드에서만 호출한다.
+     */
+    public void acquireBlocking(String host) throws IOException {
+        HostBucket bucket = bucket(host);
+        long waitNanos = bucket.tokens.reserve();
+        bucket.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos == 0) {
+            return;
+        }
+        bucket.waiting.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 속도 제한 대기가 중단되었습니다: " + host);
+        } finally {
+            bucket.waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * 429/503 응답이면 Retry-After 만큼 host 의 요청을 멈춘다. 헤더가 없거나 해석할 수 없으면 무시한다.
+     */
+    public void onResponse(String host, int statusCode, String retryAfter) {
+        if (statusCode != HttpStatus.TOO_MANY_REQUESTS.value() && statusCode != HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            return;
+        }
+        parseRetryAfter(retryAfter, Instant.now()).ifPresent(delay -> {
+            Duration pause = delay.compareTo(properties.getMaxRetryAfter()) > 0 ? properties.getMaxRetryAfter() : delay;
+            HostBucket bucket = bucket(host);
+            bucket.tokens.pauseUntil(System.nanoTime() + pause.toNanos());
+            bucket.retryAfter.increment();
+            log.warn("{} responded {} with Retry-After {}; pausing requests for {}", host, statusCode, retryAfter, pause);
+        });
+    }
+
+    /**
+     * WebClient 요청마다 대상 호스트의 토큰을 얻고, 응답의 Retry-After 를 반영하는 필터.
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            String host = hostOf(request.url());
+            return acquire(host)
+                .then(Mono.defer(() -> next.exchange(request)))
+                .doOnNext(response -> onResponse(host, response.statusCode().value(),
+                    response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        };
+    }
+
+    /**
+     * Retry-After 는 초(delta-seconds) 또는 HTTP-date 이다.
+     */
+    static Optional<Duration> parseRetryAfter(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds >= 0 ? Optional.of(Duration.ofSeconds(seconds)) : Optional.empty();
+        } catch (NumberFormatException e) {
+            // HTTP-date 형식일 수 있다
+        }
+        try {
+            Instant until = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration delay = Duration.between(now, until);
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static String hostOf(URI uri) {
+        return uri.getHost() != null ? uri.getHost() : "unknown";
+    }
+
+    public static String hostOf(String url) {
+        return hostOf(URI.create(url));
+    }
+
+    private HostBucket bucket(String host) {
+        return buckets.computeIfAbsent(host, this::newBucket);
+    }
+
+    private HostBucket newBucket(String host) {
+        HostLimit limit = properties.limitFor(host);
+        AtomicInteger waiting = new AtomicInteger();
+        Gauge.builder("scraper.ratelimit.queue", waiting, AtomicInteger::get)
+            .description("속도 제한 토큰을 기다리는 요청 수")
+            .tag("host", host)
+            .register(meterRegistry);
+        Timer waitTimer = Timer.builder("scraper.ratelimit.wait")
+            .description("속도 제한 토큰을 기다린 시간")
+            .tag("host", host)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Counter retryAfter = Counter.builder("scraper.ratelimit.retry.after")
+            .description("Retry-After 응답으로 요청을 멈춘 횟수")
+            .tag("host", host)
+            .register(meterRegistry);
+        return new HostBucket(new TokenBucket(limit.getPermitsPerSecond(), limit.getBurst(), System::nanoTime),
+            waiting, waitTimer, retryAfter);
+    }
+
+    private record HostBucket(TokenBucket tokens, AtomicInteger waiting, Timer waitTimer, Counter retryAfter) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * 지연 기반 헤지 요청. 최근 성공 응답 시간의 분위수(기본 p95)만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보내고
+ * 먼저 값을 낸 쪽을 쓴다. 나머지 요청은 취소된다. 멱등한 조회에만 쓴다.
+ *
+ * <p>표본이 {@code minSamples} 보다 적으면 헤지하지 않는다. 지연은 {@code [minDelay, maxDelay]} 로 자른다.</p>
+ *
+ * <p>메트릭: {@code scraper.hedge.requests} (source 태그, 헤지로 추가 발송한 요청 수)</p>
+ */
+public final class LatencyHedge {
+
+    private static final int SAMPLE_SIZE = 128;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final Counter hedges;
+
+    // 최근 성공 응답 시간(나노초) 링 버퍼
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private int sampleNext;
+    private int sampleCount;
+
+    public LatencyHedge(String source, ResilienceProperties.Hedge properties, MeterRegistry meterRegistry) {
+        if (properties.getPercentile() <= 0 || properties.getPercentile() >= 1) {
+            throw new IllegalArgumentException("헤지 분위수는 0 과 1 사이여야 합니다: " + properties.getPercentile());
+        }
+        if (properties.getMinDelay().compareTo(properties.getMaxDelay()) > 0) {
+            throw new IllegalArgumentException("헤지 최소 지연이 최대 지연보다 큽니다: "
+                + properties.getMinDelay() + " > " + properties.getMaxDelay());
+        }
+        this.enabled = properties.isEnabled();
+        this.percentile = properties.getPercentile();
+        this.minSamples = Math.min(Math.max(properties.getMinSamples(), 1), SAMPLE_SIZE);
+        this.minDelayNanos = properties.getMinDelay().toNanos();
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.hedges = Counter.builder("scraper.hedge.requests")
+            .description("응답이 늦어 헤지로 한 번 더 보낸 요청 수")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    /**
+     * attempt 가 만드는 요청을 헤지해서 보낸다. 둘 다 실패하면 먼저 보낸 요청의 오류로 끝난다.
+     */
+    public <T> Mono<T> hedge(Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            Duration delay = delay();
+            if (delay == null) {
+                return timed(attempt.get());
+            }
+            Mono<T> backup = Mono.delay(delay)
+                .then(Mono.defer(() -> {
+                    hedges.increment();
+                    return timed(attempt.get());
+                }));
+            return Mono.firstWithValue(timed(attempt.get()), backup)
+                .onErrorMap(NoSuchElementException.class, LatencyHedge::firstFailure);
+        });
+    }
+
+    /**
+     * @return 헤지까지 기다릴 시간. 헤지하지 않으면 null
+     */
+    public synchronized Duration delay() {
+        if (!enabled || sampleCount < minSamples) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        int index = Math.max((int) Math.ceil(percentile * sorted.length) - 1, 0);
+        return Duration.ofNanos(Math.clamp(sorted[index], minDelayNanos, maxDelayNanos));
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[sampleNext] = latencyNanos;
+        sampleNext = (sampleNext + 1) % SAMPLE_SIZE;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+    }
+
+    private <T> Mono<T> timed(Mono<T> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.doOnSuccess(value -> record(System.nanoTime() - start));
+        });
+    }
+
+    private static Throwable firstFailure(NoSuchElementException e) {
+        // firstWithValue 는 모든 요청이 실패하면 각 오류를 묶은 NoSuchElementException 을 낸다
+        if (e.getCause() == null) {
+            return e;
+        }
+        List<Throwable> failures = Exceptions.unwrapMultiple(e.getCause());
+        return failures.isEmpty() ? e : failures.get(0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 출처 이름(Yahoo, 운용사 사이트 호스트)별 회로 차단기와 헤지 정책을 한 번만 만들어 공유한다.
+ */
+@Component
+public class SourceResilience {
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHedge> hedges = new ConcurrentHashMap<>();
+
+    public SourceResilience(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CircuitBreaker circuitBreaker(String source) {
+        return circuitBreakers.computeIfAbsent(source,
+            name -> new CircuitBreaker(name, properties, meterRegistry, System::nanoTime));
+    }
+
+    public LatencyHedge hedge(String source) {
+        return hedges.computeIfAbsent(source,
+            name -> new LatencyHedge(name, properties.getHedge(), meterRegistry));
+    }
+}
@@ -0,0 +1,67 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 예약 방식 토큰 버킷. 토큰을 기다리며 스레드를 붙잡지 않도록, {@link #reserve()} 는 토큰 하나를 예약하고
+ * 호출자가 기다려야 할 시간만 돌려준다. 쉬고 있던 버킷에서는 burst 개까지 바로 쓸 수 있다.
+ *
+ * <p>{@link #pauseUntil(long)} 은 서버가 Retry-After 로 알려 준 시각까지 쌓인 토큰을 버리고 새 토큰도 내주지 않는다.</p>
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    // 지금 바로 쓸 수 있는 한 개를 제외하고 쌓아 둘 수 있는 토큰 수
+    private final int maxStoredTokens;
+    private final LongSupplier nanoClock;
+
+    private double storedTokens;
+    private long nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("초당 허용 요청 수는 0보다 커야 합니다: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst 는 1 이상이어야 합니다: " + burst);
+        }
+        this.intervalNanos = Math.max((long) (1_000_000_000L / permitsPerSecond), 1L);
+        this.maxStoredTokens = burst - 1;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+        this.storedTokens = maxStoredTokens;
+    }
+
+    /**
+     * 토큰 하나를 예약한다.
+     *
+     * @return 예약한 토큰을 쓸 수 있을 때까지 기다릴 나노초 (0 이면 바로)
+     */
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long waitNanos = Math.max(nextFreeNanos - now, 0L);
+        if (storedTokens >= 1) {
+            storedTokens -= 1;
+        } else {
+            nextFreeNanos += intervalNanos;
+        }
+        return waitNanos;
+    }
+
+    /**
+     * untilNanos 이전에는 토큰을 내주지 않는다. 이미 더 늦은 시각까지 멈춰 있으면 그대로 둔다.
+     */
+    public synchronized void pauseUntil(long untilNanos) {
+        refill(nanoClock.getAsLong());
+        storedTokens = 0;
+        nextFreeNanos = Math.max(nextFreeNanos, untilNanos);
+    }
+
+    private void refill(long now) {
+        if (now > nextFreeNanos) {
+            storedTokens = Math.min(maxStoredTokens, storedTokens + (double) (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+    }
+}
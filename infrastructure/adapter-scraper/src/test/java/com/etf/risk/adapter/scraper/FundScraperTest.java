@@ -0,0 +1,231 @@
+package com.etf.risk.adapter.scraper;
+
+import com.etf.risk.adapter.scraper.cache.FetchedPage;
+import com.etf.risk.adapter.scraper.cache.PageCache;
+import com.etf.risk.adapter.scraper.cache.PageExtractor;
+import com.etf.risk.adapter.scraper.cache.PageStateStore;
+import com.etf.risk.adapter.scraper.cache.PageValidators;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.ColumnProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.FieldProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.FundProfile;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.TableProfile;
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.etf.risk.adapter.scraper.extract.ExtractedRow;
+import com.etf.risk.adapter.scraper.extract.FundExtraction;
+import com.etf.risk.adapter.scraper.extract.ValueUnit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FundScraper 추출 프로필 테스트 (녹화된 페이지)")
+class FundScraperTest {
+
+    private static final String GOF_URL = "https://www.guggenheiminvestments.com/cef/fund/gof/distributions";
+    private static final String QQQI_URL = "https://neosfunds.com/qqqi";
+    private static final Map<String, String> FIXTURES = Map.of(
+        GOF_URL, "guggenheim-gof-distributions.html",
+        QQQI_URL, "neos-qqqi.html"
+    );
+
+    @TempDir
+    Path stateDir;
+
+    private final Map<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+    private ExtractionProfileProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExtractionProfileProperties();
+        properties.getFunds().put("GOF", gofProfile());
+        properties.getFunds().put("QQQI", qqqiProfile());
+    }
+
+    @Test
+    @DisplayName("프로필대로 라벨 값과 표를 추출한다")
+    void scrape_extractsFieldsAndTables() {
+        // When
+        FundExtraction gof = scraper().scrape("GOF");
+
+        // Then
+        assertThat(gof.value("roc")).contains(new BigDecimal("54.84"));
+        assertThat(gof.table("dividends")).hasSize(220);
+        ExtractedRow latest = gof.table("dividends").get(0);
+        assertThat(latest.date("ex-dividend-date")).isEqualTo(LocalDate.of(2025, 9, 15));
+        assertThat(latest.date("payment-date")).isEqualTo(LocalDate.of(2025, 9, 28));
+        assertThat(latest.decimal("amount")).isEqualByComparingTo("0.1821");
+    }
+
+    @Test
+    @DisplayName("모든 종목을 동시에 수집하고, 페이지는 URL 당 한 번만 내려받는다")
+    void scrapeAll_scrapesEveryFund() {
+        // When
+        Map<String, FundExtraction> results = scraper().scrapeAll();
+
+        // Then
+        assertThat(results).containsOnlyKeys("GOF", "QQQI");
+        assertThat(results.get("QQQI").value("roc")).contains(new BigDecimal("100"));
+        assertThat(results.get("QQQI").value("recent-dividend")).contains(new BigDecimal("0.6445"));
+        assertThat(fetches.get(QQQI_URL)).hasValue(1);
+        assertThat(fetches.get(GOF_URL)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 값은 버리고 fallback 을 쓴다")
+    void scrape_outOfBounds_usesFallback() {
+        // Given: 분배율 14.21% 를 배당금으로 잘못 잡도록 라벨과 패턴을 설정
+        FieldProfile dividend = field("Distribution Rate", ValueUnit.PERCENT, "0", "5");
+        dividend.setFallback(new BigDecimal("0.6445"));
+        properties.getFunds().get("QQQI").getFields().put("recent-dividend", dividend);
+
+        // When
+        FundExtraction qqqi = scraper().scrape("QQQI");
+
+        // Then
+        assertThat(qqqi.value("recent-dividend")).contains(new BigDecimal("0.6445"));
+    }
+
+    @Test
+    @DisplayName("값을 찾지 못하고 fallback 도 없으면 결과에서 빠진다")
+    void scrape_missingWithoutFallback() {
+        properties.getFunds().get("GOF").getFields().put("leverage", field("Leverage", ValueUnit.PERCENT, null, null));
+
+        assertThat(scraper().scrape("GOF").value("leverage")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준일 이하의 행에 닿으면 표를 더 읽지 않고 새 행만 돌려준다")
+    void scrapeRowsAfter_stopsAtKnownDate() {
+        // When
+        List<ExtractedRow> rows = scraper().scrapeRowsAfter("GOF", "dividends", "payment-date", LocalDate.of(2025, 7, 28));
+
+        // Then
+        assertThat(rows).extracting(row -> row.date("payment-date"))
+            .containsExactly(LocalDate.of(2025, 9, 28), LocalDate.of(2025, 8, 28));
+    }
+
+    @Test
+    @DisplayName("기준일이 없으면 표 전체를 돌려준다")
+    void scrapeRowsAfter_withoutKnownDate_returnsAllRows() {
+        assertThat(scraper().scrapeRowsAfter("GOF", "dividends", "payment-date", null)).hasSize(220);
+        assertThat(scraper().symbolsWithTable("dividends")).containsExactly("GOF");
+    }
+
+    @Test
+    @DisplayName("한 종목이 실패해도 나머지 종목은 수집한다")
+    void scrapeAll_isolatesFailures() {
+        // Given
+        FundProfile broken = new FundProfile();
+        broken.setUrl("https://example.com/broken");
+        broken.getFields().put("roc", field("ROC", ValueUnit.PERCENT, null, null));
+        properties.getFunds().put("BRKN", broken);
+
+        // When & Then
+        assertThat(scraper().scrapeAll()).containsOnlyKeys("GOF", "QQQI");
+    }
+
+    @Test
+    @DisplayName("잘못된 정규식이나 셀렉터는 기동 시점에 실패한다")
+    void invalidProfile_failsFast() {
+        properties.getFunds().get("GOF").getFields().get("roc").setLabel("Return of (Capital");
+
+        assertThatThrownBy(this::scraper)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("GOF.roc.label");
+    }
+
+    @Test
+    @DisplayName("fallback 이 허용 범위를 벗어나면 기동 시점에 실패한다")
+    void fallbackOutOfBounds_failsFast() {
+        properties.getFunds().get("QQQI").getFields().get("roc").setFallback(new BigDecimal("150"));
+
+        assertThatThrownBy(this::scraper)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("QQQI.roc");
+    }
+
+    @Test
+    @DisplayName("프로필이 없는 종목은 수집할 수 없다")
+    void scrape_unknownSymbol() {
+        assertThatThrownBy(() -> scraper().scrape("SPY"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private FundScraper scraper() {
+        PageCacheProperties cacheProperties = new PageCacheProperties();
+        cacheProperties.setTtl(Duration.ofMinutes(10));
+        cacheProperties.setStateDir(stateDir.toString());
+        ObjectMapper objectMapper = new ObjectMapper();
+        PageStateStore store = new PageStateStore(cacheProperties, objectMapper);
+        PageCache cache = new PageCache((url, validators) -> fetch(url), store, cacheProperties, new SimpleMeterRegistry());
+        return new FundScraper(properties, new PageExtractor(cache, store, objectMapper));
+    }
+
+    private FetchedPage fetch(String url) throws IOException {
+        String fixture = FIXTURES.get(url);
+        if (fixture == null) {
+            throw new IOException("connection refused: " + url);
+        }
+        fetches.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/" + fixture)) {
+            return new FetchedPage(url, false, in.readAllBytes(), "UTF-8", PageValidators.NONE);
+        }
+    }
+
+    static FundProfile gofProfile() {
+        FundProfile profile = new FundProfile();
+        profile.setUrl(GOF_URL);
+        profile.getFields().put("roc", field("(?i)Return of Capital", ValueUnit.PERCENT, "0", "100"));
+
+        TableProfile dividends = new TableProfile();
+        dividends.setContainer("#distTable");
+        dividends.setRows("#distTable tbody tr");
+        dividends.getColumns().put("ex-dividend-date", column(1, ValueUnit.DATE));
+        dividends.getColumns().put("payment-date", column(2, ValueUnit.DATE));
+        dividends.getColumns().put("amount", column(3, ValueUnit.USD));
+        profile.getTables().put("dividends", dividends);
+        return profile;
+    }
+
+    static FundProfile qqqiProfile() {
+        FundProfile profile = new FundProfile();
+        profile.setUrl(QQQI_URL);
+        FieldProfile roc = field("Return of Capital|\\bROC\\b", ValueUnit.PERCENT, "0", "100");
+        roc.setFallback(new BigDecimal("100.00"));
+        profile.getFields().put("roc", roc);
+        profile.getFields().put("recent-dividend", field("Distribution|Dividend", ValueUnit.USD, "0", "10"));
+        return profile;
+    }
+
+    private static FieldProfile field(String label, ValueUnit unit, String min, String max) {
+        FieldProfile field = new FieldProfile();
+        field.setLabel(label);
+        field.setUnit(unit);
+        field.setMin(min != null ? new BigDecimal(min) : null);
+        field.setMax(max != null ? new BigDecimal(max) : null);
+        return field;
+    }
+
+    private static ColumnProfile column(int index, ValueUnit unit) {
+        ColumnProfile column = new ColumnProfile();
+        column.setIndex(index);
+        column.setUnit(unit);
+        return column;
+    }
+}
@@ -0,0 +1,258 @@
+package com.etf.risk.adapter.scraper;
+
+import com.etf.risk.adapter.scraper.cache.JsoupPageFetcher;
+import com.etf.risk.adapter.scraper.cache.PageCache;
+import com.etf.risk.adapter.scraper.cache.PageExtractor;
+import com.etf.risk.adapter.scraper.cache.PageFetcher;
+import com.etf.risk.adapter.scraper.cache.PageStateStore;
+import com.etf.risk.adapter.scraper.client.YahooFinanceClient;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties;
+import com.etf.risk.adapter.scraper.config.ExtractionProfileProperties.FundProfile;
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import com.etf.risk.adapter.scraper.extract.FundExtraction;
+import com.etf.risk.adapter.scraper.resilience.HostRateLimiter;
+import com.etf.risk.adapter.scraper.resilience.SourceResilience;
+import com.etf.risk.domain.model.common.Money;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import com.etf.risk.testsupport.replay.RecordedResponse;
+import com.etf.risk.testsupport.replay.ReplayServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 녹화된 Guggenheim/NEOS/Yahoo 응답을 돌려주는 {@link ReplayServer} 를 상대로 스크래퍼의 처리량을 잰다.
+ * 네트워크 없이 같은 입력으로 반복할 수 있으므로 추출/캐시/회복성 변경 전후를 비교하는 데 쓴다.
+ *
+ * <p>보고 항목: pages/s(재생 서버가 응답한 요청 수 기준), parse ms/page(순차 수집에서 내려받기를 뺀 추출/저장 시간),
+ * alloc/page(측정 구간 동안 모든 플랫폼 스레드가 할당한 바이트. 재생 서버는 가상 스레드라 빠지지만 근사치다).
+ * Yahoo 는 응답 JSON 이 Netty 스레드에서 디코딩되므로 파싱 시간을 따로 떼지 않고 호출당 시간만 보고한다.
+ * 실행: {@code ./gradlew :infrastructure:adapter-scraper:benchmark}</p>
+ */
+@Tag("benchmark")
+@DisplayName("스크래퍼 처리량 벤치마크 (녹화된 응답 재생 서버)")
+class ScraperThroughputBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+    private static final int FUND_COPIES = 8;
+    private static final int ROUNDS = 10;
+
+    @TempDir
+    Path stateDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong fetchNanos = new AtomicLong();
+    private ReplayServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("GOF/QQQI 프로필 순차 수집 (지연 없음)")
+    void fundScraper_sequential() {
+        // Given
+        server = ReplayServer.recordedSources().start();
+        ExtractionProfileProperties properties = new ExtractionProfileProperties();
+        properties.getFunds().put("GOF", profile(FundScraperTest.gofProfile(), ReplayServer.GUGGENHEIM_GOF_PATH));
+        properties.getFunds().put("QQQI", profile(FundScraperTest.qqqiProfile(), ReplayServer.NEOS_QQQI_PATH));
+        FundScraper scraper = fundScraper(properties);
+
+        FundExtraction gof = scraper.scrape("GOF");
+        assertThat(gof.value("roc")).contains(new BigDecimal("54.84"));
+        assertThat(gof.table("dividends")).hasSize(220);
+        for (int i = 0; i < WARMUP; i++) {
+            scraper.scrape("GOF");
+            scraper.scrape("QQQI");
+        }
+
+        // When
+        Measurement measurement = measure(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                scraper.scrape("GOF");
+                scraper.scrape("QQQI");
+            }
+        });
+
+        // Then
+        measurement.report("FundScraper sequential");
+        assertThat(measurement.pages()).isGreaterThanOrEqualTo(ITERATIONS * 2L);
+    }
+
+    @Test
+    @DisplayName("종목 동시 수집 수에 따른 scrapeAll 처리량 (응답 지연 30~50ms, 2% 503)")
+    void fundScraper_scrapeAllUnderLatency() {
+        // Given: 같은 녹화 페이지를 서로 다른 URL 로 복제해 종목 수를 늘린다
+        RecordedResponse gofPage = RecordedResponse.fixture("guggenheim-gof-distributions.html", RecordedResponse.HTML);
+        RecordedResponse qqqiPage = RecordedResponse.fixture("neos-qqqi.html", RecordedResponse.HTML);
+        ReplayServer.Builder builder = ReplayServer.builder()
+            .latency(Duration.ofMillis(30), Duration.ofMillis(20))
+            // Retry-After 를 주면 속도 제한이 호스트 전체를 멈추므로 처리량 측정에서는 빼 둔다
+            .fault(503, 0.02, null);
+        for (int i = 0; i < FUND_COPIES; i++) {
+            builder.route("/gof/" + i, gofPage).route("/qqqi/" + i, qqqiPage);
+        }
+        server = builder.start();
+
+        for (int concurrency : new int[]{1, 4, 16}) {
+            ExtractionProfileProperties properties = new ExtractionProfileProperties();
+            properties.setMaxConcurrentFunds(concurrency);
+            for (int i = 0; i < FUND_COPIES; i++) {
+                properties.getFunds().put("GOF" + i, profile(FundScraperTest.gofProfile(), "/gof/" + i));
+                properties.getFunds().put("QQQI" + i, profile(FundScraperTest.qqqiProfile(), "/qqqi/" + i));
+            }
+            FundScraper scraper = fundScraper(properties);
+            scraper.scrapeAll();
+
+            // When
+            AtomicLong scraped = new AtomicLong();
+            Measurement measurement = measure(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    scraped.addAndGet(scraper.scrapeAll().size());
+                }
+            });
+
+            // Then
+            measurement.reportThroughput("scrapeAll concurrency=" + concurrency);
+            System.out.printf("%-28s %8.1f funds/s, %d/%d funds scraped%n", "",
+                scraped.get() * 1_000_000_000.0 / measurement.elapsedNanos(), scraped.get(), ROUNDS * FUND_COPIES * 2L);
+            assertThat(scraped.get()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("YahooFinanceClient 시세 조회 (응답 지연 10~20ms, 2% 503 재시도)")
+    void yahooFinanceClient_quotes() {
+        // Given
+        server = ReplayServer.recordedSources()
+            .latency(Duration.ofMillis(10), Duration.ofMillis(10))
+            .fault(503, 0.02, null)
+            .start();
+        YahooFinanceClient client = new YahooFinanceClient(
+            WebClient.builder().filter((request, next) ->
+                next.exchange(ClientRequest.from(request).url(server.rewrite(request.url())).build())),
+            new SourceResilience(new ResilienceProperties(), meterRegistry),
+            new HostRateLimiter(unlimited(), meterRegistry));
+        List<String> symbols = List.of("GOF", "QQQI");
+
+        Map<String, ETFSnapshot> snapshots = client.fetchSnapshots(symbols);
+        assertThat(snapshots).containsOnlyKeys("GOF", "QQQI");
+        assertThat(snapshots.get("GOF").currentPrice()).isEqualTo(Money.of("14.76"));
+        for (int i = 0; i < WARMUP; i++) {
+            client.fetchSnapshots(symbols);
+        }
+
+        // When
+        AtomicLong complete = new AtomicLong();
+        Measurement measurement = measure(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (client.fetchSnapshots(symbols).size() == symbols.size()) {
+                    complete.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        measurement.reportThroughput("YahooFinanceClient");
+        System.out.printf("%-28s %8.3f ms/call, %d/%d complete%n", "",
+            measurement.elapsedNanos() / 1_000_000.0 / ITERATIONS, complete.get(), ITERATIONS);
+        assertThat(complete.get()).isGreaterThan(ITERATIONS * 9L / 10);
+    }
+
+    private FundProfile profile(FundProfile profile, String path) {
+        profile.setUrl(server.url(path));
+        return profile;
+    }
+
+    private FundScraper fundScraper(ExtractionProfileProperties properties) {
+        // TTL 0: 필드/표마다 재생 서버에서 다시 받아 추출한다. 재생 서버는 ETag 를 보내지 않으므로 304 경로는 타지 않는다
+        PageCacheProperties cacheProperties = new PageCacheProperties();
+        cacheProperties.setTtl(Duration.ZERO);
+        cacheProperties.setStateDir(stateDir.toString());
+        ObjectMapper objectMapper = new ObjectMapper();
+        PageStateStore store = new PageStateStore(cacheProperties, objectMapper);
+        JsoupPageFetcher fetcher = new JsoupPageFetcher(new SourceResilience(new ResilienceProperties(), meterRegistry),
+            new HostRateLimiter(unlimited(), meterRegistry));
+        PageFetcher timedFetcher = (url, validators) -> {
+            long start = System.nanoTime();
+            try {
+                return fetcher.fetch(url, validators);
+            } finally {
+                fetchNanos.addAndGet(System.nanoTime() - start);
+            }
+        };
+        PageCache cache = new PageCache(timedFetcher, store, cacheProperties, meterRegistry);
+        return new FundScraper(properties, new PageExtractor(cache, store, objectMapper));
+    }
+
+    // 처리량을 재는 동안 속도 제한이 끼어들지 않도록 한다
+    private static RateLimitProperties unlimited() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPermitsPerSecond(1_000_000);
+        properties.setBurst(1_000_000);
+        return properties;
+    }
+
+    private Measurement measure(Runnable workload) {
+        long requests = server.requests();
+        long faults = server.faults();
+        fetchNanos.set(0);
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+
+        workload.run();
+
+        long elapsed = System.nanoTime() - start;
+        return new Measurement(server.requests() - requests, server.faults() - faults, elapsed, fetchNanos.get(),
+            allocatedBytes() - allocated);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+            .filter(bytes -> bytes > 0)
+            .sum();
+    }
+
+    private record Measurement(long pages, long faults, long elapsedNanos, long fetchNanos, long allocatedBytes) {
+
+        /**
+         * 한 스레드에서 순차로 돈 측정만 쓴다. 동시 수집에서는 내려받기 시간이 겹쳐 벽시계 시간에서 뺄 수 없다.
+         */
+        void report(String name) {
+            long served = Math.max(pages, 1);
+            System.out.printf("%-28s %8.1f pages/s, parse %7.3f ms/page, alloc %8.1f KB/page (%d pages, %d faults)%n",
+                name, pages * 1_000_000_000.0 / elapsedNanos, (elapsedNanos - fetchNanos) / 1_000_000.0 / served,
+                allocatedBytes / 1024.0 / served, pages, faults);
+        }
+
+        void reportThroughput(String name) {
+            long served = Math.max(pages, 1);
+            System.out.printf("%-28s %8.1f pages/s, alloc %8.1f KB/page (%d pages, %d faults)%n",
+                name, pages * 1_000_000_000.0 / elapsedNanos, allocatedBytes / 1024.0 / served, pages, faults);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PageCache 테스트")
+class PageCacheTest {
+
+    private static final String URL = "https://www.guggenheiminvestments.com/cef/fund/gof/distributions";
+    private static final String HTML = "<html><body><table id=\"distTable\"><tbody><tr><td>GOF</td></tr></tbody></table></body></html>";
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    @TempDir
+    Path stateDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 같은 URL 을 한 번만 내려받고 파싱 결과를 공유한다")
+    void get_withinTtl_fetchesOnce() throws IOException {
+        // Given
+        PageCache cache = cache(Duration.ofMinutes(10), (url, validators) -> page(url));
+
+        // When
+        Document first = cache.get(URL).document();
+        Document second = cache.get(URL).document();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(fetchCount).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("scraper.page.fetch.bytes").tag("host", "www.guggenheiminvestments.com")
+            .summary().totalAmount()).isEqualTo(HTML.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(meterRegistry.get("scraper.page.parse").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 내려받는다")
+    void get_afterTtl_refetches() throws IOException {
+        PageCache cache = cache(Duration.ZERO, (url, validators) -> page(url));
+
+        cache.get(URL);
+        cache.get(URL);
+
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 한 번만 내려받는다")
+    void get_concurrent_singleFlight() throws Exception {
+        // Given: 첫 요청의 다운로드가 끝나지 않은 상태
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PageCache cache = cache(Duration.ofMinutes(10), (url, validators) -> {
+            fetchStarted.countDown();
+            await(release);
+            return page(url);
+        });
+
+        // When
+        List<Future<Document>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            results.add(executor.submit(() -> cache.get(URL).document()));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(URL).document()));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            Document expected = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Document> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+        }
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("내려받기에 실패하면 캐시에 남기지 않고 다음 요청에서 다시 시도한다")
+    void get_afterFailure_retries() throws IOException {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        PageCache cache = cache(Duration.ofMinutes(10), (url, validators) -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new IOException("connection reset");
+            }
+            return page(url);
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> cache.get(URL)).isInstanceOf(IOException.class);
+        assertThat(cache.get(URL).document().select("#distTable td").text()).isEqualTo("GOF");
+        assertThat(attempts).hasValue(2);
+    }
+
+    private PageCache cache(Duration ttl, PageFetcher fetcher) {
+        PageCacheProperties properties = new PageCacheProperties();
+        properties.setTtl(ttl);
+        properties.setStateDir(stateDir.toString());
+        return new PageCache(fetcher, new PageStateStore(properties, new ObjectMapper()), properties, meterRegistry);
+    }
+
+    private FetchedPage page(String url) {
+        fetchCount.incrementAndGet();
+        return new FetchedPage(url, false, HTML.getBytes(StandardCharsets.UTF_8), "UTF-8", PageValidators.NONE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
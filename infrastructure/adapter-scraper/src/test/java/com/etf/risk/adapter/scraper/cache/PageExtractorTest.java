@@ -0,0 +1,166 @@
+package com.etf.risk.adapter.scraper.cache;
+
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import com.etf.risk.adapter.scraper.resilience.HostRateLimiter;
+import com.etf.risk.adapter.scraper.resilience.SourceResilience;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PageExtractor 조건부 요청 테스트 (로컬 HTTP 서버)")
+class PageExtractorTest {
+
+    private static final TypeReference<List<String>> ROWS = new TypeReference<>() {
+    };
+    private static final String LAST_MODIFIED = "Wed, 01 Oct 2025 00:00:00 GMT";
+
+    @TempDir
+    Path stateDir;
+
+    private HttpServer server;
+    private String url;
+    private volatile String etag = "\"v1\"";
+    private volatile String body = html("0.1821", "0.1821");
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final AtomicInteger extractions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/cef/fund/gof/distributions", this::handle);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/cef/fund/gof/distributions";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("페이지가 바뀌지 않았으면 재시작 후에도 304 로 저장된 추출 결과를 파싱 없이 돌려준다")
+    void extract_notModified_returnsStoredResultWithoutParsing() throws IOException {
+        // Given: 첫 실행에서 전체 응답을 받아 추출
+        List<String> first = newRun(new SimpleMeterRegistry()).extract(url, "rows", ROWS, this::rows);
+
+        // When: 새 실행(캐시 비어 있음)에서 같은 페이지 요청
+        SimpleMeterRegistry secondRun = new SimpleMeterRegistry();
+        List<String> second = newRun(secondRun).extract(url, "rows", ROWS, this::rows);
+
+        // Then
+        assertThat(second).isEqualTo(first).containsExactly("0.1821", "0.1821");
+        assertThat(fullResponses).hasValue(1);
+        assertThat(notModifiedResponses).hasValue(1);
+        assertThat(extractions).hasValue(1);
+        assertThat(secondRun.find("scraper.page.parse").timer()).isNull();
+        assertThat(secondRun.get("scraper.page.not.modified").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지가 바뀌면 새 응답을 파싱해 추출 결과를 갱신한다")
+    void extract_modified_reparses() throws IOException {
+        // Given
+        newRun(new SimpleMeterRegistry()).extract(url, "rows", ROWS, this::rows);
+        etag = "\"v2\"";
+        body = html("0.1821", "0.1900");
+
+        // When
+        List<String> updated = newRun(new SimpleMeterRegistry()).extract(url, "rows", ROWS, this::rows);
+        List<String> revalidated = newRun(new SimpleMeterRegistry()).extract(url, "rows", ROWS, this::rows);
+
+        // Then
+        assertThat(updated).containsExactly("0.1821", "0.1900");
+        assertThat(revalidated).isEqualTo(updated);
+        assertThat(fullResponses).hasValue(2);
+        assertThat(extractions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("304 인데 해당 키의 추출 결과가 없으면 조건 없이 다시 받아 추출한다")
+    void extract_notModifiedWithoutStoredKey_fetchesDocument() throws IOException {
+        // Given
+        newRun(new SimpleMeterRegistry()).extract(url, "rows", ROWS, this::rows);
+
+        // When
+        List<String> firstCell = newRun(new SimpleMeterRegistry())
+            .extract(url, "first-row", ROWS, document -> rows(document).subList(0, 1));
+
+        // Then
+        assertThat(firstCell).containsExactly("0.1821");
+        assertThat(notModifiedResponses).hasValue(1);
+        assertThat(fullResponses).hasValue(2);
+    }
+
+    private PageExtractor newRun(SimpleMeterRegistry meterRegistry) {
+        PageCacheProperties properties = new PageCacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setStateDir(stateDir.toString());
+        ObjectMapper objectMapper = new ObjectMapper();
+        PageStateStore store = new PageStateStore(properties, objectMapper);
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setPermitsPerSecond(1000);
+        rateLimitProperties.setBurst(1000);
+        PageCache cache = new PageCache(new JsoupPageFetcher(new SourceResilience(new ResilienceProperties(), meterRegistry),
+            new HostRateLimiter(rateLimitProperties, meterRegistry)), store, properties, meterRegistry);
+        return new PageExtractor(cache, store, objectMapper);
+    }
+
+    private List<String> rows(Document document) {
+        extractions.incrementAndGet();
+        return document.select("#distTable tbody tr td").stream()
+            .map(Element::text)
+            .toList();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+        if (etag.equals(ifNoneMatch)) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        fullResponses.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String html(String... amounts) {
+        StringBuilder rows = new StringBuilder();
+        for (String amount : amounts) {
+            rows.append("<tr><td>").append(amount).append("</td></tr>");
+        }
+        return "<html><body><table id=\"distTable\"><tbody>" + rows + "</tbody></table></body></html>";
+    }
+}
@@ -0,0 +1,299 @@
+package com.etf.risk.adapter.scraper.client;
+
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import com.etf.risk.adapter.scraper.resilience.CircuitBreaker;
+import com.etf.risk.adapter.scraper.resilience.CircuitOpenException;
+import com.etf.risk.adapter.scraper.resilience.HostRateLimiter;
+import com.etf.risk.adapter.scraper.resilience.SourceResilience;
+import com.etf.risk.domain.model.common.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.etf.risk.domain.model.etf.ETFSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("YahooFinanceClient 조회 테스트")
+class YahooFinanceClientTest {
+
+    private final List<List<String>> requestedChunks = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceProperties resilienceProperties = new ResilienceProperties();
+
+    @Test
+    @DisplayName("종목을 최대 묶음 크기로 나눠 요청하고 결과를 종목별로 합친다")
+    void fetchSnapshots_chunksSymbols() {
+        // Given
+        List<String> symbols = IntStream.range(0, 120).mapToObj(i -> "ETF" + i).toList();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                List<String> chunk = Arrays.asList(UriComponentsBuilder.fromUri(request.url()).build()
+                    .getQueryParams().getFirst("symbols").split(","));
+                requestedChunks.add(chunk);
+                return Mono.just(quotes(chunk));
+            }));
+
+        // When
+        Map<String, ETFSnapshot> snapshots = client.fetchSnapshots(symbols);
+
+        // Then: 120개 -> 50 + 50 + 20
+        assertThat(requestedChunks).hasSize(3);
+        assertThat(requestedChunks).allSatisfy(chunk ->
+            assertThat(chunk).hasSizeLessThanOrEqualTo(YahooFinanceClient.MAX_SYMBOLS_PER_REQUEST));
+        assertThat(snapshots).hasSize(120);
+        assertThat(snapshots.get("ETF7").currentPrice()).isEqualTo(Money.of("17.5"));
+    }
+
+    @Test
+    @DisplayName("한 묶음의 요청이 실패해도 나머지 묶음의 결과는 돌려준다")
+    void fetchSnapshots_failedChunkKeepsOthers() {
+        // Given: 120개 중 ETF50 으로 시작하는 두 번째 묶음만 404
+        List<String> symbols = IntStream.range(0, 120).mapToObj(i -> "ETF" + i).toList();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                List<String> chunk = Arrays.asList(UriComponentsBuilder.fromUri(request.url()).build()
+                    .getQueryParams().getFirst("symbols").split(","));
+                requestedChunks.add(chunk);
+                return Mono.just(chunk.get(0).equals("ETF50")
+                    ? ClientResponse.create(HttpStatus.NOT_FOUND).build()
+                    : quotes(chunk));
+            }));
+
+        // When
+        Map<String, ETFSnapshot> snapshots = client.fetchSnapshots(symbols);
+
+        // Then: 50 + 20
+        assertThat(requestedChunks).hasSize(3);
+        assertThat(snapshots).hasSize(70);
+        assertThat(snapshots).containsKeys("ETF0", "ETF49", "ETF100", "ETF119");
+        assertThat(snapshots).doesNotContainKeys("ETF50", "ETF99");
+    }
+
+    @Test
+    @DisplayName("출처 장애가 아닌 오류는 삼키지 않고 전파한다")
+    void snapshots_propagatesNonSourceFailure() {
+        // Given: 두 번째 묶음 처리 중 출처와 무관한 오류
+        List<String> symbols = IntStream.range(0, 60).mapToObj(i -> "ETF" + i).toList();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                List<String> chunk = Arrays.asList(UriComponentsBuilder.fromUri(request.url()).build()
+                    .getQueryParams().getFirst("symbols").split(","));
+                return chunk.get(0).equals("ETF50")
+                    ? Mono.error(new IllegalStateException("bug"))
+                    : Mono.just(quotes(chunk));
+            }));
+
+        // When & Then
+        StepVerifier.create(client.snapshots(symbols).then())
+            .expectErrorMatches(e -> e instanceof IllegalStateException && "bug".equals(e.getMessage()))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("중복 종목은 한 번만 요청하고, 응답에 없는 종목은 결과에서 빠진다")
+    void fetchSnapshots_skipsMissingQuotes() {
+        // Given: GONE 은 응답에 없음
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                requestedChunks.add(List.of(request.url().getQuery()));
+                return Mono.just(quotes(List.of("GOF", "QQQI")));
+            }));
+
+        // When
+        Map<String, ETFSnapshot> snapshots = client.fetchSnapshots(List.of("GOF", "QQQI", "GOF", "GONE"));
+
+        // Then
+        assertThat(requestedChunks).hasSize(1);
+        assertThat(snapshots).containsOnlyKeys("GOF", "QQQI");
+    }
+
+    @Test
+    @DisplayName("빈 목록은 요청하지 않는다")
+    void fetchSnapshots_empty() {
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> Mono.error(new AssertionError("요청하면 안 됨"))));
+
+        assertThat(client.fetchSnapshots(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도하고 성공한 시세를 내보낸다")
+    void snapshot_retriesServerError() {
+        // Given: 첫 요청만 503
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> Mono.just(calls.getAndIncrement() == 0
+                ? ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()
+                : quotes(List.of("GOF")))));
+
+        // When & Then
+        StepVerifier.create(client.snapshot("GOF"))
+            .assertNext(snapshot -> assertThat(snapshot.currentPrice()).isEqualTo(Money.of("20.0")))
+            .verifyComplete();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("429 응답은 일시 장애로 보고 재시도한다")
+    void snapshot_retriesTooManyRequests() {
+        // Given: 첫 요청만 429
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> Mono.just(calls.getAndIncrement() == 0
+                ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build()
+                : quotes(List.of("GOF")))));
+
+        // When & Then
+        StepVerifier.create(client.snapshot("GOF"))
+            .assertNext(snapshot -> assertThat(snapshot.currentPrice()).isEqualTo(Money.of("20.0")))
+            .verifyComplete();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void snapshot_doesNotRetryClientError() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                calls.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+            }));
+
+        // When & Then
+        StepVerifier.create(client.snapshot("GOF"))
+            .expectError(WebClientResponseException.NotFound.class)
+            .verify();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘으면 재시도 후 실패한다")
+    void snapshot_timesOut() {
+        // Given: 응답하지 않는 서버
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                calls.incrementAndGet();
+                return Mono.never();
+            }));
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> client.snapshot("GOF"))
+            .thenAwait(YahooFinanceClient.REQUEST_TIMEOUT.multipliedBy(YahooFinanceClient.MAX_RETRIES + 1)
+                .plus(YahooFinanceClient.RETRY_BACKOFF.multipliedBy(10)))
+            .expectError(TimeoutException.class)
+            .verify();
+        assertThat(calls).hasValue(YahooFinanceClient.MAX_RETRIES + 1);
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 진행 중인 요청도 취소된다")
+    void snapshots_cancelPropagates() {
+        // Given
+        AtomicInteger cancelled = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> Mono.<ClientResponse>never().doOnCancel(cancelled::incrementAndGet)));
+
+        // When & Then
+        StepVerifier.create(client.snapshots(List.of("GOF", "QQQI")))
+            .expectSubscription()
+            .thenCancel()
+            .verify();
+        assertThat(cancelled).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패가 이어져 회로가 열리면 요청을 보내지 않고 바로 실패한다")
+    void snapshot_openCircuitFailsFast() {
+        // Given: 두 번의 조회(재시도 포함)가 모두 503 이면 회로가 열리도록 설정
+        resilienceProperties.setSlidingWindowSize(2);
+        resilienceProperties.setMinimumCalls(2);
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> {
+                calls.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+            }));
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.withVirtualTime(() -> client.snapshot("GOF"))
+                .thenAwait(YahooFinanceClient.RETRY_BACKOFF.multipliedBy(10))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+        }
+        int callsBeforeOpen = calls.get();
+
+        // When & Then
+        StepVerifier.create(client.snapshot("GOF"))
+            .expectError(CircuitOpenException.class)
+            .verify();
+        assertThat(calls).hasValue(callsBeforeOpen);
+        assertThat(meterRegistry.get("scraper.circuit.state").tag("source", YahooFinanceClient.SOURCE)
+            .gauge().value()).isEqualTo(CircuitBreaker.State.OPEN.code());
+    }
+
+    @Test
+    @DisplayName("응답이 평소 지연보다 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답을 쓴다")
+    void snapshot_hedgesSlowRequest() {
+        // Given: 첫 조회로 지연 표본을 쌓은 뒤, 두 번째 조회의 첫 요청은 응답하지 않음
+        resilienceProperties.getHedge().setMinSamples(1);
+        AtomicInteger calls = new AtomicInteger();
+        YahooFinanceClient client = client(WebClient.builder()
+            .exchangeFunction(request -> calls.getAndIncrement() == 1
+                ? Mono.never()
+                : Mono.just(quotes(List.of("GOF")))));
+        client.fetchSnapshot("GOF");
+
+        // When & Then: 헤지 지연은 최대 지연을 넘지 않고, 요청 제한 시간보다 짧다
+        StepVerifier.withVirtualTime(() -> client.snapshot("GOF"))
+            .thenAwait(resilienceProperties.getHedge().getMaxDelay())
+            .assertNext(snapshot -> assertThat(snapshot.symbol()).isEqualTo("GOF"))
+            .verifyComplete();
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.get("scraper.hedge.requests").counter().count()).isEqualTo(1);
+    }
+
+    private YahooFinanceClient client(WebClient.Builder webClientBuilder) {
+        // 속도 제한은 HostRateLimiterTest 에서 검증하므로 여기서는 대기하지 않도록 넉넉히 준다
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setPermitsPerSecond(1000);
+        rateLimitProperties.setBurst(1000);
+        return new YahooFinanceClient(webClientBuilder, new SourceResilience(resilienceProperties, meterRegistry),
+            new HostRateLimiter(rateLimitProperties, meterRegistry));
+    }
+
+    private ClientResponse quotes(List<String> symbols) {
+        String result = symbols.stream()
+            .map(symbol -> "{\"symbol\":\"%s\",\"regularMarketPrice\":%s}".formatted(symbol, price(symbol)))
+            .collect(Collectors.joining(","));
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("{\"quoteResponse\":{\"result\":[" + result + "]}}")
+            .build();
+    }
+
+    private String price(String symbol) {
+        String digits = symbol.replaceAll("\\D", "");
+        return digits.isEmpty() ? "20.0" : String.valueOf(10 + Integer.parseInt(digits) + 0.5);
+    }
+}
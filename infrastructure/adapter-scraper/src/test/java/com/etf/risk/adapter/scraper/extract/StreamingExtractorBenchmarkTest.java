@@ -0,0 +1,99 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.cache.Page;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 녹화된 페이지로 기존 방식(전체 DOM + {@code *:contains} + 매번 컴파일하는 {@code String.matches})과
+ * 스트리밍 추출의 페이지당 처리 시간을 비교한다.
+ *
+ * <p>실행: {@code ./gradlew :infrastructure:adapter-scraper:benchmark}</p>
+ */
+@Tag("benchmark")
+@DisplayName("스트리밍 추출 벤치마크 (녹화된 페이지)")
+class StreamingExtractorBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private static final String GOF_URL = "https://www.guggenheiminvestments.com/cef/fund/gof/distributions";
+    private static final String GOF_FIXTURE = "guggenheim-gof-distributions.html";
+    private static final Pattern ROC_LABEL = Pattern.compile("Return of Capital");
+    private static final Pattern PERCENT = Pattern.compile("(\\d+\\.\\d+)\\s*%");
+
+    @TempDir
+    Path stateDir;
+
+    @Test
+    @DisplayName("GOF ROC 추출: 전체 DOM 스캔 vs 스트리밍")
+    void compareRocExtraction() throws IOException {
+        byte[] body = StreamingExtractorTest.fixture(GOF_FIXTURE);
+        Page page = StreamingExtractorTest.page(GOF_URL, GOF_FIXTURE, stateDir, new SimpleMeterRegistry());
+
+        assertThat(legacyRoc(body)).isEqualByComparingTo(streamingRoc(page));
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacyRoc(body);
+            streamingRoc(page);
+        }
+
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyRoc(body);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long streamingStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            streamingRoc(page);
+        }
+        long streamingNanos = System.nanoTime() - streamingStart;
+
+        report("full DOM + :contains", legacyNanos);
+        report("streaming", streamingNanos);
+        assertThat(streamingNanos).isLessThan(legacyNanos);
+    }
+
+    // 변경 전 GuggenheimScraper.parseROC 와 같은 스캔. 조상 요소도 모두 일치하므로 가장 안쪽 요소의 값을 쓴다
+    private BigDecimal legacyRoc(byte[] body) throws IOException {
+        Document doc = Jsoup.parse(new ByteArrayInputStream(body), "UTF-8", GOF_URL);
+        String innermost = null;
+        for (Element element : doc.select("*:contains(Return of Capital)")) {
+            String text = element.text();
+            if (text.matches(".*\\d+\\.\\d+%.*")) {
+                innermost = text;
+            }
+        }
+        if (innermost == null) {
+            return null;
+        }
+        Matcher matcher = Pattern.compile("(\\d+\\.\\d+)%").matcher(innermost);
+        return matcher.find() ? new BigDecimal(matcher.group(1)) : null;
+    }
+
+    private BigDecimal streamingRoc(Page page) throws IOException {
+        Optional<String> value = StreamingExtractor.findLabeledValue(page, ROC_LABEL, PERCENT, 2);
+        return value.map(BigDecimal::new).orElse(null);
+    }
+
+    private void report(String name, long totalNanos) {
+        System.out.printf("%-22s %8.3f ms/page%n", name, totalNanos / 1_000_000.0 / ITERATIONS);
+    }
+}
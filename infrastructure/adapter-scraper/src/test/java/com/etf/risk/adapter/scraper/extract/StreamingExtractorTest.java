@@ -0,0 +1,122 @@
+package com.etf.risk.adapter.scraper.extract;
+
+import com.etf.risk.adapter.scraper.cache.FetchedPage;
+import com.etf.risk.adapter.scraper.cache.Page;
+import com.etf.risk.adapter.scraper.cache.PageCache;
+import com.etf.risk.adapter.scraper.cache.PageStateStore;
+import com.etf.risk.adapter.scraper.cache.PageValidators;
+import com.etf.risk.adapter.scraper.config.PageCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StreamingExtractor 테스트 (녹화된 페이지)")
+class StreamingExtractorTest {
+
+    private static final String GOF_URL = "https://www.guggenheiminvestments.com/cef/fund/gof/distributions";
+    private static final String QQQI_URL = "https://neosfunds.com/qqqi";
+    private static final Pattern PERCENT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*%");
+
+    @TempDir
+    Path stateDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("배당 표가 닫힐 때까지의 행만 모으고 전체 DOM 은 파싱하지 않는다")
+    void selectWithin_collectsTableRows() throws IOException {
+        // Given
+        Page page = page(GOF_URL, "guggenheim-gof-distributions.html");
+
+        // When
+        List<Element> rows = StreamingExtractor.selectWithin(page,
+            StreamingExtractor.query("#distTable"), StreamingExtractor.query("#distTable tbody tr"));
+
+        // Then
+        assertThat(rows).hasSize(220);
+        assertThat(rows.get(0).select("td").get(3).text()).isEqualTo("$0.1821");
+        assertThat(meterRegistry.get("scraper.page.parse").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("찾는 표가 없으면 빈 목록을 돌려준다")
+    void selectWithin_missingContainer() throws IOException {
+        Page page = page(QQQI_URL, "neos-qqqi.html");
+
+        assertThat(StreamingExtractor.selectWithin(page,
+            StreamingExtractor.query("#distTable"), StreamingExtractor.query("#distTable tr"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("라벨 옆 칸의 값을 찾고, 값이 없는 메뉴의 라벨은 건너뛴다")
+    void findLabeledValue_skipsLabelsWithoutValue() throws IOException {
+        // Given: 메뉴의 "Return of Capital Notices" 에는 % 값이 없음
+        Page page = page(GOF_URL, "guggenheim-gof-distributions.html");
+
+        // When & Then
+        assertThat(StreamingExtractor.findLabeledValue(page,
+            Pattern.compile("Return of Capital"), PERCENT, 2)).contains("54.84");
+    }
+
+    @Test
+    @DisplayName("같은 페이지에서 라벨별로 다른 값을 찾는다")
+    void findLabeledValue_multipleLabels() throws IOException {
+        Page page = page(QQQI_URL, "neos-qqqi.html");
+
+        assertThat(StreamingExtractor.findLabeledValue(page,
+            Pattern.compile("Return of Capital|\\bROC\\b"), PERCENT, 2)).contains("100");
+        assertThat(StreamingExtractor.findLabeledValue(page,
+            Pattern.compile("Distribution|Dividend"), Pattern.compile("\\$(\\d+\\.\\d+)"), 2)).contains("0.6445");
+    }
+
+    @Test
+    @DisplayName("라벨이 없으면 값을 찾지 않는다")
+    void findLabeledValue_notFound() throws IOException {
+        Page page = page(QQQI_URL, "neos-qqqi.html");
+
+        assertThat(StreamingExtractor.findLabeledValue(page,
+            Pattern.compile("Leverage"), PERCENT, 2)).isEmpty();
+    }
+
+    static Page page(String url, String fixture, Path stateDir, SimpleMeterRegistry meterRegistry) throws IOException {
+        byte[] body = fixture(fixture);
+        PageCacheProperties properties = new PageCacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setStateDir(stateDir.toString());
+        PageCache cache = new PageCache((requested, validators) ->
+            new FetchedPage(requested, false, body, "UTF-8", PageValidators.NONE),
+            new PageStateStore(properties, new ObjectMapper()), properties, meterRegistry);
+        return cache.get(url);
+    }
+
+    private Page page(String url, String fixture) throws IOException {
+        return page(url, fixture, stateDir, meterRegistry);
+    }
+
+    static byte[] fixture(String name) throws IOException {
+        try (InputStream in = StreamingExtractorTest.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IOException("fixture not found: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
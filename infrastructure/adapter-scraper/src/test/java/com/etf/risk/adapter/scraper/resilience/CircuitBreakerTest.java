@@ -0,0 +1,136 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.ResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 상태 전이 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofSeconds(30));
+        properties.setHalfOpenCalls(2);
+        circuitBreaker = new CircuitBreaker("example.com", properties, meterRegistry, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 임계값에 닿으면 열리고 호출을 거절한다")
+    void opensAtFailureRate() {
+        // Given: 4회 중 2회 실패 (50%)
+        circuitBreaker.tryAcquire().success();
+        circuitBreaker.tryAcquire().failure();
+        circuitBreaker.tryAcquire().success();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When
+        circuitBreaker.tryAcquire().failure();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isNull();
+        assertThat(gauge()).isEqualTo(CircuitBreaker.State.OPEN.code());
+        assertThat(meterRegistry.get("scraper.circuit.calls").tag("outcome", "rejected").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 반열림으로 시험 호출만 허용하고, 모두 성공하면 닫힌다")
+    void halfOpenClosesAfterSuccessfulProbes() {
+        // Given
+        open();
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        CircuitBreaker.Permit first = circuitBreaker.tryAcquire();
+        CircuitBreaker.Permit second = circuitBreaker.tryAcquire();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isNull();
+        first.success();
+        second.success();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("반열림 시험 호출이 실패하면 다시 열린다")
+    void halfOpenReopensOnFailure() {
+        // Given
+        open();
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // When
+        circuitBreaker.tryAcquire().failure();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    @DisplayName("회로가 열리기 전에 시작한 호출의 늦은 결과는 반열림 판정에 쓰지 않는다")
+    void ignoresResultsFromPreviousGeneration() {
+        // Given
+        CircuitBreaker.Permit slow = circuitBreaker.tryAcquire();
+        open();
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquire().success();
+
+        // When
+        slow.failure();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("실패로 보지 않는 오류는 성공으로 세고, 열린 회로는 호출하지 않고 CircuitOpenException 을 던진다")
+    void executeClassifiesErrors() throws IOException {
+        // Given: 404 같은 오류는 실패로 세지 않음
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new IOException("404");
+            }, e -> false)).isInstanceOf(IOException.class);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When
+        open();
+
+        // Then
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "called", e -> true))
+            .isInstanceOf(CircuitOpenException.class)
+            .hasMessageContaining("example.com");
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+            if (permit != null) {
+                permit.failure();
+            }
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private double gauge() {
+        return meterRegistry.get("scraper.circuit.state").tag("source", "example.com").gauge().value();
+    }
+}
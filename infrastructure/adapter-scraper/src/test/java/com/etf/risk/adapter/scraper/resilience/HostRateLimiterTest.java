@@ -0,0 +1,115 @@
+package com.etf.risk.adapter.scraper.resilience;
+
+import com.etf.risk.adapter.scraper.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("호스트별 속도 제한 테스트")
+class HostRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("burst 만큼은 바로 내주고, 이후에는 초당 허용 수에 맞춰 대기 시간을 돌려준다")
+    void tokenBucket_burstThenPaced() {
+        // Given: 초당 2개, burst 3
+        TokenBucket bucket = new TokenBucket(2, 3, nanoTime::get);
+
+        // When & Then
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 쌓인 토큰은 burst 를 넘지 않는다")
+    void tokenBucket_refillCappedAtBurst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 2, nanoTime::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        // When: 한참 쉼
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // Then
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("멈춘 시각까지는 쌓인 토큰도 내주지 않는다")
+    void tokenBucket_pauseUntil() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 5, nanoTime::get);
+
+        // When
+        bucket.pauseUntil(TimeUnit.SECONDS.toNanos(30));
+
+        // Then
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    }
+
+    @Test
+    @DisplayName("Retry-After 는 초와 HTTP-date 를 모두 해석한다")
+    void parseRetryAfter() {
+        Instant now = Instant.parse("2025-09-15T12:00:00Z");
+
+        assertThat(HostRateLimiter.parseRetryAfter("120", now)).contains(Duration.ofSeconds(120));
+        assertThat(HostRateLimiter.parseRetryAfter("Mon, 15 Sep 2025 12:00:30 GMT", now)).contains(Duration.ofSeconds(30));
+        assertThat(HostRateLimiter.parseRetryAfter("Mon, 15 Sep 2025 11:00:00 GMT", now)).contains(Duration.ZERO);
+        assertThat(HostRateLimiter.parseRetryAfter("soon", now)).isEmpty();
+        assertThat(HostRateLimiter.parseRetryAfter(null, now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("429 의 Retry-After 동안 같은 호스트로 가는 WebClient 요청을 멈춘다")
+    void filter_honorsRetryAfter() {
+        // Given: 첫 응답은 429 + Retry-After 30초
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPermitsPerSecond(100);
+        properties.setBurst(100);
+        HostRateLimiter rateLimiter = new HostRateLimiter(properties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+            .baseUrl("https://query1.finance.yahoo.com/v7/finance/quote")
+            .filter(rateLimiter.filter())
+            .exchangeFunction(request -> Mono.just(calls.getAndIncrement() == 0
+                ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "30").build()
+                : ClientResponse.create(HttpStatus.OK).build()))
+            .build();
+        webClient.get().retrieve().toBodilessEntity().onErrorComplete().block();
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> webClient.get().retrieve().toBodilessEntity())
+            .expectSubscription()
+            .expectNoEvent(Duration.ofSeconds(25))
+            .thenAwait(Duration.ofSeconds(10))
+            .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK))
+            .verifyComplete();
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("scraper.ratelimit.retry.after").tag("host", "query1.finance.yahoo.com")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("scraper.ratelimit.wait").tag("host", "query1.finance.yahoo.com")
+            .timer().max(TimeUnit.SECONDS)).isGreaterThan(20);
+    }
+}
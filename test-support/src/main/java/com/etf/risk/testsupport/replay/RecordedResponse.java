@@ -0,0 +1,29 @@
+package com.etf.risk.testsupport.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 재생할 응답 하나. 본문은 classpath 의 {@code /fixtures/} 아래에 녹화해 둔 파일이다.
+ */
+public record RecordedResponse(int status, String contentType, byte[] body) {
+
+    public static final String HTML = "text/html; charset=UTF-8";
+    public static final String JSON = "application/json; charset=UTF-8";
+
+    public static RecordedResponse fixture(String name, String contentType) {
+        return new RecordedResponse(200, contentType, load(name));
+    }
+
+    public static byte[] load(String name) {
+        try (InputStream in = RecordedResponse.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("fixture not found: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
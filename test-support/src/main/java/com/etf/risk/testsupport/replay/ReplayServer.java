@@ -0,0 +1,237 @@
+package com.etf.risk.testsupport.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운용사 페이지와 Yahoo 시세 API 대신 녹화된 응답을 돌려주는 로컬 HTTP 서버.
+ *
+ * <p>경로(쿼리 제외)가 같으면 같은 응답을 돌려주므로, 실제 URL 의 호스트만 {@link #rewrite(URI)} 로 바꾸면 된다.
+ * 요청마다 고정 지연 + 균등 분포 지터만큼 늦게 응답하고, 정해진 비율로 오류 응답(예: 503 + Retry-After)을 섞는다.
+ * 오류 선택은 seed 가 같으면 같은 순서로 나온다. 지연 중인 요청이 서로를 막지 않도록 요청마다 가상 스레드를 쓴다.</p>
+ *
+ * <pre>
+ * try (ReplayServer server = ReplayServer.recordedSources()
+ *         .latency(Duration.ofMillis(20), Duration.ofMillis(10))
+ *         .fault(503, 0.05, "1")
+ *         .start()) {
+ *     String url = server.url(ReplayServer.GUGGENHEIM_GOF_PATH);
+ * }
+ * </pre>
+ */
+public final class ReplayServer implements AutoCloseable {
+
+    public static final String GUGGENHEIM_GOF_PATH = "/cef/fund/gof/distributions";
+    public static final String NEOS_QQQI_PATH = "/qqqi";
+    public static final String YAHOO_QUOTE_PATH = "/v7/finance/quote";
+
+    private static final int NOT_FOUND = 404;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, RecordedResponse> routes;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final Fault fault;
+    private final Random random;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong faults = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    private ReplayServer(Builder builder) throws IOException {
+        this.routes = Map.copyOf(builder.routes);
+        this.latencyNanos = builder.latency.toNanos();
+        this.jitterNanos = builder.jitter.toNanos();
+        this.fault = builder.fault;
+        this.random = new Random(builder.seed);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("replay-server-", 0).factory());
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 녹화된 Guggenheim(GOF 분배 내역), NEOS(QQQI), Yahoo 시세 응답을 실제 경로에 등록한 빌더.
+     */
+    public static Builder recordedSources() {
+        return builder()
+            .route(GUGGENHEIM_GOF_PATH, RecordedResponse.fixture("guggenheim-gof-distributions.html", RecordedResponse.HTML))
+            .route(NEOS_QQQI_PATH, RecordedResponse.fixture("neos-qqqi.html", RecordedResponse.HTML))
+            .route(YAHOO_QUOTE_PATH, RecordedResponse.fixture("yahoo-quote.json", RecordedResponse.JSON));
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String url(String path) {
+        return baseUrl() + path;
+    }
+
+    /**
+     * 경로와 쿼리는 그대로 두고 스킴/호스트/포트만 이 서버로 바꾼다.
+     */
+    public URI rewrite(URI original) {
+        try {
+            return new URI("http", null, "127.0.0.1", server.getAddress().getPort(),
+                original.getPath(), original.getQuery(), null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("재작성할 수 없는 URI 입니다: " + original, e);
+        }
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long faults() {
+        return faults.get();
+    }
+
+    public long bytesServed() {
+        return bytesServed.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            sleep(delayNanos());
+
+            RecordedResponse response = routes.get(exchange.getRequestURI().getPath());
+            if (response == null) {
+                exchange.sendResponseHeaders(NOT_FOUND, -1);
+                return;
+            }
+            if (injectFault()) {
+                faults.incrementAndGet();
+                if (fault.retryAfter() != null) {
+                    exchange.getResponseHeaders().set("Retry-After", fault.retryAfter());
+                }
+                exchange.sendResponseHeaders(fault.status(), -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", response.contentType());
+            exchange.sendResponseHeaders(response.status(), response.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+            bytesServed.addAndGet(response.body().length);
+        }
+    }
+
+    private long delayNanos() {
+        if (jitterNanos == 0) {
+            return latencyNanos;
+        }
+        synchronized (random) {
+            return latencyNanos + (long) (random.nextDouble() * jitterNanos);
+        }
+    }
+
+    private boolean injectFault() {
+        if (fault == null) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < fault.rate();
+        }
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("replay server stopped", e);
+        }
+    }
+
+    /**
+     * rate 비율의 요청에 본문 없이 status 로 응답한다. retryAfter 가 있으면 Retry-After 헤더로 보낸다.
+     */
+    public record Fault(int status, double rate, String retryAfter) {
+
+        public Fault {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("오류 비율은 0 이상 1 이하여야 합니다: " + rate);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<String, RecordedResponse> routes = new LinkedHashMap<>();
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private Fault fault;
+        private long seed = 42L;
+
+        private Builder() {
+        }
+
+        public Builder route(String path, RecordedResponse response) {
+            routes.put(path, response);
+            return this;
+        }
+
+        /**
+         * 모든 응답을 latency 에 [0, jitter) 를 더한 만큼 늦춘다.
+         */
+        public Builder latency(Duration latency, Duration jitter) {
+            if (latency.isNegative() || jitter.isNegative()) {
+                throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다: " + latency + ", " + jitter);
+            }
+            this.latency = latency;
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder fault(int status, double rate, String retryAfter) {
+            this.fault = new Fault(status, rate, retryAfter);
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public ReplayServer start() {
+            try {
+                return new ReplayServer(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}